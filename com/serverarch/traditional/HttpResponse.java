@@ -2,9 +2,14 @@ package com.serverarch.traditional; // 패키지 선언 - 전통적인 스레드
 
 // 필요한 클래스들을 import - 컴파일러가 클래스 위치를 찾을 수 있도록 경로 지정
 import com.serverarch.common.http.*; // HTTP 관련 공통 클래스들 (HttpStatus, HttpHeaders 등) 전체 import
+import java.io.IOException; // 파일 바디를 배열로 읽을 때의 입출력 예외
+import java.io.UncheckedIOException; // getBody()는 checked 예외를 던지지 않으므로 감싸서 전달
+import java.nio.ByteBuffer; // 버퍼 바디 - 메모리 매핑된 파일 구간을 복사 없이 응답 바디로 사용
+import java.nio.channels.FileChannel; // 파일 바디 구간 읽기
+import java.nio.file.Path; // 파일 바디 - 캐시 한도를 넘는 큰 파일을 매핑 없이 전송
+import java.nio.file.StandardOpenOption; // 파일 바디를 읽기 전용으로 열기
 import java.nio.charset.StandardCharsets; // 문자 인코딩 상수 클래스 - UTF_8, US_ASCII 등 표준 인코딩 제공
-import java.time.ZonedDateTime; // 시간대 정보를 포함한 날짜/시간 클래스 - HTTP Date 헤더 생성용
-import java.time.format.DateTimeFormatter; // 날짜/시간 포맷터 클래스 - 다양한 형식으로 날짜 변환 기능 제공
+import server.core.http.HttpDateClock; // 1초마다 갱신되는 공유 Date 헤더 값 - 응답마다 날짜를 포맷하지 않기 위해 사용
 import java.util.*; // Collections, Objects 등 유틸리티 클래스들 - List, Map, Arrays 등의 컬렉션과 유틸리티 기능
 
 /**
@@ -30,6 +35,16 @@ public class HttpResponse { // public 클래스 선언 - 다른 패키지에서
     // 기본값 빈 배열로 설정 - null보다 안전하고 일관성 있음
     private byte[] body = new byte[0]; // byte 배열 - 바이너리 데이터 저장 가능, new byte[0]으로 길이 0인 배열 생성
 
+    // 버퍼 바디 (선택) - 정적 파일 캐시의 MappedByteBuffer 구간처럼 힙 밖의 데이터를 복사 없이 전송할 때 사용
+    // 설정되어 있으면 body 배열 대신 이 버퍼의 남은 바이트가 응답 바디가 됨
+    private ByteBuffer bodyBuffer; // null이면 body 배열 사용
+
+    // 파일 바디 (선택) - 캐시 한도를 넘는 큰 정적 파일을 매핑하지 않고 전송 시점에 transferTo로 흘려보낼 때 사용
+    // 설정되어 있으면 파일의 [bodyFilePosition, bodyFilePosition + bodyFileCount) 구간이 응답 바디가 됨
+    private Path bodyFile; // null이면 배열 또는 버퍼 바디 사용
+    private long bodyFilePosition; // 파일 바디 시작 위치
+    private long bodyFileCount; // 파일 바디 바이트 수
+
     // 응답 생성 시간 (성능 모니터링과 캐싱에 사용)
     // 객체 생성 시점을 기록 - 응답 처리 시간 계산이나 캐시 만료 시간 계산에 활용
     private final long creationTime = System.currentTimeMillis(); // System.currentTimeMillis() - 1970년 1월 1일부터 현재까지의 밀리초, final로 불변
@@ -81,7 +96,7 @@ public class HttpResponse { // public 클래스 선언 - 다른 패키지에서
         headers.set("Server", "JavaServerArchitectures/1.0"); // headers 필드의 set 메서드 호출 - 키-값 쌍으로 헤더 설정
 
         // Date 헤더 설정 - HTTP 표준에서 권장하는 현재 시간
-        headers.set("Date", formatHttpDate(ZonedDateTime.now())); // ZonedDateTime.now() - 현재 시간대 기준 현재 시간, formatHttpDate로 HTTP 형식 변환
+        headers.set("Date", HttpDateClock.currentDate()); // 초 단위로 미리 포맷된 GMT 날짜 문자열 재사용 - 매 응답마다 ZonedDateTime 생성/포맷 없음
 
         // Content-Length 헤더 설정 - 초기값 0 (바디 설정 시 자동 업데이트)
         headers.setContentLength(body.length); // body.length - 배열의 길이 속성, setContentLength 메서드로 Content-Length 헤더 설정
@@ -492,10 +507,135 @@ public class HttpResponse { // public 클래스 선언 - 다른 패키지에서
      * @return 응답 바디의 복사본
      */
     public byte[] getBody() { // public getter 메서드 - 바디 데이터 반환
+        if (bodyFile != null) { // 파일 바디면 구간을 읽어서 반환 (전송 경로는 getBodyFile()로 직접 전송)
+            return readBodyFile();
+        }
+        if (bodyBuffer != null) { // 버퍼 바디면 배열로 복사해서 반환 (전송 경로는 getBodyBuffer() 사용)
+            byte[] copy = new byte[bodyBuffer.remaining()]; // 남은 바이트 수만큼 배열 생성
+            bodyBuffer.duplicate().get(copy); // duplicate() - 위치를 공유하지 않는 뷰로 읽어 원본 위치 보존
+            return copy;
+        }
         // 방어적 복사로 반환 - 외부에서 배열을 수정해도 원본이 변경되지 않음
         return body.clone(); // clone() 메서드 - 배열의 복사본 생성하여 반환, 원본 보호
     }
 
+    /**
+     * 응답 바디를 버퍼로 설정 (복사 없음)
+     *
+     * 메모리 매핑된 파일 구간처럼 힙 밖에 있는 데이터를 그대로 전송할 때 사용
+     * 버퍼의 position ~ limit 구간이 바디가 되며, 읽기 전용 뷰로 보관하므로 원본 버퍼 위치는 바뀌지 않음
+     *
+     * @param buffer 응답 바디 버퍼
+     */
+    public void setBody(ByteBuffer buffer) { // 메서드 오버로딩 - ByteBuffer 타입 바디 설정
+        if (buffer == null) { // null이면 빈 배열 바디로 되돌림
+            setBody(new byte[0]);
+            return;
+        }
+        this.bodyBuffer = buffer.asReadOnlyBuffer(); // 읽기 전용 뷰 - 캐시된 매핑을 응답이 수정하지 못하게
+        this.body = new byte[0]; // 배열 바디는 비움
+        this.bodyFile = null; // 파일 바디 해제
+        headers.setContentLength(bodyBuffer.remaining()); // Content-Length를 버퍼 크기로 설정
+    }
+
+    /**
+     * 응답 바디를 파일 구간으로 설정 (읽지도 매핑하지도 않음)
+     *
+     * 전송 경로가 FileChannel.transferTo()로 파일에서 소켓 스트림으로 바로 흘려보냄
+     * 캐시에 넣지 않는 큰 파일을 요청마다 매핑하지 않기 위해 사용
+     *
+     * @param file 바디로 보낼 파일
+     * @param position 시작 위치
+     * @param count 바이트 수
+     */
+    public void setBody(Path file, long position, long count) { // 메서드 오버로딩 - 파일 구간 바디 설정
+        if (file == null) { // null이면 빈 배열 바디로 되돌림
+            setBody(new byte[0]);
+            return;
+        }
+        if (position < 0 || count < 0) { // 음수 구간은 잘못된 호출
+            throw new IllegalArgumentException("잘못된 파일 구간입니다: " + position + "+" + count);
+        }
+        this.bodyFile = file;
+        this.bodyFilePosition = position;
+        this.bodyFileCount = count;
+        this.bodyBuffer = null; // 버퍼 바디 해제
+        this.body = new byte[0]; // 배열 바디는 비움
+        headers.setContentLength(count); // Content-Length를 구간 크기로 설정 (int 범위를 넘어도 됨)
+    }
+
+    /**
+     * 파일 바디 반환
+     *
+     * @return 전송할 파일 (파일 바디가 아니면 null)
+     */
+    public Path getBodyFile() { // public getter 메서드 - 전송 경로에서 transferTo로 보내기 위해 사용
+        return bodyFile;
+    }
+
+    public long getBodyFilePosition() { // 파일 바디 시작 위치
+        return bodyFilePosition;
+    }
+
+    public long getBodyFileCount() { // 파일 바디 바이트 수
+        return bodyFileCount;
+    }
+
+    /**
+     * 파일 바디 구간을 배열로 읽기 (getBody() 호환용 - 전송 경로에서는 사용하지 않음)
+     */
+    private byte[] readBodyFile() {
+        if (bodyFileCount > Integer.MAX_VALUE - 8) { // 배열 하나에 담을 수 없는 크기
+            throw new IllegalStateException("파일 바디가 너무 커서 배열로 읽을 수 없습니다: " + bodyFileCount);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) bodyFileCount); // 구간 크기만큼 힙 버퍼 할당
+        try (FileChannel channel = FileChannel.open(bodyFile, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) { // 구간을 다 채울 때까지 반복
+                if (channel.read(buffer, bodyFilePosition + buffer.position()) < 0) {
+                    break; // 파일이 구간보다 짧아짐 - 읽은 만큼만 반환
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일 바디를 읽을 수 없습니다: " + bodyFile, e);
+        }
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    /**
+     * 버퍼 바디 반환
+     *
+     * @return 전송할 바디 버퍼의 새 뷰 (배열 바디면 null)
+     */
+    public ByteBuffer getBodyBuffer() { // public getter 메서드 - 전송 경로에서 복사 없이 바디를 쓰기 위해 사용
+        return bodyBuffer != null ? bodyBuffer.duplicate() : null; // duplicate() - 호출자마다 독립된 위치
+    }
+
+    /**
+     * 응답 바디 크기 반환 (int 범위)
+     *
+     * @return 바디 바이트 수 (배열 복사 없이 계산)
+     * @throws IllegalStateException 파일 바디가 2GiB 이상이라 int로 표현할 수 없는 경우 - getBodySize() 사용
+     */
+    public int getBodyLength() { // public getter 메서드 - 배열/버퍼 바디 크기 조회용
+        long size = getBodySize(); // 정확한 크기
+        if (size > Integer.MAX_VALUE) { // 잘라서 반환하면 Content-Length가 틀어지므로 거부
+            throw new IllegalStateException("바디가 int 범위를 넘습니다 (getBodySize() 사용): " + size);
+        }
+        return (int) size;
+    }
+
+    /**
+     * 응답 바디 크기 반환 (long 범위)
+     *
+     * @return 바디 바이트 수 - 파일 바디는 2GiB를 넘을 수 있음
+     */
+    public long getBodySize() { // public getter 메서드 - Content-Length 계산용
+        if (bodyFile != null) { // 파일 바디는 구간 크기가 곧 바디 크기
+            return bodyFileCount;
+        }
+        return bodyBuffer != null ? bodyBuffer.remaining() : body.length;
+    }
+
     /**
      * 응답 바디를 바이트 배열로 설정
      *
@@ -504,6 +644,8 @@ public class HttpResponse { // public 클래스 선언 - 다른 패키지에서
     public void setBody(byte[] body) { // public setter 메서드 - 바이트 배열로 바디 설정
         // null 체크하여 기본값 설정
         this.body = body != null ? body.clone() : new byte[0]; // 방어적 복사 - 외부 배열 수정이 내부에 영향 주지 않도록
+        this.bodyBuffer = null; // 배열 바디로 바꾸면 버퍼 바디는 해제
+        this.bodyFile = null; // 파일 바디도 해제
 
         // Content-Length 헤더 자동 업데이트 - HTTP 표준 준수
         updateContentLength(); // private 메서드 호출 - Content-Length 헤더를 현재 바디 크기로 업데이트
@@ -531,7 +673,7 @@ public class HttpResponse { // public 클래스 선언 - 다른 패키지에서
      */
     public String getBodyAsString() { // public getter 메서드 - 바디를 문자열로 반환
         // UTF-8로 디코딩 - setBody(String)과 일관성 유지
-        return new String(body, StandardCharsets.UTF_8); // String 생성자 - 바이트 배열과 인코딩을 받아 문자열 생성
+        return new String(getBody(), StandardCharsets.UTF_8); // String 생성자 - 바이트 배열과 인코딩을 받아 문자열 생성
     }
 
     /**
@@ -572,7 +714,7 @@ public class HttpResponse { // public 클래스 선언 - 다른 패키지에서
      */
     private void updateContentLength() { // private 메서드 - 내부에서만 사용하는 유틸리티 메서드
         // 현재 바디 크기로 Content-Length 헤더 설정 - HTTP 표준 준수
-        headers.setContentLength(body.length); // body.length - 배열 길이, setContentLength - Content-Length 헤더 설정
+        headers.setContentLength(getBodySize()); // getBodySize() - 배열, 버퍼 또는 파일 바디 크기 (long), setContentLength - Content-Length 헤더 설정
     }
 
     /**
@@ -780,23 +922,11 @@ public class HttpResponse { // public 클래스 선언 - 다른 패키지에서
      */
     public boolean hasBody() { // public 메서드 - 바디 존재 여부 확인
         // 바디 길이로 판별 - 직관적이고 효율적
-        return body.length > 0; // 배열 길이 비교 - 0보다 크면 바디가 있는 것으로 판단
+        return getBodySize() > 0; // 바디 길이 비교 - 0보다 크면 바디가 있는 것으로 판단 (2GiB 이상 파일 바디 포함)
     }
 
     // ========== 유틸리티 메서드들 ==========
 
-    /**
-     * HTTP 날짜 형식으로 포맷
-     * Date 헤더나 Expires 헤더에 사용
-     *
-     * @param dateTime 포맷할 날짜/시간
-     * @return RFC 1123 형식의 날짜 문자열
-     */
-    private static String formatHttpDate(ZonedDateTime dateTime) { // private static 메서드 - 유틸리티 함수, 인스턴스 없이 사용
-        // RFC 1123 형식 사용 - HTTP 표준 날짜 형식
-        return DateTimeFormatter.RFC_1123_DATE_TIME.format(dateTime); // DateTimeFormatter.RFC_1123_DATE_TIME - 표준 HTTP 날짜 포맷터, format() - 날짜를 문자열로 변환
-    }
-
     /**
      * 에러 페이지 HTML 생성
      * 사용자 친화적인 에러 페이지 제공
@@ -871,7 +1001,7 @@ public class HttpResponse { // public 클래스 선언 - 다른 패키지에서
         sb.append("HttpResponse{"); // append() - 문자열 추가
         sb.append("status=").append(status); // status 필드 값 추가 - enum의 toString() 자동 호출
         sb.append(", contentType='").append(getContentType()).append('\''); // getContentType() 메서드 호출 결과 추가, 작은따옴표로 감싸기
-        sb.append(", bodyLength=").append(body.length); // body.length - 배열 길이 속성
+        sb.append(", bodyLength=").append(getBodySize()); // getBodySize() - 배열, 버퍼 또는 파일 바디 크기
         sb.append(", headerCount=").append(headers.size()); // headers.size() - HttpHeaders 객체의 헤더 개수 반환 메서드
         sb.append('}'); // 중괄호로 종료
 
@@ -895,7 +1025,11 @@ public class HttpResponse { // public 클래스 선언 - 다른 패키지에서
         // 주요 필드들 비교 - 상태, 헤더, 바디가 모두 같아야 동일한 응답
         return Objects.equals(status, that.status) && // Objects.equals() - null 안전한 동등성 비교
                 Objects.equals(headers, that.headers) && // headers 객체 비교
-                Arrays.equals(body, that.body);  // Arrays.equals() - 배열 내용 비교 (배열은 별도 메서드 사용)
+                Arrays.equals(body, that.body) &&  // Arrays.equals() - 배열 내용 비교 (배열은 별도 메서드 사용)
+                Objects.equals(bodyBuffer, that.bodyBuffer) && // ByteBuffer.equals() - 남은 바이트 내용 비교
+                Objects.equals(bodyFile, that.bodyFile) && // 파일 바디는 같은 파일의 같은 구간이어야 동일
+                bodyFilePosition == that.bodyFilePosition &&
+                bodyFileCount == that.bodyFileCount;
     }
 
     /**
@@ -909,6 +1043,8 @@ public class HttpResponse { // public 클래스 선언 - 다른 패키지에서
 
         // 배열은 별도로 해시 코드 계산 후 조합
         result = 31 * result + Arrays.hashCode(body); // Arrays.hashCode() - 배열 내용 기반 해시 코드 생성, 31은 해시 코드 조합에 사용하는 소수
+        result = 31 * result + Objects.hashCode(bodyBuffer); // 버퍼 바디 내용 기반 해시 코드 (없으면 0)
+        result = 31 * result + Objects.hash(bodyFile, bodyFilePosition, bodyFileCount); // 파일 바디 구간
 
         return result; // 최종 해시 코드 반환
     }
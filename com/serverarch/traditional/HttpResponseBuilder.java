@@ -14,7 +14,6 @@ import java.io.*;
 // Java 유틸리티 라이브러리
 // java.util.*: 컬렉션, 유틸리티 클래스들
 // List: 순서가 있는 컬렉션 인터페이스 - 여러 헤더 값 저장용
-// Locale: 지역 설정 클래스 - 날짜 포맷에서 영어 로케일 사용
 import java.util.*;
 
 // Java 로깅 라이브러리
@@ -23,11 +22,9 @@ import java.util.*;
 // Level: 로그 레벨 enum - INFO, WARNING, SEVERE 등
 import java.util.logging.*;
 
-// Java 시간 처리 라이브러리
-// java.time.ZonedDateTime: 시간대 정보를 포함한 날짜/시간 클래스
-// java.time.format.DateTimeFormatter: 날짜/시간 포맷터 클래스
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
+// 공유 HTTP Date 헤더 시계
+// server.core.http.HttpDateClock: 1초마다 한 번만 포맷한 GMT 날짜 문자열을 모든 응답에 제공
+import server.core.http.HttpDateClock;
 
 /**
 * HTTP 응답 생성 전담 클래스 (수정 버전)
@@ -61,13 +58,6 @@ public class HttpResponseBuilder {
     // 서버 식별 정보 - 클라이언트에게 서버 정보 제공
     private static final String SERVER_NAME = "EnhancedThreadedServer/2.2.0";
 
-    // HTTP 날짜 포맷터 - RFC 1123 형식을 영어 로케일로 생성
-    // DateTimeFormatter.ofPattern(): 지정된 패턴으로 포맷터 생성
-    // "EEE, dd MMM yyyy HH:mm:ss 'GMT'": HTTP 표준 날짜 형식 (예: "Mon, 01 Jan 2024 12:00:00 GMT")
-    // Locale.ENGLISH: 영어 로케일 사용으로 월, 요일 이름을 영어로 출력
-    private static final DateTimeFormatter HTTP_DATE_FORMAT =
-            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.ENGLISH);
-
     /**
      * HttpResponse 객체를 HTTP 프로토콜 형식으로 변환하여 OutputStream에 직접 전송합니다.
      *
@@ -206,10 +196,9 @@ public class HttpResponseBuilder {
 
         // Date 헤더 설정 - HTTP 표준에서 권장하는 응답 생성 시간
         if (!headers.contains("Date")) {
-            // ZonedDateTime.now(): 현재 시간대 기준 현재 시간 반환
-            // format(): DateTimeFormatter를 사용하여 날짜를 문자열로 변환
-            String httpDate = ZonedDateTime.now().format(HTTP_DATE_FORMAT);
-            headers.set("Date", httpDate);
+            // HttpDateClock.currentDate(): 초 단위로 미리 포맷된 GMT 날짜 문자열
+            // 응답마다 ZonedDateTime을 만들고 포맷하지 않음 (로컬 시간대가 아닌 실제 GMT 시각)
+            headers.set("Date", HttpDateClock.currentDate());
         }
 
         // Connection 헤더 설정 - 연결 유지 정책 명시
@@ -385,7 +374,7 @@ public class HttpResponseBuilder {
 
             // Date 헤더 - 현재 시간을 HTTP 형식으로
             response.append("Date").append(HEADER_SEPARATOR)
-                    .append(ZonedDateTime.now().format(HTTP_DATE_FORMAT))
+                    .append(HttpDateClock.currentDate())
                     .append(CRLF);
 
             // Content-Type 헤더 - 에러 메시지는 일반 텍스트
@@ -3,6 +3,11 @@ package com.serverarch.traditional; // 패키지 선언 - 전통적인 스레드
 // import 선언부 - 외부 클래스들을 현재 클래스에서 사용할 수 있도록 경로 지정
 import com.serverarch.common.http.*; // HTTP 관련 공통 클래스들 전체 import - HttpRequest, HttpResponse, HttpHeaders, HttpStatus, HttpMethod 등
 import java.io.*; // 입출력 관련 클래스들 전체 import - InputStream, OutputStream, BufferedReader, InputStreamReader 등
+import java.nio.ByteBuffer; // 버퍼 바디 - 정적 파일 캐시의 매핑된 구간
+import java.nio.channels.Channels; // OutputStream을 채널로 감싸 버퍼 바디를 배열 복사 없이 기록
+import java.nio.channels.FileChannel; // 파일 바디를 transferTo로 전송
+import java.nio.file.StandardOpenOption; // 파일 바디를 읽기 전용으로 열기
+import java.nio.channels.WritableByteChannel; // 버퍼 바디 기록 대상 채널
 import java.nio.charset.StandardCharsets; // 문자 인코딩 표준 상수 클래스 - UTF_8, US_ASCII 등의 표준 인코딩 제공
 import java.util.logging.*; // 로깅 관련 클래스들 전체 import - Logger, Level 등 로그 기능 제공
 
@@ -454,16 +459,50 @@ public class ThreadedRequestProcessor { // public 클래스 선언 - 다른 패
      */
     public void sendResponse(OutputStream outputStream, HttpResponse response) throws IOException { // public 메서드 - 응답 전송
         try { // try-catch 블록 - 전송 중 예외 처리
-            // HTTP 응답을 바이트 배열로 직렬화
-            byte[] responseBytes = buildHttpResponse(response); // buildHttpResponse() - HttpResponse를 HTTP 프로토콜 형식의 바이트 배열로 변환
-
-            // 클라이언트에게 전송
-            outputStream.write(responseBytes); // OutputStream.write() - 바이트 배열을 스트림에 쓰기
+            ByteBuffer bodyBuffer = response.getBodyBuffer(); // 버퍼 바디 (정적 파일 캐시의 매핑 구간 등)
+            long sentBytes; // 전송한 바이트 수 (로그용)
+
+            if (bodyBuffer != null) { // 버퍼 바디 - 헤더와 합치지 않고 버퍼에서 바로 전송
+                byte[] headBytes = buildHttpHead(response); // 상태 라인 + 헤더만 직렬화
+                outputStream.write(headBytes); // 헤더 먼저 기록
+
+                // Channels.newChannel(): 작은 임시 배열로 나눠 기록 - 바디 전체를 힙 배열로 만들지 않음
+                WritableByteChannel channel = Channels.newChannel(outputStream);
+                sentBytes = headBytes.length + bodyBuffer.remaining();
+                while (bodyBuffer.hasRemaining()) { // 블로킹 스트림이므로 다 쓸 때까지 반복
+                    channel.write(bodyBuffer);
+                }
+            } else if (response.getBodyFile() != null) { // 파일 바디 - 캐시 한도를 넘는 큰 파일을 매핑 없이 전송
+                byte[] headBytes = buildHttpHead(response); // 상태 라인 + 헤더만 직렬화
+                outputStream.write(headBytes); // 헤더 먼저 기록
+
+                long position = response.getBodyFilePosition(); // 전송할 구간 시작
+                long remaining = response.getBodyFileCount(); // 남은 바이트 수
+                sentBytes = headBytes.length + remaining;
+                WritableByteChannel channel = Channels.newChannel(outputStream);
+                try (FileChannel file = FileChannel.open(response.getBodyFile(), StandardOpenOption.READ)) {
+                    while (remaining > 0) { // transferTo()는 요청한 것보다 적게 보낼 수 있으므로 반복
+                        long transferred = file.transferTo(position, remaining, channel);
+                        if (transferred <= 0) { // 전송 중에 파일이 줄어듦 - Content-Length를 채울 수 없음
+                            throw new EOFException("파일이 전송 중에 줄어들었습니다: " + response.getBodyFile());
+                        }
+                        position += transferred;
+                        remaining -= transferred;
+                    }
+                }
+            } else {
+                // HTTP 응답을 바이트 배열로 직렬화
+                byte[] responseBytes = buildHttpResponse(response); // buildHttpResponse() - HttpResponse를 HTTP 프로토콜 형식의 바이트 배열로 변환
+
+                // 클라이언트에게 전송
+                outputStream.write(responseBytes); // OutputStream.write() - 바이트 배열을 스트림에 쓰기
+                sentBytes = responseBytes.length; // responseBytes.length - 전송된 바이트 수
+            }
             outputStream.flush(); // OutputStream.flush() - 버퍼에 있는 데이터를 즉시 전송
 
             // 전송 완료 로그
             logger.fine(String.format("응답 전송 완료: %d bytes, 상태: %s", // 전송 완료 로그
-                    responseBytes.length, response.getStatus())); // responseBytes.length - 전송된 바이트 수
+                    sentBytes, response.getStatus()));
 
         } catch (IOException e) { // IOException 예외 처리
             logger.log(Level.WARNING, "HTTP 응답 전송 실패", e); // 전송 실패 로그
@@ -479,6 +518,27 @@ public class ThreadedRequestProcessor { // public 클래스 선언 - 다른 패
      * @throws IOException 직렬화 실패 시
      */
     private byte[] buildHttpResponse(HttpResponse response) throws IOException { // private 메서드 - HTTP 응답 직렬화
+        // 1~3. 상태 라인 + 헤더 + 빈 줄
+        byte[] headerBytes = buildHttpHead(response); // buildHttpHead() - 바디를 제외한 부분 직렬화
+
+        // 4. 바디 바이트 배열 가져오기
+        byte[] bodyBytes = response.getBody(); // HttpResponse.getBody() - 응답 바디 바이트 배열 조회
+
+        // 5. 헤더와 바디 합치기
+        byte[] fullResponse = new byte[headerBytes.length + bodyBytes.length]; // 전체 응답 크기의 바이트 배열 생성
+        System.arraycopy(headerBytes, 0, fullResponse, 0, headerBytes.length); // System.arraycopy() - 배열 복사, 헤더를 전체 배열 앞부분에 복사
+        System.arraycopy(bodyBytes, 0, fullResponse, headerBytes.length, bodyBytes.length); // 바디를 전체 배열 뒷부분에 복사
+
+        return fullResponse; // 완성된 HTTP 응답 바이트 배열 반환
+    }
+
+    /**
+     * HTTP 응답의 상태 라인과 헤더 부분(빈 줄 포함)을 바이트 배열로 변환
+     *
+     * @param response 직렬화할 HTTP 응답
+     * @return 상태 라인 + 헤더 + CRLF 바이트 배열
+     */
+    private byte[] buildHttpHead(HttpResponse response) { // private 메서드 - 응답 헤드 직렬화
         StringBuilder responseBuilder = new StringBuilder(); // StringBuilder 생성 - 효율적인 문자열 조합을 위해
 
         // 1. 상태 라인 (HTTP/1.1 200 OK)
@@ -498,7 +558,7 @@ public class ThreadedRequestProcessor { // public 클래스 선언 - 다른 패
         }
 
         // Content-Length 자동 설정
-        headers.setContentLength(response.getBody().length); // response.getBody().length - 바디 바이트 배열 길이
+        headers.setContentLength(response.getBodySize()); // getBodySize() - 바디를 복사하지 않고 길이만 조회 (2GiB 이상 파일 바디도 정확한 long 값)
 
         // Connection 헤더 설정 (Keep-Alive 미지원으로 close)
         headers.set("Connection", "close"); // Connection 헤더 - 연결 종료 지시
@@ -517,17 +577,7 @@ public class ThreadedRequestProcessor { // public 클래스 선언 - 다른 패
         responseBuilder.append(CRLF); // 빈 줄 추가 - 헤더와 바디 구분
 
         // 헤더 부분을 바이트 배열로 변환
-        byte[] headerBytes = responseBuilder.toString().getBytes(StandardCharsets.US_ASCII); // toString() - StringBuilder를 String으로 변환, getBytes() - 문자열을 바이트 배열로 변환
-
-        // 4. 바디 바이트 배열 가져오기
-        byte[] bodyBytes = response.getBody(); // HttpResponse.getBody() - 응답 바디 바이트 배열 조회
-
-        // 5. 헤더와 바디 합치기
-        byte[] fullResponse = new byte[headerBytes.length + bodyBytes.length]; // 전체 응답 크기의 바이트 배열 생성
-        System.arraycopy(headerBytes, 0, fullResponse, 0, headerBytes.length); // System.arraycopy() - 배열 복사, 헤더를 전체 배열 앞부분에 복사
-        System.arraycopy(bodyBytes, 0, fullResponse, headerBytes.length, bodyBytes.length); // 바디를 전체 배열 뒷부분에 복사
-
-        return fullResponse; // 완성된 HTTP 응답 바이트 배열 반환
+        return responseBuilder.toString().getBytes(StandardCharsets.US_ASCII); // toString() - StringBuilder를 String으로 변환, getBytes() - 문자열을 바이트 배열로 변환
     }
 
     /**
@@ -0,0 +1,565 @@
+package com.serverarch.traditional.handlers;
+
+// Java 기본 라이브러리들
+import java.io.*; // IOException, Closeable
+import java.nio.ByteBuffer; // 매핑 구간의 읽기 전용 뷰
+import java.nio.MappedByteBuffer; // 메모리 매핑된 파일 내용 - 힙 밖(페이지 캐시)에 존재
+import java.nio.channels.FileChannel; // 파일 매핑용 채널
+import java.nio.file.*; // Path, Files, WatchService 등 파일 API
+import java.nio.file.attribute.BasicFileAttributes; // 크기와 수정 시간을 한 번의 시스템 콜로 조회
+import java.util.*; // LinkedHashMap, Iterator 등 컬렉션 클래스들
+import java.util.concurrent.*; // ConcurrentHashMap - 감시 중인 디렉토리 목록
+import java.util.concurrent.atomic.*; // AtomicLong 통계 카운터
+import java.util.function.*; // Function - 압축 변형 생성 함수
+import java.util.logging.*; // Logger 로깅 클래스
+
+/**
+ * 바이트 예산 기반 메모리 매핑 파일 캐시 (Segmented LRU)
+ *
+ * 정적 파일 내용을 byte[]로 힙에 올리지 않고 MappedByteBuffer로 매핑해서 보관합니다.
+ * 매핑된 내용은 OS 페이지 캐시를 그대로 가리키므로 GC 대상 힙을 쓰지 않고,
+ * 전체 응답과 Range 응답 모두 매핑의 slice()로 복사 없이 만들어집니다.
+ *
+ * 교체 정책 - Segmented LRU:
+ * - 처음 들어온 파일은 probation 구간에 들어감
+ * - probation에서 한 번 더 조회되면 protected 구간으로 승격
+ * - 공간이 필요하면 probation의 가장 오래된 항목부터 제거
+ *   (한 번 훑고 지나가는 요청들이 자주 쓰는 파일을 밀어내지 않음)
+ * - protected 구간이 예산의 80%를 넘으면 가장 오래된 항목을 probation으로 강등
+ *
+ * 압축 변형:
+ * - 원본과 별도 항목으로 gzip/br 변형을 보관 (같은 바이트 예산, 같은 교체 정책)
+ * - 디스크에 원본보다 새로운 .gz/.br 파일이 있으면 그 파일을 매핑해서 사용
+ * - 없으면 encoder로 한 번만 압축해서 direct 버퍼에 보관 (이후 요청은 캐시 조회만)
+ * - 압축 이득이 없거나 만들 수 없는 변형은 "없음" 항목으로 기억해서 매번 다시 확인하지 않음
+ *
+ * 무효화:
+ * - 파일을 매핑하기 전에 디렉토리를 WatchService에 등록하고, 변경/삭제 이벤트가 오면 해당 항목 제거
+ *   (원본이 바뀌면 압축 변형도 함께, .gz/.br 파일이 바뀌면 해당 변형만 제거)
+ * - 매핑과 캐시 추가 사이에 처리된 이벤트는 아직 없던 항목을 지우고 지나가므로
+ *   추가한 뒤 크기와 수정 시간을 한 번 더 확인해서 바뀌었으면 캐시에 남기지 않음
+ * - WatchService를 쓸 수 없는 환경이면 조회할 때마다 수정 시간과 크기를 비교
+ *
+ * 주의:
+ * - 제거된 매핑은 GC가 MappedByteBuffer를 수거할 때 해제됨 (명시적 unmap API 없음)
+ *   바이트 예산은 캐시가 보관한 매핑 크기 기준
+ * - 매핑된 파일을 제자리에서 줄이면 접근시 오류가 날 수 있으므로
+ *   정적 파일은 새 파일로 쓴 뒤 이름을 바꾸는 방식으로 배포하는 것을 권장
+ */
+public class MappedFileCache implements Closeable {
+
+    // 로거 인스턴스
+    private static final Logger logger = Logger.getLogger(MappedFileCache.class.getName());
+
+    // protected 구간이 차지할 수 있는 예산 비율
+    private static final double PROTECTED_RATIO = 0.8;
+
+    // 압축 변형 파일 확장자 - 디스크의 미리 압축된 파일 이름과 변형 캐시 키에 사용
+    private static final String[] VARIANT_SUFFIXES = {".gz", ".br"};
+
+    // ========== 설정 ==========
+
+    private final long maxBytes;          // 캐시 전체 바이트 예산
+    private final long maxProtectedBytes; // protected 구간 바이트 상한
+    private final long maxFileSize;       // 캐시할 파일 하나의 최대 크기
+
+    // ========== 캐시 구간 (lock으로 보호) ==========
+
+    // accessOrder=true인 LinkedHashMap - 조회할 때마다 맨 뒤로 이동하므로 맨 앞이 가장 오래된 항목
+    // 키: 원본은 파일 경로, 압축 변형은 "파일 경로#확장자"
+    private final LinkedHashMap<String, Entry> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Entry> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private final Object lock = new Object();
+    private long probationBytes;  // probation 구간 매핑 크기 합
+    private long protectedBytes;  // protected 구간 매핑 크기 합
+
+    // ========== 파일 변경 감시 ==========
+
+    private final WatchService watchService;                                      // null이면 조회시 수정 시간 비교
+    private final Map<Path, WatchKey> watchedDirectories = new ConcurrentHashMap<>(); // 등록한 디렉토리들
+    private final Thread watchThread;                                             // 이벤트 처리 데몬 스레드
+    private volatile boolean closed;
+
+    // ========== 통계 ==========
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * 매핑 파일 캐시 생성
+     *
+     * @param maxBytes 캐시 전체 바이트 예산
+     * @param maxFileSize 캐시할 파일 하나의 최대 크기
+     */
+    public MappedFileCache(long maxBytes, long maxFileSize) {
+        if (maxBytes <= 0 || maxFileSize <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 0보다 커야 합니다");
+        }
+        this.maxBytes = maxBytes;
+        this.maxProtectedBytes = (long) (maxBytes * PROTECTED_RATIO);
+        this.maxFileSize = Math.min(maxFileSize, maxBytes);
+
+        // WatchService 생성 - 지원하지 않는 파일 시스템이면 수정 시간 비교로 대체
+        WatchService service = null;
+        try {
+            service = FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.warning("파일 변경 감시를 사용할 수 없어 조회시 수정 시간을 비교합니다: " + e.getMessage());
+        }
+        this.watchService = service;
+
+        if (service != null) {
+            watchThread = new Thread(this::watchLoop, "MappedFileCache-Watcher");
+            watchThread.setDaemon(true); // 서버 종료를 막지 않음
+            watchThread.start();
+        } else {
+            watchThread = null;
+        }
+    }
+
+    // ========== 조회 ==========
+
+    /**
+     * 캐시된 파일 조회, 없으면 매핑해서 캐시에 추가
+     *
+     * getMaxFileSize()를 넘는 큰 파일은 매핑하지 않고 null 반환
+     * (요청마다 큰 파일을 매핑했다 버리지 않도록 호출자가 transferTo 등으로 직접 전송)
+     *
+     * @param path 파일 경로 (정규화된 절대 경로)
+     * @return 매핑된 파일 항목, 캐시하지 않는 큰 파일이면 null
+     * @throws IOException 파일을 읽거나 매핑할 수 없는 경우
+     */
+    public Entry getOrLoad(Path path) throws IOException {
+        String key = path.toString();
+        Entry entry = lookup(key);
+        if (entry != null) {
+            hits.incrementAndGet();
+            return entry;
+        }
+        misses.incrementAndGet();
+
+        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        if (attrs.size() > maxFileSize) {
+            return null; // 캐시하지 않는 큰 파일 - 매핑하지 않음
+        }
+
+        // 매핑 전에 감시 등록 - 매핑한 뒤의 변경은 모두 이벤트로 들어옴
+        watchDirectory(path.getParent());
+
+        // 락 밖에서 매핑 - 디스크 I/O 동안 다른 스레드의 캐시 조회를 막지 않음
+        Entry loaded = map(key, path, null);
+        Entry cached = insert(loaded);
+        // 매핑 도중 바뀐 파일 - 캐시하지 않고 바뀐 내용을 다시 매핑해서 응답
+        return cached != null ? cached : map(key, path, null);
+    }
+
+    /**
+     * 압축 변형 조회, 없으면 만들어서 캐시에 추가
+     *
+     * 1. 디스크에 원본보다 오래되지 않은 "파일명 + suffix" 파일이 있으면 매핑해서 사용
+     * 2. 없고 encoder가 있으면 원본을 한 번 압축해서 보관 (원본보다 작을 때만)
+     * 3. 둘 다 안 되면 "없음"으로 기억하고 null 반환
+     *
+     * @param path 원본 파일 경로
+     * @param source 원본 항목 (getOrLoad 결과)
+     * @param encoding Content-Encoding 값 (예: "gzip")
+     * @param suffix 미리 압축된 파일 확장자 (예: ".gz")
+     * @param encoder 원본 내용을 압축하는 함수 (null이면 디스크 파일만 사용, 실패시 null 반환)
+     * @return 압축 변형 항목, 사용할 변형이 없으면 null
+     * @throws IOException 미리 압축된 파일을 매핑할 수 없는 경우
+     */
+    public Entry getOrLoadVariant(Path path, Entry source, String encoding, String suffix,
+                                  Function<ByteBuffer, byte[]> encoder) throws IOException {
+        String key = path + "#" + suffix;
+        Entry entry = lookup(key);
+        if (entry != null) {
+            hits.incrementAndGet();
+            return entry.isPresent() ? entry : null;
+        }
+        misses.incrementAndGet();
+
+        Entry loaded = null;
+
+        // 1. 디스크의 미리 압축된 파일 (원본을 고친 뒤 다시 만들지 않은 오래된 파일은 무시)
+        Path sibling = path.resolveSibling(path.getFileName() + suffix);
+        if (Files.isRegularFile(sibling)
+                && Files.getLastModifiedTime(sibling).toMillis() >= source.lastModified) {
+            watchDirectory(sibling.getParent()); // 원본과 같은 디렉토리 - 보통 이미 등록됨
+            loaded = map(key, sibling, encoding);
+            logger.fine("미리 압축된 파일 사용: " + sibling);
+        }
+
+        // 2. 원본을 한 번만 압축해서 힙 밖(direct 버퍼)에 보관
+        if (loaded == null && encoder != null && source.isPresent()) {
+            byte[] encoded = encoder.apply(source.slice());
+            if (encoded != null && encoded.length < source.size) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(encoded.length);
+                buffer.put(encoded).flip();
+                loaded = new Entry(key, path, buffer, encoding, source.fileSize, source.lastModified);
+                logger.fine(String.format("압축 변형 생성: %s %s (%d -> %d bytes)",
+                        path, encoding, source.size, encoded.length));
+            }
+        }
+
+        // 3. 사용할 변형 없음 - 원본 기준으로 "없음" 항목 보관
+        if (loaded == null) {
+            loaded = new Entry(key, path, null, encoding, source.fileSize, source.lastModified);
+        }
+
+        if (loaded.size > maxFileSize) {
+            return loaded.isPresent() ? loaded : null;
+        }
+        Entry cached = insert(loaded);
+        // 만드는 도중 원본이나 압축 파일이 바뀜 - 이번 응답은 원본으로 보냄
+        return cached != null && cached.isPresent() ? cached : null;
+    }
+
+    /**
+     * 새 항목을 probation 구간에 추가 (다른 스레드가 먼저 넣었으면 그 항목 반환)
+     *
+     * 호출 전에 디렉토리 감시가 등록되어 있어야 함 (매핑 이후의 변경을 이벤트로 받기 위해)
+     *
+     * @return 캐시된 항목, 추가한 뒤 확인해 보니 파일이 이미 바뀌었으면 null (캐시에서 다시 제거됨)
+     */
+    private Entry insert(Entry loaded) {
+        synchronized (lock) {
+            Entry existing = probation.get(loaded.key);
+            if (existing == null) {
+                existing = protectedSegment.get(loaded.key);
+            }
+            if (existing != null) {
+                return existing;
+            }
+
+            probation.put(loaded.key, loaded);
+            probationBytes += loaded.size;
+            evictIfNeeded();
+        }
+
+        // 매핑과 추가 사이에 온 변경 이벤트는 아직 없던 항목을 지우고 지나갔을 수 있음
+        // 추가한 뒤에 바뀐 경우는 이벤트가 처리하므로 여기서 한 번만 확인하면 됨
+        // (감시를 못 쓰는 환경은 조회할 때마다 확인하므로 생략)
+        if (watchService != null && !loaded.isCurrent()) {
+            synchronized (lock) {
+                if (probation.get(loaded.key) == loaded || protectedSegment.get(loaded.key) == loaded) {
+                    remove(loaded.key);
+                }
+            }
+            return null;
+        }
+        return loaded;
+    }
+
+    /**
+     * 캐시에서 항목 조회 및 구간 승격
+     */
+    private Entry lookup(String key) {
+        Entry entry;
+        synchronized (lock) {
+            entry = protectedSegment.get(key); // get()이 접근 순서를 갱신
+            if (entry == null) {
+                entry = probation.remove(key);
+                if (entry == null) {
+                    return null;
+                }
+                // 두 번째 조회 - protected로 승격
+                probationBytes -= entry.size;
+                protectedSegment.put(key, entry);
+                protectedBytes += entry.size;
+                demoteIfNeeded();
+            }
+        }
+
+        // 감시를 못 쓰는 환경이면 수정 시간과 크기로 검증
+        if (watchService == null && !entry.isCurrent()) {
+            invalidate(entry.path);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 파일을 읽기 전용으로 매핑
+     */
+    private static Entry map(String key, Path path, String encoding) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        long size = attrs.size();
+        if (size > Integer.MAX_VALUE) {
+            // MappedByteBuffer 하나는 2GB까지만 매핑 가능
+            throw new IOException("매핑할 수 없는 크기의 파일입니다: " + path + " (" + size + " bytes)");
+        }
+
+        MappedByteBuffer buffer;
+        // 매핑은 채널을 닫아도 유지되므로 바로 닫음 (파일 디스크립터를 보유하지 않음)
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        return new Entry(key, path, buffer, encoding, size, attrs.lastModifiedTime().toMillis());
+    }
+
+    // ========== 교체 정책 ==========
+
+    /**
+     * 예산을 넘으면 probation부터 오래된 항목 제거 (lock 보유 상태에서 호출)
+     */
+    private void evictIfNeeded() {
+        while (probationBytes + protectedBytes > maxBytes) {
+            LinkedHashMap<String, Entry> segment = !probation.isEmpty() ? probation : protectedSegment;
+            if (segment.isEmpty()) {
+                return;
+            }
+            // 맨 앞 = 가장 오래 조회되지 않은 항목
+            Iterator<Entry> oldest = segment.values().iterator();
+            Entry victim = oldest.next();
+            oldest.remove();
+            if (segment == probation) {
+                probationBytes -= victim.size;
+            } else {
+                protectedBytes -= victim.size;
+            }
+            evictions.incrementAndGet();
+            logger.fine("캐시에서 파일 제거: " + victim.path + " (" + victim.size + " bytes)");
+        }
+    }
+
+    /**
+     * protected 구간이 상한을 넘으면 오래된 항목을 probation으로 강등 (lock 보유 상태에서 호출)
+     */
+    private void demoteIfNeeded() {
+        Iterator<Entry> oldest = protectedSegment.values().iterator();
+        while (protectedBytes > maxProtectedBytes && oldest.hasNext()) {
+            Entry entry = oldest.next();
+            oldest.remove();
+            protectedBytes -= entry.size;
+            probation.put(entry.key, entry);
+            probationBytes += entry.size;
+        }
+    }
+
+    /**
+     * 파일 변경에 따른 항목 무효화
+     *
+     * 원본 파일이면 원본과 모든 압축 변형을, 미리 압축된 파일(.gz/.br)이면 해당 변형을 제거
+     *
+     * @param path 변경된 파일 경로
+     */
+    public void invalidate(Path path) {
+        String key = path.toString();
+        synchronized (lock) {
+            remove(key);
+            for (String suffix : VARIANT_SUFFIXES) {
+                remove(key + "#" + suffix);
+                if (key.endsWith(suffix)) {
+                    // "style.css.gz" 변경 → "style.css#.gz" 변형 제거
+                    remove(key.substring(0, key.length() - suffix.length()) + "#" + suffix);
+                }
+            }
+        }
+    }
+
+    /**
+     * 키에 해당하는 항목 제거 (lock 보유 상태에서 호출)
+     */
+    private void remove(String key) {
+        Entry removed = probation.remove(key);
+        if (removed != null) {
+            probationBytes -= removed.size;
+        } else {
+            removed = protectedSegment.remove(key);
+            if (removed != null) {
+                protectedBytes -= removed.size;
+            }
+        }
+        if (removed != null) {
+            invalidations.incrementAndGet();
+            logger.fine("변경된 파일을 캐시에서 제거: " + key);
+        }
+    }
+
+    /**
+     * 전체 캐시 비우기
+     */
+    public void clear() {
+        synchronized (lock) {
+            probation.clear();
+            protectedSegment.clear();
+            probationBytes = 0;
+            protectedBytes = 0;
+        }
+    }
+
+    // ========== 파일 변경 감시 ==========
+
+    /**
+     * 디렉토리를 감시 대상으로 등록 (이미 등록되어 있으면 무시)
+     */
+    private void watchDirectory(Path directory) {
+        if (watchService == null || directory == null || watchedDirectories.containsKey(directory)) {
+            return;
+        }
+        try {
+            WatchKey key = directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, // 새 파일로 교체 (rename)
+                    StandardWatchEventKinds.ENTRY_MODIFY, // 내용 변경
+                    StandardWatchEventKinds.ENTRY_DELETE); // 삭제
+            watchedDirectories.putIfAbsent(directory, key);
+        } catch (IOException e) {
+            logger.warning("디렉토리 감시 등록 실패: " + directory + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * 감시 이벤트 처리 루프 - 변경된 파일의 항목을 제거
+     */
+    private void watchLoop() {
+        while (!closed) {
+            WatchKey key;
+            try {
+                key = watchService.take(); // 이벤트가 올 때까지 대기
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return; // close() 호출됨
+            }
+
+            Path directory = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    // 이벤트를 놓쳤으면 어떤 파일이 바뀌었는지 모르므로 전체 무효화
+                    logger.warning("파일 변경 이벤트가 넘쳐 캐시 전체를 비웁니다: " + directory);
+                    clear();
+                    continue;
+                }
+                invalidate(directory.resolve((Path) event.context()));
+            }
+
+            // reset() 실패 - 디렉토리가 삭제되어 더 이상 감시할 수 없음
+            if (!key.reset()) {
+                watchedDirectories.remove(directory);
+                synchronized (lock) {
+                    probation.values().removeIf(entry -> directory.equals(entry.path.getParent()));
+                    protectedSegment.values().removeIf(entry -> directory.equals(entry.path.getParent()));
+                    recalculateBytes();
+                }
+            }
+        }
+    }
+
+    /**
+     * 구간별 바이트 합 재계산 (lock 보유 상태에서 호출)
+     */
+    private void recalculateBytes() {
+        probationBytes = probation.values().stream().mapToLong(entry -> entry.size).sum();
+        protectedBytes = protectedSegment.values().stream().mapToLong(entry -> entry.size).sum();
+    }
+
+    /**
+     * 감시 스레드 종료 및 캐시 비우기
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (watchService != null) {
+            try {
+                watchService.close(); // take()에서 대기 중인 감시 스레드를 깨움
+            } catch (IOException e) {
+                logger.warning("파일 감시 종료 오류: " + e.getMessage());
+            }
+        }
+        clear();
+    }
+
+    // ========== 통계 ==========
+
+    public long getCachedBytes() {
+        synchronized (lock) {
+            return probationBytes + protectedBytes;
+        }
+    }
+
+    public int getCachedFileCount() {
+        synchronized (lock) {
+            return probation.size() + protectedSegment.size();
+        }
+    }
+
+    public long getMaxBytes() { return maxBytes; }
+    public long getMaxFileSize() { return maxFileSize; }
+    public long getHitCount() { return hits.get(); }
+    public long getMissCount() { return misses.get(); }
+    public long getEvictionCount() { return evictions.get(); }
+    public long getInvalidationCount() { return invalidations.get(); }
+
+    @Override
+    public String toString() {
+        return String.format("MappedFileCache{files=%d, bytes=%d/%d, hits=%d, misses=%d, evictions=%d, invalidations=%d}",
+                getCachedFileCount(), getCachedBytes(), maxBytes,
+                hits.get(), misses.get(), evictions.get(), invalidations.get());
+    }
+
+    // ========== 캐시 항목 ==========
+
+    /**
+     * 캐시 항목 하나 - 매핑된 파일 또는 압축 변형
+     *
+     * 버퍼는 여러 요청 스레드가 공유하므로 직접 읽지 않고 slice()로 얻은 독립된 뷰를 사용
+     */
+    public static final class Entry {
+        final String key;               // 캐시 키
+        final Path path;                // 검증 기준 파일 (원본 또는 미리 압축된 파일)
+        final ByteBuffer buffer;        // 내용 - 파일 매핑 또는 압축 결과 (없음 항목이면 null)
+        final String encoding;          // Content-Encoding (원본이면 null)
+        final long size;                // 내용 크기 (바이트 예산 계산 기준)
+        final long fileSize;            // 검증 기준 파일 크기
+        final long lastModified;        // 검증 기준 파일 수정 시간
+
+        Entry(String key, Path path, ByteBuffer buffer, String encoding, long fileSize, long lastModified) {
+            this.key = key;
+            this.path = path;
+            this.buffer = buffer;
+            this.encoding = encoding;
+            this.size = buffer != null ? buffer.remaining() : 0;
+            this.fileSize = fileSize;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * 사용할 내용이 있는지 (압축 이득이 없어 "없음"으로 기억한 변형이면 false)
+         */
+        boolean isPresent() {
+            return buffer != null;
+        }
+
+        /**
+         * 파일 전체를 가리키는 읽기 전용 뷰
+         */
+        public ByteBuffer slice() {
+            return buffer.asReadOnlyBuffer(); // 위치/한계가 독립된 새 뷰 - 스레드 간 공유 안전
+        }
+
+        /**
+         * 파일 구간 [start, end]를 가리키는 읽기 전용 뷰 (end 포함)
+         */
+        public ByteBuffer slice(long start, long end) {
+            ByteBuffer view = buffer.asReadOnlyBuffer();
+            view.position((int) start).limit((int) (end + 1));
+            return view.slice();
+        }
+
+        public long getSize() { return size; }
+        public long getLastModified() { return lastModified; }
+        public String getEncoding() { return encoding; }
+
+        /**
+         * 파일이 매핑 이후 바뀌지 않았는지 확인 (감시를 못 쓰는 환경용)
+         */
+        boolean isCurrent() {
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                return attrs.size() == fileSize && attrs.lastModifiedTime().toMillis() == lastModified;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+}
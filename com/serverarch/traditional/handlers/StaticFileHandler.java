@@ -5,9 +5,11 @@ import com.serverarch.common.http.HttpStatus; // HTTP 상태 코드 enum (200, 4
 import com.serverarch.traditional.*; // HttpRequest, HttpResponse 클래스들
 import com.serverarch.traditional.routing.*; // RouteHandler 인터페이스
 import com.serverarch.common.nio.*; // 직접 구현한 NIO 클래스들 (BasicFileAttributes, FileTime 등)
+import server.core.http.HttpDateClock; // Date 헤더와 같은 HTTP 날짜 포맷 (IMF-fixdate)
 
 // Java 기본 라이브러리들
 import java.io.*; // 파일 입출력 관련 클래스들 (File, RandomAccessFile, ByteArrayOutputStream 등)
+import java.nio.ByteBuffer; // 캐시된 매핑/압축 변형 바디
 import java.nio.file.*; // 새로운 파일 API (Path, Paths 등)
 import java.util.*; // Map, HashMap, Set, HashSet 등 컬렉션 클래스들
 import java.util.concurrent.*; // ConcurrentHashMap 동시성 컬렉션 - 멀티스레드 안전한 맵
@@ -22,16 +24,16 @@ import java.util.zip.*; // 압축 관련 클래스들 (GZIPOutputStream 등)
  * 주요 기능:
  * 1. CSS, JS, 이미지, HTML 등 정적 파일 서빙 - 웹 애플리케이션의 정적 자원 제공
  * 2. MIME 타입 자동 감지 및 설정 - 파일 확장자 기반으로 올바른 Content-Type 설정
- * 3. 파일 캐싱 (메모리 + HTTP 캐시 헤더) - 성능 최적화를 위한 이중 캐싱 전략
+ * 3. 파일 캐싱 (메모리 매핑 + HTTP 캐시 헤더) - 성능 최적화를 위한 이중 캐싱 전략
  * 4. Range 요청 지원 (부분 다운로드) - 대용량 파일의 효율적 전송
- * 5. 압축 지원 (gzip) - 네트워크 대역폭 절약
+ * 5. 압축 지원 (gzip, 미리 압축된 .gz/.br 파일) - 압축 결과를 캐시에 보관해서 한 번만 압축
  * 6. 보안 (디렉토리 트래버설 방지) - 경로 조작 공격 차단
  * 7. 성능 최적화 (ETag, Last-Modified) - HTTP 캐싱 메커니즘 활용
  *
  * 설계 원칙:
  * - 의존성 최소화: 직접 구현한 NIO 클래스 사용
  * - 멀티스레드 안전성: ConcurrentHashMap과 적절한 동기화
- * - 메모리 효율성: 큰 파일은 캐시하지 않음
+ * - 메모리 효율성: 파일 내용은 힙이 아닌 메모리 매핑으로 캐시하고 바이트 예산으로 제한
  * - 확장성: 압축 타입과 MIME 타입 쉽게 추가 가능
  */
 public class StaticFileHandler implements RouteHandler {
@@ -42,12 +44,13 @@ public class StaticFileHandler implements RouteHandler {
 
     // ========== 설정 상수들 ==========
 
-    // 메모리 캐시 제한 - 너무 많은 파일을 캐시하면 OutOfMemoryError 위험
-    private static final int MAX_CACHE_SIZE = 100;
+    // 메모리 캐시 바이트 예산 - 매핑된 파일 크기의 합이 이 값을 넘으면 오래된 파일부터 제거
+    // 64MB = 64 * 1024 * 1024 바이트
+    private static final long MAX_CACHE_BYTES = 64L * 1024 * 1024;
 
-    // 캐시할 파일의 최대 크기 - 큰 파일은 메모리 캐시에서 제외
-    // 1MB = 1024 * 1024 바이트
-    private static final long MAX_CACHE_FILE_SIZE = 1024 * 1024;
+    // 캐시할 파일의 최대 크기 - 더 큰 파일은 요청마다 매핑만 하고 캐시하지 않음
+    // 8MB = 8 * 1024 * 1024 바이트
+    private static final long MAX_CACHE_FILE_SIZE = 8L * 1024 * 1024;
 
     // HTTP 캐시 만료 시간 - 브라우저가 파일을 캐시할 시간
     // 24시간 = 24 * 60 * 60 * 1000 밀리초
@@ -72,10 +75,9 @@ public class StaticFileHandler implements RouteHandler {
     // 압축 가능한 MIME 타입들 - 텍스트 기반 파일만 압축 효과 있음
     private final Set<String> compressibleTypes;
 
-    // 파일 캐시 - 자주 요청되는 작은 파일들을 메모리에 저장
-    // ConcurrentHashMap: 멀티스레드 환경에서 안전한 해시맵
-    // String: 파일 경로 (캐시 키), CachedFile: 캐시된 파일 정보
-    private final Map<String, CachedFile> fileCache = new ConcurrentHashMap<>();
+    // 파일 캐시 - 자주 요청되는 파일들을 메모리 매핑으로 보관 (캐싱 비활성화시 null)
+    // MappedFileCache: 바이트 예산 기반 Segmented LRU, WatchService로 변경된 파일 무효화
+    private final MappedFileCache fileCache;
 
     // MIME 타입 매핑 테이블 - 파일 확장자별 Content-Type 결정
     // 정적 초기화로 한 번만 생성되어 모든 인스턴스가 공유
@@ -128,6 +130,7 @@ public class StaticFileHandler implements RouteHandler {
         // 옵션 설정
         this.enableCaching = enableCaching;
         this.enableCompression = enableCompression;
+        this.fileCache = enableCaching ? new MappedFileCache(MAX_CACHE_BYTES, MAX_CACHE_FILE_SIZE) : null;
 
         // 압축 가능한 MIME 타입 집합 초기화
         this.compressibleTypes = createCompressibleTypes();
@@ -274,8 +277,9 @@ public class StaticFileHandler implements RouteHandler {
             String etag = generateETag(filePath, lastModified);
 
             // If-None-Match 헤더 확인 (ETag 기반 캐시 검증)
+            // 압축 변형의 ETag("...-gzip")로 검증해도 같은 파일 버전이면 304
             String ifNoneMatch = request.getHeader("If-None-Match");
-            if (ifNoneMatch != null && ifNoneMatch.equals(etag)) {
+            if (ifNoneMatch != null && matchesETag(ifNoneMatch, etag)) {
                 // ETag가 일치하면 파일이 변경되지 않았으므로 304 응답
                 return createNotModifiedResponse(etag, lastModified);
             }
@@ -331,13 +335,23 @@ public class StaticFileHandler implements RouteHandler {
                 return HttpResponse.badRequest("유효하지 않은 Range 요청입니다");
             }
 
-            // 지정된 범위의 파일 데이터 읽기
-            byte[] data = readFileRange(filePath, range.start, range.end);
-
             // 206 Partial Content 응답 생성
             // HttpStatus.PARTIAL_CONTENT: 206 상태 코드
             HttpResponse response = new HttpResponse(HttpStatus.PARTIAL_CONTENT);
-            response.setBody(data); // 부분 데이터 설정
+
+            if (fileCache != null) {
+                // 매핑된 파일의 구간 뷰를 그대로 바디로 사용 - 파일을 다시 읽거나 복사하지 않음
+                MappedFileCache.Entry entry = fileCache.getOrLoad(filePath);
+                if (entry != null) {
+                    response.setBody(entry.slice(range.start, range.end));
+                } else {
+                    // 캐시 한도를 넘는 큰 파일 - 매핑하지 않고 전송 시점에 구간만 transferTo로 전송
+                    response.setBody(filePath, range.start, range.end - range.start + 1);
+                }
+            } else {
+                // 지정된 범위의 파일 데이터 읽기
+                response.setBody(readFileRange(filePath, range.start, range.end)); // 부분 데이터 설정
+            }
 
             // Content-Range 헤더 설정 - 클라이언트에게 전송 범위 알림
             // 형식: "bytes start-end/total" (예: "bytes 0-1023/2048")
@@ -371,47 +385,37 @@ public class StaticFileHandler implements RouteHandler {
      * @return 완성된 HTTP 응답
      */
     private HttpResponse createFileResponse(Path filePath, HttpRequest request) throws IOException {
-        // 캐시에서 파일 확인 - 메모리 캐시 활용으로 성능 최적화
-        String cacheKey = filePath.toString(); // 파일 경로를 캐시 키로 사용
-        CachedFile cachedFile = null;
+        if (fileCache != null) {
+            // 캐시에서 매핑된 파일 조회 (없으면 매핑해서 추가) - 파일 내용은 힙에 올라오지 않음
+            MappedFileCache.Entry entry = fileCache.getOrLoad(filePath);
+            String mimeType = getMimeType(filePath);
 
-        if (enableCaching) {
-            // 캐시에서 파일 조회
-            cachedFile = fileCache.get(cacheKey);
-
-            // 캐시된 파일이 있고 아직 유효한지 확인
-            if (cachedFile != null && cachedFile.isValid(filePath)) {
-                logger.fine("캐시된 파일 사용: " + filePath);
-                // 캐시된 데이터로 응답 생성하여 즉시 반환
-                return createResponseFromCache(cachedFile, request);
+            if (entry == null) {
+                // 캐시 한도를 넘는 큰 파일 - 요청마다 매핑하지 않고 전송 시점에 transferTo로 흘려보냄
+                return createLargeFileResponse(filePath, mimeType);
+            }
+
+            if (enableCompression && isCompressible(mimeType)) {
+                // 압축 변형 선택 - 압축은 처음 한 번만, 이후로는 캐시 조회
+                MappedFileCache.Entry variant = selectEncodedVariant(filePath, entry, request);
+                HttpResponse response = createResponseFromCache(
+                        variant != null ? variant : entry, filePath, mimeType, entry.getLastModified());
+                // Vary: 같은 URL이라도 Accept-Encoding에 따라 응답이 다름을 중간 캐시에 알림
+                response.setHeader("Vary", "Accept-Encoding");
+                return response;
             }
+
+            // 매핑 전체를 바디로 사용하는 응답 생성하여 즉시 반환
+            return createResponseFromCache(entry, filePath, mimeType, entry.getLastModified());
         }
 
-        // 파일 읽기 - 디스크에서 전체 파일 로드
+        // 캐싱 비활성화 - 디스크에서 전체 파일 로드
         // Files.readAllBytes(): 파일 전체를 바이트 배열로 읽기
         byte[] fileData = Files.readAllBytes(filePath);
 
         // 파일 속성 읽기 - 메타데이터 조회
         BasicFileAttributes attrs = FileAttributesUtil.readAttributes(filePath, BasicFileAttributes.class);
 
-        // 캐시에 저장 조건 확인 및 저장
-        // 1. 캐싱이 활성화되어 있고
-        // 2. 파일 크기가 제한 이하이며
-        // 3. 캐시 개수가 제한 이하일 때만 저장
-        if (enableCaching &&
-                fileData.length <= MAX_CACHE_FILE_SIZE &&
-                fileCache.size() < MAX_CACHE_SIZE) {
-
-            // 새로운 캐시 파일 객체 생성
-            cachedFile = new CachedFile(fileData,
-                    attrs.lastModifiedTime().toMillis(),
-                    getMimeType(filePath));
-
-            // 캐시에 저장
-            fileCache.put(cacheKey, cachedFile);
-            logger.fine("파일 캐시에 저장: " + filePath);
-        }
-
         // HTTP 응답 생성 및 반환
         return createHttpResponse(fileData, filePath, attrs.lastModifiedTime().toMillis(), request);
     }
@@ -454,12 +458,17 @@ public class StaticFileHandler implements RouteHandler {
             }
         }
 
+        // Vary: 같은 URL이라도 Accept-Encoding에 따라 응답이 다름을 중간 캐시에 알림
+        if (enableCompression && isCompressible(mimeType)) {
+            response.setHeader("Vary", "Accept-Encoding");
+        }
+
         // 응답 바디 설정
         response.setBody(responseData);
 
         // HTTP 캐시 헤더 설정 - 브라우저 캐싱 최적화
         if (enableCaching) {
-            setCacheHeaders(response, lastModified);
+            setCacheHeaders(response, filePath, lastModified, response.getHeader("Content-Encoding"));
         }
 
         // 추가 헤더들 설정
@@ -585,18 +594,147 @@ public class StaticFileHandler implements RouteHandler {
     private boolean shouldCompress(String mimeType, HttpRequest request) {
         // 클라이언트의 압축 지원 여부 확인
         // Accept-Encoding 헤더에서 gzip 지원 여부 검사
-        String acceptEncoding = request.getHeader("Accept-Encoding");
-        if (acceptEncoding == null || !acceptEncoding.contains("gzip")) {
+        if (!acceptsEncoding(request.getHeader("Accept-Encoding"), "gzip")) {
             // 클라이언트가 gzip을 지원하지 않으면 압축하지 않음
             return false;
         }
 
+        return isCompressible(mimeType);
+    }
+
+    /**
+     * 압축 가능한 MIME 타입인지 확인
+     *
+     * @param mimeType 파일의 MIME 타입
+     * @return 텍스트 기반이라 압축 효과가 있으면 true
+     */
+    private boolean isCompressible(String mimeType) {
         // MIME 타입이 압축 가능한 타입인지 확인
         // stream().anyMatch(): 스트림에서 조건을 만족하는 요소가 하나라도 있는지 확인
         // mimeType::startsWith: 메서드 참조 - mimeType.startsWith()와 동일
         return compressibleTypes.stream().anyMatch(mimeType::startsWith);
     }
 
+    /**
+     * Accept-Encoding 협상으로 압축 변형 선택
+     *
+     * 우선순위: br(디스크의 .br 파일이 있을 때만) → gzip(.gz 파일 또는 캐시에 보관한 압축 결과)
+     * JDK에 brotli 인코더가 없으므로 br은 미리 압축해 둔 파일만 사용
+     *
+     * @param filePath 원본 파일 경로
+     * @param entry 원본 캐시 항목
+     * @param request HTTP 요청 (Accept-Encoding 헤더 확인용)
+     * @return 선택된 압축 변형 (원본을 보내야 하면 null)
+     */
+    private MappedFileCache.Entry selectEncodedVariant(Path filePath, MappedFileCache.Entry entry,
+                                                       HttpRequest request) throws IOException {
+        String acceptEncoding = request.getHeader("Accept-Encoding");
+
+        if (acceptsEncoding(acceptEncoding, "br")) {
+            MappedFileCache.Entry variant = fileCache.getOrLoadVariant(filePath, entry, "br", ".br", null);
+            if (variant != null) {
+                return variant;
+            }
+        }
+
+        if (acceptsEncoding(acceptEncoding, "gzip")) {
+            // compressSource: 캐시에 없을 때 한 번만 호출됨
+            return fileCache.getOrLoadVariant(filePath, entry, "gzip", ".gz", this::compressSource);
+        }
+
+        return null;
+    }
+
+    /**
+     * Accept-Encoding 헤더가 특정 인코딩을 허용하는지 확인
+     * "gzip;q=0"처럼 q=0으로 명시적으로 거부한 경우는 허용하지 않음
+     *
+     * @param acceptEncoding Accept-Encoding 헤더 값 (null 가능)
+     * @param coding 확인할 인코딩 (예: "gzip")
+     * @return 허용하면 true
+     */
+    private static boolean acceptsEncoding(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        // split(","): "gzip, deflate, br;q=0.8" → 인코딩별 항목
+        for (String item : acceptEncoding.split(",")) {
+            String[] parts = item.trim().split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase(coding) && !name.equals("*")) {
+                continue;
+            }
+
+            // q 파라미터 확인 - 없으면 1
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 캐시된 원본 내용을 gzip 압축 (압축 변형을 처음 만들 때 한 번만 호출)
+     *
+     * @param source 원본 매핑의 읽기 전용 뷰
+     * @return 압축된 데이터 (압축 실패 시 null)
+     */
+    private byte[] compressSource(ByteBuffer source) {
+        byte[] data = new byte[source.remaining()];
+        source.get(data);
+        return compressData(data);
+    }
+
+    /**
+     * 압축 변형을 미리 준비 (서버 시작 시 선택적으로 호출)
+     *
+     * 루트 디렉토리의 캐시 가능한 파일들을 매핑하고, 압축 가능한 타입이면 gzip 변형과
+     * 디스크의 .br 변형을 미리 캐시에 넣어 첫 요청에서 압축하지 않도록 함
+     *
+     * @return 준비한 파일 수
+     */
+    public int warmUp() {
+        if (fileCache == null || !Files.isDirectory(rootDirectory)) {
+            return 0;
+        }
+
+        int count = 0;
+        // Files.walk(): 하위 디렉토리까지 모든 경로 순회
+        try (java.util.stream.Stream<Path> paths = Files.walk(rootDirectory)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (!Files.isRegularFile(path) || Files.size(path) > MAX_CACHE_FILE_SIZE) {
+                    continue;
+                }
+                // 미리 압축된 파일 자체는 변형으로만 사용
+                String name = path.getFileName().toString();
+                if (name.endsWith(".gz") || name.endsWith(".br")) {
+                    continue;
+                }
+
+                MappedFileCache.Entry entry = fileCache.getOrLoad(path);
+                if (enableCompression && isCompressible(getMimeType(path))) {
+                    fileCache.getOrLoadVariant(path, entry, "br", ".br", null);
+                    fileCache.getOrLoadVariant(path, entry, "gzip", ".gz", this::compressSource);
+                }
+                count++;
+            }
+        } catch (IOException e) {
+            logger.warning("정적 파일 미리 준비 중 오류: " + e.getMessage());
+        }
+
+        logger.info(String.format("정적 파일 %d개 미리 준비 완료 (%s)", count, fileCache));
+        return count;
+    }
+
     /**
      * 데이터 gzip 압축
      * 바이트 배열을 gzip 압축하여 크기 최적화
@@ -627,63 +765,6 @@ public class StaticFileHandler implements RouteHandler {
 
     // ========== 내부 클래스들 ==========
 
-    /**
-     * 캐시된 파일 정보를 담는 내부 클래스
-     * 메모리 캐시에서 파일 데이터와 메타데이터를 함께 저장
-     */
-    private static class CachedFile {
-        // 파일 데이터 - 실제 파일 내용
-        final byte[] data;
-
-        // 마지막 수정 시간 - 캐시 유효성 검증용
-        final long lastModified;
-
-        // MIME 타입 - 응답 생성 시 재사용
-        final String mimeType;
-
-        // 캐시 생성 시간 - 향후 TTL 기능 구현 시 사용 가능
-        final long cacheTime;
-
-        /**
-         * 캐시된 파일 객체 생성자
-         *
-         * @param data 파일 데이터
-         * @param lastModified 마지막 수정 시간
-         * @param mimeType MIME 타입
-         */
-        CachedFile(byte[] data, long lastModified, String mimeType) {
-            // 방어적 복사 - 외부에서 원본 배열을 수정해도 캐시에 영향 없음
-            this.data = data.clone();
-            this.lastModified = lastModified;
-            this.mimeType = mimeType;
-
-            // 현재 시간을 캐시 생성 시간으로 기록
-            this.cacheTime = System.currentTimeMillis();
-        }
-
-        /**
-         * 캐시 유효성 검증
-         * 파일이 수정되었는지 확인하여 캐시 무효화 여부 결정
-         *
-         * @param filePath 검증할 파일 경로
-         * @return 캐시가 유효하면 true, 무효하면 false
-         */
-        boolean isValid(Path filePath) {
-            try {
-                // 현재 파일의 수정 시간 조회
-                // FileAttributesUtil.getLastModifiedTime(): 직접 구현한 수정 시간 조회 메서드
-                long currentModified = FileAttributesUtil.getLastModifiedTime(filePath).toMillis();
-
-                // 캐시된 수정 시간과 비교 - 같으면 파일이 변경되지 않음
-                return lastModified == currentModified;
-
-            } catch (IOException e) {
-                // 파일 읽기 오류 시 캐시 무효로 처리 - 안전한 폴백
-                return false;
-            }
-        }
-    }
-
     /**
      * Range 요청 정보를 담는 내부 클래스
      * HTTP Range 헤더 파싱 결과를 저장
@@ -740,13 +821,47 @@ public class StaticFileHandler implements RouteHandler {
      * @return ETag 문자열
      */
     private String generateETag(Path filePath, long lastModified) {
+        return generateETag(filePath, lastModified, null);
+    }
+
+    /**
+     * 인코딩별 ETag 생성
+     * 압축 변형은 바이트가 다르므로 원본과 다른 ETag를 가져야 함 (예: "12345-gzip")
+     *
+     * @param filePath 파일 경로
+     * @param lastModified 마지막 수정 시간
+     * @param encoding Content-Encoding (원본이면 null)
+     * @return ETag 문자열
+     */
+    private String generateETag(Path filePath, long lastModified, String encoding) {
         // 파일 경로와 수정 시간을 조합하여 해시코드 생성
         // Math.abs(): 음수 해시코드를 양수로 변환
         // hashCode(): 객체의 해시코드 생성
         int hash = Math.abs((filePath.toString() + lastModified).hashCode());
 
         // ETag 형식으로 반환 - 따옴표로 감싸는 것이 HTTP 표준
-        return "\"" + hash + "\"";
+        return "\"" + hash + (encoding != null ? "-" + encoding : "") + "\"";
+    }
+
+    /**
+     * If-None-Match 값이 원본 ETag 또는 그 압축 변형 ETag와 일치하는지 확인
+     *
+     * @param ifNoneMatch If-None-Match 헤더 값
+     * @param etag 원본 ETag
+     * @return 같은 파일 버전이면 true
+     */
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        String base = etag.substring(0, etag.length() - 1); // 닫는 따옴표 제외
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2); // 약한 비교 - W/ 접두사 무시
+            }
+            if (value.equals(etag) || value.equals(base + "-gzip\"") || value.equals(base + "-br\"")) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -754,9 +869,11 @@ public class StaticFileHandler implements RouteHandler {
      * 브라우저가 파일을 캐시하도록 지시하는 헤더들 설정
      *
      * @param response HTTP 응답 객체
+     * @param filePath 파일 경로 (ETag 생성용)
      * @param lastModified 마지막 수정 시간
+     * @param encoding 응답의 Content-Encoding (원본이면 null)
      */
-    private void setCacheHeaders(HttpResponse response, long lastModified) {
+    private void setCacheHeaders(HttpResponse response, Path filePath, long lastModified, String encoding) {
         // Cache-Control 헤더 - 캐시 정책 설정
         // public: 모든 캐시에서 저장 가능 (프록시, 브라우저 등)
         // max-age: 캐시 유효 시간 (초 단위)
@@ -765,9 +882,8 @@ public class StaticFileHandler implements RouteHandler {
         // Last-Modified 헤더 - 파일의 마지막 수정 시간
         response.setHeader("Last-Modified", formatHttpDate(lastModified));
 
-        // ETag 헤더 - 파일의 고유 식별자
-        // 간단한 버전으로 더미 경로 사용 (실제로는 filePath를 받아야 함)
-        response.setHeader("ETag", generateETag(Paths.get("dummy"), lastModified));
+        // ETag 헤더 - 파일과 인코딩별 고유 식별자
+        response.setHeader("ETag", generateETag(filePath, lastModified, encoding));
     }
 
     /**
@@ -778,18 +894,9 @@ public class StaticFileHandler implements RouteHandler {
      * @return HTTP 날짜 문자열 (예: "Mon, 01 Jan 2024 12:00:00 GMT")
      */
     private String formatHttpDate(long timestamp) {
-        // 밀리초를 Instant로 변환
-        // Instant.ofEpochMilli(): 에포크부터의 밀리초로 Instant 생성
-        Instant instant = Instant.ofEpochMilli(timestamp);
-
-        // UTC 시간대로 ZonedDateTime 생성
-        // ZonedDateTime.ofInstant(): Instant와 시간대로 ZonedDateTime 생성
-        // ZoneOffset.UTC: UTC 시간대 (+00:00)
-        ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant(instant, ZoneOffset.UTC);
-
-        // RFC 1123 형식으로 포맷
-        // DateTimeFormatter.RFC_1123_DATE_TIME: HTTP 표준 날짜 포맷터
-        return DateTimeFormatter.RFC_1123_DATE_TIME.format(zonedDateTime);
+        // Date 헤더와 같은 고정 길이 형식(IMF-fixdate)으로 포맷
+        // DateTimeFormatter.RFC_1123_DATE_TIME은 일(day)을 0으로 채우지 않아 "Mon, 1 Jan 2024"가 되므로 사용하지 않음
+        return HttpDateClock.format(timestamp);
     }
 
     /**
@@ -897,25 +1004,72 @@ public class StaticFileHandler implements RouteHandler {
 
     /**
      * 캐시된 파일로 응답 생성
-     * 메모리 캐시에 있는 파일 데이터로 HTTP 응답 생성
+     * 캐시 항목(원본 매핑 또는 압축 변형) 전체를 가리키는 읽기 전용 뷰를 바디로 사용 (복사 없음)
      *
-     * @param cachedFile 캐시된 파일 정보
-     * @param request HTTP 요청 (현재는 사용하지 않음)
+     * @param entry 캐시 항목
+     * @param filePath 원본 파일 경로 (ETag 생성용)
+     * @param mimeType 원본 파일의 MIME 타입
+     * @param lastModified 원본 파일의 마지막 수정 시간
      * @return HTTP 응답
      */
-    private HttpResponse createResponseFromCache(CachedFile cachedFile, HttpRequest request) {
+    private HttpResponse createResponseFromCache(MappedFileCache.Entry entry, Path filePath,
+                                                 String mimeType, long lastModified) {
         // 200 OK 응답 생성
         HttpResponse response = HttpResponse.ok();
 
-        // 캐시된 데이터와 MIME 타입 설정
-        response.setBody(cachedFile.data); // 캐시된 파일 데이터 사용
-        response.setContentType(cachedFile.mimeType); // 캐시된 MIME 타입 사용
+        // 매핑 뷰와 MIME 타입 설정
+        response.setBody(entry.slice()); // 캐시된 내용 - 전송 시 버퍼에서 바로 기록
+        response.setContentType(mimeType);
+
+        // 압축 변형이면 Content-Encoding 설정
+        if (entry.getEncoding() != null) {
+            response.setHeader("Content-Encoding", entry.getEncoding());
+        }
 
         // 캐시 헤더 설정 (캐싱이 활성화된 경우)
+        // 미리 압축된 파일의 수정 시간이 아닌 원본 수정 시간 기준 - 조건부 요청 검증과 일치
         if (enableCaching) {
-            setCacheHeaders(response, cachedFile.lastModified);
+            setCacheHeaders(response, filePath, lastModified, entry.getEncoding());
         }
 
+        // Accept-Ranges: Range 요청 지원 명시
+        response.setHeader("Accept-Ranges", "bytes");
+
         return response; // 캐시 기반 응답 반환
     }
+
+    /**
+     * 캐시하지 않는 큰 파일 응답 생성
+     * 파일을 읽거나 매핑하지 않고 파일 바디로 설정 - 전송 경로가 transferTo로 조금씩 보냄
+     * 큰 파일을 요청마다 통째로 압축할 수는 없으므로 압축하지 않음
+     *
+     * @param filePath 파일 경로
+     * @param mimeType 파일의 MIME 타입
+     * @return HTTP 응답
+     */
+    private HttpResponse createLargeFileResponse(Path filePath, String mimeType) throws IOException {
+        BasicFileAttributes attrs = FileAttributesUtil.readAttributes(filePath, BasicFileAttributes.class);
+
+        HttpResponse response = HttpResponse.ok();
+        response.setBody(filePath, 0, attrs.size()); // 파일 전체 구간
+        response.setContentType(mimeType);
+
+        if (enableCaching) {
+            setCacheHeaders(response, filePath, attrs.lastModifiedTime().toMillis(), null);
+        }
+
+        // Accept-Ranges: Range 요청 지원 명시
+        response.setHeader("Accept-Ranges", "bytes");
+
+        return response;
+    }
+
+    /**
+     * 파일 캐시 반환 (모니터링용)
+     *
+     * @return 매핑 파일 캐시 (캐싱 비활성화시 null)
+     */
+    public MappedFileCache getFileCache() {
+        return fileCache;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,342 @@
+package server.core.buffer;
+
+import server.core.logging.Logger;
+import server.core.logging.LoggerFactory;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * 크기 클래스별 direct ByteBuffer 풀
+ * 이벤트루프마다 하나씩 두고 그 루프 스레드에서만 사용
+ *
+ * 동작 방식:
+ * - 요청 크기를 512B ~ 64KB 사이의 2의 거듭제곱 크기 클래스로 올림
+ * - 크기 클래스마다 반환된 버퍼를 보관하는 free list 유지
+ *   (ByteBuffer뿐 아니라 PooledBuffer 래퍼째 보관 - 재사용 시 객체 할당이 전혀 없음)
+ * - 보관 개수는 크기 클래스당 메모리 예산(maxBytesPerClass)으로 제한
+ * - 가장 큰 크기 클래스를 넘는 요청은 풀링하지 않고 heap 버퍼로 할당
+ *
+ * 누수 감지 (디버그 모드):
+ * - 할당 시점의 스택 트레이스를 PhantomReference에 기록 (할당마다 추적기를 만들므로 디버그 전용)
+ * - release() 없이 GC된 버퍼는 ReferenceQueue로 들어오고, 다음 할당 때 경고 로그 출력
+ *
+ * 스레드 안전성:
+ * - 락이 없으므로 소유 스레드 밖에서 allocate/release 하면 안 됨
+ */
+public class BufferPool {
+
+    // Logger 인스턴스 - 누수 경고와 풀 상태 추적
+    private static final Logger logger = LoggerFactory.getLogger(BufferPool.class);
+
+    // 가장 작은 크기 클래스 (512B) - 2^9
+    private static final int MIN_SIZE_SHIFT = 9;
+
+    // 크기 클래스 수: 512B, 1K, 2K, 4K, 8K, 16K, 32K, 64K
+    private static final int SIZE_CLASS_COUNT = 8;
+
+    // 풀링되는 최대 버퍼 크기 (64KB)
+    public static final int MAX_POOLED_SIZE = 1 << (MIN_SIZE_SHIFT + SIZE_CLASS_COUNT - 1);
+
+    // 크기 클래스당 기본 보관 메모리 예산 (1MB)
+    private static final int DEFAULT_MAX_BYTES_PER_CLASS = 1024 * 1024;
+
+    // 크기 클래스별 free list - 반환된 래퍼를 그대로 보관
+    private final ArrayDeque<PooledBuffer>[] freeLists;
+
+    // 크기 클래스별 최대 보관 개수
+    private final int[] maxCachedPerClass;
+
+    // direct 버퍼 사용 여부
+    private final boolean direct;
+
+    // 누수 감지 모드 - 켜져 있을 때만 스택 트레이스를 기록 (비용이 크므로 디버그용)
+    private volatile boolean leakDetection;
+
+    // 누수 감지용 참조 큐와 살아있는 추적기 집합
+    private final ReferenceQueue<PooledBuffer> leakQueue;
+    private final Set<LeakTracker> liveTrackers;
+
+    // 통계 - 소유 스레드에서만 갱신, 다른 스레드에서는 근사값으로 읽음
+    private volatile long allocations;      // 총 할당 요청 수
+    private volatile long poolHits;         // free list에서 재사용한 횟수
+    private volatile long newAllocations;   // 새로 메모리를 할당한 횟수
+    private volatile long unpooledAllocations; // 크기 초과로 풀링하지 않은 할당 수
+    private volatile long releases;         // 풀로 반환된 횟수
+    private volatile long leaksDetected;    // 감지된 누수 수
+
+    /**
+     * 기본 설정으로 direct 버퍼 풀 생성
+     */
+    public BufferPool() {
+        this(true, DEFAULT_MAX_BYTES_PER_CLASS);
+    }
+
+    /**
+     * BufferPool 생성자
+     *
+     * @param direct direct 버퍼 사용 여부
+     * @param maxBytesPerClass 크기 클래스당 보관할 최대 메모리 (바이트)
+     */
+    @SuppressWarnings("unchecked")
+    public BufferPool(boolean direct, int maxBytesPerClass) {
+        if (maxBytesPerClass < 0) {
+            throw new IllegalArgumentException("maxBytesPerClass must be non-negative: " + maxBytesPerClass);
+        }
+
+        this.direct = direct;
+        this.freeLists = (ArrayDeque<PooledBuffer>[]) new ArrayDeque<?>[SIZE_CLASS_COUNT];
+        this.maxCachedPerClass = new int[SIZE_CLASS_COUNT];
+
+        for (int i = 0; i < SIZE_CLASS_COUNT; i++) {
+            int size = sizeOfClass(i);
+            freeLists[i] = new ArrayDeque<>();
+            // 작은 버퍼는 많이, 큰 버퍼는 적게 보관 (최소 1개)
+            maxCachedPerClass[i] = Math.max(1, maxBytesPerClass / size);
+        }
+
+        this.leakQueue = new ReferenceQueue<>();
+        this.liveTrackers = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * 버퍼 할당
+     *
+     * 반환된 버퍼는 clear() 상태 (position=0, limit=capacity)이고 참조 카운트 1
+     *
+     * @param minCapacity 필요한 최소 용량
+     * @return 최소 용량 이상의 PooledBuffer
+     */
+    public PooledBuffer allocate(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("minCapacity must be non-negative: " + minCapacity);
+        }
+
+        allocations++;
+
+        // 누수 감지 모드면 GC된 미반환 버퍼가 있는지 먼저 확인
+        if (leakDetection) {
+            reportLeaks();
+        }
+
+        PooledBuffer pooled;
+        if (minCapacity > MAX_POOLED_SIZE) {
+            // 크기 클래스를 넘는 큰 요청은 풀링하지 않음
+            // 큰 direct 버퍼를 매번 만들면 비싸므로 heap 버퍼 사용
+            unpooledAllocations++;
+            pooled = new PooledBuffer(ByteBuffer.allocate(minCapacity), null, -1);
+        } else {
+            int sizeClass = sizeClassOf(minCapacity);
+            pooled = freeLists[sizeClass].pollLast();
+
+            if (pooled != null) {
+                // free list 재사용 - 버퍼와 래퍼 모두 재사용하므로 객체 할당 없음
+                poolHits++;
+                pooled.reuse();
+            } else {
+                // free list가 비어 있으면 새로 할당
+                newAllocations++;
+                int size = sizeOfClass(sizeClass);
+                ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+                pooled = new PooledBuffer(buffer, this, sizeClass);
+            }
+        }
+
+        if (leakDetection) {
+            LeakTracker tracker = new LeakTracker(pooled, leakQueue, minCapacity);
+            pooled.leakTracker = tracker;
+            liveTrackers.add(tracker);
+        }
+
+        return pooled;
+    }
+
+    /**
+     * 참조 카운트가 0이 된 버퍼를 free list로 반환 (PooledBuffer.release()에서 호출)
+     *
+     * @param pooled 반환할 버퍼
+     */
+    void recycle(PooledBuffer pooled) {
+        releases++;
+
+        // 정상 반환된 버퍼는 누수 추적 대상에서 제외
+        LeakTracker tracker = pooled.leakTracker;
+        if (tracker != null) {
+            liveTrackers.remove(tracker);
+            tracker.clear();
+            pooled.leakTracker = null;
+        }
+
+        int sizeClass = pooled.sizeClass();
+        ArrayDeque<PooledBuffer> freeList = freeLists[sizeClass];
+
+        // 보관 한도를 넘으면 버리고 GC에 맡김
+        if (freeList.size() < maxCachedPerClass[sizeClass]) {
+            freeList.offerLast(pooled);
+        }
+    }
+
+    /**
+     * GC된 미반환 버퍼 보고
+     *
+     * @return 이번 호출에서 새로 감지한 누수 수
+     */
+    public int reportLeaks() {
+        int found = 0;
+        Reference<? extends PooledBuffer> ref;
+
+        while ((ref = leakQueue.poll()) != null) {
+            LeakTracker tracker = (LeakTracker) ref;
+
+            // 정상 반환된 추적기는 clear()되어 큐에 들어오지 않지만 방어적으로 확인
+            if (liveTrackers.remove(tracker)) {
+                found++;
+                leaksDetected++;
+                logger.warn("버퍼 누수 감지: release() 없이 GC됨 (요청 크기: " +
+                        tracker.requestedSize + " bytes)", tracker.allocationSite);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 모든 free list 비우기
+     *
+     * 이벤트루프 종료시 보관 중인 버퍼를 GC에 넘기기 위해 사용
+     */
+    public void clear() {
+        for (ArrayDeque<PooledBuffer> freeList : freeLists) {
+            freeList.clear();
+        }
+    }
+
+    /**
+     * 누수 감지 모드 설정
+     *
+     * @param leakDetection true면 할당마다 스택 트레이스를 기록 (디버그 전용)
+     */
+    public void setLeakDetection(boolean leakDetection) {
+        this.leakDetection = leakDetection;
+    }
+
+    public boolean isLeakDetection() {
+        return leakDetection;
+    }
+
+    /**
+     * 요청 크기에 맞는 크기 클래스 인덱스 계산
+     *
+     * @param capacity 요청 크기 (MAX_POOLED_SIZE 이하)
+     * @return 크기 클래스 인덱스
+     */
+    static int sizeClassOf(int capacity) {
+        if (capacity <= (1 << MIN_SIZE_SHIFT)) {
+            return 0;
+        }
+        // capacity를 2의 거듭제곱으로 올림한 값의 지수 - 최소 지수
+        int shift = 32 - Integer.numberOfLeadingZeros(capacity - 1);
+        return shift - MIN_SIZE_SHIFT;
+    }
+
+    /**
+     * 크기 클래스 인덱스에 해당하는 버퍼 크기
+     */
+    static int sizeOfClass(int sizeClass) {
+        return 1 << (MIN_SIZE_SHIFT + sizeClass);
+    }
+
+    /**
+     * 통계 정보 반환
+     */
+    public PoolStats getStats() {
+        int cached = 0;
+        long cachedBytes = 0;
+        for (int i = 0; i < SIZE_CLASS_COUNT; i++) {
+            int size = freeLists[i].size();
+            cached += size;
+            cachedBytes += (long) size * sizeOfClass(i);
+        }
+
+        return new PoolStats(allocations, poolHits, newAllocations, unpooledAllocations,
+                releases, leaksDetected, cached, cachedBytes);
+    }
+
+    @Override
+    public String toString() {
+        return getStats().toString();
+    }
+
+    /**
+     * 누수 추적기
+     *
+     * PooledBuffer가 release() 없이 GC되면 ReferenceQueue에 들어옴
+     */
+    static final class LeakTracker extends PhantomReference<PooledBuffer> {
+        private final Throwable allocationSite;   // 할당 위치 스택 트레이스
+        private final int requestedSize;          // 요청 크기
+
+        LeakTracker(PooledBuffer referent, ReferenceQueue<PooledBuffer> queue, int requestedSize) {
+            super(referent, queue);
+            this.allocationSite = new Throwable("Buffer allocated here");
+            this.requestedSize = requestedSize;
+        }
+    }
+
+    /**
+     * 버퍼 풀 통계 정보
+     *
+     * BufferPool의 상태를 나타내는 불변 객체
+     */
+    public static class PoolStats {
+        private final long allocations;         // 총 할당 요청 수
+        private final long poolHits;            // 재사용 횟수
+        private final long newAllocations;      // 새 메모리 할당 횟수
+        private final long unpooledAllocations; // 비풀링 할당 횟수
+        private final long releases;            // 반환 횟수
+        private final long leaksDetected;       // 감지된 누수 수
+        private final int cachedBuffers;        // 현재 보관 중인 버퍼 수
+        private final long cachedBytes;         // 현재 보관 중인 메모리
+
+        public PoolStats(long allocations, long poolHits, long newAllocations, long unpooledAllocations,
+                         long releases, long leaksDetected, int cachedBuffers, long cachedBytes) {
+            this.allocations = allocations;
+            this.poolHits = poolHits;
+            this.newAllocations = newAllocations;
+            this.unpooledAllocations = unpooledAllocations;
+            this.releases = releases;
+            this.leaksDetected = leaksDetected;
+            this.cachedBuffers = cachedBuffers;
+            this.cachedBytes = cachedBytes;
+        }
+
+        public long getAllocations() { return allocations; }
+        public long getPoolHits() { return poolHits; }
+        public long getNewAllocations() { return newAllocations; }
+        public long getUnpooledAllocations() { return unpooledAllocations; }
+        public long getReleases() { return releases; }
+        public long getLeaksDetected() { return leaksDetected; }
+        public int getCachedBuffers() { return cachedBuffers; }
+        public long getCachedBytes() { return cachedBytes; }
+
+        /**
+         * 재사용 비율 (0.0 ~ 1.0)
+         */
+        public double getHitRatio() {
+            return allocations > 0 ? (double) poolHits / allocations : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("PoolStats{alloc=%d, hit=%.1f%%, new=%d, unpooled=%d, released=%d, " +
+                            "cached=%d(%dKB), leaks=%d}",
+                    allocations, getHitRatio() * 100, newAllocations, unpooledAllocations, releases,
+                    cachedBuffers, cachedBytes / 1024, leaksDetected);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package server.core.buffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 풀에서 빌려온 ByteBuffer 래퍼
+ * 참조 카운트로 수명을 관리하고 카운트가 0이 되면 풀로 반환
+ *
+ * 사용 규칙:
+ * - allocate() 직후 참조 카운트는 1
+ * - 버퍼를 다른 곳에 보관하려면 retain()으로 카운트를 올림
+ * - 사용이 끝난 쪽은 반드시 release() 호출
+ * - release()로 카운트가 0이 된 뒤에는 buffer()에 접근할 수 없음
+ * - 풀링된 래퍼는 반환 후 다음 allocate()에서 그대로 재사용되므로
+ *   release()한 참조를 계속 들고 있으면 안 됨 (재사용된 뒤에는 해제 검사로도 잡히지 않음)
+ *
+ * 스레드 모델:
+ * - 버퍼를 할당한 풀의 소유 스레드(이벤트루프)에서만 retain/release 호출
+ * - 그래서 참조 카운트는 원자 연산 없이 일반 int로 관리
+ */
+public final class PooledBuffer {
+
+    // 실제 데이터를 담는 NIO 버퍼 (보통 direct 버퍼)
+    private final ByteBuffer buffer;
+
+    // 반환 대상 풀 - 풀 크기 클래스를 넘는 요청이면 null (비풀링 버퍼)
+    private final BufferPool pool;
+
+    // 크기 클래스 인덱스 - 비풀링 버퍼면 -1
+    private final int sizeClass;
+
+    // 참조 카운트 - 0이 되면 풀로 반환됨
+    private int refCnt;
+
+    // 누수 추적기 - 누수 감지 모드에서만 설정됨
+    BufferPool.LeakTracker leakTracker;
+
+    /**
+     * PooledBuffer 생성자 (BufferPool에서만 호출)
+     *
+     * @param buffer 감쌀 NIO 버퍼
+     * @param pool 반환 대상 풀 (비풀링이면 null)
+     * @param sizeClass 크기 클래스 인덱스 (비풀링이면 -1)
+     */
+    PooledBuffer(ByteBuffer buffer, BufferPool pool, int sizeClass) {
+        this.buffer = buffer;
+        this.pool = pool;
+        this.sizeClass = sizeClass;
+        this.refCnt = 1;
+    }
+
+    /**
+     * 내부 NIO 버퍼 반환
+     *
+     * @return position/limit을 직접 조작할 수 있는 ByteBuffer
+     * @throws IllegalStateException 이미 해제된 버퍼에 접근한 경우
+     */
+    public ByteBuffer buffer() {
+        ensureAccessible();
+        return buffer;
+    }
+
+    /**
+     * 버퍼 용량 반환
+     */
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * 참조 카운트 증가
+     *
+     * @return 메서드 체이닝을 위한 자기 자신
+     */
+    public PooledBuffer retain() {
+        ensureAccessible();
+        refCnt++;
+        return this;
+    }
+
+    /**
+     * 참조 카운트 감소
+     *
+     * 카운트가 0이 되면 버퍼를 풀로 반환
+     *
+     * @return 이번 호출로 버퍼가 반환되었으면 true
+     */
+    public boolean release() {
+        ensureAccessible();
+        if (--refCnt > 0) {
+            return false;
+        }
+
+        // 풀이 있으면 반환, 비풀링 버퍼는 GC에 맡김
+        if (pool != null) {
+            pool.recycle(this);
+        }
+        return true;
+    }
+
+    /**
+     * 현재 참조 카운트 반환
+     */
+    public int refCnt() {
+        return refCnt;
+    }
+
+    /**
+     * 풀링된 버퍼인지 확인
+     *
+     * @return 크기 클래스에 속해 재사용되는 버퍼면 true
+     */
+    public boolean isPooled() {
+        return pool != null;
+    }
+
+    int sizeClass() {
+        return sizeClass;
+    }
+
+    /**
+     * free list에서 꺼낸 래퍼를 새로 할당된 상태로 되돌림 (BufferPool에서만 호출)
+     */
+    void reuse() {
+        buffer.clear();
+        refCnt = 1;
+    }
+
+    /**
+     * 해제된 버퍼 접근 방지
+     */
+    private void ensureAccessible() {
+        if (refCnt <= 0) {
+            throw new IllegalStateException("Buffer already released (refCnt=" + refCnt + ")");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PooledBuffer{capacity=%d, refCnt=%d, pooled=%s, direct=%s}",
+                buffer.capacity(), refCnt, pool != null, buffer.isDirect());
+    }
+}
@@ -0,0 +1,220 @@
+package server.core.http;
+
+// I/O 관련 클래스들
+import java.io.Closeable;
+import java.io.IOException;
+// NIO 버퍼, 채널, 파일
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+// 배열 확장
+import java.util.Arrays;
+
+/**
+ * 요청 본문 스풀러
+ *
+ * 도착하는 본문 바이트를 받아서 임계값까지는 메모리 배열에 모으고,
+ * 넘으면 임시 파일로 옮긴 뒤 나머지를 파일에 바로 기록
+ * → 요청당 힙 사용량이 본문 크기가 아니라 임계값으로 제한됨
+ *
+ * 사용 방식:
+ * - expect(): Content-Length를 알면 미리 알려줌 (임계값을 넘으면 처음부터 파일에 기록)
+ * - write(): 도착한 바이트 추가 (direct 버퍼는 복사 없이 파일 채널로 기록)
+ * - finish(): 완성된 RequestBody 반환 (임시 파일 소유권도 넘어감)
+ * - close(): 완성 전에 요청이 버려지면 임시 파일 삭제
+ *
+ * 스레드 안전하지 않음 - 요청을 읽는 스레드 하나에서만 사용
+ */
+public final class BodySpooler implements Closeable {
+
+    // 기본 메모리 임계값 - 이보다 큰 본문은 임시 파일로
+    public static final int DEFAULT_SPOOL_THRESHOLD = 1024 * 1024; // 1MB
+
+    // 길이를 모를 때 메모리 배열 초기 크기
+    private static final int INITIAL_MEMORY_SIZE = 1024;
+
+    // 임시 파일 이름
+    private static final String TEMP_PREFIX = "request-body-";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final int threshold;     // 메모리에 모을 최대 바이트 수
+    private final Path directory;    // 임시 파일 디렉토리 (null이면 시스템 임시 디렉토리)
+
+    private byte[] memory;           // 메모리 본문
+    private int memoryLength;        // 메모리 본문에 채워진 바이트 수
+    private Path file;               // 임시 파일 (파일로 넘어간 경우)
+    private FileChannel channel;     // 임시 파일 쓰기 채널
+    private long length;             // 지금까지 받은 본문 바이트 수
+
+    /**
+     * 시스템 임시 디렉토리를 쓰는 스풀러
+     *
+     * @param threshold 메모리 임계값 (바이트)
+     */
+    public BodySpooler(int threshold) {
+        this(threshold, null);
+    }
+
+    /**
+     * BodySpooler 생성자
+     *
+     * @param threshold 메모리 임계값 (바이트, 0이면 항상 파일)
+     * @param directory 임시 파일 디렉토리 (null이면 시스템 임시 디렉토리)
+     */
+    public BodySpooler(int threshold, Path directory) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold cannot be negative: " + threshold);
+        }
+        this.threshold = threshold;
+        this.directory = directory;
+    }
+
+    /**
+     * 본문 길이 미리 알림 (Content-Length)
+     *
+     * 임계값 이하면 정확한 크기의 배열을 한 번만 할당하고, 넘으면 처음부터 파일에 기록
+     *
+     * @param contentLength 본문 길이
+     */
+    public void expect(long contentLength) throws IOException {
+        if (length > 0) {
+            return;
+        }
+        if (contentLength > threshold) {
+            openFile();
+        } else if (memory == null && contentLength > 0) {
+            memory = new byte[(int) contentLength];
+        }
+    }
+
+    /**
+     * 버퍼의 남은 바이트를 모두 본문에 추가 (버퍼 position 전진)
+     */
+    public void write(ByteBuffer src) throws IOException {
+        int count = src.remaining();
+        if (count == 0) {
+            return;
+        }
+        if (channel == null && memoryLength + (long) count > threshold) {
+            switchToFile();
+        }
+        if (channel != null) {
+            while (src.hasRemaining()) {
+                channel.write(src);
+            }
+        } else {
+            ensureMemoryCapacity(memoryLength + count);
+            src.get(memory, memoryLength, count);
+            memoryLength += count;
+        }
+        length += count;
+    }
+
+    /**
+     * 배열의 일부를 본문에 추가
+     */
+    public void write(byte[] bytes, int offset, int count) throws IOException {
+        write(ByteBuffer.wrap(bytes, offset, count));
+    }
+
+    /**
+     * 완성된 본문 반환
+     *
+     * 이후 스풀러는 비어 있는 초기 상태가 되며 임시 파일은 반환된 RequestBody가 소유
+     */
+    public RequestBody finish() throws IOException {
+        RequestBody body;
+        if (channel != null) {
+            channel.close();
+            body = RequestBody.ofFile(file, length);
+        } else if (memory == null || memoryLength == 0) {
+            body = RequestBody.EMPTY;
+        } else {
+            body = RequestBody.ofBytes(memoryLength == memory.length ? memory : Arrays.copyOf(memory, memoryLength));
+        }
+        memory = null;
+        memoryLength = 0;
+        file = null;
+        channel = null;
+        length = 0;
+        return body;
+    }
+
+    /**
+     * 완성되지 않은 본문 버림 - 임시 파일 삭제 (여러 번 호출해도 안전)
+     */
+    @Override
+    public void close() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // 삭제가 목적이므로 닫기 실패는 무시
+            }
+        }
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // 시스템 임시 디렉토리 정리에 맡김
+            }
+        }
+        memory = null;
+        memoryLength = 0;
+        file = null;
+        channel = null;
+        length = 0;
+    }
+
+    /**
+     * 메모리에 모은 바이트를 임시 파일로 옮기고 이후 쓰기는 파일로
+     */
+    private void switchToFile() throws IOException {
+        openFile();
+        if (memoryLength > 0) {
+            ByteBuffer pending = ByteBuffer.wrap(memory, 0, memoryLength);
+            while (pending.hasRemaining()) {
+                channel.write(pending);
+            }
+        }
+        memory = null;
+        memoryLength = 0;
+    }
+
+    private void openFile() throws IOException {
+        file = directory != null
+                ? Files.createTempFile(directory, TEMP_PREFIX, TEMP_SUFFIX)
+                : Files.createTempFile(TEMP_PREFIX, TEMP_SUFFIX);
+        channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private void ensureMemoryCapacity(int required) {
+        if (memory == null) {
+            memory = new byte[Math.max(Math.min(INITIAL_MEMORY_SIZE, threshold), required)];
+        } else if (required > memory.length) {
+            memory = Arrays.copyOf(memory, (int) Math.min(Math.max((long) memory.length * 2, required), threshold));
+        }
+    }
+
+    // === 접근자 메서드 ===
+
+    /**
+     * 지금까지 받은 본문 바이트 수
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * 임시 파일에 기록 중인지 여부
+     */
+    public boolean isSpooled() {
+        return channel != null;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+}
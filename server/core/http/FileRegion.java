@@ -0,0 +1,155 @@
+package server.core.http;
+
+// I/O 관련 클래스들
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+// NIO 채널
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+// 유틸리티 클래스
+import java.util.Objects;
+
+/**
+ * 파일 구간 응답 본문
+ *
+ * 파일 내용을 byte[]로 읽지 않고 파일의 [position, position + count) 구간을
+ * FileChannel.transferTo()로 소켓에 바로 전송하기 위한 본문 타입
+ *
+ * 특징:
+ * - 대상이 SocketChannel이면 JDK가 sendfile로 전송 → 힙 사용 없음, 사용자 공간 복사 없음
+ * - 논블로킹 소켓에서는 한 번에 보낼 수 있는 만큼만 전송하고 진행 위치를 기억
+ * - Range 요청은 구간(position, count)만 바꿔서 같은 방식으로 전송
+ * - 파일은 처음 전송할 때 열고, 전송이 끝나거나 연결이 닫힐 때 close()로 닫음
+ *
+ * 스레드 안전하지 않음 - 응답을 전송하는 스레드 하나에서만 사용
+ */
+public final class FileRegion implements Closeable {
+
+    private final Path path;          // 전송할 파일
+    private final long position;      // 파일 안에서 구간 시작 위치
+    private final long count;         // 구간 길이 (바이트)
+
+    private long transferred;         // 지금까지 전송한 바이트 수
+    private FileChannel channel;      // 처음 전송할 때 열림
+
+    /**
+     * 파일 전체 구간 생성
+     *
+     * @param path 전송할 파일
+     * @param size 파일 크기
+     */
+    public FileRegion(Path path, long size) {
+        this(path, 0, size);
+    }
+
+    /**
+     * 파일 구간 생성
+     *
+     * @param path 전송할 파일
+     * @param position 구간 시작 위치
+     * @param count 구간 길이
+     */
+    public FileRegion(Path path, long position, long count) {
+        this.path = Objects.requireNonNull(path, "Path cannot be null");
+        if (position < 0 || count < 0) {
+            throw new IllegalArgumentException("Invalid region: position=" + position + ", count=" + count);
+        }
+        this.position = position;
+        this.count = count;
+    }
+
+    /**
+     * 남은 구간을 대상 채널로 전송
+     *
+     * 논블로킹 소켓이면 송신 버퍼에 들어가는 만큼만 전송하고 반환
+     *
+     * @param target 대상 채널 (SocketChannel이면 sendfile 사용)
+     * @return 이번에 전송한 바이트 수 (송신 버퍼가 가득 차면 0)
+     * @throws IOException 파일을 읽을 수 없거나 전송 중 파일이 줄어든 경우
+     */
+    public long transferTo(WritableByteChannel target) throws IOException {
+        long remaining = count - transferred;
+        if (remaining <= 0) {
+            return 0;
+        }
+
+        if (channel == null) {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        }
+
+        long written = channel.transferTo(position + transferred, remaining, target);
+        if (written == 0 && channel.size() < position + count) {
+            // transferTo는 파일 끝에서도 0을 반환하므로 송신 버퍼가 가득 찬 경우와 구분
+            throw new IOException("File was truncated during transfer: " + path);
+        }
+
+        transferred += written;
+        return written;
+    }
+
+    /**
+     * 블로킹 스트림으로 남은 구간 전체 전송
+     *
+     * 스레드 기반 서버처럼 OutputStream으로 응답을 쓰는 경로용
+     *
+     * @param output 대상 스트림
+     * @throws IOException 전송 실패시
+     */
+    public void writeTo(OutputStream output) throws IOException {
+        WritableByteChannel target = Channels.newChannel(output);
+        try {
+            while (!isComplete()) {
+                transferTo(target);
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * 열린 파일 닫기 (여러 번 호출해도 안전)
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    // === 접근자 메서드 ===
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTransferred() {
+        return transferred;
+    }
+
+    public long remaining() {
+        return count - transferred;
+    }
+
+    public boolean isComplete() {
+        return transferred >= count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FileRegion{path=%s, position=%d, count=%d, transferred=%d}",
+                path, position, count, transferred);
+    }
+}
@@ -0,0 +1,146 @@
+package server.core.http;
+
+// 문자 인코딩
+import java.nio.charset.StandardCharsets;
+// 날짜/시간 포맷팅
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+// 주기 실행
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP Date 헤더 시계
+ *
+ * Date 헤더 값(RFC 1123, 초 단위)은 1초 동안 모든 응답에서 같으므로
+ * 매 응답마다 ZonedDateTime을 만들어 포맷하지 않고, 초가 바뀔 때 한 번만 생성해서 공유
+ *
+ * 동작 방식:
+ * - 데몬 타이머 스레드 하나가 매 초 경계에 값을 갱신 (처음 사용될 때 시작)
+ * - 응답 생성 쪽은 volatile 스냅샷을 읽기만 함 (락, 할당 없음)
+ * - 문자열 값과 "Date: ...\r\n" 헤더 라인 바이트를 함께 제공
+ *   → HttpResponseEncoder는 현재 값이면 미리 인코딩된 라인을 그대로 복사
+ *
+ * 모든 서버(server.* 와 com.serverarch.*)의 응답 빌더가 이 시계를 공유함
+ */
+public final class HttpDateClock {
+
+    // RFC 1123 고정 길이 형식 (IMF-fixdate, 항상 GMT) - 예: "Mon, 01 Jan 2024 12:00:00 GMT"
+    // RFC_1123_DATE_TIME은 일(day)을 0으로 채우지 않으므로 패턴을 직접 지정
+    private static final DateTimeFormatter RFC_1123 =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.ENGLISH);
+
+    // 현재 초의 스냅샷 - 타이머 스레드만 교체하고 나머지는 읽기만 함
+    private static volatile Snapshot current = createSnapshot(System.currentTimeMillis());
+
+    static {
+        // 1초 주기 갱신 타이머 - 다음 초 경계에 맞춰 시작
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "HttpDate-Clock");
+            t.setDaemon(true);
+            return t;
+        });
+        long initialDelay = 1000 - (System.currentTimeMillis() % 1000);
+        timer.scheduleAtFixedRate(HttpDateClock::tick, initialDelay, 1000, TimeUnit.MILLISECONDS);
+    }
+
+    private HttpDateClock() {
+        // 정적 유틸리티 클래스
+    }
+
+    /**
+     * 현재 Date 헤더 값
+     *
+     * @return RFC 1123 형식 문자열 (1초 동안 같은 인스턴스)
+     */
+    public static String currentDate() {
+        return current.value;
+    }
+
+    /**
+     * 현재 Date 헤더 값의 바이트 (US-ASCII)
+     *
+     * @return 공유 배열 - 수정하면 안 됨
+     */
+    public static byte[] currentDateBytes() {
+        return current.valueBytes;
+    }
+
+    /**
+     * 임의 시각을 Date 헤더와 같은 형식으로 포맷 (Last-Modified 등)
+     *
+     * @param millis 밀리초 타임스탬프 (초 미만은 버림)
+     * @return RFC 1123 형식 문자열 - 예: "Mon, 01 Jan 2024 12:00:00 GMT"
+     */
+    public static String format(long millis) {
+        return RFC_1123.format(Instant.ofEpochMilli(millis).atOffset(ZoneOffset.UTC));
+    }
+
+    /**
+     * 값이 현재(또는 직전) 스냅샷의 문자열 인스턴스이면 "Date: 값\r\n" 라인 바이트 반환
+     *
+     * 인코더가 길이 계산과 기록 사이에 초가 바뀌어도 같은 값을 쓰도록
+     * 값 비교는 문자열 인스턴스 동일성으로 판단
+     *
+     * @param value 응답에 설정된 Date 헤더 값
+     * @return 미리 인코딩된 헤더 라인, 공유 값이 아니면 null
+     */
+    static byte[] headerLineFor(String value) {
+        Snapshot snapshot = current;
+        if (snapshot.value == value) {
+            return snapshot.headerLine;
+        }
+        Snapshot previous = snapshot.previous;
+        if (previous != null && previous.value == value) {
+            return previous.headerLine;
+        }
+        return null;
+    }
+
+    /**
+     * 초가 바뀌었으면 스냅샷 갱신
+     * 타이머가 매 초 호출하며, 이벤트 루프 등에서 직접 호출해도 안전함
+     */
+    public static void tick() {
+        long now = System.currentTimeMillis();
+        Snapshot snapshot = current;
+        if (now / 1000 != snapshot.epochSecond) {
+            Snapshot next = createSnapshot(now);
+            next.previous = new Snapshot(snapshot.epochSecond, snapshot.value,
+                    snapshot.valueBytes, snapshot.headerLine);
+            current = next;
+        }
+    }
+
+    private static Snapshot createSnapshot(long millis) {
+        long epochSecond = millis / 1000;
+        String value = RFC_1123.format(Instant.ofEpochSecond(epochSecond).atOffset(ZoneOffset.UTC));
+        byte[] valueBytes = value.getBytes(StandardCharsets.US_ASCII);
+        byte[] headerLine = ("Date: " + value + "\r\n").getBytes(StandardCharsets.US_ASCII);
+        return new Snapshot(epochSecond, value, valueBytes, headerLine);
+    }
+
+    /**
+     * 한 초 동안의 Date 값 묶음 (불변)
+     */
+    private static final class Snapshot {
+        final long epochSecond;
+        final String value;
+        final byte[] valueBytes;
+        final byte[] headerLine;
+
+        // 직전 초의 값 - 초 경계에서 인코딩 중이던 응답을 위해 한 단계만 보관
+        // (직전 스냅샷의 previous는 항상 null이므로 체인이 길어지지 않음)
+        Snapshot previous;
+
+        Snapshot(long epochSecond, String value, byte[] valueBytes, byte[] headerLine) {
+            this.epochSecond = epochSecond;
+            this.value = value;
+            this.valueBytes = valueBytes;
+            this.headerLine = headerLine;
+        }
+    }
+}
@@ -6,6 +6,8 @@ import java.util.*;
 // 멀티스레드 환경에서 안전한 HashMap을 사용하기 위해 import
 // 동시에 여러 스레드가 접근해도 데이터 일관성이 보장됨
 import java.util.concurrent.ConcurrentHashMap;
+// 지연 디코딩용 문자 인코딩
+import java.nio.charset.StandardCharsets;
 
 /**
  * HTTP 헤더 관리 클래스
@@ -19,6 +21,11 @@ public class HttpHeaders {
     // ConcurrentHashMap 사용 이유: 멀티스레드 환경에서 안전한 동시 접근 보장
     private final Map<String, HeaderEntry> headers;
 
+    // 파서가 넘겨준 원본 헤더 바이트 (지연 디코딩용)
+    // null이 아니면 아직 맵에 옮기지 않은 상태 - 조회는 바이트 슬라이스에서 바로 처리
+    // 수정이나 전체 순회가 필요해지는 순간 맵으로 옮기고(materialize) null로 바뀜
+    private volatile RawHeaderBlock raw;
+
     // 기본 생성자
     public HttpHeaders() {
         // ConcurrentHashMap 인스턴스 생성
@@ -38,10 +45,57 @@ public class HttpHeaders {
         }
     }
 
+    /**
+     * 파서 전용 생성자 - 원본 바이트 슬라이스로 헤더 생성
+     *
+     * 헤더 이름/값은 실제로 조회될 때만 String으로 디코딩됨
+     * data와 slices 배열의 소유권은 이 객체로 넘어옴 (호출자는 이후 수정하면 안 됨)
+     *
+     * @param data 헤더 라인들이 담긴 바이트 배열
+     * @param slices 헤더마다 {이름 시작, 이름 길이, 값 시작, 값 길이} 4개씩 나열된 배열
+     * @param count 헤더 개수
+     */
+    HttpHeaders(byte[] data, int[] slices, int count) {
+        this();
+        if (count > 0) {
+            this.raw = new RawHeaderBlock(data, slices, count);
+        }
+    }
+
+    /**
+     * 원본 바이트 슬라이스를 맵으로 옮김
+     *
+     * 헤더 수정, 이름 목록 조회처럼 전체 헤더가 필요한 연산 전에 호출
+     * 한 번 옮기고 나면 이후에는 기존 맵 기반 동작과 동일
+     */
+    private void materialize() {
+        if (raw == null) return;
+        synchronized (this) {
+            RawHeaderBlock block = raw;
+            if (block == null) return;
+            for (int i = 0; i < block.count; i++) {
+                String name = block.name(i);
+                String value = block.value(i);
+                // 파서가 이미 토큰 문자/CRLF 검사를 했으므로 유효성 검사 없이 추가
+                headers.compute(name.toLowerCase(), (k, existing) -> {
+                    if (existing == null) {
+                        return new HeaderEntry(name, new ArrayList<>(Collections.singletonList(value)));
+                    }
+                    existing.values.add(value);
+                    return existing;
+                });
+            }
+            raw = null;
+        }
+    }
+
     /**
      * 헤더 설정 (기존 값 덮어쓰기)
      */
     public HttpHeaders set(String name, String value) {
+        // 원본 슬라이스가 남아 있으면 먼저 맵으로 옮김
+        materialize();
+
         // 헤더명 유효성 검사 - null, 빈 문자열, 잘못된 문자 체크
         validateHeaderName(name);
         // 헤더값 유효성 검사 - null, 제어 문자 체크
@@ -65,6 +119,7 @@ public class HttpHeaders {
      * 헤더 추가 (기존 값에 추가)
      */
     public HttpHeaders add(String name, String value) {
+        materialize();
         // 헤더명과 값의 유효성 검사
         validateHeaderName(name);
         validateHeaderValue(value);
@@ -101,6 +156,13 @@ public class HttpHeaders {
         // name이 null인 경우 null 반환
         if (name == null) return null;
 
+        // 아직 맵으로 옮기지 않았으면 바이트 슬라이스에서 직접 검색 (해당 값만 디코딩)
+        RawHeaderBlock block = raw;
+        if (block != null) {
+            int index = block.indexOf(name, 0);
+            return index >= 0 ? block.value(index) : null;
+        }
+
         // 소문자로 변환하여 헤더 검색
         HeaderEntry entry = headers.get(name.toLowerCase());
 
@@ -117,6 +179,15 @@ public class HttpHeaders {
         // name이 null인 경우 빈 리스트 반환
         if (name == null) return Collections.emptyList();
 
+        RawHeaderBlock block = raw;
+        if (block != null) {
+            List<String> values = new ArrayList<>();
+            for (int i = block.indexOf(name, 0); i >= 0; i = block.indexOf(name, i + 1)) {
+                values.add(block.value(i));
+            }
+            return values;
+        }
+
         // 소문자로 변환하여 헤더 검색
         HeaderEntry entry = headers.get(name.toLowerCase());
 
@@ -130,6 +201,11 @@ public class HttpHeaders {
      * 헤더 존재 여부 확인
      */
     public boolean contains(String name) {
+        RawHeaderBlock block = raw;
+        if (block != null) {
+            return name != null && block.indexOf(name, 0) >= 0;
+        }
+
         // name이 null이 아니고 소문자로 변환한 키가 맵에 존재하는지 확인
         // &&(논리곱): 두 조건이 모두 참일 때만 true
         // containsKey(): Map 인터페이스 메서드로 키 존재 여부 확인
@@ -140,6 +216,8 @@ public class HttpHeaders {
      * 헤더 제거
      */
     public HttpHeaders remove(String name) {
+        materialize();
+
         // name이 null이 아닌 경우에만 제거 수행
         if (name != null) {
             // 소문자로 변환한 키로 맵에서 제거
@@ -155,6 +233,8 @@ public class HttpHeaders {
      * 모든 헤더명 가져오기 (원본 대소문자 유지)
      */
     public Set<String> getHeaderNames() {
+        materialize();
+
         // LinkedHashSet: 삽입 순서를 유지하는 Set
         // 헤더가 추가된 순서대로 이름들을 반환하기 위함
         Set<String> names = new LinkedHashSet<>();
@@ -174,6 +254,11 @@ public class HttpHeaders {
      * 헤더 개수
      */
     public int size() {
+        RawHeaderBlock block = raw;
+        if (block != null) {
+            // 같은 이름이 여러 번 나오면 맵에서는 하나로 합쳐지므로 정확한 개수를 위해 옮김
+            materialize();
+        }
         // Map의 size() 메서드로 저장된 헤더 개수 반환
         return headers.size();
     }
@@ -182,6 +267,8 @@ public class HttpHeaders {
      * 헤더가 비어있는지 확인
      */
     public boolean isEmpty() {
+        // 원본 슬라이스가 있으면 헤더가 최소 하나는 있음
+        if (raw != null) return false;
         // Map의 isEmpty() 메서드로 헤더가 하나도 없는지 확인
         return headers.isEmpty();
     }
@@ -190,6 +277,7 @@ public class HttpHeaders {
      * 모든 헤더 제거
      */
     public void clear() {
+        raw = null;
         // Map의 clear() 메서드로 모든 키-값 쌍 제거
         headers.clear();
     }
@@ -243,11 +331,42 @@ public class HttpHeaders {
         // Connection 헤더 값 가져오기
         String connection = get("Connection");
 
-        // connection이 null이 아니고 "keep-alive"와 대소문자 구분 없이 일치하는지 확인
-        // trim(): 문자열 앞뒤 공백 제거
-        // equalsIgnoreCase(): 대소문자 구분 없이 문자열 비교
-        return connection != null &&
-                "keep-alive".equalsIgnoreCase(connection.trim());
+        // Connection은 토큰 목록 ("keep-alive, Upgrade" 등) - close가 없고 keep-alive가 있어야 함
+        return !containsToken(connection, "close") && containsToken(connection, "keep-alive");
+    }
+
+    /**
+     * 쉼표로 구분된 토큰 목록 헤더(Connection 등)에 토큰이 있는지 확인 (RFC 7230 7절)
+     *
+     * 각 항목의 앞뒤 공백(OWS)은 무시하고 대소문자 구분 없이 비교 - 부분 문자열을 만들지 않음
+     *
+     * @param value 헤더 값 (null이면 false)
+     * @param token 찾을 토큰
+     * @return 목록에 토큰이 있으면 true
+     */
+    public static boolean containsToken(String value, String token) {
+        if (value == null) {
+            return false;
+        }
+        int length = value.length();
+        int start = 0;
+        while (start < length) {
+            int end = value.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            // 항목 앞뒤 공백 제거
+            int itemStart = start;
+            int itemEnd = end;
+            while (itemStart < itemEnd && Character.isWhitespace(value.charAt(itemStart))) itemStart++;
+            while (itemEnd > itemStart && Character.isWhitespace(value.charAt(itemEnd - 1))) itemEnd--;
+            if (itemEnd - itemStart == token.length()
+                    && value.regionMatches(true, itemStart, token, 0, token.length())) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
     }
 
     public HttpHeaders setKeepAlive(boolean keepAlive) {
@@ -260,6 +379,7 @@ public class HttpHeaders {
      * HTTP 헤더 문자열로 변환 (응답용)
      */
     public String toHeaderString() {
+        materialize();
         // StringBuilder: 문자열을 효율적으로 연결하기 위한 클래스
         // String 연결보다 메모리 효율적 (String은 불변이라 연결할 때마다 새 객체 생성)
         StringBuilder sb = new StringBuilder();
@@ -282,6 +402,17 @@ public class HttpHeaders {
         return sb.toString();
     }
 
+    /**
+     * 모든 헤더 엔트리 (응답 인코더 전용)
+     * 문자열을 조립하지 않고 이름/값을 바로 버퍼에 기록할 수 있도록 엔트리를 그대로 노출
+     *
+     * @return 헤더 엔트리들 (읽기 전용으로 사용해야 함)
+     */
+    Collection<HeaderEntry> entries() {
+        materialize();
+        return headers.values();
+    }
+
     /**
      * 헤더명 유효성 검사
      */
@@ -346,7 +477,7 @@ public class HttpHeaders {
      * 헤더 엔트리 내부 클래스
      * 각 헤더의 원본 이름과 값들을 저장하는 불변 클래스
      */
-    private static class HeaderEntry {
+    static class HeaderEntry {
         // final: 한번 초기화되면 변경 불가능한 필드
         final String originalName;  // 사용자가 입력한 원본 헤더명 (대소문자 보존)
         final List<String> values;  // 해당 헤더의 모든 값들 (다중 값 지원)
@@ -358,6 +489,71 @@ public class HttpHeaders {
         }
     }
 
+    /**
+     * 파서가 만든 원본 헤더 블록
+     *
+     * 헤더 라인 바이트와 이름/값 위치만 보관하고, 값은 처음 조회될 때 디코딩해서 캐시
+     * 생성 후 data/slices는 변경되지 않으므로 여러 스레드에서 읽어도 안전
+     */
+    private static final class RawHeaderBlock {
+        final byte[] data;        // 헤더 라인 바이트
+        final int[] slices;       // {이름 시작, 이름 길이, 값 시작, 값 길이} * count
+        final int count;          // 헤더 개수
+        final String[] decoded;   // 디코딩된 값 캐시 (경쟁 시 같은 값을 두 번 만들 뿐이라 무해)
+
+        RawHeaderBlock(byte[] data, int[] slices, int count) {
+            this.data = data;
+            this.slices = slices;
+            this.count = count;
+            this.decoded = new String[count];
+        }
+
+        /**
+         * 이름이 일치하는 헤더 인덱스 검색 (ASCII 대소문자 무시, 디코딩 없음)
+         *
+         * @param name 찾을 헤더 이름
+         * @param from 검색 시작 인덱스
+         * @return 일치하는 인덱스, 없으면 -1
+         */
+        int indexOf(String name, int from) {
+            int length = name.length();
+            for (int i = from; i < count; i++) {
+                if (slices[i * 4 + 1] == length && nameMatches(slices[i * 4], name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean nameMatches(int start, String name) {
+            for (int j = 0; j < name.length(); j++) {
+                int a = data[start + j] & 0xFF;
+                int b = name.charAt(j);
+                if (a != b && toLowerAscii(a) != toLowerAscii(b)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int toLowerAscii(int c) {
+            return (c >= 'A' && c <= 'Z') ? c + 32 : c;
+        }
+
+        String name(int index) {
+            return new String(data, slices[index * 4], slices[index * 4 + 1], StandardCharsets.US_ASCII);
+        }
+
+        String value(int index) {
+            String value = decoded[index];
+            if (value == null) {
+                value = new String(data, slices[index * 4 + 2], slices[index * 4 + 3], StandardCharsets.UTF_8);
+                decoded[index] = value;
+            }
+            return value;
+        }
+    }
+
     /**
      * 객체의 문자열 표현 반환
      * 디버깅과 로깅에 유용
@@ -365,7 +561,7 @@ public class HttpHeaders {
     @Override
     public String toString() {
         // 헤더 개수 정보를 포함한 간단한 문자열 반환
-        return "HttpHeaders{" + headers.size() + " headers}";
+        return "HttpHeaders{" + size() + " headers}";
     }
 
     /**
@@ -384,6 +580,10 @@ public class HttpHeaders {
         // HttpHeaders로 형변환
         HttpHeaders other = (HttpHeaders) obj;
 
+        // 양쪽 모두 맵 기준으로 비교
+        materialize();
+        other.materialize();
+
         // 내부 headers 맵이 동일한지 비교
         // Map의 equals()는 모든 키-값 쌍이 동일한지 확인
         return headers.equals(other.headers);
@@ -398,6 +598,7 @@ public class HttpHeaders {
     public int hashCode() {
         // headers 맵의 해시코드를 그대로 사용
         // 동일한 객체는 동일한 해시코드를 가져야 함
+        materialize();
         return headers.hashCode();
     }
 }
\ No newline at end of file
@@ -25,6 +25,9 @@ public class HttpParser {
     // 너무 많은 헤더로 인한 서비스 거부 공격 방지
     private static final int MAX_HEADERS_COUNT = 100;
 
+    // 본문 복사 버퍼 크기 (스풀할 때 소켓 → 임시 파일로 이 크기씩 복사)
+    private static final int BODY_COPY_BUFFER_SIZE = 8192;
+
     // 요청 라인 형식을 검증하는 정규표현식 패턴
     // "METHOD URI HTTP/1.x" 형식인지 확인
     // ^: 문자열 시작, $: 문자열 끝
@@ -45,12 +48,29 @@ public class HttpParser {
 
     /**
      * InputStream에서 HTTP 요청 파싱
+     * 본문은 1MB까지 메모리, 그 이상은 임시 파일 (최대 1GB)
      */
     public static HttpRequest parseRequest(InputStream inputStream) throws IOException {
+        return parseRequest(inputStream, HttpRequestDecoder.DEFAULT_MAX_BODY_SIZE,
+                BodySpooler.DEFAULT_SPOOL_THRESHOLD);
+    }
+
+    /**
+     * InputStream에서 HTTP 요청 파싱 (본문 제한 지정)
+     *
+     * @param maxBodySize 허용할 최대 본문 크기
+     * @param spoolThreshold 이 크기를 넘는 본문은 임시 파일로 스풀
+     */
+    public static HttpRequest parseRequest(InputStream inputStream, long maxBodySize,
+                                           int spoolThreshold) throws IOException {
         // BufferedInputStream: 입력 스트림을 버퍼링하여 성능 향상
         // 8192: 8KB 버퍼 크기 설정
         // 작은 단위로 여러 번 읽는 것보다 큰 단위로 읽어서 버퍼에 저장 후 사용
-        BufferedInputStream bufferedInput = new BufferedInputStream(inputStream, 8192);
+        // 이미 버퍼링된 스트림이면 그대로 사용 - 새로 감싸면 이 요청 뒤에 미리 읽은
+        // 다음 요청(파이프라인) 바이트가 버려진 버퍼와 함께 사라짐
+        BufferedInputStream bufferedInput = inputStream instanceof BufferedInputStream
+                ? (BufferedInputStream) inputStream
+                : new BufferedInputStream(inputStream, 8192);
 
         // 1. Request Line 파싱
         // "GET /path HTTP/1.1" 형태의 첫 번째 줄 읽기
@@ -64,10 +84,11 @@ public class HttpParser {
 
         // 3. Body 파싱 (필요한 경우)
         // Content-Length나 Transfer-Encoding에 따라 본문 읽기
-        byte[] body = parseBody(bufferedInput, headers, components.method);
+        // 큰 본문은 힙에 모으지 않고 임시 파일로 스풀
+        RequestBody body = parseBody(bufferedInput, headers, components.method, maxBodySize, spoolThreshold);
 
         // 파싱된 정보로 HttpRequest 객체 생성하여 반환
-        return new HttpRequest(components.method, components.uri, components.version,
+        return HttpRequest.ofBody(components.method, components.uri, components.version,
                 headers, body);
     }
 
@@ -282,13 +303,14 @@ public class HttpParser {
     /**
      * Request Body 파싱
      */
-    private static byte[] parseBody(BufferedInputStream input, HttpHeaders headers,
-                                    HttpMethod method) throws IOException {
+    private static RequestBody parseBody(BufferedInputStream input, HttpHeaders headers,
+                                         HttpMethod method, long maxBodySize,
+                                         int spoolThreshold) throws IOException {
 
         // GET, HEAD, DELETE는 보통 body가 없음
         // canHaveBody(): 해당 메서드가 본문을 가질 수 있는지 확인
         if (!method.canHaveBody()) {
-            return new byte[0];  // 빈 바이트 배열 반환
+            return RequestBody.EMPTY;  // 빈 본문 반환
         }
 
         // Content-Length 헤더에서 본문 크기 가져오기
@@ -296,12 +318,26 @@ public class HttpParser {
 
         // Content-Length가 0이면 본문 없음
         if (contentLength == 0) {
-            return new byte[0];
+            return RequestBody.EMPTY;
         }
 
         // Content-Length가 명시되어 있으면 고정 길이로 읽기
         if (contentLength > 0) {
-            return readFixedLengthBody(input, contentLength);
+            if (contentLength > maxBodySize) {
+                throw new IOException("Request body too large: " + contentLength);
+            }
+            // 임계값 이하는 정확한 크기의 배열 하나로 읽음
+            if (contentLength <= spoolThreshold) {
+                return RequestBody.ofBytes(readFixedLengthBody(input, contentLength));
+            }
+            BodySpooler spooler = new BodySpooler(spoolThreshold);
+            try {
+                spooler.expect(contentLength);
+                copyBody(input, spooler, contentLength, new byte[BODY_COPY_BUFFER_SIZE]);
+                return spooler.finish();
+            } finally {
+                spooler.close(); // 실패한 경우 임시 파일 삭제 (finish() 후에는 아무것도 하지 않음)
+            }
         }
 
         // Transfer-Encoding: chunked 확인
@@ -310,11 +346,27 @@ public class HttpParser {
         // chunked 인코딩인 경우 청크 단위로 읽기
         // equalsIgnoreCase(): 대소문자 구분 없이 문자열 비교
         if ("chunked".equalsIgnoreCase(transferEncoding)) {
-            return readChunkedBody(input);
+            return readChunkedBody(input, maxBodySize, spoolThreshold);
         }
 
         // Content-Length도 없고 chunked도 아니면 body 없음
-        return new byte[0];
+        return RequestBody.EMPTY;
+    }
+
+    /**
+     * 본문 length 바이트를 버퍼 크기씩 스풀러로 복사
+     */
+    private static void copyBody(BufferedInputStream input, BodySpooler spooler,
+                                 long length, byte[] buffer) throws IOException {
+        long remaining = length;
+        while (remaining > 0) {
+            int read = input.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read == -1) {
+                throw new IOException("Unexpected end of stream while reading body");
+            }
+            spooler.write(buffer, 0, read);
+            remaining -= read;
+        }
     }
 
     /**
@@ -354,60 +406,67 @@ public class HttpParser {
     }
 
     /**
-     * Chunked body 읽기 (간단한 구현)
+     * Chunked body 읽기
+     * 청크 데이터는 스풀러로 바로 복사 - 임계값을 넘으면 임시 파일에 기록
      */
-    private static byte[] readChunkedBody(BufferedInputStream input) throws IOException {
-        // 청크들을 모아서 저장할 동적 배열
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    private static RequestBody readChunkedBody(BufferedInputStream input, long maxBodySize,
+                                               int spoolThreshold) throws IOException {
+        // 청크들을 모아서 저장할 스풀러 (임계값까지는 메모리)
+        BodySpooler spooler = new BodySpooler(spoolThreshold);
+        byte[] buffer = new byte[BODY_COPY_BUFFER_SIZE];
 
-        // 청크를 하나씩 읽는 무한 루프
-        while (true) {
-            // 청크 크기 읽기 (16진수로 표현됨)
-            String chunkSizeLine = readHeaderLine(input);
+        try {
+            // 청크를 하나씩 읽는 무한 루프
+            while (true) {
+                // 청크 크기 읽기 (16진수로 표현됨)
+                String chunkSizeLine = readHeaderLine(input);
 
-            if (chunkSizeLine == null) {
-                throw new IOException("Unexpected end of chunked body");
-            }
+                if (chunkSizeLine == null) {
+                    throw new IOException("Unexpected end of chunked body");
+                }
 
-            // 청크 크기 파싱 (16진수)
-            int chunkSize;
-            try {
-                // 청크 크기는 "size;extension" 형태일 수 있음
-                // split(";"): 세미콜론으로 분리하여 크기 부분만 가져오기
-                String sizeStr = chunkSizeLine.split(";")[0].trim(); // 확장 무시
-
-                // parseInt(string, radix): 문자열을 지정된 진법(radix)의 정수로 변환
-                // 16: 16진법으로 파싱
-                chunkSize = Integer.parseInt(sizeStr, 16);
-            } catch (NumberFormatException e) {
-                // 16진수가 아닌 잘못된 형식
-                throw new IOException("Invalid chunk size: " + chunkSizeLine);
-            }
+                // 청크 크기 파싱 (16진수)
+                long chunkSize;
+                try {
+                    // 청크 크기는 "size;extension" 형태일 수 있음
+                    // split(";"): 세미콜론으로 분리하여 크기 부분만 가져오기
+                    String sizeStr = chunkSizeLine.split(";")[0].trim(); // 확장 무시
+
+                    // parseLong(string, radix): 문자열을 지정된 진법(radix)의 정수로 변환
+                    // 16: 16진법으로 파싱
+                    chunkSize = Long.parseLong(sizeStr, 16);
+                } catch (NumberFormatException e) {
+                    // 16진수가 아닌 잘못된 형식
+                    throw new IOException("Invalid chunk size: " + chunkSizeLine);
+                }
 
-            // 청크 크기가 0이면 마지막 청크 (본문 끝)
-            if (chunkSize == 0) {
-                // 트레일러 헤더들 읽기 (무시)
-                // 마지막 청크 다음에 올 수 있는 추가 헤더들
-                String line;
-                while ((line = readHeaderLine(input)) != null && !line.isEmpty()) {
-                    // 트레일러 헤더 무시
+                // 청크 크기가 0이면 마지막 청크 (본문 끝)
+                if (chunkSize == 0) {
+                    // 트레일러 헤더들 읽기 (무시)
+                    // 마지막 청크 다음에 올 수 있는 추가 헤더들
+                    String line;
+                    while ((line = readHeaderLine(input)) != null && !line.isEmpty()) {
+                        // 트레일러 헤더 무시
+                    }
+                    break;  // 청크 읽기 완료
                 }
-                break;  // 청크 읽기 완료
-            }
 
-            // 청크 데이터 읽기 (고정 길이)
-            byte[] chunkData = readFixedLengthBody(input, chunkSize);
+                if (chunkSize < 0 || spooler.length() + chunkSize > maxBodySize) {
+                    throw new IOException("Request body too large");
+                }
 
-            // 읽은 청크 데이터를 전체 본문에 추가
-            // write(byte[]): 바이트 배열을 출력 스트림에 쓰기
-            baos.write(chunkData);
+                // 청크 데이터를 본문에 추가 (배열로 모으지 않고 바로 복사)
+                copyBody(input, spooler, chunkSize, buffer);
 
-            // 청크 끝의 CRLF 읽기 (청크 데이터 다음에 오는 줄바꿈)
-            readHeaderLine(input);
-        }
+                // 청크 끝의 CRLF 읽기 (청크 데이터 다음에 오는 줄바꿈)
+                readHeaderLine(input);
+            }
 
-        // 모든 청크를 합친 전체 본문을 바이트 배열로 반환
-        return baos.toByteArray();
+            // 모든 청크를 합친 전체 본문 반환
+            return spooler.finish();
+        } finally {
+            spooler.close(); // 실패한 경우 임시 파일 삭제
+        }
     }
 
     /**
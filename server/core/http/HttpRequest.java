@@ -2,6 +2,9 @@ package server.core.http;
 
 // I/O 관련 클래스들
 import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 // URL 디코딩을 위한 클래스
 import java.net.URLDecoder;
@@ -25,6 +28,12 @@ public class HttpRequest {
     private final HttpHeaders headers; // HTTP 헤더들
     private final byte[] body;         // 요청 본문 (바이트 배열)
 
+    // 임시 파일로 스풀된 본문 (메모리 본문이면 null, 이때 body는 빈 배열)
+    private final RequestBody spooledBody;
+
+    // releaseBody()에서 함께 정리할 임시 자원들 (multipart 파트의 임시 파일 등, 없으면 null)
+    private List<Closeable> bodyResources;
+
     // 파싱된 정보 캐시 (성능 최적화를 위한 지연 로딩)
     // volatile: 멀티스레드 환경에서 변수 값의 가시성 보장
     // 한 스레드에서 변경한 값이 다른 스레드에서 즉시 보이도록 함
@@ -34,9 +43,31 @@ public class HttpRequest {
     private volatile Map<String, List<String>> formParameters;   // 파싱된 폼 파라미터
     private volatile Map<String, Object> attributes;             // 요청 처리 중 임시 저장용 속성들
 
+    // 본문이 없는 요청들이 공유하는 빈 배열 (외부로는 항상 복사본만 나가므로 공유해도 안전)
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    /**
+     * 배열/문자열/form으로 통째로 읽을 수 있는 최대 본문 크기 (8MB)
+     *
+     * 서버는 스트리밍/multipart 소비자를 위해 훨씬 큰 본문(기본 1GB)까지 임시 파일로 받으므로
+     * 이 크기를 넘는 본문을 getBody() 등으로 요청하면 힙에 올리지 않고 BodyTooLargeException (→ 413)
+     * 큰 본문은 getBodyStream()/getRequestBody()로 읽음
+     */
+    public static final long MAX_BUFFERED_BODY_SIZE = 8L * 1024 * 1024;
+
     // 생성자
     public HttpRequest(HttpMethod method, String uri, String version,
                        HttpHeaders headers, byte[] body) {
+        this(method, uri, version, headers, body, true, null);
+    }
+
+    /**
+     * 내부 생성자
+     *
+     * @param copyBody true면 body 복사본을 보관, false면 전달된 배열을 그대로 소유
+     */
+    private HttpRequest(HttpMethod method, String uri, String version,
+                        HttpHeaders headers, byte[] body, boolean copyBody, RequestBody spooledBody) {
         // Objects.requireNonNull(): null 체크 후 예외 발생
         // null이면 NullPointerException 발생, 아니면 그대로 반환
         this.method = Objects.requireNonNull(method, "Method cannot be null");
@@ -46,12 +77,41 @@ public class HttpRequest {
 
         // body가 null이면 빈 배열, 아니면 복사본 생성
         // clone(): 배열의 얕은 복사본 생성 (외부에서 수정하지 못하도록)
-        this.body = body != null ? body.clone() : new byte[0];
+        if (body == null || body.length == 0) {
+            this.body = EMPTY_BODY;
+        } else {
+            this.body = copyBody ? body.clone() : body;
+        }
+        this.spooledBody = spooledBody;
 
         // 요청 속성을 저장할 스레드 안전한 맵 초기화
         this.attributes = new ConcurrentHashMap<>();
     }
 
+    /**
+     * 파서 전용 팩토리 - 본문 배열을 복사하지 않고 그대로 넘겨받음
+     *
+     * 디코더가 요청마다 새로 만든 본문 배열을 넘기므로 추가 복사가 필요 없음
+     * 호출자는 이후 body 배열을 수정하거나 재사용하면 안 됨
+     */
+    static HttpRequest ofOwnedBody(HttpMethod method, String uri, String version,
+                                   HttpHeaders headers, byte[] body) {
+        return new HttpRequest(method, uri, version, headers, body, false, null);
+    }
+
+    /**
+     * 파서 전용 팩토리 - BodySpooler가 만든 본문을 그대로 넘겨받음
+     *
+     * 메모리 본문이면 배열을 복사 없이 소유하고, 임시 파일 본문이면 파일 소유권을 넘겨받음
+     */
+    static HttpRequest ofBody(HttpMethod method, String uri, String version,
+                              HttpHeaders headers, RequestBody body) {
+        if (body.isInMemory()) {
+            return ofOwnedBody(method, uri, version, headers, body.array());
+        }
+        return new HttpRequest(method, uri, version, headers, null, false, body);
+    }
+
     // === 기본 정보 접근자 ===
 
     public HttpMethod getMethod() {
@@ -71,12 +131,100 @@ public class HttpRequest {
     }
 
     // 본문의 복사본 반환 (원본 보호)
+    // 임시 파일 본문이면 파일 전체를 읽으므로 MAX_BUFFERED_BODY_SIZE를 넘으면 BodyTooLargeException
+    // (큰 본문은 getBodyStream() 사용)
     public byte[] getBody() {
-        return body.clone();
+        return spooledBody != null ? bodyBytes() : body.clone();
     }
 
     public int getBodyLength() {
-        return body.length;
+        return spooledBody != null ? (int) Math.min(spooledBody.length(), Integer.MAX_VALUE) : body.length;
+    }
+
+    /**
+     * 본문 길이 (임시 파일 본문은 int 범위를 넘을 수 있음)
+     */
+    public long getBodySize() {
+        return spooledBody != null ? spooledBody.length() : body.length;
+    }
+
+    /**
+     * 본문이 임시 파일로 스풀되었는지 여부
+     */
+    public boolean isBodySpooled() {
+        return spooledBody != null;
+    }
+
+    /**
+     * 본문 저장소 반환 - 메모리/임시 파일 구분 없이 스트림, 채널, moveTo()로 접근
+     */
+    public RequestBody getRequestBody() {
+        return spooledBody != null ? spooledBody : RequestBody.ofBytes(body);
+    }
+
+    /**
+     * 본문을 처음부터 읽는 스트림
+     *
+     * 임시 파일 본문도 조금씩 읽으므로 큰 업로드를 힙에 올리지 않고 처리 가능
+     *
+     * @throws IOException 임시 파일을 열 수 없거나 이미 정리된 경우
+     */
+    public InputStream getBodyStream() throws IOException {
+        return spooledBody != null ? spooledBody.openStream() : new ByteArrayInputStream(body);
+    }
+
+    /**
+     * releaseBody()에서 함께 정리할 임시 자원 등록
+     *
+     * 본문에서 파생된 임시 파일(multipart 파트 등)을 요청 수명에 묶을 때 사용
+     */
+    public synchronized void registerBodyResource(Closeable resource) {
+        if (bodyResources == null) {
+            bodyResources = new ArrayList<>();
+        }
+        bodyResources.add(resource);
+    }
+
+    /**
+     * 본문 임시 파일과 등록된 임시 자원 정리
+     *
+     * 서버가 응답을 만든 뒤 호출 - 이후 임시 파일 본문은 읽을 수 없음
+     * (보관하려면 그 전에 RequestBody.moveTo()로 옮김)
+     */
+    public void releaseBody() {
+        List<Closeable> resources;
+        synchronized (this) {
+            resources = bodyResources;
+            bodyResources = null;
+        }
+        if (resources != null) {
+            for (Closeable resource : resources) {
+                closeQuietly(resource);
+            }
+        }
+        if (spooledBody != null) {
+            closeQuietly(spooledBody);
+        }
+    }
+
+    private static void closeQuietly(Closeable resource) {
+        try {
+            resource.close();
+        } catch (IOException ignored) {
+            // 임시 파일 삭제 실패는 시스템 임시 디렉토리 정리에 맡김
+        }
+    }
+
+    // 메모리 본문 배열, 임시 파일 본문이면 파일 전체를 읽은 배열
+    // 임시 파일 본문이 MAX_BUFFERED_BODY_SIZE를 넘으면 읽지 않고 거절
+    private byte[] bodyBytes() {
+        if (spooledBody == null) {
+            return body;
+        }
+        if (spooledBody.length() > MAX_BUFFERED_BODY_SIZE) {
+            throw new BodyTooLargeException(spooledBody.length(), MAX_BUFFERED_BODY_SIZE);
+        }
+        return spooledBody.toByteArray();
     }
 
     // === URI 파싱 메서드 ===
@@ -171,6 +319,8 @@ public class HttpRequest {
 
     /**
      * Form 파라미터 파싱 (application/x-www-form-urlencoded)
+     *
+     * @throws BodyTooLargeException 본문이 MAX_BUFFERED_BODY_SIZE를 넘는 경우
      */
     public Map<String, List<String>> getFormParameters() {
         if (formParameters == null) {
@@ -186,7 +336,7 @@ public class HttpRequest {
                             contentType.toLowerCase().startsWith("application/x-www-form-urlencoded")) {
 
                         // 본문을 UTF-8 문자열로 변환
-                        String bodyString = new String(body, StandardCharsets.UTF_8);
+                        String bodyString = new String(bodyBytes(), StandardCharsets.UTF_8);
 
                         // form 데이터를 파싱하여 파라미터 맵 생성
                         formParameters = parseParameters(bodyString);
@@ -230,28 +380,34 @@ public class HttpRequest {
 
     /**
      * Body를 지정된 인코딩으로 문자열 반환
+     *
+     * @throws BodyTooLargeException 본문이 MAX_BUFFERED_BODY_SIZE를 넘는 경우
      */
     public String getBodyAsString(String encoding) {
         // 본문이 비어있으면 빈 문자열 반환
-        if (body.length == 0) return "";
+        if (getBodySize() == 0) return "";
 
+        byte[] bytes = bodyBytes();
         try {
             // 지정된 인코딩으로 바이트 배열을 문자열로 변환
-            return new String(body, encoding);
+            return new String(bytes, encoding);
         } catch (UnsupportedEncodingException e) {
             // 지원하지 않는 인코딩이면 UTF-8로 폴백
             // UnsupportedEncodingException: 인코딩을 지원하지 않을 때 발생
-            return new String(body, StandardCharsets.UTF_8);
+            return new String(bytes, StandardCharsets.UTF_8);
         }
     }
 
     /**
      * Body를 InputStream으로 반환
+     * 임시 파일 본문이면 파일 전체를 메모리로 읽으므로 큰 본문은 getBodyStream() 사용
+     *
+     * @throws BodyTooLargeException 본문이 MAX_BUFFERED_BODY_SIZE를 넘는 경우
      */
     public ByteArrayInputStream getBodyAsStream() {
         // 바이트 배열을 읽을 수 있는 InputStream으로 감싸서 반환
         // ByteArrayInputStream: 바이트 배열을 InputStream처럼 읽을 수 있게 해주는 클래스
-        return new ByteArrayInputStream(body);
+        return new ByteArrayInputStream(bodyBytes());
     }
 
     // === 헤더 편의 메서드 ===
@@ -325,9 +481,20 @@ public class HttpRequest {
 
     /**
      * Keep-Alive 연결 여부
+     *
+     * Connection 헤더는 토큰 목록 ("keep-alive, Upgrade" 등)으로 해석
+     * - close 토큰이 있으면 종료, keep-alive 토큰이 있으면 유지
+     * - 둘 다 없으면 버전 기본값 (HTTP/1.1은 기본이 지속 연결, HTTP/1.0은 명시적인 keep-alive가 필요)
      */
     public boolean isKeepAlive() {
-        return headers.isKeepAlive();
+        String connection = headers.get("Connection");
+        if (HttpHeaders.containsToken(connection, "close")) {
+            return false;
+        }
+        if (HttpHeaders.containsToken(connection, "keep-alive")) {
+            return true;
+        }
+        return "HTTP/1.1".equals(version);
     }
 
     // === 속성 관리 (요청 처리 중 데이터 저장용) ===
@@ -496,7 +663,8 @@ public class HttpRequest {
                 uri.equals(other.uri) &&
                 version.equals(other.version) &&
                 headers.equals(other.headers) &&
-                Arrays.equals(body, other.body);
+                Arrays.equals(body, other.body) &&
+                Objects.equals(spooledBody, other.spooledBody);
     }
 
     /**
@@ -510,4 +678,23 @@ public class HttpRequest {
         // Arrays.hashCode(): 배열의 해시코드 계산
         return Objects.hash(method, uri, version, headers, Arrays.hashCode(body));
     }
-}
\ No newline at end of file
+
+    /**
+     * 본문을 통째로 메모리에 올리기에 너무 큰 경우 (Router가 413으로 변환)
+     */
+    public static class BodyTooLargeException extends IllegalStateException {
+        private static final long serialVersionUID = 1L;
+
+        private final long bodySize;
+
+        public BodyTooLargeException(long bodySize, long limit) {
+            super("Request body too large to buffer (" + bodySize + " bytes, limit " + limit +
+                    ") - read it with getBodyStream()");
+            this.bodySize = bodySize;
+        }
+
+        public long getBodySize() {
+            return bodySize;
+        }
+    }
+}
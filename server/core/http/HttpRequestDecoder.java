@@ -0,0 +1,759 @@
+package server.core.http;
+
+// 임시 파일 기록 실패
+import java.io.IOException;
+// 바이트 버퍼 입력
+import java.nio.ByteBuffer;
+// URI 디코딩용 문자 인코딩
+import java.nio.charset.StandardCharsets;
+// 배열 확장
+import java.util.Arrays;
+
+/**
+ * 점진적(incremental) HTTP/1.1 요청 디코더
+ * 논블로킹 서버용 - 데이터가 조각나서 도착해도 이어서 파싱
+ *
+ * 동작 방식:
+ * - decode()에 도착한 바이트를 넘기면 읽을 수 있는 만큼 소비하고 상태를 기억
+ * - 요청이 아직 완성되지 않으면 null 반환 (다음 데이터가 오면 멈춘 위치부터 계속)
+ * - 요청이 완성되면 HttpRequest 반환 후 다음 요청을 위해 자동 리셋
+ *   (같은 버퍼에 파이프라인된 다음 요청 바이트는 소비하지 않고 남겨둠)
+ *
+ * 성능 특성:
+ * - 각 바이트는 한 번만 스캔되고 한 번만 복사됨 (이미 본 데이터를 다시 검색하지 않음)
+ * - 요청 라인/헤더 바이트는 요청별 배열 하나에 모아두고, 헤더는 위치(오프셋)만 기록
+ * - 헤더 이름/값 String은 실제로 조회될 때 HttpHeaders에서 생성됨
+ * - 메서드/버전은 바이트 비교로 상수에 매칭 (String 생성 없음)
+ * - 본문이 스풀 임계값을 넘으면 도착하는 대로 BodySpooler로 임시 파일에 기록
+ *   (요청당 힙 사용량은 임계값으로 제한되고, 최대 본문 크기는 메모리와 무관하게 설정 가능)
+ *
+ * 스레드 모델:
+ * - 연결마다 하나의 디코더 인스턴스, 해당 연결을 맡은 루프 스레드에서만 사용
+ */
+public class HttpRequestDecoder {
+
+    // 요청 라인 최대 길이 (HttpParser와 동일한 제한)
+    private static final int MAX_REQUEST_LINE_LENGTH = 8192;  // 8KB
+
+    // 헤더 전체 크기 제한 (트레일러 포함)
+    private static final int MAX_HEADER_SIZE = 65536;         // 64KB
+
+    // 최대 헤더 개수
+    private static final int MAX_HEADERS_COUNT = 100;
+
+    // 청크 크기 라인 최대 길이 (청크 확장 포함)
+    private static final int MAX_CHUNK_LINE_LENGTH = 1024;
+
+    // 요청 라인/헤더 배열 초기 크기 - 일반적인 요청은 확장 없이 들어감
+    private static final int INITIAL_ARENA_SIZE = 1024;
+
+    // 청크 본문 배열 초기 크기
+    private static final int INITIAL_CHUNKED_BODY_SIZE = 1024;
+
+    // 기본 최대 본문 크기 - 임계값을 넘는 본문은 임시 파일로 가므로 힙 크기와 무관
+    public static final long DEFAULT_MAX_BODY_SIZE = 1024L * 1024 * 1024; // 1GB
+
+    // 바이트 비교용 상수들
+    private static final byte[] HTTP_1_1 = "HTTP/1.1".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HTTP_1_0 = "HTTP/1.0".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HTTP_PREFIX = "HTTP/".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CONTENT_LENGTH = "content-length".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRANSFER_ENCODING = "transfer-encoding".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CHUNKED = "chunked".getBytes(StandardCharsets.US_ASCII);
+
+    // values()는 호출마다 배열을 복사하므로 한 번만 만들어 재사용
+    private static final HttpMethod[] METHODS = HttpMethod.values();
+    private static final byte[][] METHOD_BYTES = new byte[METHODS.length][];
+
+    // RFC 7230 token 문자 테이블 (헤더 이름 검증용)
+    private static final boolean[] TOKEN_CHARS = new boolean[128];
+
+    static {
+        for (int i = 0; i < METHODS.length; i++) {
+            METHOD_BYTES[i] = METHODS[i].getMethod().getBytes(StandardCharsets.US_ASCII);
+        }
+        for (char c = '0'; c <= '9'; c++) TOKEN_CHARS[c] = true;
+        for (char c = 'a'; c <= 'z'; c++) TOKEN_CHARS[c] = true;
+        for (char c = 'A'; c <= 'Z'; c++) TOKEN_CHARS[c] = true;
+        for (char c : "!#$%&'*+-.^_`|~".toCharArray()) TOKEN_CHARS[c] = true;
+    }
+
+    /**
+     * 디코더 상태
+     */
+    private enum State {
+        REQUEST_LINE,     // 요청 라인 읽는 중
+        HEADERS,          // 헤더 라인 읽는 중
+        BODY,             // Content-Length 본문 읽는 중
+        CHUNK_SIZE,       // 청크 크기 라인 읽는 중
+        CHUNK_DATA,       // 청크 데이터 읽는 중
+        CHUNK_DATA_CRLF,  // 청크 데이터 뒤의 CRLF 읽는 중
+        TRAILERS          // 마지막 청크 뒤의 트레일러 읽는 중
+    }
+
+    // 허용할 최대 본문 크기
+    private final long maxBodySize;
+
+    // 이 크기를 넘는 본문은 임시 파일로 스풀
+    private final int spoolThreshold;
+
+    private State state;
+
+    // 라인 바이트 저장소 - 요청 라인과 헤더는 이 배열에 그대로 쌓이고 완성되면 HttpHeaders로 넘어감
+    private byte[] arena;
+    private int arenaLength;     // arena에 채워진 바이트 수
+    private int lineStart;       // 현재 읽고 있는 라인의 시작 위치
+    private int lineEnd;         // 마지막으로 완성된 라인의 끝 (CRLF 제외)
+    private int headerBytes;     // 헤더/트레일러로 읽은 총 바이트 수
+
+    // 요청 라인 파싱 결과
+    private HttpMethod method;
+    private String uri;
+    private String version;
+
+    // 헤더 위치 정보 - 헤더마다 {이름 시작, 이름 길이, 값 시작, 값 길이}
+    private int[] headerSlices;
+    private int headerCount;
+    private HttpHeaders headers;
+
+    // 본문 관련 정보
+    private long contentLength;  // -1이면 Content-Length 없음
+    private boolean chunked;
+    private byte[] body;
+    private int bodyLength;
+    private long chunkRemaining;
+    private BodySpooler spooler;  // 임계값을 넘은 본문을 기록 중이면 non-null (이때 body는 null)
+
+    /**
+     * 기본 생성자 - 1MB까지 메모리, 그 이상은 임시 파일 (최대 1GB)
+     */
+    public HttpRequestDecoder() {
+        this(DEFAULT_MAX_BODY_SIZE, BodySpooler.DEFAULT_SPOOL_THRESHOLD);
+    }
+
+    /**
+     * 메모리 전용 디코더 생성자 - 본문을 임시 파일로 보내지 않음
+     *
+     * @param maxBodySize 허용할 최대 본문 크기 (초과하면 413)
+     */
+    public HttpRequestDecoder(long maxBodySize) {
+        this(maxBodySize, (int) Math.min(maxBodySize, Integer.MAX_VALUE));
+    }
+
+    /**
+     * HttpRequestDecoder 생성자
+     *
+     * @param maxBodySize 허용할 최대 본문 크기 (초과하면 413)
+     * @param spoolThreshold 이 크기를 넘는 본문은 임시 파일로 스풀
+     */
+    public HttpRequestDecoder(long maxBodySize, int spoolThreshold) {
+        if (maxBodySize < 0) {
+            throw new IllegalArgumentException("Max body size cannot be negative: " + maxBodySize);
+        }
+        if (spoolThreshold < 0) {
+            throw new IllegalArgumentException("Spool threshold cannot be negative: " + spoolThreshold);
+        }
+        this.maxBodySize = maxBodySize;
+        this.spoolThreshold = spoolThreshold;
+        reset();
+    }
+
+    /**
+     * 버퍼의 데이터를 소비하며 요청 디코딩
+     *
+     * 버퍼의 position은 소비한 만큼 앞으로 이동함
+     * 요청이 완성되면 그 뒤의 바이트는 소비하지 않으므로 호출자는 남은 데이터로 다시 호출 가능
+     *
+     * @param in 새로 도착한 데이터 (읽기 모드)
+     * @return 완성된 요청, 데이터가 더 필요하면 null
+     * @throws DecodeException 요청 형식이 잘못되었거나 제한을 넘은 경우
+     */
+    public HttpRequest decode(ByteBuffer in) throws DecodeException {
+        while (in.hasRemaining()) {
+            switch (state) {
+                case REQUEST_LINE:
+                    if (!readLine(in, MAX_REQUEST_LINE_LENGTH, HttpStatus.URI_TOO_LONG)) {
+                        return null;
+                    }
+                    if (lineEnd == lineStart) {
+                        // 요청 앞의 빈 줄은 무시 (RFC 7230 3.5)
+                        arenaLength = 0;
+                        lineStart = 0;
+                        break;
+                    }
+                    parseRequestLine(lineStart, lineEnd);
+                    lineStart = arenaLength;
+                    state = State.HEADERS;
+                    break;
+
+                case HEADERS:
+                    if (!readHeaderLine(in)) {
+                        return null;
+                    }
+                    if (lineEnd == lineStart) {
+                        // 빈 줄 = 헤더 끝
+                        if (onHeadersComplete()) {
+                            return complete();
+                        }
+                        break;
+                    }
+                    parseHeaderLine(lineStart, lineEnd);
+                    lineStart = arenaLength;
+                    break;
+
+                case BODY: {
+                    if (spooler != null) {
+                        spool(in, contentLength - spooler.length());
+                        if (spooler.length() == contentLength) {
+                            return complete();
+                        }
+                        break;
+                    }
+                    int length = (int) Math.min(in.remaining(), contentLength - bodyLength);
+                    in.get(body, bodyLength, length);
+                    bodyLength += length;
+                    if (bodyLength == contentLength) {
+                        return complete();
+                    }
+                    break;
+                }
+
+                case CHUNK_SIZE:
+                    if (!readLine(in, MAX_CHUNK_LINE_LENGTH, HttpStatus.BAD_REQUEST)) {
+                        return null;
+                    }
+                    long chunkSize = parseChunkSize(lineStart, lineEnd);
+                    // 청크 라인은 보관할 필요가 없으므로 저장소를 비움
+                    arenaLength = 0;
+                    lineStart = 0;
+                    if (chunkSize == 0) {
+                        state = State.TRAILERS;
+                    } else {
+                        long received = spooler != null ? spooler.length() : bodyLength;
+                        if (received + chunkSize > maxBodySize) {
+                            throw new DecodeException(HttpStatus.PAYLOAD_TOO_LARGE,
+                                    "Chunked body exceeds limit: " + maxBodySize);
+                        }
+                        if (spooler == null && received + chunkSize > spoolThreshold) {
+                            // 임계값을 넘음 - 지금까지 모은 청크를 임시 파일로 옮기고 이후는 파일에 기록
+                            startSpooling();
+                            try {
+                                spooler.write(body, 0, bodyLength);
+                            } catch (IOException e) {
+                                throw spoolFailed(e);
+                            }
+                            body = null;
+                            bodyLength = 0;
+                        } else if (spooler == null) {
+                            ensureBodyCapacity((int) (received + chunkSize));
+                        }
+                        chunkRemaining = chunkSize;
+                        state = State.CHUNK_DATA;
+                    }
+                    break;
+
+                case CHUNK_DATA: {
+                    if (spooler != null) {
+                        chunkRemaining -= spool(in, chunkRemaining);
+                        if (chunkRemaining == 0) {
+                            state = State.CHUNK_DATA_CRLF;
+                        }
+                        break;
+                    }
+                    int length = (int) Math.min(in.remaining(), chunkRemaining);
+                    in.get(body, bodyLength, length);
+                    bodyLength += length;
+                    chunkRemaining -= length;
+                    if (chunkRemaining == 0) {
+                        state = State.CHUNK_DATA_CRLF;
+                    }
+                    break;
+                }
+
+                case CHUNK_DATA_CRLF:
+                    if (!readLine(in, MAX_CHUNK_LINE_LENGTH, HttpStatus.BAD_REQUEST)) {
+                        return null;
+                    }
+                    if (lineEnd != lineStart) {
+                        throw new DecodeException(HttpStatus.BAD_REQUEST, "Missing CRLF after chunk data");
+                    }
+                    arenaLength = 0;
+                    lineStart = 0;
+                    state = State.CHUNK_SIZE;
+                    break;
+
+                case TRAILERS:
+                    // 트레일러는 검증만 하고 버림
+                    if (!readHeaderLine(in)) {
+                        return null;
+                    }
+                    boolean last = lineEnd == lineStart;
+                    arenaLength = 0;
+                    lineStart = 0;
+                    if (last) {
+                        return complete();
+                    }
+                    break;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 진행 중인 요청이 없는지 확인
+     *
+     * @return 아직 어떤 바이트도 받지 않은 상태면 true
+     */
+    public boolean isIdle() {
+        return state == State.REQUEST_LINE && arenaLength == 0;
+    }
+
+    /**
+     * 본문을 읽는 단계인지 확인
+     *
+     * @return 헤더를 모두 읽고 본문(Content-Length 또는 청크)을 읽는 중이면 true
+     */
+    public boolean isReadingBody() {
+        return state != State.REQUEST_LINE && state != State.HEADERS;
+    }
+
+    /**
+     * 디코더를 초기 상태로 되돌림 (진행 중이던 요청은 버려짐)
+     */
+    public void reset() {
+        state = State.REQUEST_LINE;
+        arenaLength = 0;
+        lineStart = 0;
+        lineEnd = 0;
+        headerBytes = 0;
+        method = null;
+        uri = null;
+        version = null;
+        headerSlices = null;
+        headerCount = 0;
+        headers = null;
+        contentLength = -1;
+        chunked = false;
+        body = null;
+        bodyLength = 0;
+        chunkRemaining = 0;
+        if (spooler != null) {
+            // 완성되지 않은 요청의 임시 파일 삭제
+            spooler.close();
+            spooler = null;
+        }
+    }
+
+    // === 본문 스풀 ===
+
+    private void startSpooling() {
+        spooler = new BodySpooler(spoolThreshold);
+    }
+
+    /**
+     * 버퍼에서 최대 max 바이트를 임시 파일에 기록 (버퍼의 나머지는 다음 요청용으로 남김)
+     *
+     * @return 기록한 바이트 수
+     */
+    private long spool(ByteBuffer in, long max) throws DecodeException {
+        int length = (int) Math.min(in.remaining(), max);
+        int limit = in.limit();
+        in.limit(in.position() + length);
+        try {
+            spooler.write(in);
+        } catch (IOException e) {
+            throw spoolFailed(e);
+        } finally {
+            in.limit(limit);
+        }
+        return length;
+    }
+
+    private static DecodeException spoolFailed(IOException e) {
+        return new DecodeException(HttpStatus.INTERNAL_SERVER_ERROR,
+                "Failed to spool request body: " + e.getMessage(), e);
+    }
+
+    // === 라인 읽기 ===
+
+    /**
+     * LF까지 한 라인을 arena로 복사
+     *
+     * 라인이 아직 끝나지 않았으면 지금까지 도착한 부분만 복사하고 false 반환
+     * (다음 호출에서는 새로 도착한 바이트만 스캔함)
+     *
+     * @return 라인이 완성되었으면 true - [lineStart, lineEnd)가 CRLF를 뺀 라인 내용
+     */
+    private boolean readLine(ByteBuffer in, int maxLength, HttpStatus tooLongStatus) throws DecodeException {
+        int position = in.position();
+        int limit = in.limit();
+
+        int lf = -1;
+        for (int i = position; i < limit; i++) {
+            if (in.get(i) == '\n') {
+                lf = i;
+                break;
+            }
+        }
+
+        int length = (lf >= 0 ? lf + 1 : limit) - position;
+
+        // CRLF 2바이트는 길이 제한에서 제외
+        if (arenaLength - lineStart + length > maxLength + 2) {
+            throw new DecodeException(tooLongStatus, "Line too long (max " + maxLength + ")");
+        }
+
+        ensureArenaCapacity(arenaLength + length);
+        in.get(arena, arenaLength, length);
+        arenaLength += length;
+
+        if (lf < 0) {
+            return false;
+        }
+
+        // LF 제외, 앞에 CR이 있으면 CR도 제외
+        lineEnd = arenaLength - 1;
+        if (lineEnd > lineStart && arena[lineEnd - 1] == '\r') {
+            lineEnd--;
+        }
+        return true;
+    }
+
+    /**
+     * 헤더/트레일러 라인 읽기 - 헤더 전체 크기 제한 적용
+     */
+    private boolean readHeaderLine(ByteBuffer in) throws DecodeException {
+        int before = arenaLength;
+        boolean done = readLine(in, MAX_HEADER_SIZE, HttpStatus.REQUEST_HEADER_FIELDS_TOO_LARGE);
+        headerBytes += arenaLength - before;
+        if (headerBytes > MAX_HEADER_SIZE) {
+            throw new DecodeException(HttpStatus.REQUEST_HEADER_FIELDS_TOO_LARGE,
+                    "Headers too large (max " + MAX_HEADER_SIZE + ")");
+        }
+        return done;
+    }
+
+    // === 요청 라인 / 헤더 파싱 ===
+
+    /**
+     * 요청 라인 파싱: METHOD SP request-target SP HTTP-version
+     */
+    private void parseRequestLine(int start, int end) throws DecodeException {
+        int firstSpace = indexOf(start, end, (byte) ' ');
+        int lastSpace = lastIndexOf(start, end, (byte) ' ');
+        if (firstSpace <= start || lastSpace <= firstSpace + 1 || lastSpace == end - 1) {
+            throw new DecodeException(HttpStatus.BAD_REQUEST, "Invalid request line");
+        }
+
+        // 메서드 - 바이트 비교로 enum 상수 매칭
+        method = matchMethod(start, firstSpace);
+
+        // URI - 공백이나 제어 문자는 허용하지 않음
+        for (int i = firstSpace + 1; i < lastSpace; i++) {
+            int c = arena[i] & 0xFF;
+            if (c <= ' ' || c == 0x7F) {
+                throw new DecodeException(HttpStatus.BAD_REQUEST, "Invalid character in request target");
+            }
+        }
+        uri = new String(arena, firstSpace + 1, lastSpace - firstSpace - 1, StandardCharsets.UTF_8);
+
+        // 버전 - 상수 String을 재사용
+        int versionStart = lastSpace + 1;
+        if (regionEquals(versionStart, end, HTTP_1_1, false)) {
+            version = "HTTP/1.1";
+        } else if (regionEquals(versionStart, end, HTTP_1_0, false)) {
+            version = "HTTP/1.0";
+        } else if (end - versionStart > HTTP_PREFIX.length
+                && regionEquals(versionStart, versionStart + HTTP_PREFIX.length, HTTP_PREFIX, false)) {
+            throw new DecodeException(HttpStatus.HTTP_VERSION_NOT_SUPPORTED, "Unsupported HTTP version");
+        } else {
+            throw new DecodeException(HttpStatus.BAD_REQUEST, "Invalid HTTP version");
+        }
+    }
+
+    private HttpMethod matchMethod(int start, int end) throws DecodeException {
+        for (int i = 0; i < METHODS.length; i++) {
+            if (regionEquals(start, end, METHOD_BYTES[i], false)) {
+                return METHODS[i];
+            }
+        }
+        // 형식은 맞지만 모르는 메서드면 501, 형식 자체가 틀리면 400
+        for (int i = start; i < end; i++) {
+            if (!isTokenChar(arena[i])) {
+                throw new DecodeException(HttpStatus.BAD_REQUEST, "Invalid method");
+            }
+        }
+        throw new DecodeException(HttpStatus.NOT_IMPLEMENTED, "Unsupported method");
+    }
+
+    /**
+     * 헤더 라인 파싱 - 이름/값 위치만 기록
+     */
+    private void parseHeaderLine(int start, int end) throws DecodeException {
+        // obs-fold (공백으로 시작하는 이어진 라인)는 거부 (RFC 7230 3.2.4)
+        if (arena[start] == ' ' || arena[start] == '\t') {
+            throw new DecodeException(HttpStatus.BAD_REQUEST, "Obsolete line folding not supported");
+        }
+
+        if (++headerCount > MAX_HEADERS_COUNT) {
+            throw new DecodeException(HttpStatus.REQUEST_HEADER_FIELDS_TOO_LARGE,
+                    "Too many headers (max " + MAX_HEADERS_COUNT + ")");
+        }
+
+        // 이름: 콜론 앞까지, token 문자만 허용 (콜론 앞 공백도 여기서 거부됨)
+        int colon = start;
+        while (colon < end && arena[colon] != ':') {
+            if (!isTokenChar(arena[colon])) {
+                throw new DecodeException(HttpStatus.BAD_REQUEST, "Invalid header name");
+            }
+            colon++;
+        }
+        if (colon == end || colon == start) {
+            throw new DecodeException(HttpStatus.BAD_REQUEST, "Invalid header line");
+        }
+
+        // 값: 앞뒤 공백(OWS) 제거
+        int valueStart = colon + 1;
+        int valueEnd = end;
+        while (valueStart < valueEnd && isWhitespace(arena[valueStart])) valueStart++;
+        while (valueEnd > valueStart && isWhitespace(arena[valueEnd - 1])) valueEnd--;
+        for (int i = valueStart; i < valueEnd; i++) {
+            byte b = arena[i];
+            if (b == '\r' || b == 0) {
+                throw new DecodeException(HttpStatus.BAD_REQUEST, "Invalid character in header value");
+            }
+        }
+
+        int index = (headerCount - 1) * 4;
+        if (headerSlices == null) {
+            headerSlices = new int[16 * 4];
+        } else if (index + 4 > headerSlices.length) {
+            headerSlices = Arrays.copyOf(headerSlices, headerSlices.length * 2);
+        }
+        headerSlices[index] = start;
+        headerSlices[index + 1] = colon - start;
+        headerSlices[index + 2] = valueStart;
+        headerSlices[index + 3] = valueEnd - valueStart;
+
+        // 본문 길이를 결정하는 헤더는 읽는 즉시 해석 (나중에 다시 찾지 않음)
+        if (regionEquals(start, colon, CONTENT_LENGTH, true)) {
+            long length = parseContentLength(valueStart, valueEnd);
+            if (contentLength >= 0 && contentLength != length) {
+                throw new DecodeException(HttpStatus.BAD_REQUEST, "Conflicting Content-Length headers");
+            }
+            contentLength = length;
+        } else if (regionEquals(start, colon, TRANSFER_ENCODING, true)) {
+            // chunked 하나만 지원 - "gzip, chunked"처럼 다른 코딩이 섞이면 본문을 풀 수 없으므로 거부
+            // (Transfer-Encoding 헤더가 반복되면 코딩이 겹쳐 적용된 것이므로 역시 거부)
+            if (chunked || !regionEquals(valueStart, valueEnd, CHUNKED, true)) {
+                throw new DecodeException(HttpStatus.NOT_IMPLEMENTED, "Unsupported transfer coding");
+            }
+            chunked = true;
+        }
+    }
+
+    /**
+     * 헤더 끝 처리 - HttpHeaders 생성과 본문 읽기 준비
+     *
+     * @return 본문이 없어 요청이 완성되었으면 true
+     */
+    private boolean onHeadersComplete() throws DecodeException {
+        if (chunked && contentLength >= 0) {
+            // 요청 스머글링 방지 (RFC 7230 3.3.3)
+            throw new DecodeException(HttpStatus.BAD_REQUEST,
+                    "Both Transfer-Encoding and Content-Length present");
+        }
+
+        // arena와 헤더 위치 배열의 소유권을 HttpHeaders로 넘김 - 이후 라인은 새 arena에 기록
+        headers = new HttpHeaders(arena, headerSlices, headerCount);
+        arena = null;
+        arenaLength = 0;
+        lineStart = 0;
+        headerSlices = null;
+
+        if (chunked) {
+            body = new byte[INITIAL_CHUNKED_BODY_SIZE];
+            state = State.CHUNK_SIZE;
+            return false;
+        }
+
+        if (contentLength > 0) {
+            if (contentLength > maxBodySize) {
+                throw new DecodeException(HttpStatus.PAYLOAD_TOO_LARGE,
+                        "Content-Length " + contentLength + " exceeds limit: " + maxBodySize);
+            }
+            if (contentLength > spoolThreshold) {
+                // 큰 본문 - 배열을 만들지 않고 처음부터 임시 파일에 기록
+                startSpooling();
+                try {
+                    spooler.expect(contentLength);
+                } catch (IOException e) {
+                    throw spoolFailed(e);
+                }
+            } else {
+                body = new byte[(int) contentLength];
+            }
+            state = State.BODY;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 완성된 요청 생성 후 다음 요청을 위해 리셋
+     */
+    private HttpRequest complete() throws DecodeException {
+        if (spooler != null) {
+            RequestBody spooled;
+            try {
+                spooled = spooler.finish();
+            } catch (IOException e) {
+                throw spoolFailed(e);
+            }
+            spooler = null;
+            HttpRequest request = HttpRequest.ofBody(method, uri, version, headers, spooled);
+            reset();
+            return request;
+        }
+
+        byte[] requestBody = body;
+        if (chunked && requestBody != null && bodyLength < requestBody.length) {
+            requestBody = Arrays.copyOf(requestBody, bodyLength);
+        }
+        HttpRequest request = HttpRequest.ofOwnedBody(method, uri, version, headers, requestBody);
+        reset();
+        return request;
+    }
+
+    // === 숫자 파싱 ===
+
+    private long parseContentLength(int start, int end) throws DecodeException {
+        if (start == end) {
+            throw new DecodeException(HttpStatus.BAD_REQUEST, "Empty Content-Length");
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = arena[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new DecodeException(HttpStatus.BAD_REQUEST, "Invalid Content-Length");
+            }
+            value = value * 10 + digit;
+            if (value > maxBodySize) {
+                // 더 읽을 필요 없이 제한 초과
+                throw new DecodeException(HttpStatus.PAYLOAD_TOO_LARGE,
+                        "Content-Length exceeds limit: " + maxBodySize);
+            }
+        }
+        return value;
+    }
+
+    private long parseChunkSize(int start, int end) throws DecodeException {
+        // 청크 확장(;name=value)은 무시
+        int sizeEnd = indexOf(start, end, (byte) ';');
+        if (sizeEnd < 0) sizeEnd = end;
+        while (sizeEnd > start && isWhitespace(arena[sizeEnd - 1])) sizeEnd--;
+        if (sizeEnd == start) {
+            throw new DecodeException(HttpStatus.BAD_REQUEST, "Missing chunk size");
+        }
+
+        long value = 0;
+        for (int i = start; i < sizeEnd; i++) {
+            int digit = Character.digit(arena[i], 16);
+            if (digit < 0) {
+                throw new DecodeException(HttpStatus.BAD_REQUEST, "Invalid chunk size");
+            }
+            value = (value << 4) | digit;
+            if (value > maxBodySize) {
+                throw new DecodeException(HttpStatus.PAYLOAD_TOO_LARGE,
+                        "Chunk size exceeds limit: " + maxBodySize);
+            }
+        }
+        return value;
+    }
+
+    // === 바이트 유틸리티 ===
+
+    private void ensureArenaCapacity(int required) {
+        if (arena == null) {
+            arena = new byte[Math.max(INITIAL_ARENA_SIZE, required)];
+        } else if (required > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, required));
+        }
+    }
+
+    private void ensureBodyCapacity(int required) {
+        if (required > body.length) {
+            body = Arrays.copyOf(body, (int) Math.min(Math.max((long) body.length * 2, required), spoolThreshold));
+        }
+    }
+
+    private int indexOf(int start, int end, byte target) {
+        for (int i = start; i < end; i++) {
+            if (arena[i] == target) return i;
+        }
+        return -1;
+    }
+
+    private int lastIndexOf(int start, int end, byte target) {
+        for (int i = end - 1; i >= start; i--) {
+            if (arena[i] == target) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * arena[start, end)가 expected와 같은지 비교
+     *
+     * @param ignoreCase true면 ASCII 대소문자 무시 (expected는 소문자여야 함)
+     */
+    private boolean regionEquals(int start, int end, byte[] expected, boolean ignoreCase) {
+        if (end - start != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            byte b = arena[start + i];
+            if (ignoreCase && b >= 'A' && b <= 'Z') {
+                b += 32;
+            }
+            if (b != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isTokenChar(byte b) {
+        return b >= 0 && TOKEN_CHARS[b];
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t';
+    }
+
+    /**
+     * 디코딩 실패 예외
+     * 클라이언트에게 돌려줄 HTTP 상태 코드를 함께 전달
+     */
+    public static class DecodeException extends HttpParser.HttpParseException {
+        private static final long serialVersionUID = 1L;
+
+        private final HttpStatus status;
+
+        public DecodeException(HttpStatus status, String message) {
+            super(message);
+            this.status = status;
+        }
+
+        public DecodeException(HttpStatus status, String message, Throwable cause) {
+            super(message, cause);
+            this.status = status;
+        }
+
+        /**
+         * 클라이언트에게 보낼 에러 상태 코드
+         */
+        public HttpStatus getStatus() {
+            return status;
+        }
+    }
+}
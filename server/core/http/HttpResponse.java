@@ -1,17 +1,17 @@
 package server.core.http;
 
 // I/O 관련 클래스들
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+// NIO 채널
+import java.nio.channels.ReadableByteChannel;
 // UTF-8 등의 표준 문자 인코딩
 import java.nio.charset.StandardCharsets;
-// 시간대 처리를 위한 클래스들
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 // 유틸리티 클래스
 import java.util.Objects;
+// 비동기 처리 예외 래퍼
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 
 /**
  * HTTP 응답 객체
@@ -19,20 +19,17 @@ import java.util.Objects;
  */
 public class HttpResponse {
 
-    // HTTP 버전 상수 - 모든 응답에서 사용
-    private static final String HTTP_VERSION = "HTTP/1.1";
-
-    // HTTP Date 헤더 형식 (RFC 7231)
-    // "EEE, dd MMM yyyy HH:mm:ss zzz" -> "Mon, 01 Jan 2024 12:00:00 GMT"
-    // DateTimeFormatter: 날짜/시간을 특정 형식으로 포맷팅하는 클래스
-    private static final DateTimeFormatter HTTP_DATE_FORMAT =
-            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss zzz");
-
     // HTTP 응답의 기본 구성 요소들 (불변)
     private final HttpStatus status;   // HTTP 상태 코드 (200, 404 등)
     private final HttpHeaders headers; // HTTP 헤더들
     private final byte[] body;         // 응답 본문 (바이트 배열)
 
+    // 파일 구간 본문 (있으면 body 뒤에 파일 내용을 transferTo로 전송, 빌더에서만 설정)
+    private FileRegion fileRegion;
+
+    // 스트리밍 본문 (있으면 body 뒤에 원본 채널에서 조금씩 읽어 전송, 빌더에서만 설정)
+    private StreamingBody streamingBody;
+
     // 기본 생성자
     public HttpResponse(HttpStatus status, HttpHeaders headers, byte[] body) {
         // Objects.requireNonNull(): null 체크 후 예외 발생
@@ -171,6 +168,37 @@ public class HttpResponse {
                 message.getBytes(StandardCharsets.UTF_8));
     }
 
+    /**
+     * 413 Payload Too Large 에러
+     */
+    public static HttpResponse payloadTooLarge(String message) {
+        // 본문이 너무 커서 처리할 수 없을 때 사용
+        return new HttpResponse(HttpStatus.PAYLOAD_TOO_LARGE, new HttpHeaders(),
+                message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 핸들러/서블릿 예외를 에러 응답으로 변환
+     *
+     * 본문을 통째로 읽으려다 크기 제한에 걸린 경우(BodyTooLargeException)는 서버 오류가 아니라 413
+     * Future를 거치며 CompletionException/ExecutionException으로 감싸진 경우도 원인을 확인
+     *
+     * @param throwable 처리 중 발생한 예외
+     * @param serverErrorMessage 그 외 예외일 때 500 응답 본문
+     * @return 413 또는 500 응답
+     */
+    public static HttpResponse forHandlerError(Throwable throwable, String serverErrorMessage) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof HttpRequest.BodyTooLargeException) {
+            return payloadTooLarge(cause.getMessage());
+        }
+        return internalServerError(serverErrorMessage);
+    }
+
     /**
      * 401 Unauthorized 에러
      */
@@ -266,6 +294,8 @@ public class HttpResponse {
         private final HttpStatus status;    // 상태 코드 (필수)
         private final HttpHeaders headers;  // 헤더들 (빌더에서 설정)
         private byte[] body;               // 본문 (선택사항)
+        private FileRegion fileRegion;     // 파일 구간 본문 (선택사항)
+        private StreamingBody streamingBody; // 스트리밍 본문 (선택사항)
 
         public Builder(HttpStatus status) {
             this.status = status;
@@ -306,6 +336,32 @@ public class HttpResponse {
             return this;
         }
 
+        // 파일 구간 본문 설정 - 파일을 메모리로 읽지 않고 전송
+        public Builder file(FileRegion fileRegion) {
+            this.fileRegion = fileRegion;
+            this.body = new byte[0];
+            // Content-Length는 구간 길이
+            headers.setContentLength(fileRegion.getCount());
+            return this;
+        }
+
+        // 길이를 모르는 스트리밍 본문 - Transfer-Encoding: chunked로 전송
+        public Builder stream(ReadableByteChannel source) {
+            return stream(new StreamingBody(source));
+        }
+
+        // 길이를 아는 스트리밍 본문 - Content-Length로 전송
+        public Builder stream(ReadableByteChannel source, long length) {
+            return stream(new StreamingBody(source, length));
+        }
+
+        public Builder stream(StreamingBody streamingBody) {
+            this.streamingBody = streamingBody;
+            this.body = new byte[0];
+            applyStreamingHeaders(headers, streamingBody);
+            return this;
+        }
+
         // 쿠키 설정 메서드 (기본)
         public Builder cookie(String name, String value) {
             // Set-Cookie 헤더 추가 (여러 쿠키 지원을 위해 add 사용)
@@ -322,7 +378,10 @@ public class HttpResponse {
 
         // 최종 HttpResponse 객체 생성
         public HttpResponse build() {
-            return new HttpResponse(status, headers, body);
+            HttpResponse response = new HttpResponse(status, headers, body);
+            response.fileRegion = fileRegion;
+            response.streamingBody = streamingBody;
+            return response;
         }
     }
 
@@ -357,6 +416,50 @@ public class HttpResponse {
         return body.length;
     }
 
+    /**
+     * 파일 구간 본문 반환 (없으면 null)
+     */
+    public FileRegion getFileRegion() {
+        return fileRegion;
+    }
+
+    /**
+     * 스트리밍 본문 반환 (없으면 null)
+     */
+    public StreamingBody getStreamingBody() {
+        return streamingBody;
+    }
+
+    /**
+     * 스트리밍 본문 설정
+     *
+     * MiniResponse처럼 헤더를 먼저 모아 두고 응답을 만드는 경로용
+     * 본문 길이에 맞춰 Content-Length 또는 Transfer-Encoding: chunked 헤더를 맞춤
+     */
+    public HttpResponse setStreamingBody(StreamingBody streamingBody) {
+        this.streamingBody = streamingBody;
+        if (streamingBody != null) {
+            applyStreamingHeaders(headers, streamingBody);
+        }
+        return this;
+    }
+
+    // 길이를 알면 Content-Length, 모르면 chunked (두 헤더를 함께 보내면 안 됨 - RFC 7230 3.3.3)
+    private static void applyStreamingHeaders(HttpHeaders headers, StreamingBody streamingBody) {
+        if (streamingBody.isChunked()) {
+            headers.remove("Content-Length");
+            headers.set("Transfer-Encoding", "chunked");
+        } else {
+            headers.remove("Transfer-Encoding");
+            headers.setContentLength(streamingBody.getLength());
+        }
+    }
+
+    // 인코더 전용 - 복사 없이 원본 본문 배열 반환 (수정 금지)
+    byte[] bodyArray() {
+        return body;
+    }
+
     // === 헤더 편의 메서드 ===
 
     /**
@@ -395,42 +498,19 @@ public class HttpResponse {
 
     /**
      * 완전한 HTTP 응답을 바이트 배열로 생성
+     * HttpResponseEncoder로 정확한 크기의 배열에 한 번에 기록
      */
     public byte[] toByteArray() {
-        try {
-            // 메모리에 바이트를 쓸 수 있는 스트림
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            // HTTP 응답을 스트림에 쓰기
-            writeTo(baos);
-            // 스트림의 내용을 바이트 배열로 반환
-            return baos.toByteArray();
-        } catch (IOException e) {
-            // ByteArrayOutputStream은 메모리 내 작업이므로 IOException이 거의 발생하지 않음
-            // 하지만 인터페이스 제약으로 예외 처리 필요
-            throw new RuntimeException("Error creating response bytes", e);
-        }
+        return HttpResponseEncoder.toByteArray(this);
     }
 
     /**
      * OutputStream에 HTTP 응답 작성
      */
     public void writeTo(OutputStream output) throws IOException {
-        // 1. Status Line 작성
-        // "HTTP/1.1 200 OK\r\n" 형태
-        String statusLine = HTTP_VERSION + " " + status.getCode() + " " + status.getReasonPhrase() + "\r\n";
-        output.write(statusLine.getBytes(StandardCharsets.UTF_8));
-
-        // 2. Headers 작성
-        // "Header-Name: Header-Value\r\n" 형태들
-        output.write(headers.toHeaderString().getBytes(StandardCharsets.UTF_8));
-
-        // 3. 헤더와 본문을 구분하는 빈 줄
-        output.write("\r\n".getBytes(StandardCharsets.UTF_8));
-
-        // 4. Body 작성 (있는 경우)
-        if (body.length > 0) {
-            output.write(body);
-        }
+        // Status Line + Headers + 빈 줄 + Body
+        // 인코더가 미리 인코딩된 상수로 헤더를 만들고, 작은 응답은 한 번의 write로 기록
+        HttpResponseEncoder.writeTo(this, output);
 
         // 출력 스트림 플러시 (버퍼에 있는 데이터를 즉시 전송)
         // flush(): 버퍼링된 데이터를 강제로 출력
@@ -443,13 +523,9 @@ public class HttpResponse {
     private void setDefaultHeaders() {
         // Date 헤더 - HTTP 응답이 생성된 시간
         if (!headers.contains("Date")) {
-            // 현재 시간을 GMT 시간대로 변환하여 HTTP 표준 형식으로 포맷
-            // ZonedDateTime.now(): 현재 날짜/시간
-            // ZoneId.of("GMT"): GMT 시간대
-            // format(): 지정된 형식으로 날짜/시간 포맷팅
-            String dateString = ZonedDateTime.now(ZoneId.of("GMT"))
-                    .format(HTTP_DATE_FORMAT);
-            headers.set("Date", dateString);
+            // 1초마다 갱신되는 공유 값 사용 (응답마다 날짜를 포맷하지 않음)
+            // 인코더는 이 문자열 인스턴스를 보고 미리 인코딩된 "Date: ...\r\n" 라인을 복사
+            headers.set("Date", HttpDateClock.currentDate());
         }
 
         // Server 헤더 - 서버 소프트웨어 정보
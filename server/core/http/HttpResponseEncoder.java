@@ -0,0 +1,319 @@
+package server.core.http;
+
+// I/O
+import java.io.IOException;
+import java.io.OutputStream;
+// NIO 버퍼
+import java.nio.ByteBuffer;
+// 문자 인코딩
+import java.nio.charset.StandardCharsets;
+// 컬렉션
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP 응답 인코더
+ *
+ * HttpResponse를 중간 문자열이나 ByteArrayOutputStream 없이 대상 버퍼에 바로 직렬화
+ *
+ * 최적화 포인트:
+ * - 상태 라인("HTTP/1.1 200 OK\r\n")은 HttpStatus별로 미리 인코딩해 둔 바이트를 복사
+ * - 자주 쓰는 헤더명은 "Content-Type: "처럼 구분자까지 미리 인코딩
+ * - ASCII 헤더 값은 문자 단위로 바로 기록 (getBytes() 임시 배열 없음)
+ * - Date 헤더는 HttpDateClock이 초마다 만들어 둔 라인을 그대로 복사
+ * - 헤더 길이를 먼저 계산할 수 있어서 호출자가 정확한 크기의 (풀) 버퍼를 준비할 수 있음
+ * - 본문은 복사하지 않고 gathering write용 ByteBuffer로 넘기거나, 필요한 구간만 대상 버퍼에 복사
+ *
+ * 사용 방식:
+ * - 논블로킹 서버: headLength()로 크기 계산 → 풀 버퍼에 encodeHead() → writeBody()로 본문 구간 채우기
+ * - gathering write: encode()가 반환한 {헤더, 본문} 배열을 GatheringByteChannel.write()에 전달
+ * - 블로킹 서버: writeTo()로 OutputStream에 기록 (작은 응답은 한 번의 write로 전송)
+ * - 파일/스트리밍 본문은 헤더 뒤에 FileRegion, StreamingBody가 각자 이어서 전송
+ */
+public final class HttpResponseEncoder {
+
+    // 이 크기 이하의 본문은 헤더와 한 배열로 합쳐서 한 번에 기록 (블로킹 스트림의 write 호출 수 절감)
+    private static final int COALESCE_THRESHOLD = 8 * 1024;
+
+    // 줄바꿈과 헤더 구분자
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] COLON_SPACE = {':', ' '};
+
+    // HttpStatus별로 미리 인코딩한 상태 라인 (ordinal 인덱스)
+    private static final byte[][] STATUS_LINES;
+
+    // 자주 쓰는 헤더명 + ": " (원본 대소문자 그대로를 키로 사용)
+    private static final Map<String, byte[]> HEADER_NAMES = new HashMap<>();
+
+    // "Date: " 항목 - HttpDateClock의 미리 인코딩된 라인을 쓸 수 있는 헤더 식별용
+    private static final byte[] DATE_NAME;
+
+    static {
+        HttpStatus[] statuses = HttpStatus.values();
+        STATUS_LINES = new byte[statuses.length][];
+        for (HttpStatus status : statuses) {
+            String line = "HTTP/1.1 " + status.getCode() + " " + status.getReasonPhrase() + "\r\n";
+            STATUS_LINES[status.ordinal()] = line.getBytes(StandardCharsets.UTF_8);
+        }
+
+        String[] commonHeaders = {
+                "Content-Type", "Content-Length", "Connection", "Date", "Server",
+                "Keep-Alive", "Cache-Control", "Location", "Allow", "Set-Cookie",
+                "Transfer-Encoding", "Content-Encoding", "Last-Modified", "ETag",
+                "Accept-Ranges", "Content-Range", "Vary", "Expires",
+                "Access-Control-Allow-Origin", "Access-Control-Allow-Methods",
+                "Access-Control-Allow-Headers"
+        };
+        for (String name : commonHeaders) {
+            HEADER_NAMES.put(name, (name + ": ").getBytes(StandardCharsets.US_ASCII));
+        }
+        DATE_NAME = HEADER_NAMES.get("Date");
+    }
+
+    private HttpResponseEncoder() {
+        // 정적 유틸리티 클래스
+    }
+
+    /**
+     * 상태 라인 + 헤더 + 빈 줄의 바이트 길이
+     *
+     * @param response 인코딩할 응답
+     * @return 헤더 부분의 정확한 바이트 수
+     */
+    public static int headLength(HttpResponse response) {
+        int length = STATUS_LINES[response.getStatus().ordinal()].length;
+
+        for (HttpHeaders.HeaderEntry entry : response.getHeaders().entries()) {
+            byte[] preEncoded = HEADER_NAMES.get(entry.originalName);
+            int nameLength = preEncoded != null
+                    ? preEncoded.length
+                    : encodedLength(entry.originalName) + COLON_SPACE.length;
+
+            List<String> values = entry.values;
+            for (int i = 0; i < values.size(); i++) {
+                length += nameLength + encodedLength(values.get(i)) + CRLF.length;
+            }
+        }
+
+        return length + CRLF.length;
+    }
+
+    /**
+     * 전체 응답 바이트 길이 (헤더 + 본문)
+     */
+    public static int encodedLength(HttpResponse response) {
+        return headLength(response) + response.bodyArray().length;
+    }
+
+    /**
+     * 상태 라인, 헤더, 빈 줄을 대상 버퍼에 기록
+     *
+     * @param response 인코딩할 응답
+     * @param dst 대상 버퍼 (remaining >= headLength(response) 이어야 함)
+     * @throws java.nio.BufferOverflowException 공간이 부족한 경우
+     */
+    public static void encodeHead(HttpResponse response, ByteBuffer dst) {
+        dst.put(STATUS_LINES[response.getStatus().ordinal()]);
+
+        for (HttpHeaders.HeaderEntry entry : response.getHeaders().entries()) {
+            byte[] preEncoded = HEADER_NAMES.get(entry.originalName);
+
+            List<String> values = entry.values;
+            for (int i = 0; i < values.size(); i++) {
+                // HttpDateClock이 준 Date 값이면 헤더 라인 전체가 이미 인코딩되어 있음
+                // (길이는 일반 경로와 같으므로 headLength()는 구분할 필요 없음)
+                byte[] dateLine = preEncoded == DATE_NAME ? HttpDateClock.headerLineFor(values.get(i)) : null;
+                if (dateLine != null) {
+                    dst.put(dateLine);
+                    continue;
+                }
+                if (preEncoded != null) {
+                    dst.put(preEncoded);
+                } else {
+                    putString(dst, entry.originalName);
+                    dst.put(COLON_SPACE);
+                }
+                putString(dst, values.get(i));
+                dst.put(CRLF);
+            }
+        }
+
+        dst.put(CRLF);
+    }
+
+    /**
+     * 헤더 부분을 정확한 크기의 바이트 배열로 인코딩
+     *
+     * @param response 인코딩할 응답
+     * @return 상태 라인 + 헤더 + 빈 줄
+     */
+    public static byte[] encodeHead(HttpResponse response) {
+        byte[] head = new byte[headLength(response)];
+        encodeHead(response, ByteBuffer.wrap(head));
+        return head;
+    }
+
+    /**
+     * gathering write용 버퍼 배열 생성
+     *
+     * 본문 배열은 복사하지 않고 읽기 전용 뷰로 감쌈
+     *
+     * @param response 인코딩할 응답
+     * @return {헤더, 본문} - 본문이 없으면 {헤더}
+     */
+    public static ByteBuffer[] encode(HttpResponse response) {
+        ByteBuffer head = ByteBuffer.wrap(encodeHead(response));
+        if (response.getBodyLength() == 0) {
+            return new ByteBuffer[]{head};
+        }
+        return new ByteBuffer[]{head, bodyBuffer(response)};
+    }
+
+    /**
+     * 본문을 복사하지 않는 읽기 전용 버퍼로 감쌈
+     *
+     * 송신 큐에 본문을 그대로 넣을 때 사용
+     *
+     * @param response 응답
+     * @return 본문 전체를 가리키는 읽기 전용 버퍼
+     */
+    public static ByteBuffer bodyBuffer(HttpResponse response) {
+        return ByteBuffer.wrap(response.bodyArray()).asReadOnlyBuffer();
+    }
+
+    /**
+     * 본문의 일부를 대상 버퍼에 복사
+     *
+     * 논블로킹 서버가 풀 버퍼를 본문 구간으로 반복해서 채울 때 사용
+     *
+     * @param response 응답
+     * @param offset 본문에서 복사를 시작할 위치
+     * @param dst 대상 버퍼
+     * @return 복사한 바이트 수 (dst 공간 또는 남은 본문 중 작은 값)
+     */
+    public static int writeBody(HttpResponse response, int offset, ByteBuffer dst) {
+        byte[] body = response.bodyArray();
+        int length = Math.min(dst.remaining(), body.length - offset);
+        if (length > 0) {
+            dst.put(body, offset, length);
+            return length;
+        }
+        return 0;
+    }
+
+    /**
+     * 응답 전체를 하나의 바이트 배열로 인코딩 (정확한 크기로 한 번만 할당)
+     */
+    public static byte[] toByteArray(HttpResponse response) {
+        byte[] body = response.bodyArray();
+        int headLength = headLength(response);
+        byte[] result = new byte[headLength + body.length];
+        encodeHead(response, ByteBuffer.wrap(result, 0, headLength));
+        System.arraycopy(body, 0, result, headLength, body.length);
+        return result;
+    }
+
+    /**
+     * OutputStream에 응답 기록
+     *
+     * 작은 본문은 헤더와 함께 정확한 크기의 배열 하나로 만들어 한 번에 쓰고,
+     * 큰 본문은 헤더만 인코딩한 뒤 원본 본문 배열을 복사 없이 그대로 씀
+     * flush()는 호출자가 담당
+     *
+     * @param response 기록할 응답
+     * @param output 대상 스트림
+     * @throws IOException 쓰기 실패시
+     */
+    public static void writeTo(HttpResponse response, OutputStream output) throws IOException {
+        byte[] body = response.bodyArray();
+        FileRegion fileRegion = response.getFileRegion();
+        StreamingBody streamingBody = response.getStreamingBody();
+        if (body.length <= COALESCE_THRESHOLD && fileRegion == null && streamingBody == null) {
+            output.write(toByteArray(response));
+            return;
+        }
+        try {
+            output.write(encodeHead(response));
+            output.write(body);
+
+            // 파일 본문은 byte[]로 읽지 않고 구간을 스트림으로 전송
+            if (fileRegion != null) {
+                fileRegion.writeTo(output);
+            }
+
+            // 스트리밍 본문은 고정 크기 버퍼로 원본을 읽는 대로 전송 (chunked면 청크 틀 포함)
+            if (streamingBody != null) {
+                streamingBody.writeTo(output);
+            }
+        } finally {
+            // 헤더 전송 중 실패해도 열린 파일/원본 채널이 남지 않도록 닫음 (이미 닫혔으면 무시)
+            if (fileRegion != null) {
+                fileRegion.close();
+            }
+            if (streamingBody != null) {
+                streamingBody.close();
+            }
+        }
+    }
+
+    /**
+     * 재사용 버퍼를 이용해 OutputStream에 응답 기록
+     *
+     * 헤더와 본문이 버퍼에 들어가면 버퍼에 인코딩해서 write 한 번으로 전송 (응답마다 배열 할당 없음)
+     * 들어가지 않거나 파일/스트리밍 본문이면 writeTo(response, output)과 같음
+     * flush()는 호출자가 담당
+     *
+     * @param response 기록할 응답
+     * @param output 대상 스트림
+     * @param buffer 호출자가 재사용하는 쓰기 버퍼 (내용은 덮어씀)
+     * @throws IOException 쓰기 실패시
+     */
+    public static void writeTo(HttpResponse response, OutputStream output, byte[] buffer) throws IOException {
+        if (response.getFileRegion() == null && response.getStreamingBody() == null) {
+            byte[] body = response.bodyArray();
+            int headLength = headLength(response);
+            int total = headLength + body.length;
+            if (total <= buffer.length) {
+                encodeHead(response, ByteBuffer.wrap(buffer, 0, headLength));
+                System.arraycopy(body, 0, buffer, headLength, body.length);
+                output.write(buffer, 0, total);
+                return;
+            }
+        }
+        writeTo(response, output);
+    }
+
+    // === 문자열 인코딩 ===
+
+    /**
+     * 문자열의 UTF-8 바이트 길이
+     * ASCII만 있으면 문자 수와 같으므로 임시 배열 없이 계산
+     */
+    private static int encodedLength(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                return value.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 문자열을 UTF-8로 기록
+     * ASCII는 문자 단위로 바로 기록하고, 비 ASCII가 섞인 경우에만 getBytes()로 인코딩
+     */
+    private static void putString(ByteBuffer dst, String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                dst.put(value.getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            dst.put((byte) value.charAt(i));
+        }
+    }
+}
@@ -0,0 +1,519 @@
+package server.core.http;
+
+// I/O 관련 클래스들
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+// 문자 인코딩
+import java.nio.charset.StandardCharsets;
+// 컬렉션
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 스트리밍 multipart/form-data 파서 (RFC 7578)
+ *
+ * 본문 전체를 메모리에 올리지 않고 고정 크기 버퍼 하나로 구분자(boundary)를 찾으며 파트를 하나씩 읽음
+ * 파트 내용은 Part.getInputStream()으로 바로 읽거나, save()로 BodySpooler에 옮겨서
+ * 임계값을 넘는 파일은 임시 파일로 보관
+ *
+ * 사용 방식:
+ * <pre>
+ * MultipartParser parser = new MultipartParser(request.getBodyStream(), boundary);
+ * MultipartParser.Part part;
+ * while ((part = parser.nextPart()) != null) {
+ *     try (InputStream in = part.getInputStream()) { ... }   // 또는 part.save(threshold)
+ * }
+ * </pre>
+ *
+ * 구분자 검색:
+ * - 본문 앞에 CRLF가 있는 것으로 보고 모든 구분자를 "\r\n--boundary"로 통일해서 검색
+ * - 버퍼 끝에 걸친 구분자 후보(구분자 길이 - 1 바이트)는 다음 읽기까지 남겨 둠
+ *
+ * 스레드 안전하지 않음 - 요청을 처리하는 스레드 하나에서만 사용
+ */
+public class MultipartParser implements Closeable {
+
+    // 입력 버퍼 크기 (구분자 최대 길이보다 충분히 커야 함)
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    // boundary 최대 길이 (RFC 2046)
+    private static final int MAX_BOUNDARY_LENGTH = 70;
+
+    // 파트 헤더 제한
+    private static final int MAX_PART_HEADER_SIZE = 8192;
+    private static final int MAX_PART_HEADERS = 32;
+
+    // 기본 최대 파트 수 (많은 작은 파트로 자원을 소모시키는 요청 방지)
+    public static final int DEFAULT_MAX_PARTS = 1000;
+
+    private final InputStream input;
+    private final byte[] delimiter;   // "\r\n--" + boundary
+    private final byte[] buffer;
+    private int head;                 // 아직 소비하지 않은 데이터 시작
+    private int tail;                 // 버퍼에 채워진 데이터 끝
+    private boolean eof;              // 입력 끝 도달
+
+    private PartInputStream current;  // 현재 읽고 있는 파트 내용 (없으면 null)
+    private boolean started;          // 첫 구분자를 지났는지 여부
+    private boolean finished;         // 닫는 구분자(--boundary--)를 읽었는지 여부
+
+    /**
+     * MultipartParser 생성자
+     *
+     * @param input multipart 본문 스트림
+     * @param boundary Content-Type의 boundary 파라미터
+     */
+    public MultipartParser(InputStream input, String boundary) {
+        if (boundary == null || boundary.isEmpty() || boundary.length() > MAX_BOUNDARY_LENGTH) {
+            throw new IllegalArgumentException("Invalid multipart boundary: " + boundary);
+        }
+        this.input = input;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.buffer = new byte[BUFFER_SIZE];
+
+        // 첫 구분자 앞에도 CRLF가 있는 것처럼 시작 - 모든 구분자를 같은 패턴으로 검색
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        this.tail = 2;
+    }
+
+    /**
+     * Content-Type 헤더에서 boundary 추출
+     *
+     * @param contentType Content-Type 헤더 값
+     * @return boundary, multipart 요청이 아니거나 없으면 null
+     */
+    public static String boundaryOf(String contentType) {
+        if (contentType == null || !contentType.trim().regionMatches(true, 0, "multipart/", 0, 10)) {
+            return null;
+        }
+        String value = parameterOf(contentType, "boundary");
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 다음 파트로 이동
+     *
+     * 현재 파트를 끝까지 읽지 않았으면 남은 내용을 건너뜀
+     *
+     * @return 다음 파트, 마지막 파트 뒤면 null
+     * @throws IOException 형식이 잘못되었거나 본문이 중간에 끝난 경우
+     */
+    public Part nextPart() throws IOException {
+        if (finished) {
+            return null;
+        }
+
+        // 현재 파트(또는 첫 구분자 앞의 preamble)를 구분자까지 건너뜀
+        if (current == null && !started) {
+            current = new PartInputStream();
+        }
+        if (current != null) {
+            current.skipToEnd();
+            current = null;
+        }
+        started = true;
+
+        // 구분자 뒤: "--"면 닫는 구분자, 아니면 (공백 후) CRLF 다음에 파트 헤더
+        if (!ensure(2)) {
+            throw new IOException("Unexpected end of multipart body after boundary");
+        }
+        if (buffer[head] == '-' && buffer[head + 1] == '-') {
+            head += 2;
+            finished = true;
+            return null;
+        }
+        String rest = readLine();
+        if (!rest.trim().isEmpty()) {
+            throw new IOException("Invalid multipart boundary line");
+        }
+
+        HttpHeaders headers = readPartHeaders();
+        current = new PartInputStream();
+        return new Part(headers, current);
+    }
+
+    /**
+     * 모든 파트를 읽어서 보관
+     *
+     * 각 파트 내용은 threshold까지 메모리, 넘으면 임시 파일 (RequestBody로 보관)
+     * 실패하면 이미 만든 임시 파일은 삭제
+     *
+     * @param input multipart 본문 스트림
+     * @param boundary boundary
+     * @param threshold 파트별 메모리 임계값
+     * @param maxParts 최대 파트 수
+     * @return 보관된 파트 목록 (사용 후 각 파트를 close()해서 임시 파일 삭제)
+     */
+    public static List<Part> parseAll(InputStream input, String boundary,
+                                      int threshold, int maxParts) throws IOException {
+        List<Part> parts = new ArrayList<>();
+        try (MultipartParser parser = new MultipartParser(input, boundary)) {
+            Part part;
+            while ((part = parser.nextPart()) != null) {
+                if (parts.size() >= maxParts) {
+                    throw new IOException("Too many multipart parts (max " + maxParts + ")");
+                }
+                part.save(threshold);
+                parts.add(part);
+            }
+            return Collections.unmodifiableList(parts);
+        } catch (IOException | RuntimeException e) {
+            for (Part part : parts) {
+                part.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 입력 스트림 닫기
+     */
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    // === 버퍼 관리 ===
+
+    /**
+     * 버퍼에 최소 count 바이트가 있도록 채움
+     *
+     * @return 채웠으면 true, 입력이 먼저 끝나면 false
+     */
+    private boolean ensure(int count) throws IOException {
+        while (tail - head < count) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 남은 데이터를 버퍼 앞으로 옮기고 입력에서 더 읽음
+     *
+     * @return 읽은 데이터가 있으면 true, 입력 끝이면 false
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            head = 0;
+        }
+        int read = input.read(buffer, tail, buffer.length - tail);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        tail += read;
+        return true;
+    }
+
+    /**
+     * [head, tail)에서 구분자 위치 검색
+     *
+     * @return 구분자 시작 위치, 없으면 -1
+     */
+    private int findDelimiter() {
+        byte first = delimiter[0];
+        int last = tail - delimiter.length;
+        outer:
+        for (int i = head; i <= last; i++) {
+            if (buffer[i] != first) {
+                continue;
+            }
+            for (int j = 1; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * CRLF(또는 LF)까지 한 줄 읽기 (파트 헤더용, ISO-8859-1 그대로)
+     */
+    private String readLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        while (true) {
+            if (head == tail && !fill()) {
+                throw new IOException("Unexpected end of multipart headers");
+            }
+            byte b = buffer[head++];
+            if (b == '\n') {
+                int length = line.length();
+                if (length > 0 && line.charAt(length - 1) == '\r') {
+                    line.setLength(length - 1);
+                }
+                return line.toString();
+            }
+            if (line.length() >= MAX_PART_HEADER_SIZE) {
+                throw new IOException("Multipart header line too long");
+            }
+            line.append((char) (b & 0xFF));
+        }
+    }
+
+    /**
+     * 파트 헤더 읽기 (빈 줄까지)
+     */
+    private HttpHeaders readPartHeaders() throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        int size = 0;
+        int count = 0;
+        String line;
+        while (!(line = readLine()).isEmpty()) {
+            size += line.length();
+            if (++count > MAX_PART_HEADERS || size > MAX_PART_HEADER_SIZE) {
+                throw new IOException("Multipart headers too large");
+            }
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                throw new IOException("Invalid multipart header: " + line);
+            }
+            // 파일명 등은 UTF-8로 보내므로 바이트 그대로 읽은 문자열을 UTF-8로 다시 해석
+            String value = new String(line.substring(colon + 1).trim().getBytes(StandardCharsets.ISO_8859_1),
+                    StandardCharsets.UTF_8);
+            headers.add(line.substring(0, colon).trim(), value);
+        }
+        return headers;
+    }
+
+    /**
+     * 헤더 값의 파라미터 추출 (예: form-data; name="file"; filename="a.txt")
+     */
+    static String parameterOf(String headerValue, String name) {
+        int index = 0;
+        int length = headerValue.length();
+        while (index < length) {
+            int semicolon = headerValue.indexOf(';', index);
+            if (semicolon < 0) {
+                return null;
+            }
+            int start = semicolon + 1;
+            int equals = headerValue.indexOf('=', start);
+            if (equals < 0) {
+                return null;
+            }
+            String key = headerValue.substring(start, equals).trim();
+            int valueStart = equals + 1;
+            String value;
+            int next;
+            if (valueStart < length && headerValue.charAt(valueStart) == '"') {
+                // 따옴표 값 - 안의 세미콜론은 구분자가 아님
+                int close = headerValue.indexOf('"', valueStart + 1);
+                if (close < 0) {
+                    close = length;
+                }
+                value = headerValue.substring(valueStart + 1, close);
+                next = close + 1;
+            } else {
+                int end = headerValue.indexOf(';', valueStart);
+                if (end < 0) {
+                    end = length;
+                }
+                value = headerValue.substring(valueStart, end).trim();
+                next = end;
+            }
+            if (key.equalsIgnoreCase(name)) {
+                return value;
+            }
+            index = next;
+        }
+        return null;
+    }
+
+    /**
+     * 현재 파트 내용을 구분자 앞까지만 읽는 스트림
+     */
+    private final class PartInputStream extends InputStream {
+
+        private boolean ended;  // 구분자에 도달했는지 여부
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            int n = read(one, 0, 1);
+            return n < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (ended) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            while (true) {
+                int found = findDelimiter();
+                int available;
+                if (found >= 0) {
+                    available = found - head;
+                    if (available == 0) {
+                        // 구분자 도달 - 구분자를 소비하고 파트 끝
+                        head += delimiter.length;
+                        ended = true;
+                        return -1;
+                    }
+                } else {
+                    // 버퍼 끝에 걸친 구분자 후보는 남겨 둠
+                    available = tail - head - (delimiter.length - 1);
+                }
+
+                if (available > 0) {
+                    int n = Math.min(available, len);
+                    System.arraycopy(buffer, head, b, off, n);
+                    head += n;
+                    return n;
+                }
+
+                if (!fill()) {
+                    throw new IOException("Unexpected end of multipart body");
+                }
+            }
+        }
+
+        /**
+         * 남은 내용을 버리고 구분자 뒤로 이동
+         */
+        void skipToEnd() throws IOException {
+            byte[] scratch = new byte[4096];
+            while (read(scratch, 0, scratch.length) >= 0) {
+                // 버림
+            }
+        }
+
+        @Override
+        public void close() {
+            // 파트 스트림을 닫아도 파서 입력은 유지 (다음 파트로 이어서 읽음)
+        }
+    }
+
+    /**
+     * multipart 파트 하나
+     *
+     * 파서에서 받은 직후에는 내용이 입력 스트림 위에 있으며 nextPart() 전까지만 읽을 수 있음
+     * save()로 보관하면 이후 언제든 다시 읽을 수 있고, close()로 임시 파일을 삭제
+     */
+    public static final class Part implements Closeable {
+
+        private final HttpHeaders headers;
+        private final String name;          // 폼 필드 이름
+        private final String filename;      // 업로드 파일 이름 (일반 필드면 null)
+        private InputStream stream;         // 보관 전 파트 내용
+        private RequestBody content;        // 보관된 파트 내용 (save() 이후)
+
+        Part(HttpHeaders headers, InputStream stream) {
+            this.headers = headers;
+            this.stream = stream;
+            String disposition = headers.get("Content-Disposition");
+            this.name = disposition != null ? parameterOf(disposition, "name") : null;
+            this.filename = disposition != null ? parameterOf(disposition, "filename") : null;
+        }
+
+        /**
+         * 파트 내용 스트림
+         *
+         * 보관 전에는 입력에서 바로 읽는 스트림 (nextPart() 전까지만 유효)
+         * 보관 후에는 호출할 때마다 처음부터 읽는 새 스트림
+         */
+        public InputStream getInputStream() throws IOException {
+            return content != null ? content.openStream() : stream;
+        }
+
+        /**
+         * 파트 내용을 보관 - threshold까지 메모리, 넘으면 임시 파일
+         *
+         * @param threshold 메모리 임계값
+         * @return 보관된 내용
+         */
+        public RequestBody save(int threshold) throws IOException {
+            if (content != null) {
+                return content;
+            }
+            BodySpooler spooler = new BodySpooler(threshold);
+            try {
+                byte[] chunk = new byte[8192];
+                int n;
+                while ((n = stream.read(chunk, 0, chunk.length)) >= 0) {
+                    spooler.write(chunk, 0, n);
+                }
+                content = spooler.finish();
+                stream = null;
+                return content;
+            } finally {
+                spooler.close();
+            }
+        }
+
+        /**
+         * 보관된 내용을 문자열로 (일반 폼 필드용, 보관 전이면 null)
+         */
+        public String getString() {
+            return content != null ? new String(content.toByteArray(), StandardCharsets.UTF_8) : null;
+        }
+
+        /**
+         * 보관된 임시 파일 삭제
+         */
+        @Override
+        public void close() throws IOException {
+            if (content != null) {
+                content.close();
+            }
+        }
+
+        // === 접근자 메서드 ===
+
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getFilename() {
+            return filename;
+        }
+
+        public String getContentType() {
+            return headers.get("Content-Type");
+        }
+
+        /**
+         * 파일 업로드 파트인지 여부 (filename 파라미터가 있으면 파일)
+         */
+        public boolean isFile() {
+            return filename != null;
+        }
+
+        /**
+         * 보관된 내용 (save() 전이면 null)
+         */
+        public RequestBody getContent() {
+            return content;
+        }
+
+        /**
+         * 보관된 내용 길이 (save() 전이면 -1)
+         */
+        public long getSize() {
+            return content != null ? content.length() : -1;
+        }
+
+        @Override
+        public String toString() {
+            return "Part{name=" + name + ", filename=" + filename + ", size=" + getSize() + "}";
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package server.core.http;
+
+// I/O 관련 클래스들
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+// NIO 채널과 파일
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+// 유틸리티 클래스
+import java.util.Objects;
+
+/**
+ * 요청 본문 저장소
+ *
+ * 작은 본문은 메모리 배열에, 임계값을 넘는 본문은 임시 파일에 보관 (BodySpooler가 결정)
+ * 핸들러는 어느 쪽이든 openStream()/openChannel()로 조금씩 읽을 수 있으므로
+ * 큰 업로드도 힙에 본문 전체를 올리지 않고 처리 가능
+ *
+ * 임시 파일 수명:
+ * - 서버가 응답을 보낸 뒤 HttpRequest.releaseBody()로 close() → 임시 파일 삭제
+ * - 본문을 보관하려면 그 전에 moveTo()로 옮김 (같은 파일 시스템이면 복사 없이 이름만 바뀜)
+ */
+public final class RequestBody implements Closeable {
+
+    // 본문이 없는 요청이 공유하는 인스턴스
+    static final RequestBody EMPTY = new RequestBody(new byte[0], null, 0);
+
+    private final byte[] bytes;   // 메모리 본문 (파일이면 null)
+    private volatile Path file;   // 임시 파일 본문 (메모리면 null, 옮기거나 삭제하면 null)
+    private final long length;    // 본문 길이
+
+    private RequestBody(byte[] bytes, Path file, long length) {
+        this.bytes = bytes;
+        this.file = file;
+        this.length = length;
+    }
+
+    /**
+     * 메모리 본문 생성 - 배열을 복사하지 않고 그대로 보관 (호출자는 이후 수정 금지)
+     */
+    public static RequestBody ofBytes(byte[] bytes) {
+        Objects.requireNonNull(bytes, "Bytes cannot be null");
+        return bytes.length == 0 ? EMPTY : new RequestBody(bytes, null, bytes.length);
+    }
+
+    /**
+     * 임시 파일 본문 생성 - close()하면 파일이 삭제됨
+     */
+    public static RequestBody ofFile(Path file, long length) {
+        return new RequestBody(null, Objects.requireNonNull(file, "File cannot be null"), length);
+    }
+
+    /**
+     * 본문을 처음부터 읽는 스트림 (호출할 때마다 새 스트림)
+     *
+     * @throws IOException 임시 파일을 열 수 없거나 이미 정리된 경우
+     */
+    public InputStream openStream() throws IOException {
+        if (bytes != null) {
+            return new ByteArrayInputStream(bytes);
+        }
+        return Channels.newInputStream(openChannel());
+    }
+
+    /**
+     * 본문을 처음부터 읽는 채널 (호출할 때마다 새 채널)
+     *
+     * @throws IOException 임시 파일을 열 수 없거나 이미 정리된 경우
+     */
+    public ReadableByteChannel openChannel() throws IOException {
+        if (bytes != null) {
+            return Channels.newChannel(new ByteArrayInputStream(bytes));
+        }
+        return FileChannel.open(requireFile(), StandardOpenOption.READ);
+    }
+
+    /**
+     * 본문 전체를 바이트 배열로 반환
+     *
+     * 메모리 본문은 복사본, 파일 본문은 파일 전체를 읽음 - 큰 본문에는 openStream() 사용
+     *
+     * @throws UncheckedIOException 임시 파일을 읽을 수 없는 경우
+     * @throws IllegalStateException 본문이 배열 하나에 담기지 않을 만큼 큰 경우
+     */
+    public byte[] toByteArray() {
+        if (bytes != null) {
+            return bytes.clone();
+        }
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Body too large for a byte array: " + length);
+        }
+        try {
+            return Files.readAllBytes(requireFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read spooled body", e);
+        }
+    }
+
+    /**
+     * 본문을 대상 경로로 옮김
+     *
+     * 파일 본문은 이동(같은 파일 시스템이면 rename)하고 이후 이 객체는 파일을 소유하지 않음
+     * 메모리 본문은 파일로 기록
+     *
+     * @param target 저장할 경로 (이미 있으면 덮어씀)
+     */
+    public void moveTo(Path target) throws IOException {
+        if (bytes != null) {
+            Files.write(target, bytes);
+            return;
+        }
+        Path source = requireFile();
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        file = null;
+    }
+
+    /**
+     * 임시 파일 삭제 (여러 번 호출해도 안전, 메모리 본문은 아무것도 하지 않음)
+     */
+    @Override
+    public void close() throws IOException {
+        Path current = file;
+        if (current != null) {
+            file = null;
+            Files.deleteIfExists(current);
+        }
+    }
+
+    private Path requireFile() throws IOException {
+        Path current = file;
+        if (current == null) {
+            throw new IOException("Spooled body was already released or moved");
+        }
+        return current;
+    }
+
+    // === 접근자 메서드 ===
+
+    public long length() {
+        return length;
+    }
+
+    /**
+     * 본문이 메모리에 있는지 여부 (false면 임시 파일)
+     */
+    public boolean isInMemory() {
+        return bytes != null;
+    }
+
+    /**
+     * 임시 파일 경로 (메모리 본문이거나 이미 정리되었으면 null)
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    // 같은 패키지 전용 - 복사 없이 메모리 본문 배열 반환 (파일 본문이면 null)
+    byte[] array() {
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return bytes != null
+                ? "RequestBody{memory, length=" + length + "}"
+                : "RequestBody{file=" + file + ", length=" + length + "}";
+    }
+}
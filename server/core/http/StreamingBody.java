@@ -0,0 +1,328 @@
+package server.core.http;
+
+// I/O 관련 클래스들
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+// NIO 버퍼와 채널
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+// 유틸리티 클래스
+import java.util.Objects;
+
+/**
+ * 스트리밍 응답 본문
+ *
+ * 본문 전체를 byte[]로 만들지 않고 ReadableByteChannel에서 필요한 만큼씩 당겨서(pull) 전송하기 위한 본문 타입
+ * 서버는 소켓이 받아줄 때만 다음 조각을 읽으므로 요청당 메모리는 본문 크기가 아니라 전송 버퍼 크기로 제한됨
+ *
+ * 전송 형식:
+ * - 길이를 모르면 Transfer-Encoding: chunked - 읽은 조각마다 "크기\r\n데이터\r\n", 끝에 "0\r\n\r\n"
+ * - 길이를 알면 Content-Length로 원본 바이트를 그대로 전송 (길이보다 먼저 끝나면 오류)
+ *
+ * 원본 채널 규칙:
+ * - 논블로킹 서버는 I/O 스레드에서 read()를 호출하므로 원본은 오래 막히지 않아야 함
+ *   (메모리/파일/그때그때 생성하는 데이터에 적합)
+ * - 당장 줄 데이터가 없으면 0을 반환해도 됨 - 이때 생산자는 데이터가 생기거나 끝났을 때
+ *   notifyDataAvailable()을 호출해야 함 (서버는 폴링하지 않고 이 알림을 기다렸다가 다시 읽음)
+ * - 끝나면 -1 반환
+ *
+ * 전송이 끝나거나 연결이 닫히면 close()로 원본 채널을 닫음
+ * 스레드 안전하지 않음 - 응답을 전송하는 스레드 하나에서만 사용
+ * (notifyDataAvailable()만 생산자 스레드에서 호출 가능)
+ */
+public final class StreamingBody implements Closeable {
+
+    // 청크 하나의 최대 데이터 크기
+    private static final int MAX_CHUNK_SIZE = 64 * 1024;
+
+    // 청크 크기는 고정 폭 16진수로 기록 (RFC 7230은 앞자리 0 허용)
+    // 데이터를 먼저 읽고 나서 크기를 앞에 채워 넣을 수 있어서 데이터를 옮길 필요가 없음
+    private static final int SIZE_DIGITS = 8;
+    private static final int CHUNK_HEADER_LENGTH = SIZE_DIGITS + 2;   // "0000ffff\r\n"
+    private static final int CHUNK_OVERHEAD = CHUNK_HEADER_LENGTH + 2; // + 데이터 뒤 "\r\n"
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LAST_CHUNK = "0\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    // 블로킹 스트림으로 쓸 때 사용하는 버퍼 크기
+    private static final int STREAM_BUFFER_SIZE = 16 * 1024;
+
+    private final ReadableByteChannel source;  // 본문 원본
+    private final long length;                 // 본문 길이, 모르면 -1 (chunked)
+
+    private long consumed;      // 원본에서 읽은 바이트 수
+    private boolean sourceDone; // 원본이 끝났는지 여부
+    private boolean complete;   // 마지막 청크까지 모두 내보냈는지 여부
+
+    // === 데이터 준비 알림 (this로 보호 - 생산자 스레드와 전송 스레드가 공유) ===
+    private boolean dataSignaled;   // 마지막 read() 이후 생산자가 알림을 보냈는지
+    private Runnable dataListener;  // 다음 알림에 한 번 실행할 콜백 (awaitData로 등록)
+
+    /**
+     * 길이를 모르는 본문 생성 - chunked로 전송
+     *
+     * @param source 본문 원본 채널
+     */
+    public StreamingBody(ReadableByteChannel source) {
+        this(source, -1);
+    }
+
+    /**
+     * 스트리밍 본문 생성
+     *
+     * @param source 본문 원본 채널
+     * @param length 본문 길이 (모르면 -1)
+     */
+    public StreamingBody(ReadableByteChannel source, long length) {
+        this.source = Objects.requireNonNull(source, "Source cannot be null");
+        if (length < -1) {
+            throw new IllegalArgumentException("Invalid length: " + length);
+        }
+        this.length = length;
+    }
+
+    /**
+     * InputStream을 원본으로 하는 본문 생성
+     *
+     * @param input 본문 원본 스트림
+     * @param length 본문 길이 (모르면 -1)
+     */
+    public static StreamingBody of(InputStream input, long length) {
+        return new StreamingBody(Channels.newChannel(input), length);
+    }
+
+    /**
+     * 다음 전송 바이트를 대상 버퍼에 채움
+     *
+     * chunked면 청크 틀까지 포함한 바이트를, 아니면 원본 바이트를 그대로 채움
+     *
+     * @param dst 대상 버퍼 (chunked면 최소 CHUNK_OVERHEAD + 1 바이트 공간 필요)
+     * @return 채운 바이트 수, 원본이 당장 줄 데이터가 없으면 0, 모두 내보냈으면 -1
+     * @throws IOException 원본 읽기 실패 또는 Content-Length보다 먼저 끝난 경우
+     */
+    public int read(ByteBuffer dst) throws IOException {
+        if (complete) {
+            return -1;
+        }
+        // 이제부터 원본을 읽으므로 이전 알림은 소비된 것으로 봄
+        // (읽는 도중이나 이후에 온 알림은 남아서 awaitData()가 바로 다시 시도하게 함)
+        synchronized (this) {
+            dataSignaled = false;
+        }
+        return isChunked() ? readChunk(dst) : readRaw(dst);
+    }
+
+    /**
+     * 생산자 알림 - 원본에 새 데이터가 생겼거나 원본이 끝남
+     *
+     * read()가 0을 반환할 수 있는 원본이라면 생산자가 반드시 호출해야 함
+     * 어느 스레드에서든 호출 가능 - 기다리던 전송 스레드나 이벤트 루프를 깨움
+     */
+    public void notifyDataAvailable() {
+        Runnable listener;
+        synchronized (this) {
+            dataSignaled = true;
+            listener = dataListener;
+            dataListener = null;
+            notifyAll(); // writeTo()에서 기다리는 스레드
+        }
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    /**
+     * 다음 데이터 준비 알림에 한 번 실행할 콜백 등록 (논블로킹 서버용)
+     *
+     * read()가 0을 반환한 뒤 호출 - 서버는 OP_WRITE를 내려 두고 콜백에서 다시 전송을 시작
+     * 콜백은 notifyDataAvailable()을 호출한 생산자 스레드에서 실행되므로 짧아야 함
+     *
+     * @param listener 데이터가 준비되면 실행할 콜백
+     * @return 등록했으면 true, 마지막 read() 이후 이미 알림이 와 있으면 등록하지 않고 false (바로 다시 읽음)
+     */
+    public synchronized boolean awaitData(Runnable listener) {
+        if (dataSignaled) {
+            return false;
+        }
+        dataListener = listener;
+        return true;
+    }
+
+    /**
+     * 데이터 준비 알림이 올 때까지 현재 스레드를 재움 (블로킹 전송용)
+     */
+    private synchronized void waitForData() throws InterruptedIOException {
+        try {
+            while (!dataSignaled) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for stream data");
+        }
+    }
+
+    /**
+     * Content-Length 본문 - 원본 바이트를 남은 길이만큼만 복사
+     */
+    private int readRaw(ByteBuffer dst) throws IOException {
+        long remaining = length - consumed;
+        if (remaining <= 0) {
+            complete = true;
+            return -1;
+        }
+
+        int limit = dst.limit();
+        if (dst.remaining() > remaining) {
+            dst.limit(dst.position() + (int) remaining);
+        }
+        int n;
+        try {
+            n = source.read(dst);
+        } finally {
+            dst.limit(limit);
+        }
+
+        if (n < 0) {
+            throw new IOException("Stream ended before Content-Length: " + consumed + "/" + length);
+        }
+        consumed += n;
+        if (consumed >= length) {
+            complete = true;
+        }
+        return n;
+    }
+
+    /**
+     * chunked 본문 - 크기 자리를 비워 두고 데이터를 바로 읽은 뒤 앞뒤 틀을 채움
+     */
+    private int readChunk(ByteBuffer dst) throws IOException {
+        if (!sourceDone) {
+            int space = Math.min(dst.remaining() - CHUNK_OVERHEAD, MAX_CHUNK_SIZE);
+            if (space <= 0) {
+                return 0;
+            }
+
+            int start = dst.position();
+            int limit = dst.limit();
+            dst.position(start + CHUNK_HEADER_LENGTH);
+            dst.limit(dst.position() + space);
+            int n;
+            try {
+                n = source.read(dst);
+            } finally {
+                dst.limit(limit);
+            }
+
+            if (n > 0) {
+                putChunkSize(dst, start, n);
+                dst.put((byte) '\r').put((byte) '\n');
+                consumed += n;
+                return n + CHUNK_OVERHEAD;
+            }
+
+            // 데이터가 없으면 비워 둔 크기 자리를 되돌림
+            dst.position(start);
+            if (n == 0) {
+                return 0;
+            }
+            sourceDone = true;
+        }
+
+        // 원본 끝 - 마지막 청크
+        if (dst.remaining() < LAST_CHUNK.length) {
+            return 0;
+        }
+        dst.put(LAST_CHUNK);
+        complete = true;
+        return LAST_CHUNK.length;
+    }
+
+    /**
+     * 고정 폭 16진수 청크 크기 + CRLF를 지정 위치에 기록
+     */
+    private static void putChunkSize(ByteBuffer dst, int at, int size) {
+        for (int i = SIZE_DIGITS - 1; i >= 0; i--) {
+            dst.put(at + i, HEX_DIGITS[size & 0xF]);
+            size >>>= 4;
+        }
+        dst.put(at + SIZE_DIGITS, (byte) '\r');
+        dst.put(at + SIZE_DIGITS + 1, (byte) '\n');
+    }
+
+    /**
+     * 블로킹 스트림으로 남은 본문 전체 전송
+     *
+     * 스레드 기반 서버처럼 OutputStream으로 응답을 쓰는 경로용
+     * 버퍼 하나를 재사용하므로 본문이 커도 메모리 사용량은 일정
+     *
+     * @param output 대상 스트림
+     * @throws IOException 전송 실패시
+     */
+    public void writeTo(OutputStream output) throws IOException {
+        byte[] array = new byte[STREAM_BUFFER_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(array);
+        try {
+            while (true) {
+                buffer.clear();
+                int n = read(buffer);
+                if (n < 0) {
+                    break;
+                }
+                if (n == 0) {
+                    // 원본이 아직 준비되지 않음 - 이 스레드는 생산자 알림까지 잠들어도 됨
+                    waitForData();
+                    continue;
+                }
+                output.write(array, 0, buffer.position());
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * 원본 채널 닫기 (여러 번 호출해도 안전)
+     */
+    @Override
+    public void close() throws IOException {
+        if (source.isOpen()) {
+            source.close();
+        }
+    }
+
+    // === 접근자 메서드 ===
+
+    /**
+     * chunked로 전송하는지 여부 (길이를 모르는 경우)
+     */
+    public boolean isChunked() {
+        return length < 0;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * 지금까지 원본에서 읽은 본문 바이트 수 (청크 틀 제외)
+     */
+    public long getConsumed() {
+        return consumed;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StreamingBody{length=%d, consumed=%d, complete=%s}",
+                length, consumed, complete);
+    }
+}
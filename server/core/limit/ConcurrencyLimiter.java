@@ -0,0 +1,331 @@
+package server.core.limit;
+
+import server.core.http.HttpResponse;
+import server.core.http.HttpStatus;
+import server.core.logging.Logger;
+import server.core.logging.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 적응형 동시성 제한기 (세 서버 공용)
+ *
+ * 동시에 처리 중인 요청 수(in-flight)에 상한(limit)을 두고,
+ * 완료된 요청의 응답 시간(RTT)을 보면서 상한을 자동으로 조정합니다.
+ * → 스레드 수나 큐 크기를 손으로 맞추지 않아도 처리량이 가장 높은 동시성 근처를 찾아감
+ *
+ * 기본 원리 (리틀의 법칙):
+ * - 동시성이 처리 능력보다 낮으면 RTT는 그대로이고 처리량만 늘어남
+ * - 처리 능력을 넘으면 처리량은 그대로이고 늘어난 만큼 큐에서 기다려 RTT만 늘어남
+ * - 따라서 RTT가 기준보다 늘어나기 시작하는 지점이 최적 동시성
+ *
+ * 알고리즘:
+ * - AIMD: 상한의 절반 이상을 쓰고 있으면 샘플마다 +1/상한 (대략 RTT마다 +1),
+ *         드롭(실패/과부하) 또는 RTT가 기준의 2배를 넘으면 구간당 한 번 상한 x0.9
+ * - GRADIENT: 샘플 구간마다 (기준 RTT / 최근 RTT) 비율로 상한을 줄이거나 유지하고
+ *             sqrt(상한)만큼 여유를 더함 - RTT가 늘어난 만큼 바로 비례해서 줄어듦
+ * - 기준 RTT는 구간 평균 RTT의 지수 이동 평균 (부하가 오래 이어지면 천천히 따라 올라감)
+ *
+ * 사용 방식:
+ * - tryAcquire(): 상한 안이면 Permit, 넘으면 null (호출자가 503으로 거절) - 블로킹하지 않음
+ * - Permit.release(): 정상 완료 - RTT 샘플로 상한 조정
+ * - Permit.drop(): 과부하로 인한 실패 (타임아웃, 5xx 등) - 상한 감소
+ * - Permit.ignore(): 부하와 무관하게 끝남 (연결 끊김 등) - 샘플 없이 반환만
+ * - Permit.complete(response, error): 비동기 핸들러 결과로 위 셋 중 하나를 선택
+ *
+ * 스레드 안전성:
+ * - tryAcquire()는 CAS만 사용 (이벤트 루프/acceptor 스레드에서 호출해도 블로킹 없음)
+ * - 상한 조정은 샘플이 들어올 때 짧은 synchronized 구간에서 수행
+ */
+public class ConcurrencyLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimiter.class);
+
+    /**
+     * 상한 조정 알고리즘
+     */
+    public enum Algorithm {
+        AIMD,       // 가산 증가 / 승산 감소 - 단순하고 드롭 신호에 강하게 반응
+        GRADIENT    // RTT 기울기 기반 - 큐잉 지연이 생기는 만큼 비례해서 감소
+    }
+
+    // 상한의 하한 - 0이 되면 요청을 하나도 받지 못해 RTT 샘플도 더 생기지 않음
+    private static final int MIN_LIMIT = 1;
+
+    // AIMD 감소 비율
+    private static final double BACKOFF_RATIO = 0.9;
+
+    // AIMD: 기준 RTT의 이 배수를 넘는 샘플은 드롭으로 간주
+    private static final double AIMD_LATENCY_FACTOR = 2.0;
+
+    // GRADIENT: 최근 RTT가 기준의 이 배수까지는 정상으로 봄 (측정 잡음 허용)
+    private static final double RTT_TOLERANCE = 1.5;
+
+    // GRADIENT: 새 상한 반영 비율 (급격한 변동 완화)
+    private static final double SMOOTHING = 0.2;
+
+    // 샘플 구간 - 최소 시간과 최소 샘플 수를 모두 채워야 구간을 마감
+    private static final long WINDOW_NANOS = 100_000_000L; // 100ms
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    // 기준 RTT 지수 이동 평균 계수 (약 100구간 = 10초)
+    private static final double BASELINE_ALPHA = 2.0 / (100 + 1);
+
+    private final String name;               // 로그/통계용 이름 (서버 구분)
+    private final Algorithm algorithm;
+    private final int maxLimit;              // 상한의 상한
+
+    private final AtomicInteger inFlight = new AtomicInteger(0);
+    private volatile int limit;              // 현재 상한 (tryAcquire가 읽음)
+
+    // === 조정 상태 (this로 보호) ===
+    private double estimatedLimit;           // 소수점까지 유지하는 상한 (limit는 이 값의 정수부)
+    private double baselineRttNanos;         // 기준 RTT (0이면 아직 없음)
+    private long windowStart = System.nanoTime();
+    private int windowSamples;
+    private long windowRttSum;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+    private boolean windowBackedOff;         // AIMD: 이번 구간에 이미 감소했는지
+
+    // === 통계 ===
+    private final AtomicLong accepted = new AtomicLong(0);   // 허가한 요청 수
+    private final AtomicLong rejected = new AtomicLong(0);   // 상한 초과로 거절한 요청 수
+    private final AtomicLong dropped = new AtomicLong(0);    // 드롭으로 끝난 요청 수
+    private volatile double lastRttMillis;                   // 마지막 구간 평균 RTT
+
+    /**
+     * ConcurrencyLimiter 생성자
+     *
+     * @param name 로그/통계용 이름
+     * @param algorithm 상한 조정 알고리즘
+     * @param initialLimit 시작 상한
+     * @param maxLimit 상한이 커질 수 있는 최대값
+     */
+    public ConcurrencyLimiter(String name, Algorithm algorithm, int initialLimit, int maxLimit) {
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Algorithm cannot be null");
+        }
+        if (initialLimit < MIN_LIMIT || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("Invalid limits: initial=" + initialLimit + ", max=" + maxLimit);
+        }
+        this.name = name;
+        this.algorithm = algorithm;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+
+        logger.info("[{}] 동시성 제한기 생성 - 알고리즘: {}, 시작 상한: {}, 최대: {}",
+                name, algorithm, initialLimit, maxLimit);
+    }
+
+    /**
+     * 요청 하나의 처리 허가 획득 시도
+     *
+     * @return 허가 (완료시 반드시 release/drop/ignore 중 하나 호출), 상한 초과면 null
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.incrementAndGet();
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.incrementAndGet();
+                return new Permit(current + 1);
+            }
+        }
+    }
+
+    /**
+     * 완료된 요청 반영
+     *
+     * @param rttNanos 허가 획득부터 완료까지 걸린 시간
+     * @param inFlightAtStart 허가 획득 직후의 처리 중 요청 수
+     * @param didDrop 과부하로 인한 실패 여부
+     */
+    private synchronized void onSample(long rttNanos, int inFlightAtStart, boolean didDrop) {
+        if (algorithm == Algorithm.AIMD) {
+            updateAimd(rttNanos, inFlightAtStart, didDrop);
+        }
+
+        windowSamples++;
+        windowRttSum += rttNanos;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtStart);
+        windowDropped |= didDrop;
+
+        long now = System.nanoTime();
+        if (now - windowStart < WINDOW_NANOS || windowSamples < MIN_WINDOW_SAMPLES) {
+            return;
+        }
+
+        // 구간 마감 - 평균 RTT로 기준 RTT 갱신 후 (GRADIENT면) 상한 조정
+        double shortRtt = (double) windowRttSum / windowSamples;
+        lastRttMillis = shortRtt / 1_000_000.0;
+
+        if (baselineRttNanos == 0) {
+            baselineRttNanos = shortRtt;
+        } else {
+            baselineRttNanos += BASELINE_ALPHA * (shortRtt - baselineRttNanos);
+            // 과부하가 끝났는데 기준이 높게 남아 있으면 빠르게 내려옴
+            if (baselineRttNanos > shortRtt * 2) {
+                baselineRttNanos *= 0.95;
+            }
+        }
+
+        if (algorithm == Algorithm.GRADIENT) {
+            updateGradient(shortRtt);
+        }
+
+        windowStart = now;
+        windowSamples = 0;
+        windowRttSum = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+        windowBackedOff = false;
+    }
+
+    /*
+     * AIMD - 샘플마다 조정
+     * 감소는 구간당 한 번만 (TCP처럼 한 번의 혼잡에 한 번만 줄임 - 과부하 순간 몰려 오는
+     * 느린 샘플들 때문에 상한이 하한까지 무너지지 않도록)
+     */
+    private void updateAimd(long rttNanos, int inFlightAtStart, boolean didDrop) {
+        boolean slow = baselineRttNanos > 0 && rttNanos > baselineRttNanos * AIMD_LATENCY_FACTOR;
+        if (didDrop || slow) {
+            if (!windowBackedOff) {
+                windowBackedOff = true;
+                setLimit(estimatedLimit * BACKOFF_RATIO);
+            }
+        } else if (inFlightAtStart * 2 >= limit) {
+            // 상한의 절반도 안 쓰고 있으면 늘려도 의미가 없음 (요청이 적을 뿐)
+            // 상한만큼 완료될 때마다 +1 - 샘플마다 +1이면 구간당 한 번의 감소로는 따라잡지 못함
+            setLimit(estimatedLimit + 1.0 / estimatedLimit);
+        }
+    }
+
+    /*
+     * GRADIENT - 구간마다 조정
+     */
+    private void updateGradient(double shortRtt) {
+        // 상한의 절반도 안 쓴 구간은 RTT가 좋아도 상한이 맞다는 근거가 안 됨
+        if (!windowDropped && windowMaxInFlight * 2 < limit) {
+            return;
+        }
+
+        double gradient = windowDropped
+                ? 0.5
+                : Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * baselineRttNanos / shortRtt));
+        double queueAllowance = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueAllowance;
+        setLimit(estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+    }
+
+    private void setLimit(double newLimit) {
+        int oldLimit = limit;
+        estimatedLimit = Math.max(MIN_LIMIT, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+        if (limit != oldLimit) {
+            logger.debug("[{}] 동시성 상한 변경: {} -> {} (기준 RTT: {}ms, 처리 중: {})",
+                    name, oldLimit, limit, String.format("%.2f", baselineRttNanos / 1_000_000.0), inFlight.get());
+        }
+    }
+
+    // === 상태 조회 ===
+
+    public String getName() { return name; }
+    public Algorithm getAlgorithm() { return algorithm; }
+    public int getLimit() { return limit; }
+    public int getMaxLimit() { return maxLimit; }
+    public int getInFlight() { return inFlight.get(); }
+    public long getAcceptedCount() { return accepted.get(); }
+    public long getRejectedCount() { return rejected.get(); }
+    public long getDroppedCount() { return dropped.get(); }
+    public double getLastRttMillis() { return lastRttMillis; }
+
+    public synchronized double getBaselineRttMillis() {
+        return baselineRttNanos / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConcurrencyLimiter{%s, %s, limit=%d/%d, inFlight=%d, accepted=%d, rejected=%d, " +
+                        "dropped=%d, rtt=%.2fms, baseline=%.2fms}",
+                name, algorithm, limit, maxLimit, inFlight.get(), accepted.get(), rejected.get(),
+                dropped.get(), lastRttMillis, getBaselineRttMillis());
+    }
+
+    /**
+     * 처리 허가 - 요청 하나당 하나, 정확히 한 번 반환
+     */
+    public final class Permit {
+        private final long startNanos = System.nanoTime();
+        private final int inFlightAtStart;
+        private final AtomicBoolean completed = new AtomicBoolean(false);
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * 정상 완료 - RTT를 샘플로 반영
+         */
+        public void release() {
+            complete(true, false);
+        }
+
+        /**
+         * 과부하로 인한 실패 - 상한 감소 신호
+         */
+        public void drop() {
+            complete(true, true);
+        }
+
+        /**
+         * 부하와 무관한 종료 - 샘플 없이 반환만
+         */
+        public void ignore() {
+            complete(false, false);
+        }
+
+        /**
+         * 핸들러 결과에 따라 반환
+         *
+         * - 예외: 부하 때문인지 알 수 없으므로 샘플 없이 반환
+         * - 503/504/429: 하위 자원 과부하나 타임아웃 - 드롭
+         * - 그 외 응답: 정상 완료
+         *
+         * @param response 핸들러 응답 (예외면 null)
+         * @param error 핸들러 예외 (정상이면 null)
+         */
+        public void complete(HttpResponse response, Throwable error) {
+            if (error != null || response == null) {
+                ignore();
+                return;
+            }
+            HttpStatus status = response.getStatus();
+            if (status == HttpStatus.SERVICE_UNAVAILABLE || status == HttpStatus.GATEWAY_TIMEOUT
+                    || status == HttpStatus.TOO_MANY_REQUESTS) {
+                drop();
+            } else {
+                release();
+            }
+        }
+
+        private void complete(boolean sample, boolean didDrop) {
+            if (!completed.compareAndSet(false, true)) {
+                return; // 이미 반환됨
+            }
+            inFlight.decrementAndGet();
+            if (didDrop) {
+                dropped.incrementAndGet();
+            }
+            if (sample) {
+                onSample(System.nanoTime() - startNanos, inFlightAtStart, didDrop);
+            }
+        }
+    }
+}
@@ -73,9 +73,9 @@ public abstract class MiniAsyncServlet extends MiniServlet {
                     return CompletableFuture.completedFuture(response.build());
             }
         } catch (Exception e) {
-            // 예외 발생 시 500 에러로 즉시 완료된 Future 반환
+            // 예외 발생 시 500 에러(본문 크기 제한 초과는 413)로 즉시 완료된 Future 반환
             return CompletableFuture.completedFuture(
-                    HttpResponse.internalServerError("Servlet error: " + e.getMessage()));
+                    HttpResponse.forHandlerError(e, "Servlet error: " + e.getMessage()));
         }
     }
 
@@ -2,6 +2,9 @@ package server.core.mini;
 
 // HTTP 관련 클래스들
 import server.core.http.*;
+// I/O 관련 클래스들
+import java.io.IOException;
+import java.io.InputStream;
 // 컬렉션 관련 클래스들
 import java.util.*;
 // 멀티스레드 안전한 HashMap
@@ -32,6 +35,9 @@ public class MiniRequest {
     // ConcurrentHashMap: 멀티스레드 안전한 Map 구현
     private final Map<String, Object> attributes;
 
+    // multipart 파트들 (getParts() 첫 호출시 파싱)
+    private List<MultipartParser.Part> parts;
+
     // 생성자
     public MiniRequest(HttpRequest httpRequest, MiniContext context) {
         // Objects.requireNonNull(): null 체크 후 예외 발생
@@ -240,6 +246,61 @@ public class MiniRequest {
         return httpRequest.getBody();
     }
 
+    /**
+     * 요청 본문을 스트림으로 가져오기
+     * 임시 파일에 스풀된 큰 본문도 힙에 올리지 않고 조금씩 읽을 수 있음
+     */
+    public InputStream getInputStream() throws IOException {
+        return httpRequest.getBodyStream();
+    }
+
+    /**
+     * 실제 요청 본문 길이 (int 범위를 넘는 업로드 지원)
+     */
+    public long getContentLengthLong() {
+        return httpRequest.getBodySize();
+    }
+
+    /**
+     * multipart/form-data 파트 목록 가져오기
+     *
+     * 첫 호출시 본문 스트림을 파싱해서 파트별로 보관 (1MB를 넘는 파트는 임시 파일)
+     * 파트의 임시 파일은 요청 처리가 끝나면 서버가 정리
+     *
+     * @return 파트 목록 (multipart 요청이 아니면 빈 목록)
+     * @throws IOException 본문 형식이 잘못된 경우
+     */
+    public synchronized List<MultipartParser.Part> getParts() throws IOException {
+        if (parts == null) {
+            String boundary = MultipartParser.boundaryOf(getContentType());
+            if (boundary == null) {
+                parts = Collections.emptyList();
+            } else {
+                parts = MultipartParser.parseAll(httpRequest.getBodyStream(), boundary,
+                        BodySpooler.DEFAULT_SPOOL_THRESHOLD, MultipartParser.DEFAULT_MAX_PARTS);
+                // 파트 임시 파일을 요청 수명에 묶음
+                for (MultipartParser.Part part : parts) {
+                    httpRequest.registerBodyResource(part);
+                }
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * 이름으로 multipart 파트 가져오기
+     *
+     * @return 파트, 없으면 null
+     */
+    public MultipartParser.Part getPart(String name) throws IOException {
+        for (MultipartParser.Part part : getParts()) {
+            if (name.equals(part.getName())) {
+                return part;
+            }
+        }
+        return null;
+    }
+
     // === 속성 관리 ===
     // 요청 처리 중에 임시 데이터를 저장하고 공유하는 기능
 
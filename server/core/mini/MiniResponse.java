@@ -5,9 +5,11 @@ import server.core.http.*;
 // I/O 관련 클래스들
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 // 문자 인코딩 관련
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
 // 컬렉션 관련
 import java.util.*;
@@ -36,6 +38,10 @@ public class MiniResponse {
     // ByteArrayOutputStream: 메모리에 바이트 데이터를 쓸 수 있는 스트림
     private final ByteArrayOutputStream bodyStream;
 
+    // 스트리밍 본문 (설정되면 bodyStream 대신 원본 채널에서 조금씩 읽어 전송)
+    // 큰 본문을 메모리에 모으지 않기 위해 사용 - 서버는 버퍼 크기만큼씩만 읽음
+    private StreamingBody streamingBody;
+
     // 텍스트 출력을 위한 Writer
     // PrintWriter: 텍스트 데이터를 편리하게 출력할 수 있는 클래스
     private PrintWriter writer;
@@ -391,6 +397,7 @@ public class MiniResponse {
      * 문자열을 body에 작성
      */
     public void writeBody(String content) {
+        checkNotStreaming();
         if (content != null) {
             try {
                 // 문자열을 지정된 인코딩으로 바이트 배열로 변환하여 스트림에 쓰기
@@ -407,6 +414,7 @@ public class MiniResponse {
      * 바이트 배열을 body에 작성
      */
     public void writeBody(byte[] content) {
+        checkNotStreaming();
         if (content != null) {
             try {
                 // 바이트 배열을 직접 스트림에 쓰기
@@ -417,6 +425,61 @@ public class MiniResponse {
         }
     }
 
+    /**
+     * 길이를 모르는 스트리밍 본문 설정 - Transfer-Encoding: chunked로 전송
+     *
+     * 본문 전체를 메모리에 만들지 않고 서버가 소켓에 보낼 수 있을 때마다 원본에서 읽어 감
+     * 원본은 전송이 끝나거나 연결이 닫히면 서버가 닫음
+     *
+     * @param source 본문 원본 채널 (끝나면 -1 반환)
+     */
+    public void setBodyStream(ReadableByteChannel source) {
+        setBodyStream(new StreamingBody(source));
+    }
+
+    /**
+     * 길이를 아는 스트리밍 본문 설정 - Content-Length로 전송
+     *
+     * @param source 본문 원본 채널
+     * @param length 본문 길이 (바이트)
+     */
+    public void setBodyStream(ReadableByteChannel source, long length) {
+        setBodyStream(new StreamingBody(source, length));
+    }
+
+    /**
+     * InputStream을 스트리밍 본문으로 설정
+     *
+     * @param input 본문 원본 스트림
+     * @param length 본문 길이 (모르면 -1 → chunked)
+     */
+    public void setBodyStream(InputStream input, long length) {
+        setBodyStream(StreamingBody.of(input, length));
+    }
+
+    private void setBodyStream(StreamingBody body) {
+        if (committed) {
+            throw new IllegalStateException("Response already committed");
+        }
+        // 이미 모아 둔 본문은 버림 - 스트리밍 본문만 전송
+        clearBody();
+        this.streamingBody = body;
+    }
+
+    /**
+     * 스트리밍 본문이 설정되어 있는지 확인
+     */
+    public boolean isStreaming() {
+        return streamingBody != null;
+    }
+
+    // 스트리밍 본문 뒤에 바이트를 덧붙이면 Content-Length/청크 형식이 깨지므로 금지
+    private void checkNotStreaming() {
+        if (streamingBody != null) {
+            throw new IllegalStateException("Body stream already set");
+        }
+    }
+
     /**
      * Body 내용 가져오기
      */
@@ -457,6 +520,7 @@ public class MiniResponse {
         // 스트림 내용 초기화
         // reset(): ByteArrayOutputStream의 내용을 지우고 크기를 0으로 만듦
         bodyStream.reset();
+        streamingBody = null;
 
         // PrintWriter도 초기화
         if (writer != null) {
@@ -473,7 +537,8 @@ public class MiniResponse {
     public void commit() {
         if (!committed) {
             // Content-Length 헤더가 없으면 자동으로 설정
-            if (!headers.contains("Content-Length")) {
+            // (스트리밍 본문은 build()에서 길이에 맞춰 Content-Length 또는 chunked로 설정)
+            if (streamingBody == null && !headers.contains("Content-Length")) {
                 headers.setContentLength(bodyStream.size());
             }
 
@@ -552,6 +617,11 @@ public class MiniResponse {
         // 응답 완료 처리
         commit();
 
+        if (streamingBody != null) {
+            // 본문을 모으지 않고 원본 채널을 그대로 넘김
+            return new HttpResponse(status, headers, null).setStreamingBody(streamingBody);
+        }
+
         // HttpResponse 생성자를 통해 최종 응답 객체 생성
         return new HttpResponse(status, headers, getBodyBytes());
     }
@@ -167,9 +167,18 @@ public class Route {
             return null;
         }
 
-        // 2. URL 경로 추출 및 패턴 매칭
-        String path = request.getPath();
+        // 2. URL 경로 패턴 매칭
+        return matchPath(request.getPath());
+    }
 
+    /**
+     * 경로만으로 매치 확인 (메서드는 검사하지 않음)
+     * RouteTree가 트리로 표현할 수 없는 패턴을 검사할 때 사용
+     *
+     * @param path 요청 경로
+     * @return 매치 결과 (매치되지 않으면 null)
+     */
+    RouteMatchResult matchPath(String path) {
         // Matcher: 정규표현식 패턴을 특정 문자열에 적용하는 객체
         Matcher matcher = compiledPattern.matcher(path);
 
@@ -193,6 +202,16 @@ public class Route {
         return new RouteMatchResult(this, pathParams);
     }
 
+    /**
+     * 경로가 패턴과 매치되는지만 확인 (405 판단용)
+     *
+     * @param path 요청 경로
+     * @return 매치되면 true
+     */
+    boolean matchesPath(String path) {
+        return compiledPattern.matcher(path).matches();
+    }
+
     // === Getter 메서드들 ===
 
     /**
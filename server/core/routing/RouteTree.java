@@ -0,0 +1,458 @@
+package server.core.routing;
+
+// HTTP 메서드
+import server.core.http.HttpMethod;
+// 컬렉션 관련 클래스들
+import java.util.*;
+// 파라미터 제약 조건용 정규표현식
+import java.util.regex.Pattern;
+
+/**
+ * 경로 세그먼트 기반 라우트 트리 (Radix Tree)
+ *
+ * 역할:
+ * - 라우트 패턴을 '/' 단위 세그먼트로 나누어 트리에 저장
+ * - 요청 경로를 한 번 훑으면서 매칭 라우트와 405 판단에 필요한 허용 메서드를 함께 계산
+ * - 경로 파라미터는 위치(시작/끝 인덱스)만 기록하고 매치가 확정된 뒤에만 문자열로 추출
+ *
+ * 노드 구성:
+ * - 정적 자식: "users", "api" 같은 고정 세그먼트
+ * - 파라미터 자식: {id} 또는 {id:\\d+} (제약 조건이 있는 파라미터를 먼저 검사)
+ * - 와일드카드 자식: 마지막 세그먼트의 * (나머지 경로 전체와 매치)
+ * - 메서드 테이블: 이 노드에서 끝나는 라우트들 (HTTP 메서드별)
+ *
+ * 매칭 규칙:
+ * - 우선순위가 높은 라우트가 먼저 선택됨 (기존 Router와 동일)
+ * - 같은 우선순위라면 더 구체적인 라우트가 선택됨 (정적 > 제약 파라미터 > 파라미터 > 와일드카드)
+ * - 서브트리의 최대 우선순위를 노드에 저장해서, 이미 찾은 매치보다 나을 수 없는 가지는 건너뜀
+ *
+ * 트리로 표현할 수 없는 패턴("/files/{name}.txt", "/assets/*.css" 등)은
+ * 기존 정규식 방식(Route.matchPath)으로 따로 검사함
+ *
+ * 스레드 안전성:
+ * - 라우트 등록은 서버 시작 전에 끝나는 것을 전제로 함 (기존 Router와 동일)
+ * - 조회는 여러 스레드에서 동시에 수행 가능 (조회 상태는 Lookup 객체에만 저장)
+ */
+class RouteTree {
+
+    // 트리 루트 - 경로의 첫 '/' 다음 위치에 대응
+    private final Node root = new Node(null);
+
+    // 트리로 표현할 수 없는 패턴의 라우트들 (등록 순서 유지)
+    private final List<Route> fallbackRoutes = new ArrayList<>();
+
+    // 등록된 패턴 중 가장 많은 파라미터 수 - 조회시 캡처 배열 크기
+    private int maxParams = 0;
+
+    /**
+     * 라우트 추가
+     *
+     * @param route 추가할 라우트
+     */
+    void add(Route route) {
+        String pattern = route.getPattern();
+
+        // "*" 단독 패턴은 모든 경로와 매치 - 루트의 와일드카드로 저장
+        if (pattern.equals("*")) {
+            insertEntry(root, wildcardOf(root), new Entry(route, new String[0]));
+            return;
+        }
+
+        // '/'로 시작하지 않는 패턴은 세그먼트로 나눌 수 없으므로 정규식으로 처리
+        if (!pattern.startsWith("/")) {
+            fallbackRoutes.add(route);
+            return;
+        }
+
+        // 선행 '/' 제거 후 세그먼트 분리 (빈 세그먼트 유지: "/users/"와 "/users"는 다른 경로)
+        String[] segments = pattern.substring(1).split("/", -1);
+
+        // 트리로 표현 가능한지 먼저 확인 (표현 불가능하면 트리를 건드리지 않음)
+        for (int i = 0; i < segments.length; i++) {
+            if (classify(segments[i], i == segments.length - 1) == SegmentType.COMPLEX) {
+                fallbackRoutes.add(route);
+                return;
+            }
+        }
+
+        List<String> paramNames = new ArrayList<>();
+        Node node = root;
+        List<Node> path = new ArrayList<>();
+
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            path.add(node);
+
+            switch (classify(segment, i == segments.length - 1)) {
+                case STATIC:
+                    node = node.staticChild(segment);
+                    break;
+
+                case PARAM: {
+                    // {name} 또는 {name:regex}
+                    String body = segment.substring(1, segment.length() - 1);
+                    int colonIndex = body.indexOf(':');
+                    String name = colonIndex != -1 ? body.substring(0, colonIndex) : body;
+                    String constraint = colonIndex != -1 ? body.substring(colonIndex + 1) : null;
+                    paramNames.add(name);
+                    node = node.paramChild(constraint);
+                    break;
+                }
+
+                case WILDCARD:
+                    node = wildcardOf(node);
+                    break;
+
+                default:
+                    throw new IllegalStateException("Unexpected segment: " + segment);
+            }
+        }
+
+        maxParams = Math.max(maxParams, paramNames.size());
+
+        // 경로상의 모든 조상 노드에 최대 우선순위 반영
+        Entry entry = new Entry(route, paramNames.toArray(new String[0]));
+        for (Node ancestor : path) {
+            ancestor.maxPriority = Math.max(ancestor.maxPriority, route.getPriority());
+        }
+        insertEntry(node, node, entry);
+    }
+
+    /**
+     * 노드의 와일드카드 자식 반환 (없으면 생성)
+     */
+    private Node wildcardOf(Node node) {
+        if (node.wildcardChild == null) {
+            node.wildcardChild = new Node("*");
+        }
+        return node.wildcardChild;
+    }
+
+    /**
+     * 노드의 메서드 테이블에 라우트 저장
+     * 같은 메서드가 이미 있으면 우선순위가 더 높을 때만 교체 (같으면 먼저 등록된 것 유지)
+     */
+    private void insertEntry(Node parent, Node node, Entry entry) {
+        HttpMethod method = entry.route.getMethod();
+        Entry existing = node.methods.get(method);
+        if (existing == null || entry.route.getPriority() > existing.route.getPriority()) {
+            node.methods.put(method, entry);
+        }
+        node.maxPriority = Math.max(node.maxPriority, entry.route.getPriority());
+        parent.maxPriority = Math.max(parent.maxPriority, entry.route.getPriority());
+    }
+
+    /**
+     * 세그먼트 종류 판별
+     *
+     * @param segment 패턴 세그먼트
+     * @param last 마지막 세그먼트 여부 (와일드카드는 마지막에만 허용)
+     */
+    private static SegmentType classify(String segment, boolean last) {
+        if (segment.equals("*")) {
+            return last ? SegmentType.WILDCARD : SegmentType.COMPLEX;
+        }
+
+        boolean hasBrace = segment.indexOf('{') != -1 || segment.indexOf('}') != -1;
+        if (!hasBrace) {
+            // 세그먼트 중간의 *는 정규식의 .*와 같으므로 트리로 표현 불가
+            return segment.indexOf('*') == -1 ? SegmentType.STATIC : SegmentType.COMPLEX;
+        }
+
+        // 세그먼트 전체가 {...} 하나인 경우만 파라미터 노드로 표현
+        // ("v{version}", "{name}.txt", "{x:[a-z]{2}}"처럼 섞인 형태는 정규식으로 처리)
+        if (segment.length() > 2
+                && segment.charAt(0) == '{'
+                && segment.indexOf('}') == segment.length() - 1
+                && segment.indexOf('{', 1) == -1) {
+            return SegmentType.PARAM;
+        }
+        return SegmentType.COMPLEX;
+    }
+
+    /**
+     * 경로 조회
+     *
+     * @param method 요청 HTTP 메서드
+     * @param path 요청 경로 (쿼리 문자열 제외)
+     * @return 조회 결과 (매치 또는 허용 메서드 목록)
+     */
+    Lookup find(HttpMethod method, String path) {
+        Lookup lookup = new Lookup(method, path, maxParams);
+
+        if (path.startsWith("/")) {
+            lookup.walk(root, 1, 0);
+        } else if (root.wildcardChild != null) {
+            // '/'로 시작하지 않는 경로(예: OPTIONS *)는 "*" 패턴만 매치 가능
+            lookup.visitTerminal(root.wildcardChild, 0);
+        }
+
+        // 정규식 라우트는 트리 결과보다 우선순위가 높을 때만 선택
+        for (Route route : fallbackRoutes) {
+            if (lookup.bestEntry != null && route.getPriority() <= lookup.bestEntry.route.getPriority()) {
+                continue;
+            }
+            if (lookup.fallbackMatch != null && route.getPriority() <= lookup.fallbackMatch.getRoute().getPriority()) {
+                continue;
+            }
+
+            if (route.getMethod() == method) {
+                RouteMatchResult result = route.matchPath(path);
+                if (result != null) {
+                    lookup.fallbackMatch = result;
+                }
+            } else if (lookup.bestEntry == null && lookup.fallbackMatch == null && route.matchesPath(path)) {
+                lookup.allow(route.getMethod());
+            }
+        }
+
+        return lookup;
+    }
+
+    /**
+     * 세그먼트 종류
+     */
+    private enum SegmentType {
+        STATIC,     // 고정 문자열
+        PARAM,      // {name} 또는 {name:regex}
+        WILDCARD,   // 마지막 세그먼트의 *
+        COMPLEX     // 트리로 표현 불가 - 정규식으로 처리
+    }
+
+    /**
+     * 트리 노드
+     */
+    private static class Node {
+        // 정적 세그먼트 라벨 (파라미터/와일드카드 노드는 null 또는 "*")
+        final String label;
+
+        // 파라미터 제약 조건 (제약이 없으면 null)
+        String constraintSource;
+        Pattern constraint;
+
+        // 자식 노드들 - 라우트 수가 적으므로 배열 순회가 해시 조회보다 빠르고 할당이 없음
+        Node[] staticChildren = new Node[0];
+        Node[] paramChildren = new Node[0];   // 제약 있는 파라미터가 앞쪽
+        Node wildcardChild;
+
+        // 이 노드에서 끝나는 라우트들
+        final EnumMap<HttpMethod, Entry> methods = new EnumMap<>(HttpMethod.class);
+
+        // 이 노드와 모든 자손의 라우트 중 최대 우선순위
+        int maxPriority = Integer.MIN_VALUE;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node staticChild(String segment) {
+            for (Node child : staticChildren) {
+                if (child.label.equals(segment)) {
+                    return child;
+                }
+            }
+            Node child = new Node(segment);
+            staticChildren = Arrays.copyOf(staticChildren, staticChildren.length + 1);
+            staticChildren[staticChildren.length - 1] = child;
+            return child;
+        }
+
+        Node paramChild(String constraintSource) {
+            for (Node child : paramChildren) {
+                if (Objects.equals(child.constraintSource, constraintSource)) {
+                    return child;
+                }
+            }
+            Node child = new Node(null);
+            child.constraintSource = constraintSource;
+            child.constraint = constraintSource != null ? Pattern.compile(constraintSource) : null;
+
+            // 제약 있는 파라미터를 제약 없는 파라미터보다 앞에 배치
+            Node[] expanded = new Node[paramChildren.length + 1];
+            int index = 0;
+            if (child.constraint != null) {
+                expanded[index++] = child;
+            }
+            for (Node existing : paramChildren) {
+                expanded[index++] = existing;
+            }
+            if (child.constraint == null) {
+                expanded[index] = child;
+            }
+            paramChildren = expanded;
+            return child;
+        }
+    }
+
+    /**
+     * 노드에 저장된 라우트와 파라미터 이름
+     */
+    private static class Entry {
+        final Route route;
+        final String[] paramNames;  // 경로상 파라미터 이름 (나타나는 순서)
+
+        Entry(Route route, String[] paramNames) {
+            this.route = route;
+            this.paramNames = paramNames;
+        }
+    }
+
+    /**
+     * 한 번의 조회 상태와 결과
+     *
+     * 조회마다 새로 만들어지므로 트리 자체는 공유해도 안전함
+     */
+    static class Lookup {
+        private final HttpMethod method;
+        private final String path;
+
+        // 현재 탐색 중인 가지의 파라미터 위치 (시작, 끝)
+        private final int[] captureStart;
+        private final int[] captureEnd;
+
+        // 지금까지 찾은 최선의 트리 매치와 그때의 파라미터 위치
+        private Entry bestEntry;
+        private int[] bestStart;
+        private int[] bestEnd;
+
+        // 정규식 라우트에서 찾은 매치
+        private RouteMatchResult fallbackMatch;
+
+        // 경로는 매치되지만 메서드가 다른 라우트들의 메서드 (405 판단용)
+        private EnumSet<HttpMethod> allowedMethods;
+
+        Lookup(HttpMethod method, String path, int maxParams) {
+            this.method = method;
+            this.path = path;
+            this.captureStart = new int[maxParams];
+            this.captureEnd = new int[maxParams];
+        }
+
+        /**
+         * 노드에서 다음 세그먼트 매칭
+         *
+         * @param node 현재 노드
+         * @param pos 다음 세그먼트 시작 위치 (-1이면 경로를 모두 소비함)
+         * @param captured 지금까지 캡처한 파라미터 수
+         */
+        void walk(Node node, int pos, int captured) {
+            // 이미 찾은 매치보다 높은 우선순위가 이 서브트리에 없으면 탐색 생략
+            if (bestEntry != null && node.maxPriority <= bestEntry.route.getPriority()) {
+                return;
+            }
+
+            if (pos < 0) {
+                visitTerminal(node, captured);
+                return;
+            }
+
+            int length = path.length();
+            int end = path.indexOf('/', pos);
+            if (end < 0) {
+                end = length;
+            }
+            int next = end < length ? end + 1 : -1;
+            int segmentLength = end - pos;
+
+            // 1. 정적 세그먼트 - 길이 비교 후 regionMatches로 문자열 할당 없이 비교
+            for (Node child : node.staticChildren) {
+                if (child.label.length() == segmentLength
+                        && path.regionMatches(pos, child.label, 0, segmentLength)) {
+                    walk(child, next, captured);
+                }
+            }
+
+            // 2. 파라미터 - 빈 세그먼트는 매치하지 않음 (기존 [^/]+ 동작과 동일)
+            if (segmentLength > 0) {
+                for (Node child : node.paramChildren) {
+                    if (child.constraint != null
+                            && !child.constraint.matcher(path).region(pos, end).matches()) {
+                        continue;
+                    }
+                    captureStart[captured] = pos;
+                    captureEnd[captured] = end;
+                    walk(child, next, captured + 1);
+                }
+            }
+
+            // 3. 와일드카드 - 현재 위치부터 경로 끝까지 전부 매치
+            if (node.wildcardChild != null) {
+                Node wildcard = node.wildcardChild;
+                if (bestEntry == null || wildcard.maxPriority > bestEntry.route.getPriority()) {
+                    visitTerminal(wildcard, captured);
+                }
+            }
+        }
+
+        /**
+         * 경로가 끝나는 노드에서 메서드 확인
+         */
+        void visitTerminal(Node node, int captured) {
+            if (node.methods.isEmpty()) {
+                return;
+            }
+
+            Entry entry = node.methods.get(method);
+            if (entry == null) {
+                // 경로는 있지만 메서드가 없음 - 405 후보
+                if (bestEntry == null) {
+                    for (HttpMethod allowed : node.methods.keySet()) {
+                        allow(allowed);
+                    }
+                }
+                return;
+            }
+
+            if (bestEntry == null || entry.route.getPriority() > bestEntry.route.getPriority()) {
+                bestEntry = entry;
+                bestStart = Arrays.copyOf(captureStart, captured);
+                bestEnd = Arrays.copyOf(captureEnd, captured);
+            }
+        }
+
+        void allow(HttpMethod allowed) {
+            if (allowedMethods == null) {
+                allowedMethods = EnumSet.noneOf(HttpMethod.class);
+            }
+            allowedMethods.add(allowed);
+        }
+
+        /**
+         * 매치 결과 반환
+         *
+         * @return 매치된 라우트와 파라미터, 없으면 null
+         */
+        RouteMatchResult getMatch() {
+            if (fallbackMatch != null) {
+                return fallbackMatch;
+            }
+            if (bestEntry == null) {
+                return null;
+            }
+
+            String[] names = bestEntry.paramNames;
+            if (names.length == 0) {
+                return new RouteMatchResult(bestEntry.route, Collections.emptyMap());
+            }
+
+            // 매치가 확정된 뒤에만 파라미터 문자열 생성
+            Map<String, String> params = new HashMap<>();
+            for (int i = 0; i < names.length && i < bestStart.length; i++) {
+                params.put(names[i], path.substring(bestStart[i], bestEnd[i]));
+            }
+            return new RouteMatchResult(bestEntry.route, params);
+        }
+
+        /**
+         * 같은 경로에서 허용되는 메서드들 (매치가 없을 때만 의미 있음)
+         *
+         * @return 허용 메서드 집합, 경로 자체가 없으면 빈 집합
+         */
+        Set<HttpMethod> getAllowedMethods() {
+            if (allowedMethods == null) {
+                return Collections.emptySet();
+            }
+            return allowedMethods;
+        }
+    }
+}
@@ -18,7 +18,7 @@ import java.util.concurrent.CompletableFuture;
  * - 404, 405 에러 자동 처리
  *
  * 특징:
- * - 정규표현식 기반 패턴 매칭
+ * - 세그먼트 트리(RouteTree) 기반 패턴 매칭 - 경로 길이에 비례하는 조회 비용
  * - 경로 파라미터 추출 ({id}, {name:\\w+} 등)
  * - 와일드카드 지원 (*)
  * - 비동기 처리 (CompletableFuture 기반)
@@ -28,19 +28,16 @@ public class Router {
 
     // 등록된 모든 라우트들을 저장하는 리스트
     // 우선순위 순서로 정렬되어 저장됨 (높은 우선순위가 먼저)
+    // 조회에는 사용하지 않고 getRoutes(), printRoutes() 등 정보 조회용으로만 유지
     private final List<Route> routes;
 
+    // 실제 매칭에 사용하는 라우트 트리
+    // 한 번의 탐색으로 매치 라우트, 경로 파라미터, 405용 허용 메서드를 모두 계산
+    private final RouteTree routeTree;
+
     // 404 Not Found 처리를 위한 기본 핸들러
     private final RouteHandler notFoundHandler;
 
-    // 405 Method Not Allowed 처리를 위한 기본 핸들러
-    private final RouteHandler methodNotAllowedHandler;
-
-    // 경로별 허용 메서드 추적 맵
-    // Key: 경로 패턴, Value: 해당 경로에서 지원하는 HTTP 메서드들
-    // 405 에러 시 Allow 헤더 생성에 사용
-    private final Map<String, Set<HttpMethod>> pathMethods; // 경로별 허용 메서드 추적
-
     /**
      * 라우터 생성자
      * 기본 에러 핸들러들과 자료구조들을 초기화
@@ -49,37 +46,13 @@ public class Router {
         // 라우트 목록 초기화
         this.routes = new ArrayList<>();
 
-        // 경로별 메서드 추적 맵 초기화
-        this.pathMethods = new HashMap<>();
+        // 라우트 트리 초기화
+        this.routeTree = new RouteTree();
 
         // 404 Not Found 기본 핸들러
         // 매치되는 라우트가 없을 때 사용
         this.notFoundHandler = request ->
                 CompletableFuture.completedFuture(HttpResponse.notFound());
-
-        // 405 Method Not Allowed 기본 핸들러
-        // 같은 경로에 다른 메서드가 있을 때 사용
-        this.methodNotAllowedHandler = request -> {
-            String path = request.getPath();
-
-            // 해당 경로에서 지원하는 메서드들 확인
-            Set<HttpMethod> allowedMethods = pathMethods.get(path);
-            if (allowedMethods != null && !allowedMethods.isEmpty()) {
-                // 지원하는 메서드들을 문자열로 변환
-                // stream().map(): 각 HttpMethod를 문자열로 변환
-                // toArray(): 배열로 변환
-                // String.join(): 쉼표로 구분하여 합치기
-                String methods = String.join(", ",
-                        allowedMethods.stream().map(HttpMethod::toString).toArray(String[]::new));
-
-                // Allow 헤더와 함께 405 응답 반환
-                return CompletableFuture.completedFuture(
-                        HttpResponse.methodNotAllowed(methods));
-            }
-
-            // 허용 메서드가 없으면 404로 처리
-            return CompletableFuture.completedFuture(HttpResponse.notFound());
-        };
     }
 
     // === 라우트 등록 메서드 ===
@@ -196,12 +169,38 @@ public class Router {
         // r2.getPriority() - r1.getPriority(): 내림차순 정렬 (높은 값이 먼저)
         routes.sort((r1, r2) -> Integer.compare(r2.getPriority(), r1.getPriority()));
 
-        // 경로별 메서드 추적 정보 업데이트
-        updatePathMethods(pattern, method);
+        // 라우트 트리에 추가
+        routeTree.add(route);
 
         return this;
     }
 
+    /**
+     * 라우트 전용 미들웨어와 함께 라우트 등록
+     *
+     * 미들웨어는 등록 시점에 핸들러와 합쳐지므로 요청 처리 중에는 추가 비용이 없음
+     * 실행 순서: 글로벌 미들웨어 -> 라우트 미들웨어(나열 순서) -> 핸들러
+     *
+     * @param method HTTP 메서드
+     * @param pattern URL 패턴
+     * @param handler 요청 처리 핸들러
+     * @param priority 우선순위 (높을수록 먼저 매칭)
+     * @param routeMiddlewares 이 라우트에만 적용할 미들웨어들
+     * @return 메서드 체이닝을 위한 this 객체
+     *
+     * 사용 예시:
+     * router.addRoute(HttpMethod.DELETE, "/users/{id}", deleteHandler, 0, authMiddleware);
+     */
+    public Router addRoute(HttpMethod method, String pattern, RouteHandler handler, int priority,
+                           Middleware... routeMiddlewares) {
+        if (routeMiddlewares.length == 0) {
+            return addRoute(method, pattern, handler, priority);
+        }
+
+        NextHandler composed = compose(Arrays.asList(routeMiddlewares), handler::handle);
+        return addRoute(method, pattern, composed::handle, priority);
+    }
+
     /**
      * RESTful 리소스 라우트 등록
      * 하나의 ResourceHandler로 전체 CRUD API를 자동 생성
@@ -265,12 +264,13 @@ public class Router {
      * @return 비동기 HTTP 응답
      */
     public CompletableFuture<HttpResponse> route(HttpRequest request) {
-        // 1. 매칭되는 라우트 찾기
-        RouteMatchResult matchResult = findMatchingRoute(request);
+        // 1. 라우트 트리 탐색 - 매치 결과와 허용 메서드를 한 번에 계산
+        RouteTree.Lookup lookup = routeTree.find(request.getMethod(), request.getPath());
+        RouteMatchResult matchResult = lookup.getMatch();
 
         if (matchResult == null) {
             // 매칭되는 라우트가 없으면 404 또는 405 처리
-            return handleNotFound(request);
+            return handleNotFound(request, lookup.getAllowedMethods());
         }
 
         // 2. 경로 파라미터를 요청에 설정
@@ -279,84 +279,62 @@ public class Router {
 
         try {
             // 3. 매칭된 핸들러 실행
-            return matchResult.getRoute().getHandler().handle(request)
+            CompletableFuture<HttpResponse> future = matchResult.getRoute().getHandler().handle(request);
+
+            // 동기 빠른 경로: 이미 정상 완료된 Future는 그대로 반환
+            // (동기 핸들러, 캐시 응답 등 - exceptionally() 단계 객체를 만들 필요 없음)
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                return future;
+            }
+
+            return future
                     // exceptionally(): 예외 발생 시 대체 결과 제공
                     .exceptionally(throwable -> {
-                        // 핸들러에서 예외 발생시 500 에러 반환
-                        return HttpResponse.internalServerError("Handler error: " + throwable.getMessage());
+                        // 핸들러에서 예외 발생시 500 에러 반환 (본문 크기 초과는 413)
+                        return handlerErrorResponse(throwable, "Handler error: ");
                     });
         } catch (Exception e) {
             // 핸들러 호출 자체에서 예외 발생 시
-            return CompletableFuture.completedFuture(
-                    HttpResponse.internalServerError("Route processing error: " + e.getMessage()));
+            return CompletableFuture.completedFuture(handlerErrorResponse(e, "Route processing error: "));
         }
     }
 
     /**
-     * 매칭되는 라우트 찾기
-     * 등록된 모든 라우트를 우선순위 순으로 검사
-     *
-     * @param request HTTP 요청 객체
-     * @return 매칭 결과 (없으면 null)
+     * 핸들러 예외를 응답으로 변환 (본문 크기 제한 초과는 413)
      */
-    private RouteMatchResult findMatchingRoute(HttpRequest request) {
-        // 우선순위 순으로 정렬된 라우트들을 순회
-        for (Route route : routes) {
-            // 각 라우트와 매칭 시도
-            RouteMatchResult result = route.match(request);
-            if (result != null) {
-                // 첫 번째로 매칭되는 라우트 반환 (우선순위가 높은 것부터 검사)
-                return result;
-            }
-        }
-        // 매칭되는 라우트가 없으면 null 반환
-        return null;
+    private HttpResponse handlerErrorResponse(Throwable throwable, String prefix) {
+        return HttpResponse.forHandlerError(throwable, prefix + throwable.getMessage());
     }
 
     /**
      * 404 Not Found 처리
      * 매칭되는 라우트가 없을 때 호출됨
      *
+     * 같은 경로에 다른 메서드의 라우트가 있으면 405 Method Not Allowed
+     * 허용 메서드는 트리 탐색 중에 함께 수집되므로 라우트를 다시 검사하지 않음
+     *
      * @param request HTTP 요청 객체
+     * @param allowedMethods 같은 경로에서 허용되는 메서드들
      * @return 404 또는 405 응답
      */
-    private CompletableFuture<HttpResponse> handleNotFound(HttpRequest request) {
-        // 같은 경로에 다른 메서드가 있는지 확인
-        String path = request.getPath();
-
-        // 모든 라우트를 검사하여 같은 경로에 다른 메서드가 있는지 확인
-        for (Route route : routes) {
-            // 임시 GET 요청을 만들어서 경로만 확인
-            // 실제 메서드는 다르지만 경로 패턴이 같은지 검사
-            HttpRequest tempRequest = new HttpRequest(HttpMethod.GET, path, "HTTP/1.1",
-                    new HttpHeaders(), new byte[0]);
-
-            if (route.match(tempRequest) != null) {
-                // 같은 경로에 다른 메서드가 있으면 405 Method Not Allowed
-                return methodNotAllowedHandler.handle(request);
+    private CompletableFuture<HttpResponse> handleNotFound(HttpRequest request,
+                                                           Set<HttpMethod> allowedMethods) {
+        if (!allowedMethods.isEmpty()) {
+            // 지원하는 메서드들을 쉼표로 구분하여 Allow 헤더 값 생성
+            StringJoiner methods = new StringJoiner(", ");
+            for (HttpMethod method : allowedMethods) {
+                methods.add(method.toString());
             }
+
+            // Allow 헤더와 함께 405 응답 반환
+            return CompletableFuture.completedFuture(
+                    HttpResponse.methodNotAllowed(methods.toString()));
         }
 
         // 같은 경로에 다른 메서드도 없으면 404 Not Found
         return notFoundHandler.handle(request);
     }
 
-    /**
-     * 경로별 허용 메서드 업데이트
-     * 405 에러 시 Allow 헤더 생성을 위한 정보 관리
-     *
-     * @param pattern URL 패턴
-     * @param method HTTP 메서드
-     */
-    private void updatePathMethods(String pattern, HttpMethod method) {
-        // 단순한 패턴만 추적 (파라미터나 와일드카드가 없는 경우)
-        // 복잡한 패턴은 성능상 이유로 추적하지 않음
-        if (!pattern.contains("{") && !pattern.contains("*")) {
-            // computeIfAbsent(): 키가 없으면 새 Set 생성, 있으면 기존 Set 반환
-            pathMethods.computeIfAbsent(pattern, k -> new HashSet<>()).add(method);
-        }
-    }
-
     // === 미들웨어 지원 ===
 
     /**
@@ -403,6 +381,17 @@ public class Router {
      */
     private final List<Middleware> middlewares = new ArrayList<>();
 
+    /**
+     * 미리 조립된 미들웨어 파이프라인
+     *
+     * middleware[0] -> middleware[1] -> ... -> route() 순서의 NextHandler 체인을
+     * use() 호출 시점에 한 번만 만들어 둠
+     * 요청마다 NextHandler 람다를 새로 만들지 않으므로 미들웨어 수와 무관하게 체인 자체의 할당이 없음
+     *
+     * volatile: 서버 실행 중 use()가 호출되어도 요청 스레드가 완성된 파이프라인만 보도록 함
+     */
+    private volatile NextHandler pipeline = this::route;
+
     /**
      * 미들웨어 추가
      * 등록된 순서대로 실행됨
@@ -422,51 +411,43 @@ public class Router {
      *     });
      * });
      */
-    public Router use(Middleware middleware) {
-        middlewares.add(middleware);
+    public synchronized Router use(Middleware middleware) {
+        middlewares.add(Objects.requireNonNull(middleware));
+
+        // 미들웨어 목록이 바뀔 때만 파이프라인 재조립
+        pipeline = compose(middlewares, this::route);
         return this;
     }
 
     /**
      * 미들웨어를 적용한 라우팅
-     * 미들웨어 체인을 거쳐서 최종적으로 라우팅 수행
+     * 미리 조립된 파이프라인을 거쳐서 최종적으로 라우팅 수행
      *
      * @param request HTTP 요청
      * @return 비동기 HTTP 응답
      */
     public CompletableFuture<HttpResponse> routeWithMiddlewares(HttpRequest request) {
-        // 미들웨어 체인 실행 (0번 인덱스부터 시작)
-        // 최종 핸들러는 this::route (일반 라우팅 메서드)
-        return executeMiddlewares(request, 0, this::route);
+        return pipeline.handle(request);
     }
 
     /**
-     * 미들웨어 체인 실행
-     * 재귀적으로 미들웨어들을 순서대로 실행
+     * 미들웨어 목록을 하나의 NextHandler로 조립
      *
-     * @param request HTTP 요청
-     * @param index 현재 실행할 미들웨어 인덱스
-     * @param finalHandler 모든 미들웨어 실행 후 최종 핸들러
-     * @return 비동기 HTTP 응답
+     * 뒤에서부터 감싸서 middlewares[0]이 가장 바깥에 오도록 함
+     * 각 단계의 next는 조립 시점에 고정되므로 실행 중에는 리스트 조회나 인덱스 계산이 없음
+     *
+     * @param chain 적용할 미들웨어들 (등록 순서)
+     * @param terminal 모든 미들웨어 다음에 실행할 최종 단계
+     * @return 조립된 파이프라인
      */
-    private CompletableFuture<HttpResponse> executeMiddlewares(HttpRequest request,
-                                                               int index,
-                                                               NextHandler finalHandler) {
-        // 모든 미들웨어를 실행했으면 최종 핸들러 실행
-        if (index >= middlewares.size()) {
-            return finalHandler.handle(request);
+    static NextHandler compose(List<Middleware> chain, NextHandler terminal) {
+        NextHandler next = terminal;
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            Middleware middleware = chain.get(i);
+            NextHandler downstream = next;
+            next = request -> middleware.handle(request, downstream);
         }
-
-        // 현재 미들웨어 가져오기
-        Middleware middleware = middlewares.get(index);
-
-        // 다음 단계를 위한 NextHandler 생성
-        // 람다 표현식: req -> executeMiddlewares(req, index + 1, finalHandler)
-        // 다음 미들웨어 또는 최종 핸들러를 호출하는 함수
-        NextHandler next = req -> executeMiddlewares(req, index + 1, finalHandler);
-
-        // 현재 미들웨어 실행
-        return middleware.handle(request, next);
+        return next;
     }
 
     // === 정보 조회 ===
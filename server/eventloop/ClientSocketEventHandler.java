@@ -1,5 +1,7 @@
 package server.eventloop;
 
+import server.core.buffer.PooledBuffer;
+
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
@@ -37,6 +39,22 @@ public interface ClientSocketEventHandler {
      */
     void onRead(EventLoop eventLoop, SocketChannel channel, ByteBuffer buffer) throws IOException;
 
+    /**
+     * 풀 버퍼로 읽기 이벤트 처리
+     *
+     * EventLoop는 이 메서드를 호출하고, 반환 직후 자신의 참조를 release() 함
+     * 버퍼를 복사 없이 보관하려는 구현체는 이 메서드를 재정의하고 retain()을 호출해야 함
+     * 기본 구현은 기존 ByteBuffer 버전으로 위임 (호출 동안만 유효한 버퍼로 취급)
+     *
+     * @param eventLoop 이벤트루프 인스턴스
+     * @param channel 클라이언트 채널
+     * @param buffer 읽은 데이터가 담긴 풀 버퍼 - flip() 호출된 상태로 전달됨
+     * @throws IOException I/O 오류 발생시
+     */
+    default void onRead(EventLoop eventLoop, SocketChannel channel, PooledBuffer buffer) throws IOException {
+        onRead(eventLoop, channel, buffer.buffer());
+    }
+
     /**
      * 클라이언트로 데이터 쓰기 이벤트 처리
      *
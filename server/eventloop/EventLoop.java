@@ -1,14 +1,23 @@
 package server.eventloop;
 
+import server.core.buffer.BufferPool;
+import server.core.buffer.PooledBuffer;
 import server.core.logging.Logger;
 import server.core.logging.LoggerFactory;
 
 import java.nio.channels.*;
 import java.nio.ByteBuffer;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.io.IOException;
 
@@ -27,6 +36,25 @@ public class EventLoop {
     // Logger 인스턴스 - 이벤트루프 동작 상황 추적용
     private static final Logger logger = LoggerFactory.getLogger(EventLoop.class);
 
+    // 읽기 버퍼 크기 - 8192는 일반적인 네트워크 I/O 버퍼 크기
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    // 기본 작업 큐 크기 - 가득 차면 다른 스레드의 execute()는 자리가 날 때까지 대기
+    public static final int DEFAULT_TASK_QUEUE_CAPACITY = 65536;
+
+    // 큐가 가득 찼을 때 제출자 대기 간격 - 처음엔 짧게, 자리가 안 나면 최대값까지 두 배씩 늘림
+    private static final long QUEUE_FULL_MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long QUEUE_FULL_MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    // 큐가 가득 찬 채로 이 시간 동안 자리가 안 나면 제출을 거부 (루프가 멈춘 것으로 판단)
+    private static final long QUEUE_FULL_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    // 한 번의 루프 반복에서 실행할 최대 작업 수 - I/O 이벤트 처리가 지연되지 않도록 제한
+    private static final int MAX_TASKS_PER_ITERATION = 10000;
+
+    // 예약된 작업이 없을 때 select() 최대 대기 시간 (밀리초)
+    private static final long MAX_SELECT_TIMEOUT_MILLIS = 1000;
+
     // NIO Selector: 여러 채널의 I/O 이벤트를 하나의 스레드에서 관리
     // 핵심 컴포넌트 - 모든 소켓 채널들을 등록하고 이벤트 감지
     private final Selector selector;
@@ -38,19 +66,47 @@ public class EventLoop {
     // 이벤트루프 실행 상태 관리 (start/stop)
     private final AtomicBoolean running;
 
-    // ConcurrentLinkedQueue: 스레드 안전한 논블로킹 큐
+    // MpscTaskQueue: 고정 크기 다중 생산자/단일 소비자 링 버퍼 (작업마다 노드 할당 없음)
     // 다른 스레드에서 이벤트루프로 작업을 전달할 때 사용
-    private final ConcurrentLinkedQueue<Runnable> taskQueue;
+    private final MpscTaskQueue taskQueue;
+
+    // 큐가 가득 찼을 때 루프 스레드 자신이 넣은 작업 (루프 스레드만 접근)
+    // 루프는 자기 자신을 기다릴 수 없으므로 대기 대신 여기에 보관
+    private final ArrayDeque<Runnable> overflowTasks;
+
+    // 루프를 깨울 필요가 없는 상태인지 표시 (wakeup 합치기)
+    // true: 루프가 깨어 있거나 이미 누군가 wakeup()을 호출함 → 추가 wakeup 불필요
+    // false: 루프가 select()에서 잠들려는 중 → 첫 번째 제출자만 wakeup() 호출
+    private final AtomicBoolean wakeupPending;
 
     // AtomicLong: 스레드 안전한 long 값
     // 큐에 추가된 작업의 총 개수 추적
     private final AtomicLong taskCount;
 
+    // 실제로 selector.wakeup()을 호출한 횟수 (제출 수 대비 합쳐진 정도 확인용)
+    private final AtomicLong wakeupCount;
+
+    // 큐가 가득 차서 제출자가 기다리거나 보관 큐를 쓴 횟수
+    private final AtomicLong queueFullCount;
+
+    // 루프 전용 버퍼 풀 - 이 루프 스레드에서만 할당/반환
+    // 읽기 버퍼, 연결별 버퍼 체인, 응답 쓰기 버퍼가 모두 여기서 나옴
+    private final BufferPool bufferPool;
+
+    // 루프 전용 해시드 휠 타이머 - 연결별 유휴/요청 읽기/쓰기 타임아웃 관리
+    // 이 루프 스레드에서만 등록/취소하고, runEventLoop()가 매 반복마다 진행시킴
+    private final HashedWheelTimer timer;
+
+    // 지연/주기 작업 - 마감 시각 순서의 우선순위 큐 (루프 스레드에서만 접근)
+    // 별도 스케줄러 스레드 없이 select() 대기 시간을 가장 가까운 마감 시각에 맞춰 실행
+    private final PriorityQueue<ScheduledTask> scheduledTasks;
+
     // 성능 통계용 변수들
     // volatile: 다른 스레드에서 읽을 때 최신 값 보장
     private volatile long lastLoopTime;        // 마지막 루프 실행 시간 (나노초)
     private volatile long totalLoops;          // 총 루프 실행 횟수
     private volatile long totalTasksExecuted;  // 총 실행된 작업 수
+    private volatile int peakQueueDepth;       // 한 번의 반복 시작 시점에 관측된 최대 큐 깊이
 
     /**
      * EventLoop 생성자
@@ -58,6 +114,31 @@ public class EventLoop {
      * @throws IOException Selector 생성 실패시
      */
     public EventLoop() throws IOException {
+        // 단일 루프 구성에서 사용하던 기본 스레드 이름 유지
+        this("EventLoop-Main");
+    }
+
+    /**
+     * 스레드 이름을 지정하는 EventLoop 생성자
+     *
+     * EventLoopGroup에서 boss/worker 루프를 구분하기 위해 사용
+     * 스레드 덤프나 로그에서 어느 루프의 스레드인지 바로 식별 가능
+     *
+     * @param threadName 이벤트루프 전용 스레드 이름
+     * @throws IOException Selector 생성 실패시
+     */
+    public EventLoop(String threadName) throws IOException {
+        this(threadName, DEFAULT_TASK_QUEUE_CAPACITY);
+    }
+
+    /**
+     * 스레드 이름과 작업 큐 크기를 지정하는 EventLoop 생성자
+     *
+     * @param threadName 이벤트루프 전용 스레드 이름
+     * @param taskQueueCapacity 작업 큐 최대 크기 (2의 거듭제곱으로 올림)
+     * @throws IOException Selector 생성 실패시
+     */
+    public EventLoop(String threadName, int taskQueueCapacity) throws IOException {
         // Selector.open(): 새로운 Selector 인스턴스 생성
         // 운영체제의 I/O 멀티플렉싱 기능 활용 (epoll, kqueue 등)
         this.selector = Selector.open();
@@ -66,12 +147,23 @@ public class EventLoop {
         this.running = new AtomicBoolean(false);
 
         // 작업 큐와 카운터 초기화
-        this.taskQueue = new ConcurrentLinkedQueue<>();
+        this.taskQueue = new MpscTaskQueue(taskQueueCapacity);
+        this.overflowTasks = new ArrayDeque<>();
+        this.wakeupPending = new AtomicBoolean(true);   // 시작 전에는 깨울 대상이 없음
         this.taskCount = new AtomicLong(0);
+        this.wakeupCount = new AtomicLong(0);
+        this.queueFullCount = new AtomicLong(0);
+
+        // 루프 전용 direct 버퍼 풀 생성
+        this.bufferPool = new BufferPool();
+
+        // 루프 전용 타이머 생성 (기본 100ms 틱)
+        this.timer = new HashedWheelTimer();
+        this.scheduledTasks = new PriorityQueue<>();
 
         // 이벤트루프 전용 스레드 생성
         // runEventLoop 메서드를 실행할 스레드
-        this.eventLoopThread = new Thread(this::runEventLoop, "EventLoop-Main");
+        this.eventLoopThread = new Thread(this::runEventLoop, threadName);
 
         // setDaemon(false): 메인 스레드로 설정
         // 이 스레드가 살아있는 동안 JVM이 종료되지 않음
@@ -121,6 +213,16 @@ public class EventLoop {
                 // selector.close(): Selector 리소스 해제
                 // 운영체제 레벨의 I/O 멀티플렉싱 자원 해제
                 selector.close();
+
+                // 보관 중인 풀 버퍼를 GC에 넘김
+                bufferPool.clear();
+
+                // 실행되지 않은 예약 작업 취소 (기다리는 Future가 영원히 멈추지 않도록)
+                // 루프 스레드가 끝났거나 join 시간이 지났으므로 여기서만 접근
+                ScheduledTask pending;
+                while ((pending = scheduledTasks.poll()) != null) {
+                    pending.cancel(false);
+                }
             } catch (Exception e) {
                 logger.error("이벤트루프 종료 중 오류 발생", e);
             }
@@ -138,6 +240,28 @@ public class EventLoop {
         return selector;
     }
 
+    /**
+     * 루프 전용 버퍼 풀 반환
+     *
+     * 반환된 풀은 이 루프 스레드에서만 사용해야 함
+     *
+     * @return 이 루프의 BufferPool
+     */
+    public BufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    /**
+     * 루프 전용 타이머 반환
+     *
+     * 반환된 타이머는 이 루프 스레드에서만 사용해야 함
+     *
+     * @return 이 루프의 HashedWheelTimer
+     */
+    public HashedWheelTimer getTimer() {
+        return timer;
+    }
+
     /**
      * 서버 소켓 채널 등록
      *
@@ -213,25 +337,114 @@ public class EventLoop {
      * 비동기 작업을 이벤트루프에 스케줄링
      *
      * 다른 스레드에서 이벤트루프 스레드로 작업을 전달하는 메커니즘
-     * 스레드 안전하게 작업을 큐에 추가하고 selector를 깨움
+     * 스레드 안전하게 작업을 큐에 추가하고, 루프가 잠든 뒤 첫 제출일 때만 selector를 깨움
+     * (워커 스레드가 완료 콜백을 연달아 넘겨도 wakeup() 시스템 콜은 루프가 잠들 때마다 한 번)
+     *
+     * 큐가 가득 찬 경우:
+     * - 다른 스레드: 루프가 작업을 꺼내 자리가 날 때까지 대기 (백프레셔)
+     *   CPU를 태우지 않도록 parkNanos()로 잠들고, 대기 간격은 10µs부터 1ms까지 두 배씩 늘림
+     * - 루프 스레드 자신: 기다릴 수 없으므로 루프 전용 보관 큐에 넣음
      *
      * @param task 실행할 작업 (Runnable)
+     * @throws RejectedExecutionException 큐가 가득 찼는데 루프가 실행 중이 아니거나 5초 동안 자리가 나지 않은 경우
      */
     public void execute(Runnable task) {
         // null 체크 - 잘못된 작업 전달 방지
         if (task == null) return;
 
-        // offer(): 큐에 작업 추가 (논블로킹 연산)
-        // ConcurrentLinkedQueue는 용량 제한이 없으므로 항상 성공
-        taskQueue.offer(task);
+        boolean inLoop = inEventLoop();
+
+        // offer(): 큐에 작업 추가 (락 없는 CAS 연산, 가득 차면 false)
+        if (!taskQueue.offer(task)) {
+            queueFullCount.incrementAndGet();
+            if (inLoop) {
+                overflowTasks.add(task);
+            } else {
+                long parkNanos = QUEUE_FULL_MIN_PARK_NANOS;
+                long deadline = System.nanoTime() + QUEUE_FULL_TIMEOUT_NANOS;
+                while (!taskQueue.offer(task)) {
+                    if (!running.get()) {
+                        throw new RejectedExecutionException("EventLoop task queue is full and loop is not running");
+                    }
+                    if (System.nanoTime() - deadline >= 0) {
+                        throw new RejectedExecutionException("EventLoop task queue stayed full for "
+                                + TimeUnit.NANOSECONDS.toMillis(QUEUE_FULL_TIMEOUT_NANOS) + "ms");
+                    }
+                    // 루프가 깨어 있도록 보장한 뒤 잠시 잠듦 (스핀 대신 백오프)
+                    wakeupIfParked();
+                    LockSupport.parkNanos(parkNanos);
+                    parkNanos = Math.min(parkNanos << 1, QUEUE_FULL_MAX_PARK_NANOS);
+                }
+            }
+        }
 
         // incrementAndGet(): 원자적으로 1 증가하고 새 값 반환
         // 작업 통계 카운팅
         taskCount.incrementAndGet();
 
-        // wakeup(): 블로킹된 select() 호출을 즉시 리턴시킨다
-        // 새로운 작업이 추가되었음을 이벤트루프에 알림
-        selector.wakeup();
+        // 루프 스레드에서 넣은 작업은 이번 반복에서 처리되므로 깨울 필요 없음
+        if (!inLoop) {
+            wakeupIfParked();
+        }
+    }
+
+    /**
+     * 루프가 select()에서 잠들었거나 잠들려는 중이면 한 번만 깨움
+     *
+     * compareAndSet(false, true)에 성공한 제출자 하나만 wakeup()을 호출하고,
+     * 루프가 다시 잠들기 전까지의 나머지 제출은 시스템 콜 없이 끝남
+     */
+    private void wakeupIfParked() {
+        if (wakeupPending.compareAndSet(false, true)) {
+            wakeupCount.incrementAndGet();
+            // wakeup(): 블로킹된 select() 호출을 즉시 리턴시킨다
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * 지연 작업 예약
+     *
+     * 작업은 마감 시각에 이 루프 스레드에서 직접 실행됨 (스케줄러 스레드 경유 없음)
+     * 다른 스레드에서 호출하면 등록만 execute()로 루프에 넘기고, 루프가 깨어나 대기 시간을 다시 계산
+     *
+     * @param task 실행할 작업
+     * @param delay 지연 시간
+     * @param unit 시간 단위
+     * @return 취소와 완료 대기에 사용할 ScheduledFuture
+     */
+    public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        long deadline = System.nanoTime() + Math.max(0, unit.toNanos(delay));
+        return addScheduledTask(new ScheduledTask(task, deadline, 0));
+    }
+
+    /**
+     * 고정 간격 반복 작업 예약
+     *
+     * 작업이 예외를 던지거나 취소되면 반복이 멈춤 (ScheduledExecutorService와 같은 규칙)
+     *
+     * @param task 실행할 작업
+     * @param initialDelay 첫 실행까지의 지연 시간
+     * @param period 반복 간격 (양수)
+     * @param unit 시간 단위
+     * @return 취소에 사용할 ScheduledFuture
+     */
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be positive: " + period);
+        }
+        long deadline = System.nanoTime() + Math.max(0, unit.toNanos(initialDelay));
+        return addScheduledTask(new ScheduledTask(task, deadline, unit.toNanos(period)));
+    }
+
+    private ScheduledTask addScheduledTask(ScheduledTask task) {
+        if (inEventLoop()) {
+            scheduledTasks.add(task);
+        } else {
+            // 큐는 루프 스레드 전용 - 등록 자체를 루프로 넘김 (wakeup으로 select 대기 시간도 갱신됨)
+            execute(() -> scheduledTasks.add(task));
+        }
+        return task;
     }
 
     /**
@@ -253,8 +466,10 @@ public class EventLoop {
      * 이벤트루프의 핵심 로직:
      * 1. I/O 이벤트 처리 (selector.select())
      * 2. 큐에 있는 작업들 처리
-     * 3. 통계 업데이트
-     * 4. 반복
+     * 3. 마감 시각이 지난 예약 작업 처리
+     * 4. 만료된 타이머 처리
+     * 5. 통계 업데이트
+     * 6. 반복
      */
     private void runEventLoop() {
         // Thread.currentThread().getName(): 현재 스레드 이름
@@ -275,7 +490,13 @@ public class EventLoop {
                 // 2. 큐에 쌓인 작업들 처리
                 processTasks();
 
-                // 3. 통계 업데이트
+                // 3. 마감 시각이 지난 지연/주기 작업 실행
+                runScheduledTasks();
+
+                // 4. 지나간 틱의 타이머 처리 (타임아웃된 연결 정리 등)
+                timer.advance();
+
+                // 5. 통계 업데이트
                 updateStatistics(loopStart);
 
             } catch (OutOfMemoryError | StackOverflowError fatal) {
@@ -317,9 +538,16 @@ public class EventLoop {
      * @throws IOException I/O 오류 발생시
      */
     private void processIOEvents() throws IOException {
-        // select(1000): 최대 1초 동안 이벤트 대기
+        // 이벤트 대기 - 가장 가까운 예약 작업 마감 시각이나 타이머 틱까지만 (최대 1초)
         // 준비된 채널 수 반환, 타임아웃시 0 반환
-        int readyChannels = selector.select(1000);
+        // 잠들기 전에 플래그를 내려서 이후 첫 제출자가 wakeup()을 호출하게 함
+        // 플래그를 내린 뒤 큐를 확인하므로, 그 사이에 들어온 작업은 둘 중 한 경로로 반드시 처리됨
+        wakeupPending.set(false);
+        long timeoutMillis = hasPendingTasks() ? 0 : selectTimeoutMillis();
+        int readyChannels = timeoutMillis == 0 ? selector.selectNow() : selector.select(timeoutMillis);
+
+        // 깨어난 상태 - 다음에 잠들 때까지 제출자는 wakeup()을 호출하지 않음
+        wakeupPending.set(true);
 
         // 준비된 채널이 없으면 즉시 리턴
         if (readyChannels == 0) {
@@ -353,12 +581,18 @@ public class EventLoop {
                 if (key.isAcceptable()) {
                     // 새로운 클라이언트 연결 수락
                     handleAccept(key);
-                } else if (key.isReadable()) {
-                    // 클라이언트로부터 데이터 읽기
-                    handleRead(key);
-                } else if (key.isWritable()) {
-                    // 클라이언트로 데이터 쓰기
-                    handleWrite(key);
+                } else {
+                    // 한 키에 쓰기와 읽기가 함께 준비될 수 있음
+                    // 쓰기를 먼저 처리해서 계속 들어오는 요청 때문에 밀린 응답 전송이 굶지 않도록 함
+                    if (key.isWritable()) {
+                        // 클라이언트로 데이터 쓰기
+                        handleWrite(key);
+                    }
+                    // 쓰기 처리 중 연결이 닫혔을 수 있으므로 유효성 재확인
+                    if (key.isValid() && key.isReadable()) {
+                        // 클라이언트로부터 데이터 읽기
+                        handleRead(key);
+                    }
                 }
             } catch (Exception e) {
                 // 더 상세한 에러 로그
@@ -388,6 +622,85 @@ public class EventLoop {
         }
     }
 
+    /**
+     * 바로 실행할 작업이 남아 있는지 확인 (select()에서 잠들면 안 되는 경우)
+     */
+    private boolean hasPendingTasks() {
+        return !taskQueue.isEmpty() || !overflowTasks.isEmpty();
+    }
+
+    /**
+     * select() 대기 시간 계산
+     *
+     * select(long)은 밀리초 단위이므로 마감까지 1ms 미만이 남으면 selectNow()로 기다리지 않음
+     * (예약 작업이 1ms 단위로 늦어지지 않도록)
+     *
+     * @return 대기할 밀리초, 0이면 selectNow()
+     */
+    private long selectTimeoutMillis() {
+        long timeout = MAX_SELECT_TIMEOUT_MILLIS;
+
+        ScheduledTask next = peekScheduledTask();
+        if (next != null) {
+            long remainingNanos = next.getDeadlineNanos() - System.nanoTime();
+            if (remainingNanos < TimeUnit.MILLISECONDS.toNanos(1)) {
+                return 0;
+            }
+            timeout = Math.min(timeout, TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+        }
+
+        long nextTick = timer.millisUntilNextTick();
+        if (nextTick >= 0) {
+            timeout = Math.min(timeout, nextTick);
+        }
+
+        return timeout;
+    }
+
+    /**
+     * 취소되지 않은 가장 이른 예약 작업 (취소된 작업은 여기서 버림)
+     */
+    private ScheduledTask peekScheduledTask() {
+        ScheduledTask task;
+        while ((task = scheduledTasks.peek()) != null && task.isCancelled()) {
+            scheduledTasks.poll();
+        }
+        return task;
+    }
+
+    /**
+     * 마감 시각이 지난 예약 작업 실행
+     *
+     * 주기 작업은 다음 마감 시각으로 다시 큐에 넣음
+     * 이번 반복에서 새로 예약되거나 다시 들어간 작업은 다음 반복에서 처리 (무한 반복 방지)
+     */
+    private void runScheduledTasks() {
+        if (scheduledTasks.isEmpty()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        ScheduledTask task;
+        List<ScheduledTask> periodic = null;
+
+        while ((task = peekScheduledTask()) != null && task.getDeadlineNanos() - now <= 0) {
+            scheduledTasks.poll();
+            totalTasksExecuted++;
+
+            // FutureTask가 작업 예외를 Future에 담으므로 여기서는 예외가 전파되지 않음
+            if (task.runOnLoop()) {
+                if (periodic == null) {
+                    periodic = new ArrayList<>();
+                }
+                periodic.add(task);
+            }
+        }
+
+        if (periodic != null) {
+            scheduledTasks.addAll(periodic);
+        }
+    }
+
     /**
      * 새로운 연결 수락
      *
@@ -434,10 +747,11 @@ public class EventLoop {
         // 클라이언트 이벤트 핸들러 획득
         ClientSocketEventHandler handler = (ClientSocketEventHandler) key.attachment();
 
+        // 루프 버퍼 풀에서 8KB 읽기 버퍼를 빌림 (정상 상태에서는 재사용되므로 할당 없음)
+        PooledBuffer pooled = bufferPool.allocate(READ_BUFFER_SIZE);
+
         try {
-            // ByteBuffer.allocate(8192): 8KB 크기의 새 바이트 버퍼 생성
-            // 8192는 일반적인 네트워크 I/O 버퍼 크기
-            ByteBuffer buffer = ByteBuffer.allocate(8192);
+            ByteBuffer buffer = pooled.buffer();
 
             // channel.read(buffer): 채널에서 데이터를 읽어 버퍼에 저장
             // 반환값: 실제 읽은 바이트 수, 연결 종료시 -1
@@ -451,7 +765,8 @@ public class EventLoop {
                 logger.debug("{}에서 {} 바이트 읽음", channel.getRemoteAddress(), bytesRead);
 
                 // 핸들러에게 읽은 데이터 전달
-                handler.onRead(this, channel, buffer);
+                // 핸들러가 버퍼를 보관하려면 retain()으로 참조를 추가해야 함
+                handler.onRead(this, channel, pooled);
 
             } else if (bytesRead == -1) {
                 // 클라이언트가 연결을 정상적으로 종료
@@ -483,6 +798,9 @@ public class EventLoop {
                 logger.error("연결 해제 처리 중 오류", ex);
             }
             closeKey(key);
+        } finally {
+            // 루프의 참조 해제 - 핸들러가 retain하지 않았으면 풀로 반환됨
+            pooled.release();
         }
     }
 
@@ -498,13 +816,15 @@ public class EventLoop {
         SocketChannel channel = (SocketChannel) key.channel();
         ClientSocketEventHandler handler = (ClientSocketEventHandler) key.attachment();
 
-        // 핸들러에게 쓰기 작업 위임
-        handler.onWrite(this, channel);
-
-        // 쓰기 완료 후 WRITE interest 제거
+        // 핸들러 호출 전에 WRITE interest 제거
         // interestOps(): 현재 관심 있는 연산들 반환
         // & ~SelectionKey.OP_WRITE: 비트 연산으로 WRITE 비트 제거
+        // 핸들러가 이번에 다 쓰지 못하면 enableWrite()로 다시 등록함
+        // (호출 후에 제거하면 핸들러가 다시 등록한 interest까지 지워져 응답이 멈춤)
         key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+
+        // 핸들러에게 쓰기 작업 위임
+        handler.onWrite(this, channel);
     }
 
     /**
@@ -517,9 +837,17 @@ public class EventLoop {
         int processedTasks = 0;
         Runnable task;
 
+        // 큐 깊이 관측 (모니터링용 최대값)
+        int depth = taskQueue.size() + overflowTasks.size();
+        if (depth > peakQueueDepth) {
+            peakQueueDepth = depth;
+        }
+
         // 한 번에 너무 많은 작업을 처리하지 않도록 제한
         // I/O 이벤트 처리가 지연되지 않도록 균형 유지
-        while (processedTasks < 10000 && (task = taskQueue.poll()) != null) {
+        // 링 버퍼를 먼저 비우고, 가득 찼을 때 루프가 보관한 작업을 이어서 처리
+        while (processedTasks < MAX_TASKS_PER_ITERATION
+                && ((task = taskQueue.poll()) != null || (task = overflowTasks.poll()) != null)) {
             try {
                 // 작업 실행
                 task.run();
@@ -660,9 +988,57 @@ public class EventLoop {
      * @return 아직 실행되지 않고 큐에 대기 중인 작업 수
      */
     public int getQueuedTaskCount() {
-        // size(): ConcurrentLinkedQueue의 현재 크기
+        // size(): 링 버퍼의 현재 크기
         // 주의: 동시성 환경에서는 정확하지 않을 수 있음 (근사값)
-        return taskQueue.size();
+        return taskQueue.size() + overflowTasks.size();
+    }
+
+    /**
+     * 관측된 최대 큐 깊이 반환
+     *
+     * @return 루프 반복 시작 시점에 본 가장 큰 대기 작업 수
+     */
+    public int getPeakQueueDepth() {
+        return peakQueueDepth;
+    }
+
+    /**
+     * 작업 큐 크기 반환
+     */
+    public int getTaskQueueCapacity() {
+        return taskQueue.capacity();
+    }
+
+    /**
+     * execute()로 제출된 총 작업 수 반환
+     */
+    public long getSubmittedTaskCount() {
+        return taskCount.get();
+    }
+
+    /**
+     * 실제 selector.wakeup() 호출 횟수 반환
+     *
+     * 제출 수보다 훨씬 작으면 wakeup이 잘 합쳐지고 있다는 뜻
+     */
+    public long getWakeupCount() {
+        return wakeupCount.get();
+    }
+
+    /**
+     * 큐가 가득 찼던 횟수 반환
+     */
+    public long getQueueFullCount() {
+        return queueFullCount.get();
+    }
+
+    /**
+     * 예약된 지연/주기 작업 수 반환
+     *
+     * @return 대기 중인 예약 작업 수 (다른 스레드에서 읽으면 근사값, 취소된 작업 포함 가능)
+     */
+    public int getScheduledTaskCount() {
+        return scheduledTasks.size();
     }
 
     /**
@@ -686,10 +1062,17 @@ public class EventLoop {
     public String toString() {
         // String.format(): printf 스타일의 문자열 포맷팅
         // %s: 문자열, %d: 정수 값 출력
-        return String.format("EventLoop{running=%s, loops=%d, tasks=%d, queued=%d}",
-                running.get(),          // 실행 상태
-                totalLoops,             // 총 루프 수
-                totalTasksExecuted,     // 총 실행된 작업 수
-                taskQueue.size());      // 대기 중인 작업 수
+        return String.format("EventLoop{running=%s, loops=%d, tasks=%d, queued=%d, peakQueued=%d, wakeups=%d/%d, full=%d, scheduled=%d, timers=%d, %s}",
+                running.get(),                   // 실행 상태
+                totalLoops,                      // 총 루프 수
+                totalTasksExecuted,              // 총 실행된 작업 수
+                getQueuedTaskCount(),            // 대기 중인 작업 수
+                peakQueueDepth,                  // 관측된 최대 큐 깊이
+                wakeupCount.get(),               // 실제 wakeup 호출 수
+                taskCount.get(),                 // 제출된 작업 수
+                queueFullCount.get(),            // 큐가 가득 찼던 횟수
+                scheduledTasks.size(),           // 예약된 작업 수 (근사값)
+                timer.getPendingTimeouts(),      // 대기 중인 타이머 수 (다른 스레드에서 읽으면 근사값)
+                bufferPool.getStats());          // 버퍼 풀 통계
     }
 }
\ No newline at end of file
@@ -0,0 +1,423 @@
+package server.eventloop;
+
+import server.core.limit.ConcurrencyLimiter;
+import server.core.logging.Logger;
+import server.core.logging.LoggerFactory;
+import server.core.routing.Router;
+
+import java.io.IOException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 멀티 리액터 이벤트루프 그룹
+ * 하나의 boss 루프가 연결을 수락하고 N개의 worker 루프가 연결을 나누어 처리
+ *
+ * 멀티 리액터 패턴:
+ * - boss 루프: ServerSocketChannel의 OP_ACCEPT만 담당
+ * - worker 루프: 수락된 SocketChannel의 READ/WRITE를 담당 (기본값 = CPU 코어 수)
+ * - 하나의 연결은 수락된 순간부터 닫힐 때까지 하나의 worker 루프에만 속함
+ * - worker마다 SelectorManager, EventQueue, NonBlockingHandler를 따로 가지므로
+ *   핫 패스에서 루프 간에 공유되는 상태가 없음
+ */
+public class EventLoopGroup {
+
+    // Logger 인스턴스 - 그룹 생명주기와 연결 분배 상황 추적
+    private static final Logger logger = LoggerFactory.getLogger(EventLoopGroup.class);
+
+    /**
+     * worker 선택 전략
+     */
+    public enum SelectionStrategy {
+        ROUND_ROBIN,        // 순서대로 돌아가며 할당
+        LEAST_CONNECTIONS   // 활성 연결이 가장 적은 worker에 할당
+    }
+
+    // 연결 수락 전용 boss 루프
+    private final EventLoop bossLoop;
+
+    // 수락된 연결을 처리하는 worker 루프들 - 생성 후 변경되지 않음
+    private final List<Worker> workers;
+
+    // worker 선택 전략
+    private final SelectionStrategy strategy;
+
+    // 라운드로빈 선택용 카운터 - boss 스레드에서만 증가하지만 통계 조회를 위해 원자적으로 관리
+    private final AtomicInteger nextWorkerIndex;
+
+    // boss 루프에 등록되는 accept 핸들러
+    private final Acceptor acceptor;
+
+    /**
+     * EventLoopGroup 생성자
+     *
+     * @param router 모든 worker가 공유하는 Router (라우트 테이블은 읽기 전용으로 사용됨)
+     * @param workerCount worker 루프 수 (1 이상)
+     * @param strategy worker 선택 전략
+     * @throws IOException Selector 생성 실패시
+     */
+    public EventLoopGroup(Router router, int workerCount, SelectionStrategy strategy) throws IOException {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive: " + workerCount);
+        }
+
+        this.strategy = strategy != null ? strategy : SelectionStrategy.ROUND_ROBIN;
+        this.nextWorkerIndex = new AtomicInteger(0);
+
+        // boss 루프 생성 - accept 이벤트만 처리
+        this.bossLoop = new EventLoop("EventLoop-Boss");
+
+        // worker 루프 생성 - 각 worker가 자신만의 컴포넌트 세트를 가짐
+        List<Worker> created = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            created.add(new Worker(i, router));
+        }
+        this.workers = Collections.unmodifiableList(created);
+
+        this.acceptor = new Acceptor();
+    }
+
+    /**
+     * 모든 루프 시작
+     *
+     * worker를 먼저 시작해서 boss가 연결을 넘길 때 worker가 이미 돌고 있도록 함
+     */
+    public void start() {
+        for (Worker worker : workers) {
+            worker.eventLoop.start();
+        }
+        bossLoop.start();
+
+        logger.info("EventLoopGroup 시작됨 - boss: 1, workers: {}, 전략: {}",
+                workers.size(), strategy);
+    }
+
+    /**
+     * 서버 소켓을 boss 루프에 등록
+     *
+     * @param serverChannel 연결을 수락할 서버 소켓 채널
+     */
+    public void registerServerSocket(ServerSocketChannel serverChannel) {
+        // boss 루프의 Selector에 OP_ACCEPT로 등록 (boss 스레드에서 실행됨)
+        bossLoop.registerServerSocket(serverChannel, acceptor);
+    }
+
+    /**
+     * 다음 연결을 맡을 worker 선택
+     *
+     * @return 선택된 worker
+     */
+    public Worker next() {
+        // worker가 하나면 선택 비용 없이 바로 반환
+        if (workers.size() == 1) {
+            return workers.get(0);
+        }
+
+        if (strategy == SelectionStrategy.LEAST_CONNECTIONS) {
+            // 활성 연결 + 아직 등록되지 않은 연결 수가 가장 적은 worker 선택
+            Worker selected = workers.get(0);
+            long min = selected.getConnectionCount();
+            for (int i = 1; i < workers.size(); i++) {
+                Worker candidate = workers.get(i);
+                long count = candidate.getConnectionCount();
+                if (count < min) {
+                    min = count;
+                    selected = candidate;
+                }
+            }
+            return selected;
+        }
+
+        // ROUND_ROBIN: 음수 방지를 위해 부호 비트를 제거한 뒤 나머지 연산
+        int index = (nextWorkerIndex.getAndIncrement() & Integer.MAX_VALUE) % workers.size();
+        return workers.get(index);
+    }
+
+    /**
+     * 모든 루프의 버퍼 풀 누수 감지 모드 설정
+     *
+     * @param enabled true면 풀 버퍼 할당마다 할당 위치를 기록 (디버그 전용)
+     */
+    public void setBufferLeakDetection(boolean enabled) {
+        bossLoop.getBufferPool().setLeakDetection(enabled);
+        for (Worker worker : workers) {
+            worker.eventLoop.getBufferPool().setLeakDetection(enabled);
+        }
+    }
+
+    /**
+     * 모든 worker의 연결 타임아웃 설정
+     *
+     * 타임아웃은 각 worker 루프의 타이머가 연결별로 관리하므로 주기적인 정리 작업이 필요 없음
+     *
+     * @param idleTimeout 요청 사이 유휴 타임아웃 (밀리초)
+     * @param headerReadTimeout 요청 읽기 타임아웃 (밀리초)
+     * @param writeTimeout 응답 쓰기 타임아웃 (밀리초)
+     */
+    public void setConnectionTimeouts(long idleTimeout, long headerReadTimeout, long writeTimeout) {
+        for (Worker worker : workers) {
+            worker.handler.setTimeouts(idleTimeout, headerReadTimeout, writeTimeout);
+        }
+    }
+
+    /**
+     * 모든 worker의 연결당 파이프라인 요청 수 제한 설정
+     *
+     * @param maxPipelinedRequests 응답을 기다리며 동시에 처리할 최대 요청 수 (1이면 파이프라이닝 없음)
+     */
+    public void setMaxPipelinedRequests(int maxPipelinedRequests) {
+        for (Worker worker : workers) {
+            worker.handler.setMaxPipelinedRequests(maxPipelinedRequests);
+        }
+    }
+
+    /**
+     * 모든 worker의 요청 본문 크기 설정
+     *
+     * @param spoolThreshold 이 크기를 넘는 본문은 임시 파일에 기록 (바이트)
+     * @param maxBodySize 허용할 최대 본문 크기 (바이트)
+     */
+    public void setRequestBodyLimits(int spoolThreshold, long maxBodySize) {
+        for (Worker worker : workers) {
+            worker.handler.setRequestBodyLimits(spoolThreshold, maxBodySize);
+        }
+    }
+
+    /**
+     * 모든 worker의 응답 쓰기 설정
+     *
+     * @param writeSpinCount 한 번의 쓰기 기회에 시도할 최대 write 횟수
+     * @param lowWaterMark 송신 큐가 이 아래로 내려가면 읽기 재개 (바이트)
+     * @param highWaterMark 송신 큐가 이 위로 올라가면 읽기 중단 (바이트)
+     */
+    public void setWriteOptions(int writeSpinCount, int lowWaterMark, int highWaterMark) {
+        for (Worker worker : workers) {
+            worker.handler.setWriteSpinCount(writeSpinCount);
+            worker.handler.setWriteBufferWaterMark(lowWaterMark, highWaterMark);
+        }
+    }
+
+    /**
+     * 모든 worker에 적응형 동시성 제한기 설정
+     *
+     * 제한기 하나를 모든 worker가 공유 - 상한은 worker별이 아니라 서버 전체의 처리 중 요청 수
+     *
+     * @param limiter 동시성 제한기 (null이면 제한 없음)
+     */
+    public void setConcurrencyLimiter(ConcurrencyLimiter limiter) {
+        for (Worker worker : workers) {
+            worker.handler.setConcurrencyLimiter(limiter);
+        }
+    }
+
+    /**
+     * 모든 worker의 연결 종료
+     */
+    public void closeAllConnections() {
+        for (Worker worker : workers) {
+            worker.selectorManager.closeAllConnections();
+        }
+    }
+
+    /**
+     * 모든 루프 종료
+     *
+     * boss를 먼저 멈춰 새 연결 유입을 막은 뒤 worker들을 정리
+     */
+    public void shutdown() {
+        bossLoop.shutdown();
+
+        for (Worker worker : workers) {
+            try {
+                worker.eventQueue.shutdown();
+                worker.eventLoop.shutdown();
+            } catch (Exception e) {
+                logger.error("Worker {} 종료 중 오류", worker.index, e);
+            }
+        }
+
+        logger.info("EventLoopGroup 종료 완료");
+    }
+
+    /**
+     * 모든 루프가 실행 중인지 확인
+     *
+     * @return boss와 모든 worker가 실행 중이면 true
+     */
+    public boolean isRunning() {
+        if (!bossLoop.isRunning()) {
+            return false;
+        }
+        for (Worker worker : workers) {
+            if (!worker.eventLoop.isRunning()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // === 집계 통계 ===
+
+    /**
+     * 모든 루프의 총 실행 횟수
+     */
+    public long getTotalLoops() {
+        long total = bossLoop.getTotalLoops();
+        for (Worker worker : workers) {
+            total += worker.eventLoop.getTotalLoops();
+        }
+        return total;
+    }
+
+    /**
+     * 모든 루프에서 실행된 총 작업 수
+     */
+    public long getTotalTasksExecuted() {
+        long total = bossLoop.getTotalTasksExecuted();
+        for (Worker worker : workers) {
+            total += worker.eventLoop.getTotalTasksExecuted();
+        }
+        return total;
+    }
+
+    /**
+     * worker별 SelectorStats를 합산한 통계
+     */
+    public SelectorManager.SelectorStats getSelectorStats() {
+        long total = 0, active = 0, read = 0, written = 0;
+        int contexts = 0;
+        for (Worker worker : workers) {
+            SelectorManager.SelectorStats stats = worker.selectorManager.getStats();
+            total += stats.getTotalConnections();
+            active += stats.getActiveConnections();
+            read += stats.getBytesRead();
+            written += stats.getBytesWritten();
+            contexts += stats.getChannelContextCount();
+        }
+        return new SelectorManager.SelectorStats(total, active, read, written, contexts);
+    }
+
+    /**
+     * worker별 QueueStats를 합산한 통계
+     */
+    public EventQueue.QueueStats getQueueStats() {
+        long total = 0;
+        int queued = bossLoop.getQueuedTaskCount();
+        boolean shutdown = false;
+        for (Worker worker : workers) {
+            EventQueue.QueueStats stats = worker.eventQueue.getStats();
+            total += stats.getTotalTasks();
+            queued += stats.getQueuedTasks();
+            shutdown |= stats.isShutdown();
+        }
+        return new EventQueue.QueueStats(total, queued, shutdown);
+    }
+
+    /**
+     * worker별 HandlerStats를 합산한 통계
+     */
+    public NonBlockingHandler.HandlerStats getHandlerStats() {
+        int active = 0;
+        long timedOut = 0;
+        long pipelined = 0;
+        for (Worker worker : workers) {
+            NonBlockingHandler.HandlerStats stats = worker.handler.getStats();
+            active += stats.getActiveConnections();
+            timedOut += stats.getTimedOutConnections();
+            pipelined += stats.getPipelinedRequests();
+        }
+        return new NonBlockingHandler.HandlerStats(active, timedOut, pipelined, getSelectorStats());
+    }
+
+    // === Getter 메서드들 ===
+
+    public EventLoop getBossLoop() { return bossLoop; }
+    public List<Worker> getWorkers() { return workers; }
+    public int getWorkerCount() { return workers.size(); }
+    public SelectionStrategy getStrategy() { return strategy; }
+
+    @Override
+    public String toString() {
+        return String.format("EventLoopGroup{workers=%d, strategy=%s, loops=%d, tasks=%d}",
+                workers.size(), strategy, getTotalLoops(), getTotalTasksExecuted());
+    }
+
+    /**
+     * boss 루프의 accept 핸들러
+     *
+     * 수락된 채널을 선택된 worker 루프로 넘김
+     * 이후 채널 등록과 상태 생성은 모두 worker 스레드에서 일어남
+     */
+    private class Acceptor implements ServerSocketEventHandler {
+
+        @Override
+        public void onAccept(EventLoop eventLoop, SocketChannel clientChannel) {
+            Worker worker = next();
+
+            // 등록 전까지의 연결도 least-connections 계산에 반영
+            worker.pendingRegistrations.incrementAndGet();
+
+            // worker 루프에서 NonBlockingHandler.onAccept 실행
+            // -> SelectorManager 등록과 ConnectionState 생성이 worker 스레드 안에서 끝남
+            worker.eventLoop.execute(() -> {
+                worker.pendingRegistrations.decrementAndGet();
+                worker.handler.onAccept(worker.eventLoop, clientChannel);
+            });
+        }
+    }
+
+    /**
+     * worker 루프와 그 루프 전용 컴포넌트 묶음
+     *
+     * 하나의 worker에 속한 컴포넌트는 해당 worker 스레드에서만 연결 상태를 변경함
+     */
+    public static class Worker {
+        private final int index;                            // worker 번호 (0부터)
+        private final EventLoop eventLoop;                  // worker 전용 이벤트 루프
+        private final SelectorManager selectorManager;      // worker 전용 Selector 관리자
+        private final EventQueue eventQueue;                // worker 전용 비동기 작업 큐
+        private final NonBlockingHandler handler;           // worker 전용 HTTP 처리기
+
+        // boss가 넘겼지만 아직 worker 스레드에서 등록되지 않은 연결 수
+        private final AtomicInteger pendingRegistrations;
+
+        /**
+         * Worker 생성자
+         *
+         * @param index worker 번호
+         * @param router 공유 Router
+         * @throws IOException Selector 생성 실패시
+         */
+        Worker(int index, Router router) throws IOException {
+            this.index = index;
+            this.eventLoop = new EventLoop("EventLoop-Worker-" + (index + 1));
+            this.selectorManager = new SelectorManager(eventLoop, eventLoop.getSelector());
+            this.eventQueue = new EventQueue(eventLoop);
+            this.handler = new NonBlockingHandler(router, selectorManager, eventQueue);
+            this.pendingRegistrations = new AtomicInteger(0);
+        }
+
+        /**
+         * 이 worker가 맡고 있는 연결 수 (등록 대기 중인 연결 포함)
+         */
+        public long getConnectionCount() {
+            return selectorManager.getActiveConnectionCount() + pendingRegistrations.get();
+        }
+
+        public int getIndex() { return index; }
+        public EventLoop getEventLoop() { return eventLoop; }
+        public SelectorManager getSelectorManager() { return selectorManager; }
+        public EventQueue getEventQueue() { return eventQueue; }
+        public NonBlockingHandler getHandler() { return handler; }
+
+        @Override
+        public String toString() {
+            return String.format("Worker{index=%d, connections=%d, %s}",
+                    index, getConnectionCount(), eventLoop);
+        }
+    }
+}
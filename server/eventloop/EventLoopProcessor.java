@@ -1,5 +1,6 @@
 package server.eventloop;
 
+import server.core.limit.ConcurrencyLimiter;
 import server.core.logging.Logger;
 import server.core.logging.LoggerFactory;
 import server.core.routing.Router;
@@ -13,7 +14,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 이벤트 처리 루프
- * EventLoop, SelectorManager, NonBlockingHandler를 조합하여 완전한 처리 파이프라인 구성
+ * EventLoopGroup(boss + worker 루프), EventQueue를 조합하여 완전한 처리 파이프라인 구성
  *
  * 역할:
  * - 여러 컴포넌트들을 통합하여 완전한 HTTP 서버 기능 제공
@@ -27,10 +28,9 @@ public class EventLoopProcessor {
     private static final Logger logger = LoggerFactory.getLogger(EventLoopProcessor.class);
 
     // 핵심 컴포넌트들
-    private final EventLoop eventLoop;            // 메인 이벤트 루프
-    private final SelectorManager selectorManager; // NIO Selector 관리자
-    private final EventQueue eventQueue;          // 비동기 작업 큐
-    private final NonBlockingHandler handler;     // HTTP 요청 처리기
+    private final EventLoopGroup eventLoopGroup;  // boss 루프 + worker 루프 그룹
+    private final ConcurrencyLimiter concurrencyLimiter; // 적응형 동시성 제한기 (모든 worker 공유, 없으면 null)
+    private final EventQueue eventQueue;          // boss 루프용 비동기 작업 큐 (관리 작업 전용)
     private final Router router;                  // URL 라우팅
 
     // 서버 상태 관리
@@ -40,9 +40,6 @@ public class EventLoopProcessor {
     // NIO 서버 소켓 - 클라이언트 연결을 수락하는 소켓
     private ServerSocketChannel serverChannel;
 
-    // 스케줄된 정리 작업을 관리하는 Future
-    private ScheduledFuture<?> cleanupTask;
-
     // 프로세서 설정
     private final ProcessorConfig config;
 
@@ -73,17 +70,33 @@ public class EventLoopProcessor {
         this.started = new AtomicBoolean(false);
 
         // 컴포넌트 초기화
-        // 1. EventLoop: 핵심 이벤트 루프 생성
-        this.eventLoop = new EventLoop();
+        // 1. EventLoopGroup: boss 루프 1개 + worker 루프 N개
+        //    worker마다 SelectorManager, EventQueue, NonBlockingHandler를 따로 생성
+        this.eventLoopGroup = new EventLoopGroup(router, config.getWorkerCount(), config.getSelectionStrategy());
+        this.eventLoopGroup.setBufferLeakDetection(config.isBufferLeakDetection());
+
+        // 연결 타임아웃은 worker 루프 타이머가 연결별로 관리 (주기적인 전체 스캔 없음)
+        this.eventLoopGroup.setConnectionTimeouts(
+                config.getConnectionTimeout(), config.getHeaderReadTimeout(), config.getWriteTimeout());
+
+        // HTTP/1.1 파이프라이닝 - 연결당 동시에 처리할 요청 수
+        this.eventLoopGroup.setMaxPipelinedRequests(config.getMaxPipelinedRequests());
 
-        // 2. SelectorManager: EventLoop와 Selector를 연결하는 관리자
-        this.selectorManager = new SelectorManager(eventLoop, eventLoop.getSelector());
+        // 요청 본문 - 임계값까지 메모리, 넘으면 임시 파일
+        this.eventLoopGroup.setRequestBodyLimits(config.getBodySpoolThreshold(), config.getMaxRequestBodySize());
 
-        // 3. EventQueue: 비동기 작업 처리를 위한 큐
-        this.eventQueue = new EventQueue(eventLoop);
+        // 응답 쓰기 - gathering write 스핀 횟수와 송신 큐 워터마크
+        this.eventLoopGroup.setWriteOptions(config.getWriteSpinCount(),
+                config.getWriteBufferLowWaterMark(), config.getWriteBufferHighWaterMark());
 
-        // 4. NonBlockingHandler: HTTP 요청을 실제로 처리하는 핸들러
-        this.handler = new NonBlockingHandler(router, selectorManager, eventQueue);
+        // 적응형 동시성 제한 - 모든 worker가 제한기 하나를 공유 (상한은 서버 전체의 처리 중 요청 수)
+        this.concurrencyLimiter = config.getConcurrencyLimit() == null ? null
+                : new ConcurrencyLimiter("EventLoop", config.getConcurrencyLimit(),
+                        config.getInitialConcurrencyLimit(), config.getMaxConcurrencyLimit());
+        this.eventLoopGroup.setConcurrencyLimiter(concurrencyLimiter);
+
+        // 2. EventQueue: 정리/통계 같은 관리 작업을 boss 루프에서 실행하기 위한 큐
+        this.eventQueue = new EventQueue(eventLoopGroup.getBossLoop());
     }
 
     /**
@@ -126,15 +139,15 @@ public class EventLoopProcessor {
             // InetSocketAddress: IP 주소와 포트를 담는 클래스
             serverChannel.bind(new InetSocketAddress(host, port));
 
-            // EventLoop 시작
-            eventLoop.start();
+            // boss/worker 루프 시작
+            eventLoopGroup.start();
 
-            // 서버 소켓을 SelectorManager에 등록
-            // registerServerSocket(): 새로운 연결 수락을 위해 서버 소켓 등록
-            selectorManager.registerServerSocket(serverChannel, handler);
+            // 서버 소켓을 boss 루프에 등록
+            // 수락된 연결은 선택 전략에 따라 worker 루프로 넘어감
+            eventLoopGroup.registerServerSocket(serverChannel);
 
-            // 정리 작업 스케줄링
-            scheduleCleanupTasks();
+            // 주기 작업 스케줄링
+            schedulePeriodicTasks();
 
             logger.info("EventLoopProcessor가 {}:{}에서 성공적으로 시작됨", host, port);
 
@@ -162,15 +175,9 @@ public class EventLoopProcessor {
         logger.info("EventLoopProcessor 종료 중...");
 
         try {
-            // 정리 작업 취소
-            if (cleanupTask != null) {
-                // cancel(false): 스케줄된 작업 취소 (이미 실행 중인 작업은 중단하지 않음)
-                cleanupTask.cancel(false);
-            }
-
             // 모든 연결 종료
-            // closeAllConnections(): SelectorManager를 통해 모든 활성 연결 정리
-            selectorManager.closeAllConnections();
+            // closeAllConnections(): 각 worker의 SelectorManager를 통해 모든 활성 연결 정리
+            eventLoopGroup.closeAllConnections();
 
             // 서버 소켓 종료
             if (serverChannel != null && serverChannel.isOpen()) {
@@ -180,8 +187,8 @@ public class EventLoopProcessor {
             // EventQueue 종료
             eventQueue.shutdown();
 
-            // EventLoop 종료
-            eventLoop.shutdown();
+            // boss/worker 루프 종료
+            eventLoopGroup.shutdown();
 
             logger.info("EventLoopProcessor 종료 완료");
 
@@ -194,22 +201,11 @@ public class EventLoopProcessor {
     }
 
     /**
-     * 주기적 정리 작업 스케줄링
+     * 주기 작업 스케줄링
      *
-     * 메모리 누수 방지와 성능 유지를 위한 백그라운드 작업들
+     * 타임아웃 연결 정리는 worker 루프 타이머가 담당하므로 여기서는 통계 출력만 예약
      */
-    private void scheduleCleanupTasks() {
-        // 타임아웃 연결 정리 (30초마다)
-        // scheduleAtFixedRate(): 고정 간격으로 작업 반복 실행
-        cleanupTask = eventQueue.scheduleAtFixedRate(
-                // handler::cleanupTimeoutConnections: 메서드 레퍼런스
-                // 타임아웃된 연결들을 찾아서 정리하는 작업
-                handler::cleanupTimeoutConnections,
-                config.getCleanupInterval(),  // 초기 지연 시간
-                config.getCleanupInterval(),  // 반복 간격
-                TimeUnit.SECONDS             // 시간 단위
-        );
-
+    private void schedulePeriodicTasks() {
         // 통계 출력 (1분마다)
         eventQueue.scheduleAtFixedRate(
                 // this::logStatistics: 현재 객체의 logStatistics 메서드 레퍼런스
@@ -227,17 +223,25 @@ public class EventLoopProcessor {
      */
     private void logStatistics() {
         try {
-            // 각 컴포넌트에서 통계 정보 수집
-            SelectorManager.SelectorStats selectorStats = selectorManager.getStats();
-            EventQueue.QueueStats queueStats = eventQueue.getStats();
-            NonBlockingHandler.HandlerStats handlerStats = handler.getStats();
+            // 각 컴포넌트에서 통계 정보 수집 (worker 합산)
+            SelectorManager.SelectorStats selectorStats = eventLoopGroup.getSelectorStats();
+            EventQueue.QueueStats queueStats = eventLoopGroup.getQueueStats();
+            NonBlockingHandler.HandlerStats handlerStats = eventLoopGroup.getHandlerStats();
 
             // 통계 정보를 구조화된 형태로 로그 출력
             logger.info("EventLoop 통계:");
-            logger.info("  EventLoop: {}", eventLoop);
+            logger.info("  Group: {}", eventLoopGroup);
             logger.info("  Selector: {}", selectorStats);
             logger.info("  Queue: {}", queueStats);
             logger.info("  Handler: {}", handlerStats);
+            if (concurrencyLimiter != null) {
+                logger.info("  Limiter: {}", concurrencyLimiter);
+            }
+
+            // worker별 분배 상황 (연결이 한쪽으로 쏠리지 않는지 확인용)
+            for (EventLoopGroup.Worker worker : eventLoopGroup.getWorkers()) {
+                logger.debug("  {}", worker);
+            }
 
         } catch (Exception e) {
             logger.error("통계 로그 출력 중 오류", e);
@@ -297,13 +301,13 @@ public class EventLoopProcessor {
     /**
      * 현재 실행 중인지 확인
      *
-     * @return 프로세서와 EventLoop가 모두 실행 중이면 true
+     * @return 프로세서와 모든 EventLoop가 실행 중이면 true
      */
     public boolean isRunning() {
         // started.get(): AtomicBoolean의 현재 값
-        // eventLoop.isRunning(): EventLoop의 실행 상태
+        // eventLoopGroup.isRunning(): boss와 모든 worker 루프의 실행 상태
         // &&: 논리곱 연산 (둘 다 true여야 true)
-        return started.get() && eventLoop.isRunning();
+        return started.get() && eventLoopGroup.isRunning();
     }
 
     /**
@@ -338,6 +342,28 @@ public class EventLoopProcessor {
         return eventQueue;
     }
 
+    /**
+     * EventLoopGroup 반환
+     *
+     * worker별 상태를 직접 확인해야 할 때 사용
+     *
+     * @return EventLoopGroup 인스턴스
+     */
+    public EventLoopGroup getEventLoopGroup() {
+        return eventLoopGroup;
+    }
+
+    /**
+     * 동시성 제한기 반환
+     *
+     * 현재 한도와 거절 통계를 확인해야 할 때 사용
+     *
+     * @return ConcurrencyLimiter 인스턴스
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
     /**
      * 라우터 반환
      *
@@ -358,12 +384,12 @@ public class EventLoopProcessor {
      */
     public ProcessorStats getStats() {
         return new ProcessorStats(
-                isRunning(),                      // 실행 상태
-                eventLoop.getTotalLoops(),        // 총 이벤트 루프 실행 횟수
-                eventLoop.getTotalTasksExecuted(), // 총 실행된 작업 수
-                selectorManager.getStats(),       // Selector 관련 통계
-                eventQueue.getStats(),            // EventQueue 관련 통계
-                handler.getStats()                // Handler 관련 통계
+                isRunning(),                               // 실행 상태
+                eventLoopGroup.getTotalLoops(),            // 모든 루프의 총 실행 횟수
+                eventLoopGroup.getTotalTasksExecuted(),    // 모든 루프의 총 실행된 작업 수
+                eventLoopGroup.getSelectorStats(),         // worker Selector 통계 합산
+                eventLoopGroup.getQueueStats(),            // worker EventQueue 통계 합산
+                eventLoopGroup.getHandlerStats()           // worker Handler 통계 합산
         );
     }
 
@@ -375,64 +401,176 @@ public class EventLoopProcessor {
      */
     public static class ProcessorConfig {
         // 기본 설정 값들
-        private int cleanupInterval = 30;        // 정리 작업 주기 (초)
-        private int connectionTimeout = 30000;   // 연결 타임아웃 (밀리초)
-        private int maxRequestSize = 1024 * 1024; // 최대 요청 크기 (1MB)
+        private int connectionTimeout = 30000;   // 연결 유휴 타임아웃 (밀리초)
+        private int headerReadTimeout = 10000;   // 요청 읽기 타임아웃 (밀리초)
+        private int writeTimeout = 30000;        // 응답 쓰기 타임아웃 (밀리초)
+        private int bodySpoolThreshold = 1024 * 1024;             // 이보다 큰 요청 본문은 임시 파일로 (1MB)
+        private long maxRequestBodySize = 1024L * 1024 * 1024;    // 최대 요청 본문 크기 (1GB)
         private int responseBufferSize = 8192;   // 응답 버퍼 크기 (8KB)
+        private int maxPipelinedRequests = 16;   // 연결당 동시에 처리할 파이프라인 요청 수
+        private int writeSpinCount = 16;         // 한 번의 쓰기 기회에 시도할 최대 write 횟수
+        private int writeBufferLowWaterMark = 32 * 1024;   // 송신 큐 low 워터마크 (읽기 재개)
+        private int writeBufferHighWaterMark = 64 * 1024;  // 송신 큐 high 워터마크 (읽기 중단)
+        private int workerCount = Runtime.getRuntime().availableProcessors(); // worker 루프 수 (기본: 코어 수)
+        private EventLoopGroup.SelectionStrategy selectionStrategy =
+                EventLoopGroup.SelectionStrategy.ROUND_ROBIN;                 // worker 선택 전략
+        private boolean bufferLeakDetection = false;  // 풀 버퍼 누수 감지 (디버그 모드)
+        private ConcurrencyLimiter.Algorithm concurrencyLimit = null; // 적응형 동시성 제한 (null이면 사용 안 함)
+        private int initialConcurrencyLimit = 100;   // 동시성 상한 시작값 (서버 전체 처리 중 요청 수)
+        private int maxConcurrencyLimit = 1000;      // 동시성 상한 최대값
 
         // === Getter 메서드들 ===
 
         /**
-         * 정리 작업 주기 반환
+         * 연결 유휴 타임아웃 반환
          */
-        public int getCleanupInterval() {
-            return cleanupInterval;
+        public int getConnectionTimeout() {
+            return connectionTimeout;
         }
 
         /**
-         * 정리 작업 주기 설정
+         * 연결 유휴 타임아웃 설정
          *
-         * @param cleanupInterval 정리 작업 주기 (초)
+         * @param connectionTimeout 요청 사이 유휴 시간 제한 (밀리초, 0 이하면 사용 안 함)
          * @return 메서드 체이닝을 위한 자기 자신
          */
-        public ProcessorConfig setCleanupInterval(int cleanupInterval) {
-            this.cleanupInterval = cleanupInterval;
+        public ProcessorConfig setConnectionTimeout(int connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
             return this; // 메서드 체이닝 지원
         }
 
         /**
-         * 연결 타임아웃 반환
+         * 요청 읽기 타임아웃 반환
          */
-        public int getConnectionTimeout() {
-            return connectionTimeout;
+        public int getHeaderReadTimeout() {
+            return headerReadTimeout;
         }
 
         /**
-         * 연결 타임아웃 설정
+         * 요청 읽기 타임아웃 설정
          *
-         * @param connectionTimeout 연결 타임아웃 (밀리초)
+         * @param headerReadTimeout 첫 바이트부터 요청 전체를 받을 때까지의 제한 (밀리초, 0 이하면 사용 안 함)
          * @return 메서드 체이닝을 위한 자기 자신
          */
-        public ProcessorConfig setConnectionTimeout(int connectionTimeout) {
-            this.connectionTimeout = connectionTimeout;
+        public ProcessorConfig setHeaderReadTimeout(int headerReadTimeout) {
+            this.headerReadTimeout = headerReadTimeout;
             return this;
         }
 
         /**
-         * 최대 요청 크기 반환
+         * 응답 쓰기 타임아웃 반환
          */
-        public int getMaxRequestSize() {
-            return maxRequestSize;
+        public int getWriteTimeout() {
+            return writeTimeout;
         }
 
         /**
-         * 최대 요청 크기 설정
+         * 응답 쓰기 타임아웃 설정
          *
-         * @param maxRequestSize 최대 요청 크기 (바이트)
+         * @param writeTimeout 응답 전송이 진행되지 않는 최대 시간 (밀리초, 0 이하면 사용 안 함)
          * @return 메서드 체이닝을 위한 자기 자신
          */
-        public ProcessorConfig setMaxRequestSize(int maxRequestSize) {
-            this.maxRequestSize = maxRequestSize;
+        public ProcessorConfig setWriteTimeout(int writeTimeout) {
+            this.writeTimeout = writeTimeout;
+            return this;
+        }
+
+        /**
+         * 요청 본문 스풀 임계값 반환
+         */
+        public int getBodySpoolThreshold() {
+            return bodySpoolThreshold;
+        }
+
+        /**
+         * 요청 본문 스풀 임계값 설정
+         *
+         * @param bodySpoolThreshold 이 크기를 넘는 본문은 메모리 대신 임시 파일에 기록 (바이트)
+         * @return 메서드 체이닝을 위한 자기 자신
+         */
+        public ProcessorConfig setBodySpoolThreshold(int bodySpoolThreshold) {
+            this.bodySpoolThreshold = bodySpoolThreshold;
+            return this;
+        }
+
+        /**
+         * 최대 요청 본문 크기 반환
+         */
+        public long getMaxRequestBodySize() {
+            return maxRequestBodySize;
+        }
+
+        /**
+         * 최대 요청 본문 크기 설정
+         *
+         * @param maxRequestBodySize 허용할 최대 본문 크기 (바이트, 넘으면 413)
+         * @return 메서드 체이닝을 위한 자기 자신
+         */
+        public ProcessorConfig setMaxRequestBodySize(long maxRequestBodySize) {
+            this.maxRequestBodySize = maxRequestBodySize;
+            return this;
+        }
+
+        /**
+         * 연결당 파이프라인 요청 수 제한 반환
+         */
+        public int getMaxPipelinedRequests() {
+            return maxPipelinedRequests;
+        }
+
+        /**
+         * 연결당 파이프라인 요청 수 제한 설정
+         *
+         * @param maxPipelinedRequests 응답을 기다리며 동시에 처리할 최대 요청 수 (1이면 파이프라이닝 없음)
+         * @return 메서드 체이닝을 위한 자기 자신
+         */
+        public ProcessorConfig setMaxPipelinedRequests(int maxPipelinedRequests) {
+            this.maxPipelinedRequests = maxPipelinedRequests;
+            return this;
+        }
+
+        /**
+         * 쓰기 스핀 횟수 반환
+         */
+        public int getWriteSpinCount() {
+            return writeSpinCount;
+        }
+
+        /**
+         * 쓰기 스핀 횟수 설정
+         *
+         * @param writeSpinCount 송신 버퍼가 비어 있는 동안 연속으로 시도할 write 횟수 (넘으면 OP_WRITE로 양보)
+         * @return 메서드 체이닝을 위한 자기 자신
+         */
+        public ProcessorConfig setWriteSpinCount(int writeSpinCount) {
+            this.writeSpinCount = writeSpinCount;
+            return this;
+        }
+
+        /**
+         * 송신 큐 low 워터마크 반환
+         */
+        public int getWriteBufferLowWaterMark() {
+            return writeBufferLowWaterMark;
+        }
+
+        /**
+         * 송신 큐 high 워터마크 반환
+         */
+        public int getWriteBufferHighWaterMark() {
+            return writeBufferHighWaterMark;
+        }
+
+        /**
+         * 송신 큐 워터마크 설정
+         *
+         * @param low 송신 큐가 이 아래로 내려가면 연결의 읽기 재개 (바이트)
+         * @param high 송신 큐가 이 위로 올라가면 연결의 읽기 중단 (바이트)
+         * @return 메서드 체이닝을 위한 자기 자신
+         */
+        public ProcessorConfig setWriteBufferWaterMark(int low, int high) {
+            this.writeBufferLowWaterMark = low;
+            this.writeBufferHighWaterMark = high;
             return this;
         }
 
@@ -453,6 +591,111 @@ public class EventLoopProcessor {
             this.responseBufferSize = responseBufferSize;
             return this;
         }
+
+        /**
+         * worker 루프 수 반환
+         */
+        public int getWorkerCount() {
+            return workerCount;
+        }
+
+        /**
+         * worker 루프 수 설정
+         *
+         * @param workerCount worker 루프 수 (1이면 기존 단일 루프와 같은 처리량 특성)
+         * @return 메서드 체이닝을 위한 자기 자신
+         */
+        public ProcessorConfig setWorkerCount(int workerCount) {
+            this.workerCount = workerCount;
+            return this;
+        }
+
+        /**
+         * worker 선택 전략 반환
+         */
+        public EventLoopGroup.SelectionStrategy getSelectionStrategy() {
+            return selectionStrategy;
+        }
+
+        /**
+         * worker 선택 전략 설정
+         *
+         * @param selectionStrategy ROUND_ROBIN 또는 LEAST_CONNECTIONS
+         * @return 메서드 체이닝을 위한 자기 자신
+         */
+        public ProcessorConfig setSelectionStrategy(EventLoopGroup.SelectionStrategy selectionStrategy) {
+            this.selectionStrategy = selectionStrategy;
+            return this;
+        }
+
+        /**
+         * 풀 버퍼 누수 감지 여부 반환
+         */
+        public boolean isBufferLeakDetection() {
+            return bufferLeakDetection;
+        }
+
+        /**
+         * 풀 버퍼 누수 감지 설정
+         *
+         * @param bufferLeakDetection true면 release() 없이 GC된 버퍼를 할당 위치와 함께 경고 (디버그 전용)
+         * @return 메서드 체이닝을 위한 자기 자신
+         */
+        public ProcessorConfig setBufferLeakDetection(boolean bufferLeakDetection) {
+            this.bufferLeakDetection = bufferLeakDetection;
+            return this;
+        }
+
+        /**
+         * 적응형 동시성 제한 알고리즘 반환 (null이면 사용 안 함)
+         */
+        public ConcurrencyLimiter.Algorithm getConcurrencyLimit() {
+            return concurrencyLimit;
+        }
+
+        /**
+         * 적응형 동시성 제한 설정
+         *
+         * 라우터로 디스패치 중인 요청 수에 상한을 두고 응답 시간을 보며 자동 조정
+         * 상한을 넘는 요청은 핸들러를 실행하지 않고 503 + Retry-After로 응답
+         *
+         * @param concurrencyLimit AIMD 또는 GRADIENT (null이면 사용 안 함)
+         * @return 메서드 체이닝을 위한 자기 자신
+         */
+        public ProcessorConfig setConcurrencyLimit(ConcurrencyLimiter.Algorithm concurrencyLimit) {
+            this.concurrencyLimit = concurrencyLimit;
+            return this;
+        }
+
+        public int getInitialConcurrencyLimit() {
+            return initialConcurrencyLimit;
+        }
+
+        /**
+         * 동시성 상한 시작값 설정
+         *
+         * @param initialConcurrencyLimit 시작 상한 (1 이상)
+         * @return 메서드 체이닝을 위한 자기 자신
+         */
+        public ProcessorConfig setInitialConcurrencyLimit(int initialConcurrencyLimit) {
+            this.initialConcurrencyLimit = initialConcurrencyLimit;
+            return this;
+        }
+
+        public int getMaxConcurrencyLimit() {
+            return maxConcurrencyLimit;
+        }
+
+        /**
+         * 동시성 상한 최대값 설정
+         *
+         * @param maxConcurrencyLimit 상한이 커질 수 있는 최대값 (시작값 이상)
+         * @return 메서드 체이닝을 위한 자기 자신
+         */
+        public ProcessorConfig setMaxConcurrencyLimit(int maxConcurrencyLimit) {
+            this.maxConcurrencyLimit = maxConcurrencyLimit;
+            return this;
+        }
     }
 
     /**
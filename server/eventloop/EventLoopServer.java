@@ -202,10 +202,10 @@ public class EventLoopServer {
     }
 
     /**
-     * 정적 파일 핸들러 (간단한 구현)
+     * 정적 파일 핸들러
      *
      * 지정된 경로의 정적 파일들을 서빙하는 라우트 추가
-     * 실제 운영환경에서는 더 복잡한 구현 필요 (MIME 타입, 캐싱 등)
+     * 파일은 sendfile(transferTo)로 전송하고 단일 구간 Range 요청을 지원 (StaticFileHandler 참고)
      *
      * @param path URL 경로 접두사 (예: "/static")
      * @param directory 실제 파일이 위치한 디렉터리
@@ -213,14 +213,8 @@ public class EventLoopServer {
      */
     public EventLoopServer staticFiles(String path, String directory) {
         // "/*": 와일드카드 패턴으로 하위 모든 경로 매칭
-        router.get(path + "/*", RouteHandler.sync(request -> {
-            // 간단한 정적 파일 서빙 (실제로는 더 복잡한 구현 필요)
-            // substring(): 문자열의 일부분 추출
-            String filePath = request.getPath().substring(path.length());
-
-            // 실제로는 파일 시스템에서 파일을 읽어야 하지만, 여기서는 간단한 텍스트 응답
-            return HttpResponse.text("정적 파일: " + filePath + " from " + directory);
-        }));
+        // 파일 내용은 FileRegion으로 응답 → 송신 큐에서 transferTo(sendfile)로 전송
+        router.get(path + "/*", new StaticFileHandler(path, directory));
         return this;
     }
 
@@ -500,7 +494,7 @@ done</pre>
                 "port": %d,
                 "routes": %d,
                 "features": [
-                    "Single Thread Event Loop",
+                    "Multi-Reactor Event Loop (boss + per-core workers)",
                     "NIO Selector",
                     "Non-blocking I/O",
                     "High Concurrency (10,000+ connections)",
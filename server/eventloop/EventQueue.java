@@ -3,6 +3,7 @@ package server.eventloop;
 import server.core.logging.Logger;
 import server.core.logging.LoggerFactory;
 
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
@@ -14,6 +15,7 @@ import java.util.function.Supplier;
  * 핵심 역할:
  * - EventLoop 스레드와 외부 스레드 간의 작업 전달 중계
  * - 지연 실행, 주기적 실행, 타임아웃 등 시간 기반 작업 스케줄링
+ *   (EventLoop의 마감 시각 큐에 직접 등록 - 스케줄러 스레드를 거치지 않고 루프에서 바로 실행)
  * - Promise 패턴과 체이닝 지원으로 비동기 프로그래밍 편의성 제공
  * - 배치 처리와 재시도 로직 등 고급 비동기 패턴 지원
  */
@@ -25,9 +27,11 @@ public class EventQueue {
     // EventLoop 인스턴스 - 실제 작업을 실행할 이벤트 루프
     private final EventLoop eventLoop;
 
-    // 스케줄러 - 시간 기반 작업 처리용 별도 스레드 풀
-    // ScheduledExecutorService: 지연 실행과 주기적 실행을 지원하는 스레드 풀
-    private final ScheduledExecutorService scheduler;
+    // 이 큐로 등록한 주기 작업들 - shutdown()에서 취소 (ScheduledExecutorService.shutdown()과 같은 동작)
+    private final Set<ScheduledFuture<?>> periodicTasks;
+
+    // 종료 여부 - 종료 후에는 새 예약을 거부
+    private volatile boolean shutdown;
 
     // 작업 ID 생성기 - 각 작업에 고유 ID 부여 (디버깅과 추적용)
     // AtomicLong: 스레드 안전한 long 값, 동시성 환경에서 중복 없는 ID 생성
@@ -41,17 +45,8 @@ public class EventQueue {
     public EventQueue(EventLoop eventLoop) {
         this.eventLoop = eventLoop;
 
-        // newSingleThreadScheduledExecutor(): 단일 스레드 스케줄러 생성
-        // 시간 기반 작업들을 하나의 스레드에서 순차적으로 처리
-        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            // ThreadFactory로 스레드 생성 방식 커스터마이징
-            Thread t = new Thread(r, "EventQueue-Scheduler");
-
-            // setDaemon(true): 데몬 스레드로 설정
-            // 메인 프로그램 종료시 이 스레드도 자동 종료
-            t.setDaemon(true);
-            return t;
-        });
+        // 시간 기반 작업은 EventLoop가 직접 관리하므로 별도 스케줄러 스레드를 만들지 않음
+        this.periodicTasks = ConcurrentHashMap.newKeySet();
 
         // 작업 ID 생성기 초기화 (0부터 시작)
         this.taskIdGenerator = new AtomicLong(0);
@@ -122,10 +117,10 @@ public class EventQueue {
      * @return 스케줄된 작업을 제어할 수 있는 ScheduledFuture
      */
     public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
-        // scheduler.schedule(): 지정된 시간 후에 작업 실행
-        // () -> eventLoop.execute(task): 람다로 EventLoop 실행 래핑
-        // 스케줄러 스레드에서 시간을 관리하고, 실제 실행은 EventLoop에서
-        return scheduler.schedule(() -> eventLoop.execute(task), delay, unit);
+        checkNotShutdown();
+        // eventLoop.schedule(): 루프의 마감 시각 큐에 등록
+        // 마감 시각에 루프 스레드에서 바로 실행 (스레드 전환 없음)
+        return eventLoop.schedule(task, delay, unit);
     }
 
     /**
@@ -140,19 +135,17 @@ public class EventQueue {
      * @return 작업 결과를 담은 CompletableFuture
      */
     public <T> CompletableFuture<T> scheduleAsync(Supplier<T> task, long delay, TimeUnit unit) {
+        checkNotShutdown();
         CompletableFuture<T> future = new CompletableFuture<>();
 
-        // 지연 실행 스케줄링
-        scheduler.schedule(() -> {
-            // 실제 작업은 EventLoop에서 실행
-            eventLoop.execute(() -> {
-                try {
-                    T result = task.get();
-                    future.complete(result);
-                } catch (Exception e) {
-                    future.completeExceptionally(e);
-                }
-            });
+        // 지연 실행 스케줄링 - 마감 시각에 EventLoop에서 바로 실행
+        eventLoop.schedule(() -> {
+            try {
+                T result = task.get();
+                future.complete(result);
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
         }, delay, unit);
 
         return future;
@@ -174,14 +167,17 @@ public class EventQueue {
                                                   long initialDelay,
                                                   long period,
                                                   TimeUnit unit) {
+        checkNotShutdown();
         // scheduleAtFixedRate(): 고정 간격으로 작업 반복
         // 이전 작업의 완료 시간과 관계없이 일정한 간격 유지
-        return scheduler.scheduleAtFixedRate(
-                () -> eventLoop.execute(task),  // EventLoop에서 실행
+        ScheduledFuture<?> future = eventLoop.scheduleAtFixedRate(
+                task,                           // EventLoop에서 직접 실행
                 initialDelay,                   // 초기 지연
                 period,                         // 반복 간격
                 unit                           // 시간 단위
         );
+        periodicTasks.add(future);
+        return future;
     }
 
     /**
@@ -201,6 +197,21 @@ public class EventQueue {
                                                        TimeUnit unit) {
         CompletableFuture<T> future = new CompletableFuture<>();
 
+        // 타임아웃 설정 - 작업보다 먼저 등록 (루프 큐에 작업이 밀려 있어도 마감 시각 기준으로 판단)
+        // 타임아웃도 루프 스레드에서 실행되므로, 루프를 막고 있는 작업 자체를 중간에 끊지는 못함
+        ScheduledFuture<?> timeoutTask = eventLoop.schedule(() -> {
+            // isDone(): Future가 완료되었는지 확인
+            if (!future.isDone()) {
+                // 아직 완료되지 않았으면 타임아웃 예외로 완료
+                future.completeExceptionally(
+                        new TimeoutException("작업이 " + timeout + " " + unit + " 후에 타임아웃됨")
+                );
+            }
+        }, timeout, unit);
+
+        // 먼저 완료되면 타임아웃을 취소해서 큐에 남기지 않음
+        future.whenComplete((result, error) -> timeoutTask.cancel(false));
+
         // 실제 작업 실행
         execute(() -> {
             try {
@@ -211,17 +222,6 @@ public class EventQueue {
             }
         });
 
-        // 타임아웃 설정
-        scheduler.schedule(() -> {
-            // isDone(): Future가 완료되었는지 확인
-            if (!future.isDone()) {
-                // 아직 완료되지 않았으면 타임아웃 예외로 완료
-                future.completeExceptionally(
-                        new TimeoutException("작업이 " + timeout + " " + unit + " 후에 타임아웃됨")
-                );
-            }
-        }, timeout, unit);
-
         return future;
     }
 
@@ -500,27 +500,26 @@ public class EventQueue {
     /**
      * 스케줄러 종료
      *
-     * EventQueue가 사용하는 스케줄러 스레드를 안전하게 종료
-     * 애플리케이션 종료시 리소스 정리
+     * 이 큐로 등록한 주기 작업을 취소하고 이후 예약을 거부
+     * 이미 예약된 일회성 지연 작업은 EventLoop가 살아 있는 동안 그대로 실행됨
      */
     public void shutdown() {
         logger.info("EventQueue 스케줄러 종료 중...");
 
-        // shutdown(): 새로운 작업 제출을 거부하고 기존 작업은 완료 대기
-        scheduler.shutdown();
+        shutdown = true;
+        for (ScheduledFuture<?> task : periodicTasks) {
+            // cancel(false): 다음 반복부터 실행하지 않음 (루프가 큐에서 버림)
+            task.cancel(false);
+        }
+        periodicTasks.clear();
+    }
 
-        try {
-            // awaitTermination(): 지정된 시간 동안 종료 대기
-            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-                // 5초 내에 종료되지 않으면 강제 종료
-                // shutdownNow(): 실행 중인 작업 중단하고 즉시 종료
-                scheduler.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            // 인터럽트 발생시 즉시 강제 종료
-            scheduler.shutdownNow();
-            // interrupt(): 현재 스레드의 인터럽트 상태 복원
-            Thread.currentThread().interrupt();
+    /**
+     * 종료 후 예약 시도 거부
+     */
+    private void checkNotShutdown() {
+        if (shutdown) {
+            throw new RejectedExecutionException("EventQueue is shut down");
         }
     }
 
@@ -535,7 +534,7 @@ public class EventQueue {
         return new QueueStats(
                 taskIdGenerator.get(),              // 총 생성된 작업 수
                 eventLoop.getQueuedTaskCount(),     // 대기 중인 작업 수
-                scheduler.isShutdown()              // 스케줄러 종료 여부
+                shutdown                            // 스케줄러 종료 여부
         );
     }
 
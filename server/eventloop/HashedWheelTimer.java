@@ -0,0 +1,284 @@
+package server.eventloop;
+
+import server.core.logging.Logger;
+import server.core.logging.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 루프 전용 해시드 휠 타이머
+ *
+ * 연결별 유휴/요청 읽기/쓰기 타임아웃처럼 "대부분 취소되는" 대량의 타이머를 위한 구조
+ * 모든 연결을 주기적으로 훑는 대신, 만료 시각에 해당하는 슬롯만 확인
+ *
+ * 구조:
+ * - tickMillis 간격의 슬롯 wheelSize개로 이루어진 원형 배열
+ * - 각 슬롯은 이중 연결 리스트 → 등록/취소 모두 O(1)
+ * - 한 바퀴보다 먼 타이머는 남은 바퀴 수(remainingRounds)를 함께 저장
+ *
+ * 스레드 모델:
+ * - 소유 EventLoop 스레드에서만 사용 (동기화 없음)
+ * - EventLoop.runEventLoop()가 매 반복마다 advance()로 지나간 틱을 처리
+ * - 해상도는 tickMillis이므로 연결 타임아웃처럼 정밀도가 중요하지 않은 용도에 적합
+ */
+public final class HashedWheelTimer {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    // 기본 틱 간격 (밀리초) - 타임아웃은 최대 이만큼 늦게 발생할 수 있음
+    public static final long DEFAULT_TICK_MILLIS = 100;
+
+    // 기본 슬롯 수 - 100ms * 512 = 약 51초가 한 바퀴
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final long tickNanos;       // 틱 간격 (나노초)
+    private final Timeout[] wheel;      // 슬롯별 리스트의 head
+    private final int mask;             // wheelSize - 1 (슬롯 인덱스 계산용, 크기는 2의 거듭제곱)
+    private final long startTime;       // 틱 0의 기준 시각 (nanoTime)
+
+    private long tick;                  // 다음에 처리할 틱 번호
+    private int pendingTimeouts;        // 등록되어 아직 만료/취소되지 않은 타이머 수
+    private long expiredTimeouts;       // 지금까지 만료되어 실행된 타이머 수
+
+    /**
+     * 기본 설정 (100ms 틱, 512 슬롯)으로 생성
+     */
+    public HashedWheelTimer() {
+        this(DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * HashedWheelTimer 생성자
+     *
+     * @param tickMillis 틱 간격 (밀리초)
+     * @param wheelSize 슬롯 수 (2의 거듭제곱으로 올림)
+     */
+    public HashedWheelTimer(long tickMillis, int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("wheelSize out of range: " + wheelSize);
+        }
+
+        // 2의 거듭제곱으로 올림 → % 대신 & 연산으로 슬롯 계산
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.wheel = new Timeout[size];
+        this.mask = size - 1;
+        this.startTime = System.nanoTime();
+    }
+
+    /**
+     * 타이머 등록
+     *
+     * @param task 만료시 루프 스레드에서 실행할 작업
+     * @param delay 지연 시간
+     * @param unit 시간 단위
+     * @return 취소에 사용할 핸들
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        long deadline = System.nanoTime() - startTime + Math.max(0, unit.toNanos(delay));
+
+        // 만료 틱 계산 - 이미 지난 틱이면 다음 advance()에서 바로 처리되도록 현재 틱에 넣음
+        long expireTick = Math.max(tick, (deadline + tickNanos - 1) / tickNanos);
+        Timeout timeout = new Timeout(this, task, expireTick);
+        timeout.remainingRounds = (expireTick - tick) / wheel.length;
+        addToBucket(timeout, (int) (expireTick & mask));
+        pendingTimeouts++;
+        return timeout;
+    }
+
+    /**
+     * 현재 시각까지 지나간 틱을 처리
+     *
+     * 만료된 타이머의 작업을 순서대로 실행하고, 아직 바퀴가 남은 타이머는 바퀴 수만 줄임
+     * 작업 안에서 새 타이머를 등록하거나 다른 타이머를 취소해도 안전함
+     *
+     * @return 실행한 타이머 수
+     */
+    public int advance() {
+        long now = System.nanoTime() - startTime;
+        int expired = 0;
+
+        // tick번 틱은 tick * tickNanos 시각에 끝남
+        while (tick * tickNanos <= now) {
+            int index = (int) (tick & mask);
+            tick++;
+            expired += expireBucket(index);
+        }
+
+        return expired;
+    }
+
+    /**
+     * 다음 틱까지 남은 시간 (밀리초)
+     *
+     * select() 대기 시간 계산용 - 등록된 타이머가 없으면 기다릴 필요가 없음
+     *
+     * @return 다음 틱까지 남은 밀리초 (최소 1), 등록된 타이머가 없으면 -1
+     */
+    public long millisUntilNextTick() {
+        if (pendingTimeouts == 0) {
+            return -1;
+        }
+        long remaining = tick * tickNanos - (System.nanoTime() - startTime);
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining + 999_999));
+    }
+
+    /**
+     * 한 슬롯의 타이머 처리
+     *
+     * 먼저 만료된 타이머를 슬롯에서 모두 떼어낸 뒤 실행
+     * (실행 중인 작업이 같은 슬롯의 다른 타이머를 취소해도 순회가 깨지지 않음)
+     */
+    private int expireBucket(int index) {
+        Timeout expiredHead = null;
+        Timeout expiredTail = null;
+
+        Timeout timeout = wheel[index];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.remainingRounds <= 0) {
+                removeFromBucket(timeout);
+                if (expiredTail == null) {
+                    expiredHead = timeout;
+                } else {
+                    expiredTail.next = timeout;
+                }
+                expiredTail = timeout;
+            } else {
+                // 아직 바퀴가 남음
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+
+        int expired = 0;
+        timeout = expiredHead;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.next = null;
+
+            // 앞선 작업이 취소했으면 건너뜀
+            if (timeout.state == Timeout.PENDING) {
+                timeout.state = Timeout.EXPIRED;
+                pendingTimeouts--;
+                expired++;
+                expiredTimeouts++;
+
+                try {
+                    timeout.task.run();
+                } catch (Exception e) {
+                    logger.error("타이머 작업 실행 중 오류", e);
+                }
+            }
+            timeout = next;
+        }
+
+        return expired;
+    }
+
+    private void addToBucket(Timeout timeout, int index) {
+        timeout.bucket = index;
+        Timeout head = wheel[index];
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        wheel[index] = timeout;
+    }
+
+    private void removeFromBucket(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            wheel[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+    }
+
+    // === 통계 ===
+
+    /**
+     * 대기 중인 타이머 수
+     */
+    public int getPendingTimeouts() {
+        return pendingTimeouts;
+    }
+
+    /**
+     * 지금까지 만료된 타이머 수
+     */
+    public long getExpiredTimeouts() {
+        return expiredTimeouts;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HashedWheelTimer{tick=%dms, slots=%d, pending=%d, expired=%d}",
+                TimeUnit.NANOSECONDS.toMillis(tickNanos), wheel.length, pendingTimeouts, expiredTimeouts);
+    }
+
+    /**
+     * 등록된 타이머 핸들
+     *
+     * cancel()은 소유 루프 스레드에서만 호출해야 함
+     */
+    public static final class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final long expireTick;
+
+        private long remainingRounds;   // 만료까지 남은 바퀴 수
+        private int bucket = -1;        // 들어 있는 슬롯 (-1이면 리스트에 없음)
+        private int state = PENDING;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, long expireTick) {
+            this.timer = timer;
+            this.task = task;
+            this.expireTick = expireTick;
+        }
+
+        /**
+         * 타이머 취소 - O(1)
+         *
+         * @return 대기 중이던 타이머를 취소했으면 true, 이미 만료/취소되었으면 false
+         */
+        public boolean cancel() {
+            if (state != PENDING) {
+                return false;
+            }
+            state = CANCELLED;
+            if (bucket >= 0) {
+                timer.removeFromBucket(this);
+            }
+            timer.pendingTimeouts--;
+            return true;
+        }
+
+        public boolean isCancelled() { return state == CANCELLED; }
+        public boolean isExpired() { return state == EXPIRED; }
+
+        @Override
+        public String toString() {
+            return String.format("Timeout{tick=%d, rounds=%d, state=%s}", expireTick, remainingRounds,
+                    state == PENDING ? "PENDING" : state == CANCELLED ? "CANCELLED" : "EXPIRED");
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package server.eventloop;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * EventLoop 작업 큐 - 고정 크기 다중 생산자 / 단일 소비자(MPSC) 배열 큐
+ *
+ * ConcurrentLinkedQueue는 작업마다 노드 객체를 할당하고 크기 제한이 없어서,
+ * 워커 스레드가 초당 수천 개의 완료 콜백을 넘기면 GC 부담과 무제한 적재가 생깁니다.
+ * 이 큐는 미리 할당한 링 버퍼에 슬롯별 순번을 두어 락 없이 동작합니다.
+ *
+ * 동작 방식 (슬롯별 순번 기반 링 버퍼):
+ * - 생산자: tail을 CAS로 한 칸 확보 → 슬롯에 작업 기록 → 슬롯 순번을 "읽기 가능"으로 공개
+ * - 소비자: head 슬롯의 순번이 "읽기 가능"일 때만 꺼내고, 순번을 다음 바퀴의 "쓰기 가능"으로 되돌림
+ * - 가득 차면 offer()가 false를 반환 (대기/대체 처리는 호출자인 EventLoop가 결정)
+ *
+ * poll()은 소유 EventLoop 스레드에서만 호출해야 합니다.
+ */
+class MpscTaskQueue {
+
+    private final Runnable[] buffer;         // 작업 슬롯
+    private final AtomicLongArray sequences; // 슬롯별 순번 - 생산자/소비자 사이의 공개 지점
+    private final int mask;                  // capacity - 1 (capacity는 2의 거듭제곱)
+
+    private final AtomicLong tail = new AtomicLong(); // 다음에 쓸 위치 (생산자들이 CAS로 경쟁)
+    private volatile long head;                       // 다음에 읽을 위치 (소비자만 변경)
+
+    /**
+     * MpscTaskQueue 생성자
+     *
+     * @param capacity 최대 작업 수 (2의 거듭제곱으로 올림)
+     */
+    MpscTaskQueue(int capacity) {
+        if (capacity < 2 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity out of range: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+
+        this.buffer = new Runnable[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+
+        // 슬롯 i는 순번 i일 때 쓰기 가능
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 작업 추가 - 여러 스레드에서 동시에 호출 가능
+     *
+     * @param task 추가할 작업
+     * @return 추가했으면 true, 큐가 가득 차면 false
+     */
+    boolean offer(Runnable task) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+
+            if (diff == 0) {
+                // 쓰기 가능한 슬롯 - 위치 확보 시도
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer[index] = task;
+                    // 순번 공개 - 소비자는 이 값을 본 뒤에 슬롯을 읽음
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                // 소비자가 아직 이 슬롯을 비우지 않음 → 가득 참
+                return false;
+            }
+            // diff > 0: 다른 생산자가 먼저 가져감 - 다시 시도
+        }
+    }
+
+    /**
+     * 작업 꺼내기 - 소유 EventLoop 스레드에서만 호출
+     *
+     * @return 다음 작업, 비어 있으면 null
+     */
+    Runnable poll() {
+        long position = head;
+        int index = (int) (position & mask);
+
+        // 생산자가 위치는 확보했지만 아직 공개하지 않은 슬롯이면 빈 것으로 처리
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+
+        Runnable task = buffer[index];
+        buffer[index] = null;
+        // 다음 바퀴에서 다시 쓸 수 있도록 순번 갱신
+        sequences.set(index, position + buffer.length);
+        head = position + 1;
+        return task;
+    }
+
+    /**
+     * 대기 중인 작업 수 (다른 스레드에서 읽으면 근사값)
+     */
+    int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, buffer.length));
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int capacity() {
+        return buffer.length;
+    }
+}
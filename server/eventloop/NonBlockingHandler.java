@@ -1,6 +1,9 @@
 package server.eventloop;
 
 // 필요한 클래스들을 import - 각각의 역할:
+import server.core.buffer.BufferPool;        // 루프 전용 direct 버퍼 풀
+import server.core.buffer.PooledBuffer;      // 참조 카운트 기반 풀 버퍼
+import server.core.limit.ConcurrencyLimiter; // 적응형 동시성 제한기 (worker 공유)
 import server.core.logging.Logger;           // 로깅 기능을 위한 Logger 클래스
 import server.core.logging.LoggerFactory;    // Logger 인스턴스 생성을 위한 팩토리 클래스
 import server.core.http.*;                   // HTTP 관련 클래스들 (HttpRequest, HttpResponse, HttpMethod 등)
@@ -11,6 +14,9 @@ import java.nio.ByteBuffer;                  // NIO에서 바이트 데이터를
 import java.nio.channels.SocketChannel;      // NIO 논블로킹 소켓 채널 클래스
 import java.util.concurrent.CompletableFuture; // 비동기 작업 처리를 위한 CompletableFuture
 import java.util.concurrent.ConcurrentHashMap; // 스레드 안전한 HashMap 구현체
+import java.util.concurrent.TimeUnit;        // 타이머 지연 시간 단위
+import java.util.ArrayDeque;                 // 응답 대기 큐 - 요청 순서대로 응답 전송
+import java.util.Arrays;                     // gathering write 배열 정리
 import java.util.Map;                        // Map 인터페이스 - 키-값 쌍 저장소
 import java.util.List;                       // List 인터페이스 - 순서가 있는 컬렉션
 import java.util.ArrayList;                  // List의 구현체 - 동적 배열
@@ -24,6 +30,8 @@ import java.util.ArrayList;                  // List의 구현체 - 동적 배
  * 3. 효율적인 버퍼 관리 (ByteBuffer 체인)
  * 4. 강화된 에러 처리
  * 5. 메모리 사용량 최적화
+ * 6. HTTP/1.1 파이프라이닝 (연결당 여러 요청을 동시에 처리하고 응답은 요청 순서대로 전송)
+ * 7. 연결별 송신 큐 + gathering write (워터마크로 읽기 백프레셔)
  *
  * 역할:
  * - EventLoop에서 발생하는 모든 네트워크 이벤트 처리
@@ -44,10 +52,26 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
     // Logger 인스턴스 - HTTP 처리 과정 추적을 위한 로깅 도구
     private static final Logger logger = LoggerFactory.getLogger(NonBlockingHandler.class);
 
+    // 큰 본문을 송신 큐에 넣을 때의 구간 크기 - heap 본문은 write 시 JDK가 임시 direct 버퍼로 복사하므로
+    // 한 번의 gathering write가 복사하는 양을 제한하기 위해 구간별 뷰로 나눔
+    private static final int OUTBOUND_SLICE_SIZE = 64 * 1024;
+
+    // gathering write 한 번에 넘기는 최대 버퍼 수 / 바이트 수 (소켓 송신 버퍼보다 약간 크게)
+    private static final int MAX_GATHER_BUFFERS = 64;
+    private static final long MAX_GATHER_BYTES = 512 * 1024;
+
+    // 스트리밍 본문을 읽어 오는 풀 버퍼 크기 - 스트리밍 응답 하나가 쓰는 메모리의 상한
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
     // 핵심 컴포넌트들 - final로 선언하여 생성 후 변경 불가능하게 함
     private final Router router;                    // URL 라우팅 처리 - 요청 URL을 적절한 핸들러로 매핑
     private final SelectorManager selectorManager;  // NIO Selector 관리 - 네트워크 이벤트 감지 및 처리
     private final EventQueue eventQueue;           // 비동기 작업 큐 - 논블로킹 작업 스케줄링
+    private final BufferPool bufferPool;           // 루프 전용 버퍼 풀 - 버퍼 체인과 응답 쓰기 버퍼 공급
+    private final HashedWheelTimer timer;          // 루프 전용 타이머 - 연결별 타임아웃 등록/취소
+
+    // gathering write에 넘길 버퍼 배열 (루프 스레드 전용 - 매 write마다 배열을 만들지 않도록 재사용)
+    private final ByteBuffer[] gatherBuffers = new ByteBuffer[MAX_GATHER_BUFFERS];
 
     // 연결별 상태 관리
     // ConcurrentHashMap: 스레드 안전한 Map 구현 - 동시 접근시에도 데이터 일관성 보장
@@ -55,9 +79,41 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
     private final Map<SocketChannel, ConnectionState> connectionStates;
 
     // 설정값들 - 보안과 성능을 위한 제한값들
-    private final int maxRequestSize;      // 최대 요청 크기 (DoS 공격 방지) - 1MB로 제한
-    private final int responseBufferSize;  // 응답 버퍼 크기 (메모리 효율성) - 8KB 단위로 전송
-    private final long connectionTimeout;  // 연결 타임아웃 (좀비 연결 방지) - 30초 후 자동 해제
+    private int bodySpoolThreshold;        // 이보다 큰 요청 본문은 임시 파일로 (요청당 힙 사용량 제한)
+    private long maxRequestBodySize;       // 최대 요청 본문 크기 (DoS 공격 방지)
+    private final int responseBufferSize;  // 이 크기 이하의 응답은 헤더와 본문을 풀 버퍼 하나에 모아서 전송
+    private ConcurrencyLimiter concurrencyLimiter; // 디스패치 중인 요청 수 제한 (null이면 제한 없음)
+
+    // 연결별 타임아웃 (밀리초, 0 이하면 사용 안 함) - 루프 타이머에 연결마다 하나씩만 걸려 있음
+    private long idleTimeout;              // 요청 사이 유휴 시간 (Keep-Alive 대기, 좀비 연결 방지)
+    private long headerReadTimeout;        // 첫 바이트부터 요청 전체를 받을 때까지 (느린 클라이언트 방어)
+    private long writeTimeout;             // 응답 전송이 진행되지 않는 시간 (수신하지 않는 클라이언트 방어)
+
+    // 연결당 동시에 처리할 수 있는 파이프라인 요청 수 (응답 대기 큐 크기)
+    // 가득 차면 앞선 응답이 나갈 때까지 해당 연결의 읽기를 멈춤
+    private int maxPipelinedRequests;
+
+    // 한 번의 쓰기 기회에 시도할 최대 write 횟수 - 다 쓰지 못하면 OP_WRITE로 넘겨 다른 채널에 차례를 줌
+    private int writeSpinCount;
+
+    // 송신 큐 워터마크 (바이트) - high를 넘으면 읽기를 멈추고 low 아래로 내려가면 재개
+    private int writeBufferLowWaterMark;
+    private int writeBufferHighWaterMark;
+
+    // 타임아웃으로 닫은 연결 수 (루프 스레드에서만 증가)
+    private volatile long timedOutConnections;
+
+    // 앞선 요청의 응답을 기다리는 동안 파싱된(파이프라인된) 요청 수 (루프 스레드에서만 증가)
+    private volatile long pipelinedRequests;
+
+    /**
+     * 연결에 걸려 있는 타임아웃 종류
+     */
+    private enum TimeoutKind {
+        IDLE,          // 다음 요청 대기 중
+        HEADER_READ,   // 요청을 받는 중
+        WRITE          // 응답 전송 중 (송신 버퍼가 가득 참)
+    }
 
     /**
      * NonBlockingHandler 생성자
@@ -73,14 +129,112 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
         this.selectorManager = selectorManager;
         this.eventQueue = eventQueue;
 
+        // 이 핸들러가 속한 루프의 버퍼 풀 (모든 연결 처리가 같은 루프 스레드에서 일어남)
+        this.bufferPool = selectorManager.getEventLoop().getBufferPool();
+
+        // 같은 루프의 타이머 (타임아웃 등록/취소/만료가 모두 루프 스레드에서 일어남)
+        this.timer = selectorManager.getEventLoop().getTimer();
+
         // 연결 상태 저장소 초기화
         // new ConcurrentHashMap<>(): 제네릭 타입 추론으로 타입 생략 가능 (Java 7+)
         this.connectionStates = new ConcurrentHashMap<>();
 
         // 기본 설정값들 - 일반적인 HTTP 서버 설정값들
-        this.maxRequestSize = 1024 * 1024;    // 1MB - 일반적인 HTTP 요청 크기 제한 (1024 * 1024 = 1,048,576 bytes)
+        this.bodySpoolThreshold = BodySpooler.DEFAULT_SPOOL_THRESHOLD;          // 1MB까지 메모리
+        this.maxRequestBodySize = HttpRequestDecoder.DEFAULT_MAX_BODY_SIZE;     // 1GB - 넘으면 413
         this.responseBufferSize = 8192;       // 8KB - 효율적인 네트워크 전송 단위 (TCP 버퍼 크기와 유사)
-        this.connectionTimeout = 30000;       // 30초 - 일반적인 HTTP 타임아웃 (30 * 1000 = 30,000 밀리초)
+        this.idleTimeout = 30000;             // 30초 - 일반적인 HTTP Keep-Alive 타임아웃 (30 * 1000 = 30,000 밀리초)
+        this.headerReadTimeout = 10000;       // 10초 - 요청 하나를 보내는 데 충분한 시간
+        this.writeTimeout = 30000;            // 30초 - 응답이 전혀 전송되지 않는 최대 시간
+        this.maxPipelinedRequests = 16;       // 연결당 처리 중인 요청 최대 16개
+        this.writeSpinCount = 16;             // 한 번에 최대 16번 write 시도
+        this.writeBufferLowWaterMark = 32 * 1024;   // 32KB 아래로 내려가면 읽기 재개
+        this.writeBufferHighWaterMark = 64 * 1024;  // 64KB를 넘으면 읽기 중단
+    }
+
+    /**
+     * 연결 타임아웃 설정
+     *
+     * 서버 시작 전에 호출 - 이후 새로 걸리는 타이머부터 적용됨
+     *
+     * @param idleTimeout 요청 사이 유휴 타임아웃 (밀리초, 0 이하면 사용 안 함)
+     * @param headerReadTimeout 요청 읽기 타임아웃 (밀리초, 0 이하면 사용 안 함)
+     * @param writeTimeout 응답 쓰기 타임아웃 (밀리초, 0 이하면 사용 안 함)
+     */
+    public void setTimeouts(long idleTimeout, long headerReadTimeout, long writeTimeout) {
+        this.idleTimeout = idleTimeout;
+        this.headerReadTimeout = headerReadTimeout;
+        this.writeTimeout = writeTimeout;
+    }
+
+    /**
+     * 요청 본문 크기 설정
+     *
+     * 서버 시작 전에 호출 - 이후 새로 연결되는 클라이언트부터 적용됨
+     *
+     * @param spoolThreshold 이 크기를 넘는 본문은 임시 파일에 기록 (바이트)
+     * @param maxBodySize 허용할 최대 본문 크기 (바이트, 넘으면 413)
+     */
+    public void setRequestBodyLimits(int spoolThreshold, long maxBodySize) {
+        if (spoolThreshold < 0 || maxBodySize < 0) {
+            throw new IllegalArgumentException("Body limits cannot be negative");
+        }
+        this.bodySpoolThreshold = spoolThreshold;
+        this.maxRequestBodySize = maxBodySize;
+    }
+
+    /**
+     * 연결당 파이프라인 요청 수 제한 설정
+     *
+     * 서버 시작 전에 호출 - 1이면 파이프라이닝 없이 요청을 하나씩 처리
+     *
+     * @param maxPipelinedRequests 응답을 기다리며 동시에 처리할 최대 요청 수 (1 이상)
+     */
+    public void setMaxPipelinedRequests(int maxPipelinedRequests) {
+        if (maxPipelinedRequests < 1) {
+            throw new IllegalArgumentException("maxPipelinedRequests must be at least 1: " + maxPipelinedRequests);
+        }
+        this.maxPipelinedRequests = maxPipelinedRequests;
+    }
+
+    /**
+     * 쓰기 스핀 횟수 설정
+     *
+     * @param writeSpinCount 한 번의 쓰기 기회에 시도할 최대 write 횟수 (1 이상)
+     */
+    public void setWriteSpinCount(int writeSpinCount) {
+        if (writeSpinCount < 1) {
+            throw new IllegalArgumentException("writeSpinCount must be at least 1: " + writeSpinCount);
+        }
+        this.writeSpinCount = writeSpinCount;
+    }
+
+    /**
+     * 송신 큐 워터마크 설정
+     *
+     * 송신 큐에 쌓인 바이트가 high를 넘으면 해당 연결의 읽기를 멈추고,
+     * low 아래로 내려가면 다시 읽음 (느리게 받는 클라이언트가 응답을 무한히 쌓지 못하게 함)
+     *
+     * @param low 읽기 재개 기준 (바이트)
+     * @param high 읽기 중단 기준 (바이트, low 이상)
+     */
+    public void setWriteBufferWaterMark(int low, int high) {
+        if (low < 0 || high < low) {
+            throw new IllegalArgumentException("invalid water mark: low=" + low + ", high=" + high);
+        }
+        this.writeBufferLowWaterMark = low;
+        this.writeBufferHighWaterMark = high;
+    }
+
+    /**
+     * 적응형 동시성 제한기 설정
+     *
+     * 서버 시작 전에 호출 - 모든 worker의 핸들러가 같은 제한기를 공유
+     *
+     * @param concurrencyLimiter 동시성 제한기 (null이면 제한 없음)
+     */
+    public void setConcurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
     }
 
     // === ServerSocketEventHandler 구현 ===
@@ -107,12 +261,15 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
             // 연결 상태 초기화
             // 각 연결마다 독립적인 상태 정보를 관리
             // new ConnectionState(): 새로운 연결 상태 객체 생성
-            ConnectionState state = new ConnectionState(clientChannel);
+            ConnectionState state = new ConnectionState(clientChannel, maxRequestBodySize, bodySpoolThreshold);
 
             // put() 메서드: Map에 키-값 쌍을 저장
             // clientChannel을 키로, state를 값으로 저장
             connectionStates.put(clientChannel, state);
 
+            // 첫 요청이 올 때까지는 유휴 타임아웃
+            armTimeout(clientChannel, state, TimeoutKind.IDLE);
+
             // 연결 수락 로그 (디버깅용)
             // debug() 메서드: 디버그 레벨 로그 출력 (개발시에만 출력)
             // {} 플레이스홀더: 뒤의 매개변수로 치환됨
@@ -146,6 +303,30 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
      */
     @Override
     public void onRead(EventLoop eventLoop, SocketChannel channel, ByteBuffer buffer) throws IOException {
+        // 호출 동안만 유효한 버퍼이므로 풀 버퍼로 한 번 복사한 뒤 풀 버퍼 경로로 처리
+        PooledBuffer copy = bufferPool.allocate(buffer.remaining());
+        copy.buffer().put(buffer).flip();
+        try {
+            onRead(eventLoop, channel, copy);
+        } finally {
+            // 체인에 보관되었다면 체인이 retain한 참조만 남음
+            copy.release();
+        }
+    }
+
+    /**
+     * 풀 버퍼로 읽기 이벤트 처리
+     *
+     * 읽은 버퍼를 복사하지 않고 retain()해서 연결의 버퍼 체인에 그대로 보관
+     * 체인에서 소비가 끝난 버퍼는 release()되어 루프의 풀로 돌아감
+     *
+     * @param eventLoop EventLoop 인스턴스 - 현재 이벤트를 처리하는 이벤트 루프
+     * @param channel 데이터를 받은 클라이언트 채널
+     * @param buffer 읽은 데이터가 담긴 풀 버퍼 - flip() 호출된 상태
+     * @throws IOException I/O 오류 발생시 던져지는 예외
+     */
+    @Override
+    public void onRead(EventLoop eventLoop, SocketChannel channel, PooledBuffer buffer) throws IOException {
         // 연결 상태 조회
         // get() 메서드: Map에서 키에 해당하는 값을 가져옴, 없으면 null 반환
         ConnectionState state = connectionStates.get(channel);
@@ -168,12 +349,9 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
             state.appendData(buffer);
 
             // HTTP 요청 파싱 시도
-            // getState(): 현재 연결의 상태를 반환 (READING_REQUEST, PROCESSING_REQUEST, WRITING_RESPONSE)
-            // == 연산자: enum 비교시 equals() 대신 사용 가능
-            if (state.getState() == ConnectionState.State.READING_REQUEST) {
-                // tryParseRequest(): HTTP 요청 파싱을 시도하는 메서드
-                tryParseRequest(channel, state);
-            }
+            // 앞선 요청을 처리 중이어도 이미 도착한 다음 요청(파이프라이닝)을 바로 파싱해서 처리 시작
+            // tryParseRequest(): 완성된 요청을 모두 꺼내 디스패치하고 타임아웃을 갱신하는 메서드
+            tryParseRequest(channel, state);
 
         } catch (OutOfMemoryError e) {
             // OutOfMemoryError: 메모리 부족시 발생하는 에러
@@ -187,7 +365,7 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
                     selectorManager.getChannelId(channel), e);
 
             // 500 Internal Server Error 응답 전송
-            // sendErrorResponse(): 에러 응답을 생성하고 전송하는 메서드
+            // sendErrorResponse(): 앞선 응답들 뒤에 에러 응답을 보내고 연결을 닫는 메서드
             // HttpStatus.INTERNAL_SERVER_ERROR: HTTP 500 상태 코드
             sendErrorResponse(channel, state, HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -214,18 +392,14 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
         }
 
         try {
-            // 응답 데이터 쓰기
-            // writeResponse(): 응답 데이터를 실제로 전송하는 메서드
-            // boolean 반환값: 전송 완료 여부
-            boolean writeComplete = writeResponse(channel, state);
-
-            if (writeComplete) {
-                // 쓰기 완료시 후속 처리
-                // handleWriteComplete(): 응답 전송 완료 후 Keep-Alive 등 후속 처리
-                handleWriteComplete(channel, state);
+            // EventLoop가 onWrite 호출 전에 OP_WRITE를 내렸음
+            state.setWritePending(false);
+
+            // 송신 큐 전송 - 다 못 보내면 flushOutbound()가 OP_WRITE를 다시 등록
+            // 다 보냈으면 읽기 재개 여부와 타임아웃 갱신 (연결을 닫았으면 false)
+            if (flushOutbound(channel, state)) {
+                resumeReading(channel, state);
             }
-            // writeComplete가 false면 아직 쓸 데이터가 남아있음
-            // 다음 WRITE 이벤트에서 계속 처리
 
         } catch (Exception e) {
             logger.error("채널 {}의 응답 쓰기 중 오류가 발생했습니다",
@@ -250,12 +424,25 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
         ConnectionState state = connectionStates.remove(channel);
 
         if (state != null) {
+            // 걸려 있는 타임아웃 취소 (O(1) - 휠 슬롯에서 제거)
+            state.cancelTimeout();
+
+            // 연결에 묶여 있던 풀 버퍼(버퍼 체인, 응답 쓰기 버퍼) 반환
+            state.releaseBuffers();
+
             // 연결 해제 로그 (연결 지속 시간 포함)
             // getLifetimeMillis(): 연결 생성부터 현재까지의 시간을 밀리초로 반환
             logger.debug("연결이 해제되었습니다: {} (지속 시간: {}ms)",
                     selectorManager.getChannelId(channel),
                     state.getLifetimeMillis());
         }
+
+        // EventLoop가 read -1이나 읽기 오류로 직접 통지한 경우 SelectorManager를 거치지 않았으므로
+        // 여기서 채널 컨텍스트와 활성 연결 수를 정리 (LEAST_CONNECTIONS 분배가 이 수를 사용)
+        // closeChannel()을 거친 통지라면 컨텍스트가 이미 제거되어 있어 건너뜀
+        if (selectorManager.getChannelContext(channel) != null) {
+            selectorManager.closeChannel(channel);
+        }
     }
 
     // === 수정된 HTTP 요청 처리 (기존 HttpRequest 사용) ===
@@ -263,203 +450,122 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
     /**
      * 논블로킹 HTTP 요청 파싱 시도
      *
-     * 수신된 데이터가 완전한 HTTP 요청을 구성하는지 확인하고 파싱
-     * HTTP 요청은 여러 번의 read 이벤트를 통해 점진적으로 도착할 수 있음
+     * 버퍼 체인의 데이터를 연결별 점진적 디코더에 순서대로 넘김
+     * 디코더가 멈춘 위치를 기억하므로 이미 본 바이트를 다시 합치거나 다시 검색하지 않음
+     * 다 읽은 버퍼는 즉시 풀로 반환
+     *
+     * HTTP/1.1 파이프라이닝:
+     * - 버퍼에 남은 바이트로 완성되는 요청을 모두 꺼내서 앞선 요청의 응답을 기다리지 않고 바로 디스패치
+     * - 응답은 완료 순서와 관계없이 연결의 응답 대기 큐를 통해 요청 순서대로 전송
+     * - 처리 중인 요청이 maxPipelinedRequests에 도달하거나 송신 큐가 가득 차면 읽기를 멈춤 (자리가 나면 재개)
+     * - Connection: close 요청이나 잘못된 요청 이후의 바이트는 읽지 않음
      *
      * @param channel 클라이언트 채널 - 요청이 온 연결
      * @param state 연결 상태 - 해당 연결의 현재 상태와 버퍼
      */
     private void tryParseRequest(SocketChannel channel, ConnectionState state) {
-        // 수정: ByteBuffer 체인에서 데이터 가져오기
-        // getCombinedBuffer(): 체인에 있는 모든 버퍼를 하나로 합쳐서 반환
-        ByteBuffer combinedBuffer = state.getCombinedBuffer();
-
-        // remaining() 메서드: 버퍼에서 읽을 수 있는 남은 바이트 수 반환
-        if (combinedBuffer.remaining() == 0) {
-            return; // 데이터가 없으면 대기
-        }
-
-        // 요청 크기 제한 확인 (DoS 공격 방어)
-        if (combinedBuffer.remaining() > maxRequestSize) {
-            logger.warn("요청이 너무 큽니다: {} bytes", combinedBuffer.remaining());
-            // sendErrorResponse(): HTTP 413 Payload Too Large 응답 전송
-            sendErrorResponse(channel, state, HttpStatus.PAYLOAD_TOO_LARGE);
-            return;
-        }
-
-        // 수정: 논블로킹 HTTP 헤더 파싱
-        // findHeaderEnd(): HTTP 헤더의 끝(\r\n\r\n)을 찾는 메서드
-        int headerEndIndex = findHeaderEnd(combinedBuffer);
-        if (headerEndIndex == -1) {
-            // 헤더가 아직 완료되지 않음
-            logger.debug("요청 헤더가 아직 완료되지 않아 더 많은 데이터를 기다리는 중입니다...");
+        // 라우터가 루프 스레드에서 바로 완료하면 파싱 도중 응답 전송 → 다음 파싱으로 재진입할 수 있음
+        // 바깥 루프가 이어서 파싱하므로 재진입은 무시
+        if (state.isParsing()) {
             return;
         }
 
+        state.setParsing(true);
         try {
-            // 수정: 기존 HttpRequest 생성
-            // parseHttpRequestFromBuffer(): ByteBuffer에서 HttpRequest 객체를 파싱
-            HttpRequest request = parseHttpRequestFromBuffer(combinedBuffer, headerEndIndex);
-
-            if (request == null) {
-                logger.warn("HTTP 요청 파싱에 실패했습니다");
-                // sendErrorResponse(): HTTP 400 Bad Request 응답 전송
-                sendErrorResponse(channel, state, HttpStatus.BAD_REQUEST);
-                return;
-            }
-
-            // setRequest(): 파싱된 요청을 연결 상태에 저장
-            state.setRequest(request);
-            // setState(): 연결 상태를 "요청 처리 중"으로 변경
-            state.setState(ConnectionState.State.PROCESSING_REQUEST);
-
-            // 수정: 사용된 데이터 제거
-            // consumeBytes(): 파싱에 사용된 바이트만큼 버퍼에서 제거
-            state.consumeBytes(headerEndIndex);
-
-            // getMethod(): HTTP 메서드 반환 (GET, POST 등)
-            // getPath(): 요청 경로 반환 (/index.html 등)
-            logger.debug("HTTP 요청이 파싱되었습니다: {} {}",
-                    request.getMethod(), request.getPath());
-
-            // 라우터를 통한 요청 처리 (비동기)
-            // processRequestAsync(): 비동기로 요청을 처리하는 메서드
-            processRequestAsync(channel, state, request);
-
-        } catch (Exception e) {
-            logger.error("HTTP 요청 파싱 중 오류가 발생했습니다", e);
-            sendErrorResponse(channel, state, HttpStatus.BAD_REQUEST);
-        }
-    }
-
-    /**
-     * 새로운 논블로킹 HTTP 파싱 메서드 - 기존 HttpRequest 클래스 사용
-     *
-     * ByteBuffer에서 HTTP 요청을 파싱하여 HttpRequest 객체 생성
-     * HTTP/1.1 프로토콜 스펙에 따른 파싱 구현
-     *
-     * @param buffer HTTP 데이터가 담긴 ByteBuffer - 파싱할 원본 데이터
-     * @param headerEndIndex HTTP 헤더의 끝 위치 - \r\n\r\n의 위치
-     * @return 파싱된 HttpRequest 객체
-     * @throws HttpParsingException 파싱 실패시 던져지는 커스텀 예외
-     */
-    private HttpRequest parseHttpRequestFromBuffer(ByteBuffer buffer, int headerEndIndex) throws HttpParsingException {
-        try {
-            // 헤더 부분만 추출
-            // headerEndIndex - 4: \r\n\r\n (4바이트) 제외
-            byte[] headerBytes = new byte[headerEndIndex - 4];
+            while (!state.isClosing() && state.getInFlightCount() < maxPipelinedRequests) {
+                HttpRequest request = decodeNext(state);
+                if (request == null) {
+                    // 요청이 아직 완료되지 않음
+                    logger.debug("요청이 아직 완료되지 않아 더 많은 데이터를 기다리는 중입니다...");
+                    break;
+                }
 
-            // position() 메서드: 현재 버퍼의 위치를 반환
-            int originalPosition = buffer.position();
+                // 요청을 다 받았으므로 읽기/유휴 타임아웃 해제 (처리 중에는 타임아웃 없음)
+                // 앞선 응답을 보내는 중이면 쓰기 타임아웃은 유지
+                if (state.getTimeoutKind() != TimeoutKind.WRITE) {
+                    state.cancelTimeout();
+                }
 
-            // get() 메서드: 버퍼에서 바이트 배열로 데이터를 읽어옴
-            buffer.get(headerBytes);
+                if (state.getInFlightCount() > 0) {
+                    pipelinedRequests++;
+                }
 
-            // 바이트 배열을 UTF-8 문자열로 변환
-            // new String(byte[], String): 바이트 배열을 지정된 인코딩으로 문자열 변환
-            String headerString = new String(headerBytes, "UTF-8");
+                // addExchange(): 응답 대기 큐 끝에 요청 자리를 만듦 (응답 전송 순서 = 요청 순서)
+                Exchange exchange = state.addExchange(request);
 
-            // CRLF(\r\n)로 헤더 라인들 분리
-            // split() 메서드: 정규표현식으로 문자열을 배열로 분할
-            String[] lines = headerString.split("\r\n");
+                // Connection: close 요청 뒤의 바이트는 처리하지 않음
+                if (!request.isKeepAlive()) {
+                    state.setClosing();
+                }
 
-            // length 속성: 배열의 길이 반환
-            if (lines.length == 0) {
-                throw new HttpParsingException("빈 HTTP 요청입니다");
-            }
+                // getMethod(): HTTP 메서드 반환 (GET, POST 등)
+                // getPath(): 요청 경로 반환 (/index.html 등)
+                logger.debug("HTTP 요청이 파싱되었습니다: {} {} (처리 중인 요청: {})",
+                        request.getMethod(), request.getPath(), state.getInFlightCount());
 
-            // 요청 라인 파싱 (GET /path HTTP/1.1)
-            // split(" "): 공백으로 문자열 분할
-            String[] requestLineParts = lines[0].split(" ");
-            if (requestLineParts.length != 3) {
-                throw new HttpParsingException("잘못된 요청 라인입니다: " + lines[0]);
-            }
+                // 라우터를 통한 요청 처리 (비동기)
+                // processRequestAsync(): 비동기로 요청을 처리하는 메서드
+                processRequestAsync(channel, state, exchange);
 
-            // HTTP 메서드 파싱
-            HttpMethod method;
-            try {
-                // valueOf(): enum 상수 이름으로 enum 값 조회
-                // toUpperCase(): 문자열을 대문자로 변환 (GET, POST 등)
-                method = HttpMethod.valueOf(requestLineParts[0].toUpperCase());
-            } catch (IllegalArgumentException e) {
-                // IllegalArgumentException: 잘못된 매개변수 전달시 발생하는 예외
-                throw new HttpParsingException("지원하지 않는 HTTP 메서드입니다: " + requestLineParts[0]);
+                // 동기 완료된 응답 전송 중에 연결이 닫혔으면 중단
+                if (connectionStates.get(channel) != state) {
+                    return;
+                }
             }
 
-            String uri = requestLineParts[1];        // 요청 URI (/path?query=value)
-            String version = requestLineParts[2];    // HTTP 버전 (HTTP/1.1)
-
-            // 헤더 파싱
-            // new HttpHeaders(): HTTP 헤더 컨테이너 객체 생성
-            HttpHeaders headers = new HttpHeaders();
-
-            // for 루프: 1번 인덱스부터 시작 (0번은 요청 라인이므로 제외)
-            for (int i = 1; i < lines.length; i++) {
-                String line = lines[i];
+        } catch (HttpRequestDecoder.DecodeException e) {
+            // 잘못된 요청이나 제한 초과 - 앞선 요청들의 응답 뒤에 디코더가 정한 상태 코드로 응답 후 연결 종료
+            logger.warn("HTTP 요청 파싱 실패 ({}): {}", e.getStatus().getCode(), e.getMessage());
+            sendErrorResponse(channel, state, e.getStatus());
+        } finally {
+            state.setParsing(false);
+        }
 
-                // indexOf(':'): 콜론의 위치 찾기 (헤더 이름과 값 구분자)
-                int colonIndex = line.indexOf(':');
-                if (colonIndex > 0) {
-                    // substring(): 문자열 일부 추출
-                    // trim(): 앞뒤 공백 제거
-                    String name = line.substring(0, colonIndex).trim();
-                    String value = line.substring(colonIndex + 1).trim();
+        if (connectionStates.get(channel) != state) {
+            return;
+        }
 
-                    // add() 메서드: 헤더에 이름-값 쌍 추가
-                    headers.add(name, value);
+        // 파싱 중에 쌓인 응답들을 gathering write 한 번으로 전송
+        if (state.hasOutbound() && !state.isWritePending()) {
+            try {
+                if (!flushOutbound(channel, state)) {
+                    return;
                 }
+            } catch (IOException e) {
+                logger.error("응답 전송 중 오류가 발생했습니다", e);
+                selectorManager.closeChannel(channel);
+                return;
             }
-
-            // Body 처리 (현재는 간단한 GET 요청만 처리하므로 빈 body)
-            byte[] body = new byte[0];  // 빈 바이트 배열 생성
-
-            // Content-Length가 있는 경우 body 읽기 (향후 확장 가능)
-            // getContentLength(): Content-Length 헤더 값을 long으로 반환
-            long contentLength = headers.getContentLength();
-            if (contentLength > 0) {
-                // 현재는 body가 있는 요청은 지원하지 않음 (GET 요청 위주)
-                logger.debug("body가 있는 요청이 감지되었습니다 (Content-Length: {}), body 파싱은 구현되지 않았습니다", contentLength);
-            }
-
-            // 수정: 기존 HttpRequest 클래스 사용
-            // new HttpRequest(): HTTP 요청 객체 생성 (메서드, URI, 버전, 헤더, body)
-            return new HttpRequest(method, uri, version, headers, body);
-
-        } catch (Exception e) {
-            // 파싱 중 발생한 모든 예외를 HttpParsingException으로 감싸서 던짐
-            throw new HttpParsingException("HTTP 요청 파싱에 실패했습니다: " + e.getMessage(), e);
         }
+
+        // 더 받을 수 없으면 읽기 중단, 자리가 생겼으면 재개
+        updateReadInterest(channel, state);
+        updateTimeout(channel, state);
     }
 
     /**
-     * HTTP 헤더 끝 찾기 (\r\n\r\n)
+     * 버퍼 체인에서 다음 요청 하나를 디코딩
      *
-     * HTTP 헤더는 \r\n\r\n으로 끝나므로 이 패턴을 찾아야 함
-     * 이 패턴을 찾으면 헤더가 완전히 도착했다는 의미
+     * 요청 뒤에 남은 바이트(파이프라인된 다음 요청)는 체인에 남겨둠
      *
-     * @param buffer 검색할 ByteBuffer - HTTP 데이터가 담긴 버퍼
-     * @return 헤더 끝 위치, 찾지 못하면 -1
+     * @param state 연결 상태
+     * @return 완성된 요청, 데이터가 더 필요하면 null
+     * @throws HttpRequestDecoder.DecodeException 요청 형식이 잘못되었거나 제한을 넘은 경우
      */
-    private int findHeaderEnd(ByteBuffer buffer) {
-        // position(): 현재 읽기 위치
-        int position = buffer.position();
-        // limit(): 버퍼의 끝 위치
-        int limit = buffer.limit();
-
-        // 버퍼에서 \r\n\r\n 패턴 검색
-        // for 루프: position부터 limit-4까지 (4바이트 패턴이므로)
-        for (int i = position; i <= limit - 4; i++) {
-            // get(int): 특정 위치의 바이트 값 가져오기 (위치 변경 없이)
-            // '\r': 캐리지 리턴 (13), '\n': 라인 피드 (10)
-            if (buffer.get(i) == '\r' &&
-                    buffer.get(i + 1) == '\n' &&
-                    buffer.get(i + 2) == '\r' &&
-                    buffer.get(i + 3) == '\n') {
-                // 상대적 위치 반환 (position 기준)
-                return i + 4 - position;
+    private HttpRequest decodeNext(ConnectionState state) throws HttpRequestDecoder.DecodeException {
+        HttpRequestDecoder decoder = state.getDecoder();
+        List<PooledBuffer> chain = state.getBufferChain();
+
+        HttpRequest request = null;
+        while (request == null && !chain.isEmpty()) {
+            PooledBuffer first = chain.get(0);
+            request = decoder.decode(first.buffer());
+            if (!first.buffer().hasRemaining()) {
+                // 다 읽은 버퍼는 체인에서 빼고 풀로 반환
+                chain.remove(0).release();
             }
         }
-        return -1; // 헤더 끝을 찾지 못함
+        return request;
     }
 
     /**
@@ -467,105 +573,374 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
      *
      * Router를 통해 요청을 적절한 핸들러로 라우팅하고 비동기로 처리
      * 논블로킹 방식으로 작업하기 위해 CompletableFuture 사용
+     * 같은 연결의 파이프라인 요청들도 각각 바로 디스패치되어 동시에 처리됨
+     *
+     * 동시성 제한기가 있으면 디스패치 전에 허가를 얻고, 상한에 걸리면 핸들러를 실행하지 않고
+     * 바로 503 + Retry-After로 응답 (허가는 핸들러가 끝날 때 응답 시간과 함께 반환)
      *
      * @param channel 클라이언트 채널 - 응답을 보낼 연결
      * @param state 연결 상태 - 현재 연결의 상태 정보
-     * @param request 파싱된 HTTP 요청 - 처리할 요청 객체
+     * @param exchange 응답 대기 큐의 요청 자리 - 처리할 요청과 응답을 담음
      */
-    private void processRequestAsync(SocketChannel channel, ConnectionState state, HttpRequest request) {
+    private void processRequestAsync(SocketChannel channel, ConnectionState state, Exchange exchange) {
+        ConcurrencyLimiter.Permit permit = null;
+        if (concurrencyLimiter != null) {
+            permit = concurrencyLimiter.tryAcquire();
+            if (permit == null) {
+                logger.debug("동시성 상한 초과로 요청을 거절합니다: {} (상한: {})",
+                        exchange.getRequest().getPath(), concurrencyLimiter.getLimit());
+                exchange.getRequest().releaseBody();
+                completeExchange(channel, state, exchange, createOverloadedResponse());
+                return;
+            }
+        }
+
+        // 람다에서 사용하기 위한 final 참조
+        ConcurrencyLimiter.Permit acquired = permit;
         try {
             // 라우터를 통한 비동기 처리
             // routeWithMiddlewares(): 미들웨어와 라우트 핸들러를 순차 실행
             // CompletableFuture<HttpResponse>: 비동기 작업의 결과를 나타내는 객체
-            CompletableFuture<HttpResponse> responseFuture = router.routeWithMiddlewares(request);
+            CompletableFuture<HttpResponse> responseFuture = router.routeWithMiddlewares(exchange.getRequest());
 
             // whenComplete(): 비동기 작업 완료시 콜백 실행
             // (response, error) -> { ... }: 람다 표현식 (Java 8+)
             responseFuture.whenComplete((response, error) -> {
+                // 핸들러가 끝났으므로 허가 반환 (응답 시간 샘플) - 응답 전송 시간은 포함하지 않음
+                if (acquired != null) {
+                    acquired.complete(response, error);
+                }
+
+                // 핸들러가 끝났으므로 본문 임시 파일 정리 (응답 전송과 무관)
+                exchange.getRequest().releaseBody();
+
                 // EventQueue를 통해 EventLoop 스레드에서 결과 처리
                 // execute(): 작업을 이벤트 큐에 추가하여 EventLoop 스레드에서 실행
                 eventQueue.execute(() -> {
                     if (error != null) {
                         // 비동기 작업 중 오류 발생
                         logger.error("요청 처리 중 오류가 발생했습니다", error);
-                        sendErrorResponse(channel, state, HttpStatus.INTERNAL_SERVER_ERROR);
+                        completeExchange(channel, state, exchange, createErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR));
                     } else if (response == null) {
                         // 라우터가 null 응답 반환 (매칭되는 라우트 없음)
                         logger.warn("라우터가 null 응답을 반환했습니다");
-                        sendErrorResponse(channel, state, HttpStatus.NOT_FOUND);
+                        completeExchange(channel, state, exchange, createErrorResponse(HttpStatus.NOT_FOUND));
                     } else {
-                        // 정상 응답 전송
-                        sendResponse(channel, state, response);
+                        // 정상 응답 - 차례가 되면 전송
+                        completeExchange(channel, state, exchange, response);
                     }
                 });
             });
 
         } catch (Exception e) {
             logger.error("비동기 요청 처리 중 오류가 발생했습니다", e);
-            sendErrorResponse(channel, state, HttpStatus.INTERNAL_SERVER_ERROR);
+            if (acquired != null) {
+                acquired.ignore();
+            }
+            exchange.getRequest().releaseBody();
+            completeExchange(channel, state, exchange, createErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR));
         }
     }
 
     /**
-     * 정상 응답 전송
+     * 요청 처리 완료 - 응답을 요청 자리에 채우고 보낼 수 있는 응답을 전송
      *
-     * HttpResponse를 HTTP 프로토콜 형식으로 변환하여 전송
-     * Keep-Alive 처리 및 응답 상태 관리
+     * 앞선 요청의 응답이 아직 없으면 이 응답은 큐에서 차례를 기다림
      *
      * @param channel 클라이언트 채널 - 응답을 보낼 연결
      * @param state 연결 상태 - 현재 연결의 상태 정보
+     * @param exchange 완료된 요청 자리
      * @param response 전송할 HTTP 응답 - 실제 응답 데이터
      */
-    private void sendResponse(SocketChannel channel, ConnectionState state, HttpResponse response) {
+    private void completeExchange(SocketChannel channel, ConnectionState state,
+                                  Exchange exchange, HttpResponse response) {
+        // 비동기 처리 중 연결이 이미 닫혔으면 응답을 버림
+        // (닫힌 연결의 상태에 쓰기 버퍼를 할당하면 풀로 돌아오지 않음)
+        if (connectionStates.get(channel) != state) {
+            logger.debug("이미 닫힌 연결의 응답을 버립니다: {}", selectorManager.getChannelId(channel));
+            return;
+        }
+
+        // Keep-Alive 판단: 클라이언트 요청 + 정상 응답(< 400)
+        // 에러 응답이거나 Keep-Alive 미지원시 이 응답을 보낸 뒤 연결 종료
+        HttpRequest request = exchange.getRequest();
+        boolean keepAlive = request != null && request.isKeepAlive() &&
+                response.getStatus().getCode() < 400;
+
+        // setKeepAlive(): 응답에 Keep-Alive 헤더 설정
+        response.setKeepAlive(keepAlive);
+        exchange.complete(response, keepAlive);
+
+        flushResponses(channel, state);
+    }
+
+    /**
+     * 응답 대기 큐 앞쪽의 준비된 응답들을 요청 순서대로 송신 큐에 옮기고 전송
+     *
+     * 맨 앞 요청의 응답이 아직 없으면 뒤의 응답이 준비되어 있어도 기다림
+     * 준비된 파이프라인 응답들은 송신 큐에 함께 쌓여 gathering write 한 번으로 나갈 수 있음
+     *
+     * @param channel 클라이언트 채널 - 응답을 보낼 연결
+     * @param state 연결 상태 - 현재 연결의 상태 정보
+     */
+    private void flushResponses(SocketChannel channel, ConnectionState state) {
         try {
-            // Keep-Alive 헤더 처리
-            HttpRequest request = state.getRequest();
-
-            // && 연산자: 논리곱 (모든 조건이 true여야 true)
-            // isKeepAlive(): 클라이언트가 Keep-Alive를 요청했는지 확인
-            // getStatus().getCode(): HTTP 상태 코드 반환 (200, 404 등)
-            if (request != null && request.isKeepAlive() &&
-                    response.getStatus().getCode() < 400) {
-                // 클라이언트가 Keep-Alive를 요청하고 정상 응답인 경우
-                // setKeepAlive(): 응답에 Keep-Alive 헤더 설정
-                response.setKeepAlive(true);
-            } else {
-                // 에러 응답이거나 Keep-Alive 미지원시 연결 종료
-                response.setKeepAlive(false);
+            // Keep-Alive가 아닌 응답 뒤의 응답은 보내지 않음 (연결이 닫히므로 버려짐)
+            while (!state.isCloseAfterFlush()) {
+                Exchange head = state.peekExchange();
+                if (head == null || !head.isCompleted()) {
+                    break;
+                }
+
+                state.pollExchange();
+                enqueueResponse(state, head.getResponse());
+
+                if (!head.isKeepAlive()) {
+                    state.setCloseAfterFlush();
+                }
             }
 
-            // 응답 상태 저장 (Keep-Alive 판단용)
-            // setResponseStatus(): 응답 상태 코드를 연결 상태에 저장
-            state.setResponseStatus(response.getStatus().getCode());
+            // 파싱 중에 동기 완료된 응답이면 tryParseRequest()가 파싱을 마친 뒤 한꺼번에 전송
+            if (state.isParsing()) {
+                return;
+            }
 
-            // 응답 데이터를 바이트 배열로 변환
-            // toByteArray(): HttpResponse를 HTTP 프로토콜 형식의 바이트 배열로 직렬화
-            byte[] responseBytes = response.toByteArray();
+            // OP_WRITE를 기다리는 중이면 onWrite()가 이어서 전송
+            if (!state.isWritePending() && !flushOutbound(channel, state)) {
+                return;
+            }
 
-            // setResponse(): 전송할 응답 데이터를 연결 상태에 저장
-            state.setResponse(responseBytes);
-            // setState(): 연결 상태를 "응답 쓰기 중"으로 변경
-            state.setState(ConnectionState.State.WRITING_RESPONSE);
+        } catch (Exception e) {
+            logger.error("응답 전송 중 오류가 발생했습니다", e);
+            selectorManager.closeChannel(channel);
+            return;
+        }
 
-            logger.debug("응답을 전송합니다: {} bytes, 상태: {}",
-                    responseBytes.length, response.getStatus().getCode());
+        // 대기 큐에 자리가 생겼으면 멈춰 둔 읽기를 재개하고 남은 바이트에서 다음 요청을 이어서 파싱
+        resumeReading(channel, state);
+    }
 
-            // 첫 번째 쓰기 시도
-            boolean writeComplete = writeResponse(channel, state);
+    /**
+     * 응답을 송신 큐에 추가
+     *
+     * 응답을 바이트 배열로 만들지 않고 버퍼로 바로 인코딩
+     * - 작은 응답: 헤더와 본문을 루프 풀의 direct 버퍼 하나에 함께 기록 (JDK 내부 임시 direct 버퍼 복사 회피)
+     * - 큰 응답: 헤더만 풀 버퍼에 기록하고 본문은 복사 없이 구간별 읽기 전용 뷰로 추가
+     * - 파일 응답: 헤더 뒤에 파일 구간을 추가 (transferTo로 전송되어 힙에 올라오지 않음)
+     * - 스트리밍 응답: 헤더 뒤에 스트리밍 본문을 추가 (소켓이 받아줄 때마다 풀 버퍼 하나로 읽어서 전송)
+     *
+     * @param state 연결 상태
+     * @param response 전송할 응답
+     */
+    private void enqueueResponse(ConnectionState state, HttpResponse response) {
+        int headLength = HttpResponseEncoder.headLength(response);
+        int bodyLength = response.getBodyLength();
+
+        logger.debug("응답을 송신 큐에 추가합니다: {} bytes, 상태: {}",
+                headLength + bodyLength, response.getStatus().getCode());
+
+        FileRegion region = response.getFileRegion();
+        StreamingBody stream = response.getStreamingBody();
+
+        if (region == null && stream == null && headLength + bodyLength <= responseBufferSize) {
+            PooledBuffer out = bufferPool.allocate(headLength + bodyLength);
+            ByteBuffer buffer = out.buffer();
+            buffer.clear();
+            HttpResponseEncoder.encodeHead(response, buffer);
+            HttpResponseEncoder.writeBody(response, 0, buffer);
+            buffer.flip();
+            state.addOutbound(buffer, out);
+            return;
+        }
+
+        PooledBuffer head = bufferPool.allocate(headLength);
+        ByteBuffer headBuffer = head.buffer();
+        headBuffer.clear();
+        HttpResponseEncoder.encodeHead(response, headBuffer);
+        headBuffer.flip();
+        state.addOutbound(headBuffer, head);
+
+        ByteBuffer body = HttpResponseEncoder.bodyBuffer(response);
+        for (int offset = 0; offset < bodyLength; offset += OUTBOUND_SLICE_SIZE) {
+            body.limit(Math.min(offset + OUTBOUND_SLICE_SIZE, bodyLength)).position(offset);
+            state.addOutbound(body.slice(), null);
+        }
+
+        if (region != null) {
+            state.addOutbound(region);
+        }
+
+        if (stream != null) {
+            state.addOutbound(stream);
+        }
+    }
 
-            if (!writeComplete) {
-                // 쓰기가 완료되지 않으면 WRITE 이벤트 활성화
-                // 다음 쓰기 가능한 시점에 계속 전송
+    /**
+     * 송신 큐를 gathering write로 전송
+     *
+     * 최대 writeSpinCount번 write를 시도하고,
+     * - 소켓 송신 버퍼가 가득 차면(write == 0) OP_WRITE를 걸고 쓰기 타임아웃 시작
+     * - 스핀 횟수를 다 써도 남으면 OP_WRITE로 넘김 (소켓이 쓰기 가능하므로 다음 select에서 바로 이어서 전송,
+     *   그 사이 다른 채널의 이벤트가 먼저 처리됨)
+     * - 다 보냈으면 OP_WRITE 해제, Keep-Alive가 아닌 응답을 보낸 경우 연결 종료
+     *
+     * @param channel 클라이언트 채널
+     * @param state 연결 상태
+     * @return 연결이 열려 있으면 true, 닫았으면 false
+     * @throws IOException I/O 오류 발생시
+     */
+    private boolean flushOutbound(SocketChannel channel, ConnectionState state) throws IOException {
+        long written = 0;
+        boolean streamStalled = false;
+
+        for (int spin = 0; spin < writeSpinCount && state.hasOutbound(); spin++) {
+            OutboundBuffer stream = state.peekStream();
+            if (stream != null) {
+                long bytes = writeStream(channel, state, stream);
+                if (bytes < 0) {
+                    streamStalled = true;
+                    break; // 원본이 아직 준비되지 않음 - 생산자 알림 뒤 다시 시도
+                }
+                if (bytes == 0 && state.peekStream() == stream) {
+                    break; // 송신 버퍼가 가득 참 - OP_WRITE로 이어서 전송
+                }
+                written += bytes;
+                continue;
+            }
+
+            FileRegion region = state.peekFileRegion();
+            if (region != null) {
+                // 파일 구간: transferTo(sendfile)로 소켓 송신 버퍼에 들어가는 만큼 전송
+                long bytes = region.isComplete() ? 0 : selectorManager.transferToChannel(channel, region);
+                if (region.isComplete()) {
+                    state.removeFileRegion();
+                } else if (bytes == 0) {
+                    break; // 송신 버퍼가 가득 참 - OP_WRITE로 이어서 전송
+                }
+                written += bytes;
+                continue;
+            }
+
+            int count = state.fillGatherBuffers(gatherBuffers, MAX_GATHER_BYTES);
+            long bytes;
+            try {
+                // write(ByteBuffer[]): 여러 버퍼를 시스템 콜 한 번으로 전송 (writev)
+                bytes = selectorManager.writeToChannel(channel, gatherBuffers, 0, count);
+            } finally {
+                // 다 보낸 버퍼의 참조를 배열에 남기지 않음
+                Arrays.fill(gatherBuffers, 0, count, null);
+            }
+
+            if (bytes == 0) {
+                break; // 송신 버퍼가 가득 참 - OP_WRITE로 이어서 전송
+            }
+
+            // 다 보낸 버퍼는 큐에서 빼고 풀 버퍼는 반환
+            state.removeWrittenOutbound(bytes);
+            written += bytes;
+        }
+
+        logger.debug("채널 {}에 {} bytes를 전송했습니다 (남은 송신 큐: {} bytes)",
+                selectorManager.getChannelId(channel), written, state.getPendingOutboundBytes());
+
+        if (state.hasOutbound()) {
+            if (streamStalled) {
+                // 소켓은 쓰기 가능하므로 OP_WRITE를 걸면 select가 계속 깨어남 - 원본의 데이터 알림으로 다시 시도
+                if (state.isWritePending()) {
+                    selectorManager.disableWrite(channel);
+                    state.setWritePending(false);
+                }
+                awaitStreamData(channel, state, state.peekStream().stream);
+            } else if (!state.isWritePending()) {
+                // 아직 남음 - 쓰기 가능해지면 이어서 전송
                 // enableWrite(): OP_WRITE 이벤트를 활성화하여 쓰기 가능시 알림 받음
                 selectorManager.enableWrite(channel);
-            } else {
-                // 쓰기가 완료되면 처리 완료
-                handleWriteComplete(channel, state);
+                state.setWritePending(true);
             }
 
-        } catch (Exception e) {
-            logger.error("응답 전송 중 오류가 발생했습니다", e);
+            // 클라이언트가 받지 않으면 쓰기 타임아웃으로 정리 (전송이 진행될 때마다 다시 시작)
+            if (written > 0 || state.getTimeoutKind() != TimeoutKind.WRITE) {
+                armTimeout(channel, state, TimeoutKind.WRITE);
+            }
+            return true;
+        }
+
+        if (state.getTimeoutKind() == TimeoutKind.WRITE) {
+            state.cancelTimeout();
+        }
+
+        if (state.isCloseAfterFlush()) {
+            // 연결 종료 - 뒤에 남은 파이프라인 요청의 응답은 버려짐
+            logger.debug("채널 {} 연결을 종료합니다",
+                    selectorManager.getChannelId(channel));
             selectorManager.closeChannel(channel);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * 송신 큐 맨 앞의 스트리밍 본문을 조금씩 전송
+     *
+     * 보낼 데이터가 버퍼에 남아 있으면 그것부터 보내고, 다 보냈을 때만 원본에서 다음 조각을 읽음
+     * → 소켓이 받아주는 속도로만 원본을 읽으므로 응답 하나의 메모리는 버퍼 하나로 제한됨
+     *
+     * @param channel 클라이언트 채널
+     * @param state 연결 상태
+     * @param entry 스트리밍 본문 항목
+     * @return 전송한 바이트 수 (본문을 다 보내 큐에서 뺐으면 0), 원본이 준비되지 않았으면 -1
+     * @throws IOException 원본 읽기 또는 전송 실패시
+     */
+    private long writeStream(SocketChannel channel, ConnectionState state, OutboundBuffer entry) throws IOException {
+        ByteBuffer chunk = entry.streamBuffer(bufferPool, STREAM_BUFFER_SIZE);
+        if (!chunk.hasRemaining()) {
+            chunk.clear();
+            int n = entry.stream.read(chunk);
+            chunk.flip();
+            if (n < 0) {
+                // 마지막 청크까지 보냄 - 버퍼 반환, 원본 닫기
+                state.removeStream();
+                return 0;
+            }
+            if (n == 0) {
+                return -1;
+            }
+        }
+        return selectorManager.writeToChannel(channel, chunk);
+    }
+
+    /**
+     * 원본이 준비되지 않은 스트리밍 본문을 데이터가 생기면 이어서 전송하도록 등록
+     *
+     * 생산자의 notifyDataAvailable()이 이 루프에 작업을 넘겨 루프 스레드에서 다시 flushOutbound() 호출
+     * (그 전까지는 OP_WRITE도 타이머도 걸지 않음 - 쓰기 타임아웃만 남음)
+     */
+    private void awaitStreamData(SocketChannel channel, ConnectionState state, StreamingBody stream) {
+        if (state.isStreamRetryScheduled()) {
+            return;
+        }
+        state.setStreamRetryScheduled(true);
+
+        EventLoop eventLoop = selectorManager.getEventLoop();
+        Runnable retry = () -> eventLoop.execute(() -> {
+            state.setStreamRetryScheduled(false);
+            if (connectionStates.get(channel) != state || state.isWritePending()) {
+                return; // 연결이 닫혔거나 이미 OP_WRITE로 전송 중
+            }
+            try {
+                if (flushOutbound(channel, state)) {
+                    resumeReading(channel, state);
+                }
+            } catch (Exception e) {
+                logger.error("채널 {}의 스트리밍 응답 전송 중 오류가 발생했습니다",
+                        selectorManager.getChannelId(channel), e);
+                selectorManager.closeChannel(channel);
+            }
+        });
+
+        if (!stream.awaitData(retry)) {
+            retry.run(); // 읽은 뒤에 이미 알림이 옴 - 바로 다시 시도
         }
     }
 
@@ -573,7 +948,8 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
      * 오류 응답 전송
      *
      * HTTP 상태 코드에 맞는 에러 응답 생성 및 전송
-     * 표준 HTTP 에러 페이지 형태로 응답
+     * 이미 처리 중인 요청들의 응답을 먼저 보내고, 이 응답을 마지막으로 연결을 종료
+     * (이후 도착한 바이트는 파싱하지 않음)
      *
      * @param channel 클라이언트 채널 - 에러 응답을 보낼 연결
      * @param state 연결 상태 - 현재 연결의 상태 정보
@@ -581,16 +957,11 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
      */
     private void sendErrorResponse(SocketChannel channel, ConnectionState state, HttpStatus status) {
         try {
-            // HttpResponse.builder(): 빌더 패턴으로 응답 생성
-            // 빌더 패턴: 복잡한 객체를 단계별로 생성하는 디자인 패턴
-            HttpResponse errorResponse = HttpResponse.builder(status)
-                    .contentType("text/plain; charset=utf-8")    // 텍스트 응답, UTF-8 인코딩
-                    .body(status.getReasonPhrase())              // 상태 메시지 (예: "Not Found")
-                    .keepAlive(false)                            // 에러시 연결 종료
-                    .build();                                    // 최종 객체 생성
+            state.setClosing();
 
-            // 생성된 에러 응답을 전송
-            sendResponse(channel, state, errorResponse);
+            // 요청 없이 응답만 있는 자리 - Keep-Alive가 아니므로 전송 후 연결 종료
+            Exchange exchange = state.addExchange(null);
+            completeExchange(channel, state, exchange, createErrorResponse(status));
 
         } catch (Exception e) {
             logger.error("오류 응답 전송 중 오류가 발생했습니다", e);
@@ -599,101 +970,152 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
     }
 
     /**
-     * 응답 데이터 쓰기
+     * 동시성 상한 초과 응답 생성
      *
-     * 논블로킹 방식으로 응답 데이터를 점진적으로 전송
-     * 큰 응답도 여러 번에 나누어 전송하여 논블로킹 보장
+     * @return 503 응답 (Retry-After 포함, 전송 후 연결 종료)
+     */
+    private HttpResponse createOverloadedResponse() {
+        // Retry-After: 클라이언트가 바로 다시 몰려오지 않도록 재시도 시점 안내 (초)
+        HttpResponse response = createErrorResponse(HttpStatus.SERVICE_UNAVAILABLE);
+        response.setHeader("Retry-After", "1");
+        return response;
+    }
+
+    /**
+     * 오류 응답 생성
      *
-     * @param channel 클라이언트 채널 - 데이터를 전송할 연결
-     * @param state 연결 상태 - 전송 진행 상태 추적
-     * @return 모든 데이터 전송 완료시 true, 아직 남은 데이터가 있으면 false
-     * @throws IOException I/O 오류 발생시 던져지는 예외
+     * @param status HTTP 에러 상태
+     * @return 표준 텍스트 에러 응답
      */
-    private boolean writeResponse(SocketChannel channel, ConnectionState state) throws IOException {
-        // getResponseData(): 전송할 응답 데이터 가져오기
-        byte[] responseData = state.getResponseData();
-        // getWriteOffset(): 현재까지 전송된 바이트 수
-        int writeOffset = state.getWriteOffset();
+    private HttpResponse createErrorResponse(HttpStatus status) {
+        // HttpResponse.builder(): 빌더 패턴으로 응답 생성
+        // 빌더 패턴: 복잡한 객체를 단계별로 생성하는 디자인 패턴
+        return HttpResponse.builder(status)
+                .contentType("text/plain; charset=utf-8")    // 텍스트 응답, UTF-8 인코딩
+                .body(status.getReasonPhrase())              // 상태 메시지 (예: "Not Found")
+                .keepAlive(false)                            // 에러시 연결 종료
+                .build();                                    // 최종 객체 생성
+    }
 
-        // 이미 모든 데이터 전송 완료
-        if (writeOffset >= responseData.length) {
-            return true;
+    /**
+     * 응답 전송 후 읽기 재개
+     *
+     * 큐에 자리가 생기면 멈춰 둔 OP_READ를 다시 켜고,
+     * 응답 처리 중에 이미 도착한 다음 요청이 있으면 바로 이어서 파싱
+     *
+     * @param channel 클라이언트 채널
+     * @param state 연결 상태
+     */
+    private void resumeReading(SocketChannel channel, ConnectionState state) {
+        if (connectionStates.get(channel) != state) {
+            return;
         }
 
-        // 전송할 데이터 크기 계산 (버퍼 크기 제한)
-        // Math.min(): 두 값 중 작은 값 반환
-        // wrap(): 바이트 배열의 일부를 ByteBuffer로 감싸기
-        ByteBuffer buffer = ByteBuffer.wrap(responseData, writeOffset,
-                Math.min(responseBufferSize, responseData.length - writeOffset));
+        // 남은 바이트 파싱 + 읽기 관심/타임아웃 갱신
+        tryParseRequest(channel, state);
+    }
 
-        // 실제 데이터 전송
-        // writeToChannel(): SelectorManager를 통한 실제 네트워크 쓰기
-        int bytesWritten = selectorManager.writeToChannel(channel, buffer);
+    /**
+     * 연결의 OP_READ 관심 갱신 (읽기 백프레셔)
+     *
+     * 다음 중 하나면 읽기를 멈춤 - 읽지 않은 데이터는 커널 수신 버퍼에 남고 TCP 흐름 제어가 클라이언트를 늦춤
+     * - 더 이상 요청을 받지 않음 (Connection: close, 잘못된 요청)
+     * - 처리 중인 요청이 maxPipelinedRequests에 도달
+     * - 송신 큐가 high 워터마크를 넘음 (low 워터마크 아래로 내려갈 때까지)
+     *
+     * @param channel 클라이언트 채널
+     * @param state 연결 상태
+     */
+    private void updateReadInterest(SocketChannel channel, ConnectionState state) {
+        long pending = state.getPendingOutboundBytes();
+        if (pending > writeBufferHighWaterMark) {
+            state.setOutboundFull(true);
+        } else if (pending < writeBufferLowWaterMark) {
+            state.setOutboundFull(false);
+        }
 
-        if (bytesWritten > 0) {
-            // 전송 완료된 바이트 수만큼 오프셋 증가
-            // addWriteOffset(): 쓰기 오프셋에 전송된 바이트 수 추가
-            state.addWriteOffset(bytesWritten);
+        boolean shouldRead = !state.isClosing()
+                && state.getInFlightCount() < maxPipelinedRequests
+                && !state.isOutboundFull();
 
-            logger.debug("채널 {}에 {} bytes 쓰기가 완료되었습니다 ({}/{})",
-                    selectorManager.getChannelId(channel),
-                    bytesWritten,
-                    state.getWriteOffset(),
-                    responseData.length);
+        if (shouldRead == state.isReadPaused()) {
+            if (shouldRead) {
+                selectorManager.enableRead(channel);
+            } else {
+                selectorManager.disableRead(channel);
+            }
+            state.setReadPaused(!shouldRead);
         }
-
-        // 모든 데이터 전송 완료 여부 반환
-        return state.getWriteOffset() >= responseData.length;
     }
 
     /**
-     * 쓰기 완료 처리
+     * 연결 상태에 맞는 타임아웃으로 갱신
      *
-     * 응답 전송 완료 후 Keep-Alive 여부에 따른 후속 처리
-     * 연결 유지 또는 종료 결정
+     * - 송신 큐에 남은 데이터 있음: 쓰기 타임아웃 유지 (flushOutbound()가 전송이 진행될 때마다 다시 걸음)
+     * - 처리 중인 요청 있음: 타임아웃 없음
+     * - 요청 일부만 받음: 요청 읽기 타임아웃 (첫 바이트부터 - read마다 다시 걸지 않음)
+     * - 아무 요청도 없음: 유휴 타임아웃
      *
-     * @param channel 클라이언트 채널 - 응답 전송이 완료된 연결
-     * @param state 연결 상태 - 현재 연결의 상태 정보
+     * @param channel 클라이언트 채널
+     * @param state 연결 상태
      */
-    private void handleWriteComplete(SocketChannel channel, ConnectionState state) {
-        // 쓰기 이벤트 비활성화 (더 이상 쓸 데이터 없음)
-        // disableWrite(): OP_WRITE 이벤트를 비활성화하여 불필요한 알림 방지
-        selectorManager.disableWrite(channel);
+    private void updateTimeout(SocketChannel channel, ConnectionState state) {
+        if (state.hasOutbound()) {
+            return;
+        }
 
-        HttpRequest request = state.getRequest();
+        if (state.getInFlightCount() > 0) {
+            state.cancelTimeout();
+            return;
+        }
 
-        // Keep-Alive 판단: 클라이언트 요청 + 정상 응답(< 400)
-        // getResponseStatus(): 응답 상태 코드 반환
-        boolean keepAlive = request != null && request.isKeepAlive() && state.getResponseStatus() < 400;
-
-        if (keepAlive) {
-            // Keep-Alive 연결 - 다음 요청을 위해 상태 리셋
-            // reset(): 연결 상태를 초기 상태로 리셋 (다음 요청 대기)
-            state.reset();
-            logger.debug("채널 {}에 대해 연결이 유지됩니다",
-                    selectorManager.getChannelId(channel));
-        } else {
-            // 연결 종료
-            logger.debug("채널 {} 연결을 종료합니다",
-                    selectorManager.getChannelId(channel));
-            selectorManager.closeChannel(channel);
+        // 조금씩 보내는 클라이언트도 첫 바이트부터 제한 시간 안에 요청을 끝내야 함
+        TimeoutKind kind = state.hasPartialRequest() ? TimeoutKind.HEADER_READ : TimeoutKind.IDLE;
+        if (state.getTimeoutKind() != kind) {
+            armTimeout(channel, state, kind);
         }
     }
 
     /**
-     * 타임아웃 연결 정리
+     * 연결의 타임아웃 교체
+     *
+     * 연결마다 타이머는 하나만 걸려 있으며, 상태가 바뀔 때 기존 타이머를 취소하고 새로 등록
+     * 모든 연결을 주기적으로 훑지 않고 만료된 연결만 루프 타이머가 알려줌
      *
-     * 주기적으로 호출되어 오래된 연결들을 정리
-     * 좀비 연결 방지와 메모리 누수 방지를 위한 정기 정리 작업
+     * @param channel 클라이언트 채널
+     * @param state 연결 상태
+     * @param kind 새로 걸 타임아웃 종류
      */
-    public void cleanupTimeoutConnections() {
-        // EventQueue를 통해 EventLoop 스레드에서 실행
-        // () -> { ... }: 매개변수 없는 람다 표현식
-        eventQueue.execute(() -> {
-            // SelectorManager를 통해 타임아웃된 연결들 정리
-            // cleanupTimeoutConnections(): 지정된 시간보다 오래된 연결들 해제
-            selectorManager.cleanupTimeoutConnections(connectionTimeout);
-        });
+    private void armTimeout(SocketChannel channel, ConnectionState state, TimeoutKind kind) {
+        state.cancelTimeout();
+
+        long delay = kind == TimeoutKind.IDLE ? idleTimeout
+                : kind == TimeoutKind.HEADER_READ ? headerReadTimeout
+                : writeTimeout;
+        if (delay <= 0) {
+            return;
+        }
+
+        HashedWheelTimer.Timeout timeout = timer.schedule(
+                () -> onTimeout(channel, state, kind), delay, TimeUnit.MILLISECONDS);
+        state.setTimeout(kind, timeout);
+    }
+
+    /**
+     * 타임아웃 만료 처리 - 루프 타이머가 루프 스레드에서 호출
+     */
+    private void onTimeout(SocketChannel channel, ConnectionState state, TimeoutKind kind) {
+        // 이미 닫혀서 다른 상태로 바뀐 연결이면 무시
+        if (connectionStates.get(channel) != state) {
+            return;
+        }
+
+        timedOutConnections++;
+        logger.debug("{} 타임아웃으로 연결을 닫습니다 [{}] (지속 시간: {}ms)",
+                kind, selectorManager.getChannelId(channel), state.getLifetimeMillis());
+
+        // closeChannel()이 onDisconnect()를 호출해서 상태와 버퍼가 정리됨
+        selectorManager.closeChannel(channel);
     }
 
     /**
@@ -708,6 +1130,8 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
         // new HandlerStats(): 현재 상태를 담은 통계 객체 생성
         return new HandlerStats(
                 connectionStates.size(),        // 활성 연결 수
+                timedOutConnections,            // 타임아웃으로 닫은 연결 수
+                pipelinedRequests,              // 파이프라인된 요청 수
                 selectorManager.getStats()      // Selector 통계
         );
     }
@@ -717,154 +1141,248 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
      *
      * 각 클라이언트 연결의 상태와 데이터를 관리
      * HTTP 요청 처리의 전체 생명주기를 추적
+     *
+     * 읽기 쪽(디코더, 버퍼 체인)과 쓰기 쪽(현재 전송 중인 응답)이 독립적으로 진행되고,
+     * 둘 사이는 요청 순서대로 쌓이는 응답 대기 큐(exchanges)로 이어짐
      */
     private static class ConnectionState {
-        /**
-         * 연결의 현재 상태를 나타내는 enum
-         * enum: 상수들의 집합을 정의하는 특별한 클래스
-         */
-        enum State {
-            READING_REQUEST,      // HTTP 요청 읽는 중
-            PROCESSING_REQUEST,   // 요청 처리 중 (라우팅, 비즈니스 로직 실행)
-            WRITING_RESPONSE      // 응답 쓰는 중
-        }
-
         private final SocketChannel channel;        // 연결된 소켓 채널
         private final long createdTime;             // 연결 생성 시간 (타임아웃 계산용)
-        private final List<ByteBuffer> bufferChain; // 수정: ByteBuffer 체인 사용 (메모리 효율성)
-
-        private State state;                        // 현재 상태
-        private HttpRequest request;                // 수정: 기존 HttpRequest 사용
-        private byte[] responseData;                // 전송할 응답 데이터
-        private int writeOffset;                    // 쓰기 오프셋 (전송 진행 상황)
-        private int responseStatus;                 // 응답 상태 코드 (Keep-Alive 판단용)
+        private final List<PooledBuffer> bufferChain; // 풀 버퍼 체인 (읽은 버퍼를 복사 없이 보관)
+        private final HttpRequestDecoder decoder;   // 점진적 요청 디코더 (요청 사이에 재사용)
+        private final ArrayDeque<Exchange> exchanges; // 처리 중인 요청들 (도착 순서 = 응답 전송 순서)
+
+        private boolean closing;                    // 더 이상 요청을 받지 않음 (Connection: close, 잘못된 요청)
+        private boolean parsing;                    // tryParseRequest 실행 중 (재진입 방지)
+        private boolean readPaused;                 // OP_READ를 꺼 둔 상태 (대기 큐 또는 송신 큐 가득 참)
+
+        private final ArrayDeque<OutboundBuffer> outbound; // 송신 큐 (요청 순서대로 인코딩된 응답 버퍼들)
+        private long pendingOutboundBytes;          // 송신 큐에 남은 바이트 수 (워터마크 비교용)
+        private boolean outboundFull;               // high 워터마크를 넘어 low 아래로 내려가기 전까지 true
+        private boolean writePending;               // OP_WRITE를 걸어 둔 상태
+        private boolean closeAfterFlush;            // 송신 큐를 다 보내면 연결 종료 (Keep-Alive가 아닌 응답)
+        private boolean streamRetryScheduled;       // 스트리밍 본문이 원본의 데이터 알림을 기다리는 상태
+        private HashedWheelTimer.Timeout timeout;   // 현재 걸려 있는 타임아웃 (없으면 null)
+        private TimeoutKind timeoutKind;            // 현재 타임아웃 종류
 
         /**
          * ConnectionState 생성자
          *
          * @param channel 연결된 소켓 채널 - 이 상태가 관리할 연결
+         * @param maxBodySize 허용할 최대 요청 본문 크기
+         * @param spoolThreshold 임시 파일로 옮기기 시작하는 본문 크기
          */
-        public ConnectionState(SocketChannel channel) {
+        public ConnectionState(SocketChannel channel, long maxBodySize, int spoolThreshold) {
             this.channel = channel;
             // currentTimeMillis(): 현재 시간을 밀리초로 반환 (1970년 1월 1일 기준)
             this.createdTime = System.currentTimeMillis();
             // new ArrayList<>(): 동적 크기 조절 가능한 리스트 생성
             this.bufferChain = new ArrayList<>(); // 수정: 버퍼 체인 초기화
-            this.state = State.READING_REQUEST;   // 초기 상태: 요청 읽기
-            this.writeOffset = 0;                 // 쓰기 시작 위치
-            this.responseStatus = 200;            // 기본 응답 상태: 200 OK
+            this.decoder = new HttpRequestDecoder(maxBodySize, spoolThreshold);
+            this.exchanges = new ArrayDeque<>();
+            this.outbound = new ArrayDeque<>();
         }
 
         /**
-         * 수정: 효율적인 데이터 추가
+         * 효율적인 데이터 추가
          *
-         * 새로 읽은 데이터를 버퍼 체인에 추가
-         * 메모리 복사를 최소화하여 성능 향상
+         * 읽은 풀 버퍼를 복사하지 않고 참조만 추가해서 체인에 보관
+         * 체인이 보유한 참조는 디코더가 버퍼를 다 읽었을 때나 releaseBuffers에서 반환됨
          *
-         * @param data 추가할 데이터 - 새로 읽은 ByteBuffer
+         * @param data 추가할 데이터 - 새로 읽은 풀 버퍼
          */
-        public void appendData(ByteBuffer data) {
+        public void appendData(PooledBuffer data) {
             // remaining(): 버퍼에서 읽을 수 있는 남은 바이트 수
-            if (data.remaining() > 0) {
-                // 복사본을 만들어서 체인에 추가 (원본 보존)
-                // allocate(): 지정된 크기의 새 ByteBuffer 생성
-                ByteBuffer copy = ByteBuffer.allocate(data.remaining());
-                // put(): 다른 버퍼의 내용을 현재 버퍼에 복사
-                copy.put(data);
-                // flip(): 쓰기 모드에서 읽기 모드로 전환 (position을 0으로, limit을 position으로)
-                copy.flip();
-                // add(): 리스트에 요소 추가
-                bufferChain.add(copy);
+            if (data.buffer().remaining() > 0) {
+                // retain(): 호출자(EventLoop)가 release해도 체인이 계속 사용할 수 있도록 참조 추가
+                bufferChain.add(data.retain());
             }
         }
 
         /**
-         * 수정: 모든 버퍼를 하나로 합치기
+         * 받다 만 요청이 있는지 확인
          *
-         * 체인에 있는 모든 버퍼를 하나의 큰 버퍼로 결합
-         * HTTP 파싱시에만 사용하여 메모리 효율성 유지
+         * 디코더가 읽지 않은 바이트가 체인에 있거나, 디코더가 요청 중간까지 읽은 상태
+         */
+        public boolean hasPartialRequest() {
+            return !bufferChain.isEmpty() || !decoder.isIdle();
+        }
+
+        /**
+         * 응답 대기 큐 끝에 요청 자리 추가
          *
-         * @return 결합된 ByteBuffer - 모든 데이터가 합쳐진 하나의 버퍼
+         * @param request 파싱된 요청 (에러 응답만 보내는 자리면 null)
+         * @return 추가된 자리
          */
-        public ByteBuffer getCombinedBuffer() {
-            // isEmpty(): 컬렉션이 비어있는지 확인
-            if (bufferChain.isEmpty()) {
-                // allocate(0): 크기가 0인 빈 버퍼 생성
-                return ByteBuffer.allocate(0);
-            }
+        public Exchange addExchange(HttpRequest request) {
+            Exchange exchange = new Exchange(request);
+            exchanges.add(exchange);
+            return exchange;
+        }
 
-            // 전체 크기 계산
-            // stream(): 컬렉션을 스트림으로 변환 (Java 8+)
-            // mapToInt(): 각 요소를 int 값으로 매핑
-            // ByteBuffer::remaining: 메서드 참조 (각 버퍼의 남은 크기)
-            // sum(): 모든 값의 합계
-            int totalSize = bufferChain.stream()
-                    .mapToInt(ByteBuffer::remaining)
-                    .sum();
-
-            if (totalSize == 0) {
-                return ByteBuffer.allocate(0);
-            }
+        /**
+         * 다음에 전송할 차례인 요청 자리 (없으면 null)
+         */
+        public Exchange peekExchange() {
+            return exchanges.peek();
+        }
 
-            // 새 버퍼에 모든 데이터 복사
-            ByteBuffer combined = ByteBuffer.allocate(totalSize);
-            // for-each 루프: 컬렉션의 모든 요소를 순회
-            for (ByteBuffer buffer : bufferChain) {
-                // duplicate(): 버퍼의 복사본 생성 (원본 보존, position과 limit 공유하지 않음)
-                combined.put(buffer.duplicate());
-            }
-            combined.flip(); // 읽기 모드로 전환
+        /**
+         * 응답을 보내기 시작했거나 기다리는 요청 수
+         */
+        public int getInFlightCount() {
+            return exchanges.size();
+        }
 
-            return combined;
+        /**
+         * 응답 대기 큐에서 맨 앞 요청 자리 제거 (응답을 송신 큐로 옮긴 뒤)
+         */
+        public Exchange pollExchange() {
+            return exchanges.poll();
+        }
+
+        /**
+         * 송신 큐 끝에 버퍼 추가
+         *
+         * @param buffer 전송할 데이터 (읽기 모드)
+         * @param owner 전송이 끝나면 반환할 풀 버퍼 (본문 뷰처럼 풀 버퍼가 아니면 null)
+         */
+        public void addOutbound(ByteBuffer buffer, PooledBuffer owner) {
+            outbound.add(new OutboundBuffer(buffer, owner));
+            pendingOutboundBytes += buffer.remaining();
         }
 
         /**
-         * 수정: 사용된 바이트 제거
+         * 송신 큐 끝에 파일 구간 추가
          *
-         * HTTP 요청 파싱 후 사용된 데이터를 버퍼 체인에서 제거
-         * 메모리 효율성을 위해 처리된 데이터는 즉시 제거
+         * 파일 구간은 메모리에 올라오지 않으므로 송신 대기 바이트(워터마크)에 포함하지 않음
          *
-         * @param bytesToConsume 제거할 바이트 수 - 파싱에 사용된 바이트 수
+         * @param region transferTo로 전송할 파일 구간
          */
-        public void consumeBytes(int bytesToConsume) {
-            int remaining = bytesToConsume;
-
-            // 체인의 첫 번째 버퍼부터 순차적으로 제거
-            // while 루프: 조건이 참인 동안 반복
-            while (remaining > 0 && !bufferChain.isEmpty()) {
-                // get(0): 리스트의 첫 번째 요소 가져오기
-                ByteBuffer firstBuffer = bufferChain.get(0);
-                int available = firstBuffer.remaining();
-
-                if (available <= remaining) {
-                    // 첫 번째 버퍼를 완전히 소비
-                    // remove(0): 리스트의 첫 번째 요소 제거
-                    bufferChain.remove(0);
-                    remaining -= available;
-                } else {
-                    // 첫 번째 버퍼를 부분적으로 소비
-                    // position(): 현재 위치 가져오기
-                    // position(int): 위치 설정
-                    firstBuffer.position(firstBuffer.position() + remaining);
-                    remaining = 0;
+        public void addOutbound(FileRegion region) {
+            outbound.add(new OutboundBuffer(region));
+        }
+
+        /**
+         * 송신 큐 맨 앞이 파일 구간이면 반환
+         *
+         * @return 맨 앞 파일 구간, 버퍼이거나 큐가 비어 있으면 null
+         */
+        public FileRegion peekFileRegion() {
+            OutboundBuffer entry = outbound.peek();
+            return entry != null ? entry.region : null;
+        }
+
+        /**
+         * 전송이 끝난 맨 앞 파일 구간을 큐에서 빼고 파일을 닫음
+         */
+        public void removeFileRegion() {
+            outbound.poll().release();
+        }
+
+        /**
+         * 송신 큐 끝에 스트리밍 본문 추가
+         *
+         * 전송 중에는 풀 버퍼 하나만 쓰므로 송신 대기 바이트(워터마크)에 포함하지 않음
+         *
+         * @param stream 원본에서 조금씩 읽어 보낼 본문
+         */
+        public void addOutbound(StreamingBody stream) {
+            outbound.add(new OutboundBuffer(stream));
+        }
+
+        /**
+         * 송신 큐 맨 앞이 스트리밍 본문이면 반환
+         *
+         * @return 맨 앞 스트리밍 본문 항목, 아니거나 큐가 비어 있으면 null
+         */
+        OutboundBuffer peekStream() {
+            OutboundBuffer entry = outbound.peek();
+            return entry != null && entry.stream != null ? entry : null;
+        }
+
+        /**
+         * 전송이 끝난 맨 앞 스트리밍 본문을 큐에서 빼고 버퍼 반환, 원본을 닫음
+         */
+        public void removeStream() {
+            outbound.poll().release();
+        }
+
+        /**
+         * gathering write에 넘길 버퍼들을 배열에 채움
+         *
+         * @param target 채울 배열 (이 길이까지만 채움)
+         * @param maxBytes 대략적인 바이트 상한 (최소 한 개는 채움)
+         * @return 채운 버퍼 수
+         */
+        public int fillGatherBuffers(ByteBuffer[] target, long maxBytes) {
+            int count = 0;
+            long bytes = 0;
+            for (OutboundBuffer entry : outbound) {
+                // 파일 구간/스트리밍 본문 앞까지만 - 각자 따로 전송
+                if (!entry.isBuffer() || count == target.length || (count > 0 && bytes >= maxBytes)) {
+                    break;
                 }
+                target[count++] = entry.buffer;
+                bytes += entry.buffer.remaining();
+            }
+            return count;
+        }
+
+        /**
+         * write가 소비한 만큼 송신 큐 앞쪽의 버퍼를 제거
+         *
+         * 다 보낸 버퍼는 큐에서 빼고 풀 버퍼면 반환 (일부만 보낸 버퍼는 position이 이미 전진해 있음)
+         *
+         * @param bytes 이번 write로 전송한 바이트 수
+         */
+        public void removeWrittenOutbound(long bytes) {
+            pendingOutboundBytes -= bytes;
+            OutboundBuffer entry;
+            while ((entry = outbound.peek()) != null && entry.isBuffer() && !entry.buffer.hasRemaining()) {
+                outbound.poll().release();
             }
         }
 
         /**
-         * 수정: 상태 리셋
+         * 송신 큐에 보낼 데이터가 남아 있는지 확인
+         */
+        public boolean hasOutbound() {
+            return !outbound.isEmpty();
+        }
+
+        /**
+         * 연결이 보유한 모든 풀 버퍼 반환
          *
-         * Keep-Alive 연결에서 다음 요청을 위해 상태 초기화
-         * 연결은 유지하되 요청 처리 상태만 초기화
+         * 연결 종료시 호출
          */
-        public void reset() {
-            this.state = State.READING_REQUEST;
-            this.request = null;
-            this.responseData = null;
-            this.writeOffset = 0;
-            this.responseStatus = 200;
+        public void releaseBuffers() {
+            for (PooledBuffer buffer : bufferChain) {
+                buffer.release();
+            }
             // clear(): 리스트의 모든 요소 제거
-            this.bufferChain.clear(); // 수정: 버퍼 체인 정리
+            bufferChain.clear();
+
+            // 보내지 못한 송신 큐의 풀 버퍼 반환
+            OutboundBuffer entry;
+            while ((entry = outbound.poll()) != null) {
+                entry.release();
+            }
+            pendingOutboundBytes = 0;
+
+            // 받는 중이던 본문의 임시 파일 삭제
+            decoder.reset();
+        }
+
+        /**
+         * 걸려 있는 타임아웃 취소
+         */
+        public void cancelTimeout() {
+            if (timeout != null) {
+                timeout.cancel();
+                timeout = null;
+                timeoutKind = null;
+            }
         }
 
         /**
@@ -879,20 +1397,141 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
         // === Getters and Setters ===
         // getter/setter 메서드들: 필드에 대한 접근 제어
 
-        public State getState() { return state; }
-        public void setState(State state) { this.state = state; }
+        public List<PooledBuffer> getBufferChain() { return bufferChain; }
+        public HttpRequestDecoder getDecoder() { return decoder; }
+
+        public boolean isClosing() { return closing; }
+        public void setClosing() { this.closing = true; }
+
+        public boolean isParsing() { return parsing; }
+        public void setParsing(boolean parsing) { this.parsing = parsing; }
+
+        public boolean isReadPaused() { return readPaused; }
+        public void setReadPaused(boolean readPaused) { this.readPaused = readPaused; }
+
+        public long getPendingOutboundBytes() { return pendingOutboundBytes; }
+
+        public boolean isOutboundFull() { return outboundFull; }
+        public void setOutboundFull(boolean outboundFull) { this.outboundFull = outboundFull; }
+
+        public boolean isWritePending() { return writePending; }
+        public void setWritePending(boolean writePending) { this.writePending = writePending; }
+        public boolean isStreamRetryScheduled() { return streamRetryScheduled; }
+        public void setStreamRetryScheduled(boolean streamRetryScheduled) { this.streamRetryScheduled = streamRetryScheduled; }
+
+        public boolean isCloseAfterFlush() { return closeAfterFlush; }
+        public void setCloseAfterFlush() {
+            // 이후 도착한 요청은 처리하지 않음
+            this.closeAfterFlush = true;
+            this.closing = true;
+        }
+
+        public TimeoutKind getTimeoutKind() { return timeoutKind; }
+        public void setTimeout(TimeoutKind kind, HashedWheelTimer.Timeout timeout) {
+            this.timeoutKind = kind;
+            this.timeout = timeout;
+        }
+    }
+
+    /**
+     * 파이프라인 요청 하나의 처리 상태
+     *
+     * 요청이 파싱될 때 응답 대기 큐에 들어가고, 응답이 준비되면 채워짐
+     * 큐 맨 앞의 응답이 채워져야 전송이 시작되므로 뒤의 요청이 먼저 끝나도 순서가 지켜짐
+     */
+    private static class Exchange {
+        private final HttpRequest request;   // 파싱된 요청 (에러 응답 전용 자리면 null)
+        private HttpResponse response;       // 완료된 응답 (처리 중이면 null)
+        private boolean keepAlive;           // 응답 전송 후 연결 유지 여부
+
+        Exchange(HttpRequest request) {
+            this.request = request;
+        }
+
+        void complete(HttpResponse response, boolean keepAlive) {
+            this.response = response;
+            this.keepAlive = keepAlive;
+        }
+
+        HttpRequest getRequest() { return request; }
+        HttpResponse getResponse() { return response; }
+        boolean isCompleted() { return response != null; }
+        boolean isKeepAlive() { return keepAlive; }
+    }
+
+    /**
+     * 송신 큐의 버퍼 하나
+     *
+     * 풀에서 빌린 헤더 버퍼는 전송이 끝나면 반환하고, 본문 뷰는 그대로 버림
+     * 파일 구간은 전송이 끝나거나 연결이 닫히면 파일을 닫음
+     * 스트리밍 본문은 처음 전송할 때 풀 버퍼를 빌리고, 끝나거나 연결이 닫히면 버퍼 반환 후 원본을 닫음
+     */
+    private static final class OutboundBuffer {
+        private final ByteBuffer buffer;     // 전송할 데이터 (읽기 모드, 파일 구간/스트리밍 본문이면 null)
+        private final PooledBuffer owner;    // 반환할 풀 버퍼 (없으면 null)
+        private final FileRegion region;     // transferTo로 보낼 파일 구간 (아니면 null)
+        private final StreamingBody stream;  // 조금씩 읽어 보낼 스트리밍 본문 (아니면 null)
+        private PooledBuffer streamChunk;    // 스트리밍 본문을 읽어 오는 풀 버퍼 (처음 전송할 때 할당)
+
+        OutboundBuffer(ByteBuffer buffer, PooledBuffer owner) {
+            this.buffer = buffer;
+            this.owner = owner;
+            this.region = null;
+            this.stream = null;
+        }
+
+        OutboundBuffer(FileRegion region) {
+            this.buffer = null;
+            this.owner = null;
+            this.region = region;
+            this.stream = null;
+        }
 
-        public HttpRequest getRequest() { return request; } // 수정: 기존 HttpRequest 반환
-        public void setRequest(HttpRequest request) { this.request = request; } // 수정
+        OutboundBuffer(StreamingBody stream) {
+            this.buffer = null;
+            this.owner = null;
+            this.region = null;
+            this.stream = stream;
+        }
 
-        public byte[] getResponseData() { return responseData; }
-        public void setResponse(byte[] responseData) { this.responseData = responseData; }
+        boolean isBuffer() {
+            return buffer != null;
+        }
 
-        public int getWriteOffset() { return writeOffset; }
-        public void addWriteOffset(int bytes) { this.writeOffset += bytes; }
+        /**
+         * 스트리밍 본문용 버퍼 (처음 호출할 때 풀에서 빌리며, 빈 읽기 모드로 시작)
+         */
+        ByteBuffer streamBuffer(BufferPool pool, int size) {
+            if (streamChunk == null) {
+                streamChunk = pool.allocate(size);
+                streamChunk.buffer().clear().flip();
+            }
+            return streamChunk.buffer();
+        }
 
-        public int getResponseStatus() { return responseStatus; }
-        public void setResponseStatus(int status) { this.responseStatus = status; }
+        void release() {
+            if (owner != null) {
+                owner.release();
+            }
+            if (region != null) {
+                try {
+                    region.close();
+                } catch (IOException e) {
+                    logger.warn("파일 구간을 닫는 중 오류가 발생했습니다: {}", region.getPath());
+                }
+            }
+            if (stream != null) {
+                if (streamChunk != null) {
+                    streamChunk.release();
+                    streamChunk = null;
+                }
+                try {
+                    stream.close();
+                } catch (IOException e) {
+                    logger.warn("스트리밍 본문을 닫는 중 오류가 발생했습니다: {}", e.getMessage());
+                }
+            }
+        }
     }
 
     /**
@@ -903,20 +1542,29 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
      */
     public static class HandlerStats {
         private final int activeConnections;                              // 활성 연결 수
+        private final long timedOutConnections;                           // 타임아웃으로 닫은 연결 수
+        private final long pipelinedRequests;                             // 파이프라인된 요청 수
         private final SelectorManager.SelectorStats selectorStats;       // Selector 통계
 
         /**
          * 생성자
          *
          * @param activeConnections 활성 연결 수 - 현재 처리 중인 연결 개수
+         * @param timedOutConnections 타임아웃으로 닫은 연결 수 (누적)
+         * @param pipelinedRequests 앞선 응답을 기다리는 동안 파싱된 요청 수 (누적)
          * @param selectorStats Selector 통계 - NIO Selector의 성능 정보
          */
-        public HandlerStats(int activeConnections, SelectorManager.SelectorStats selectorStats) {
+        public HandlerStats(int activeConnections, long timedOutConnections, long pipelinedRequests,
+                            SelectorManager.SelectorStats selectorStats) {
             this.activeConnections = activeConnections;
+            this.timedOutConnections = timedOutConnections;
+            this.pipelinedRequests = pipelinedRequests;
             this.selectorStats = selectorStats;
         }
 
         public int getActiveConnections() { return activeConnections; }
+        public long getTimedOutConnections() { return timedOutConnections; }
+        public long getPipelinedRequests() { return pipelinedRequests; }
         public SelectorManager.SelectorStats getSelectorStats() { return selectorStats; }
 
         // @Override: 상위 클래스(Object)의 메서드를 재정의
@@ -924,8 +1572,8 @@ public class NonBlockingHandler implements ServerSocketEventHandler, ClientSocke
         @Override
         public String toString() {
             // String.format(): C의 printf와 유사한 형식화된 문자열 생성
-            return String.format("HandlerStats{active=%d, %s}",
-                    activeConnections, selectorStats);
+            return String.format("HandlerStats{active=%d, timedOut=%d, pipelined=%d, %s}",
+                    activeConnections, timedOutConnections, pipelinedRequests, selectorStats);
         }
     }
 
@@ -0,0 +1,89 @@
+package server.eventloop;
+
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * EventLoop가 직접 실행하는 지연/주기 작업
+ *
+ * EventLoop의 우선순위 큐에 마감 시각 순서로 보관되고,
+ * 루프가 select() 대기 시간을 가장 가까운 마감 시각에 맞춰 깨어나서 실행합니다.
+ * 별도 스케줄러 스레드를 거치지 않으므로 스레드 전환 없이 루프 스레드에서 바로 실행됩니다.
+ *
+ * 취소:
+ * - cancel()은 어느 스레드에서나 호출 가능 (FutureTask 상태만 바꿈)
+ * - 취소된 작업은 큐 맨 앞에 올 때 실행하지 않고 버림
+ */
+class ScheduledTask extends FutureTask<Void> implements ScheduledFuture<Void> {
+
+    // 같은 마감 시각의 작업을 등록 순서대로 실행하기 위한 순번
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final long sequence;
+    private final long periodNanos;     // 반복 간격 (0이면 한 번만 실행)
+    private long deadlineNanos;         // 다음 실행 시각 (System.nanoTime 기준)
+
+    /**
+     * ScheduledTask 생성자
+     *
+     * @param task 실행할 작업
+     * @param deadlineNanos 첫 실행 시각 (System.nanoTime 기준)
+     * @param periodNanos 반복 간격 (0이면 한 번만 실행)
+     */
+    ScheduledTask(Runnable task, long deadlineNanos, long periodNanos) {
+        super(task, null);
+        this.sequence = SEQUENCE.getAndIncrement();
+        this.deadlineNanos = deadlineNanos;
+        this.periodNanos = periodNanos;
+    }
+
+    /**
+     * 작업 실행 - 루프 스레드에서만 호출
+     *
+     * @return 주기 작업이라 다시 큐에 넣어야 하면 true
+     */
+    boolean runOnLoop() {
+        if (periodNanos == 0) {
+            run();
+            return false;
+        }
+
+        // runAndReset(): 예외 없이 끝나면 다음 실행을 위해 상태를 되돌림
+        // (예외가 나거나 취소되면 false → 반복 중단, ScheduledThreadPoolExecutor와 같은 동작)
+        if (runAndReset()) {
+            // 고정 간격 - 실행이 늦어져도 다음 마감 시각은 원래 일정 기준
+            deadlineNanos += periodNanos;
+            return true;
+        }
+        return false;
+    }
+
+    long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        if (other == this) {
+            return 0;
+        }
+        if (other instanceof ScheduledTask) {
+            ScheduledTask task = (ScheduledTask) other;
+            // 오버플로우에 안전하도록 차이로 비교
+            long diff = deadlineNanos - task.deadlineNanos;
+            if (diff != 0) {
+                return diff < 0 ? -1 : 1;
+            }
+            return Long.compare(sequence, task.sequence);
+        }
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+}
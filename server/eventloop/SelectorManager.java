@@ -3,8 +3,10 @@ package server.eventloop;
 // 필요한 클래스들을 import - 각각의 역할:
 import server.core.logging.Logger;           // 로깅 기능을 위한 Logger 클래스
 import server.core.logging.LoggerFactory;    // Logger 인스턴스 생성을 위한 팩토리 클래스
+import server.core.http.FileRegion;          // transferTo로 전송할 파일 구간
 
 import java.io.IOException;                  // 입출력 예외 처리를 위한 IOException
+import java.net.StandardSocketOptions;       // 소켓 옵션 (TCP_NODELAY)
 import java.nio.channels.*;                  // NIO 채널 관련 클래스들 (SocketChannel, ServerSocketChannel, SelectionKey 등)
 import java.nio.ByteBuffer;                  // NIO에서 바이트 데이터를 다루기 위한 ByteBuffer 클래스
 import java.util.concurrent.ConcurrentHashMap; // 스레드 안전한 HashMap 구현체
@@ -17,7 +19,7 @@ import java.util.Map;                        // Map 인터페이스 - 키-값 
  * 역할:
  * - 채널 등록 및 관리 (서버 소켓, 클라이언트 소켓)
  * - 이벤트 감지 및 처리 (READ, WRITE, ACCEPT)
- * - 리소스 정리 및 타임아웃 관리
+ * - 리소스 정리 (연결 타임아웃은 NonBlockingHandler가 루프 타이머로 관리)
  * - 성능 통계 수집 및 제공
  *
  * NIO Selector의 핵심 개념:
@@ -134,6 +136,10 @@ public class SelectorManager {
             // 클라이언트 채널을 논블로킹 모드로 설정
             clientChannel.configureBlocking(false);
 
+            // Nagle 알고리즘 비활성화 - 파이프라인 응답을 연달아 쓸 때
+            // 앞 응답의 ACK(지연 ACK 최대 40ms)를 기다리느라 뒤 응답이 묶이지 않도록 함
+            clientChannel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
             // ChannelContext 생성 (통계 및 관리용)
             // incrementAndGet(): 원자적으로 값을 1 증가시키고 증가된 값 반환
             // 스레드 안전한 방식으로 고유한 채널 ID 생성
@@ -237,6 +243,60 @@ public class SelectorManager {
         return bytesWritten;
     }
 
+    /**
+     * 여러 버퍼를 한 번에 채널에 쓰기 (gathering write)
+     *
+     * 송신 큐의 버퍼들을 시스템 콜 한 번(writev)으로 전송하고 통계 정보 업데이트
+     *
+     * @param channel 쓰기를 수행할 소켓 채널
+     * @param buffers 전송할 버퍼 배열 (각 버퍼의 position이 전송한 만큼 전진)
+     * @param offset 배열에서 시작할 위치
+     * @param length 사용할 버퍼 수
+     * @return 쓴 바이트 수 (송신 버퍼가 가득 차면 0)
+     * @throws IOException I/O 오류 발생시
+     */
+    public long writeToChannel(SocketChannel channel, ByteBuffer[] buffers, int offset, int length) throws IOException {
+        long bytesWritten = channel.write(buffers, offset, length);
+
+        if (bytesWritten > 0) {
+            this.bytesWritten += bytesWritten;
+
+            ChannelContext context = channelContexts.get(channel);
+            if (context != null) {
+                context.updateLastActivity();
+                context.addBytesWritten(bytesWritten);
+            }
+        }
+
+        return bytesWritten;
+    }
+
+    /**
+     * 파일 구간을 채널에 전송 (FileChannel.transferTo - sendfile)
+     *
+     * 파일 내용을 힙으로 읽지 않고 커널에서 소켓으로 바로 전송하고 통계 정보 업데이트
+     *
+     * @param channel 대상 채널
+     * @param region 전송할 파일 구간 (진행 위치는 region이 기억)
+     * @return 전송한 바이트 수 (송신 버퍼가 가득 차면 0)
+     * @throws IOException 파일 또는 채널 I/O 오류 발생시
+     */
+    public long transferToChannel(SocketChannel channel, FileRegion region) throws IOException {
+        long bytesWritten = region.transferTo(channel);
+
+        if (bytesWritten > 0) {
+            this.bytesWritten += bytesWritten;
+
+            ChannelContext context = channelContexts.get(channel);
+            if (context != null) {
+                context.updateLastActivity();
+                context.addBytesWritten(bytesWritten);
+            }
+        }
+
+        return bytesWritten;
+    }
+
     /**
      * 쓰기 이벤트 활성화
      *
@@ -291,6 +351,51 @@ public class SelectorManager {
         }
     }
 
+    /**
+     * 읽기 이벤트 활성화
+     *
+     * disableRead()로 멈춰 두었던 채널의 수신을 다시 시작
+     *
+     * @param channel 읽기 이벤트를 활성화할 채널
+     */
+    public void enableRead(SocketChannel channel) {
+        // EventLoop 스레드 검사 및 위임
+        if (!eventLoop.inEventLoop()) {
+            eventLoop.execute(() -> enableRead(channel));
+            return;
+        }
+
+        SelectionKey key = channel.keyFor(selector);
+        if (key != null && key.isValid()) {
+            key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+
+            logger.debug("채널의 읽기 이벤트가 활성화되었습니다: {}", getChannelId(channel));
+        }
+    }
+
+    /**
+     * 읽기 이벤트 비활성화
+     *
+     * 핸들러가 이미 받은 요청을 처리하느라 더 받을 수 없을 때 수신을 멈춤 (백프레셔)
+     * 읽지 않은 데이터는 커널 수신 버퍼에 남고, TCP 흐름 제어가 클라이언트 전송을 늦춤
+     *
+     * @param channel 읽기 이벤트를 비활성화할 채널
+     */
+    public void disableRead(SocketChannel channel) {
+        // EventLoop 스레드 검사 및 위임
+        if (!eventLoop.inEventLoop()) {
+            eventLoop.execute(() -> disableRead(channel));
+            return;
+        }
+
+        SelectionKey key = channel.keyFor(selector);
+        if (key != null && key.isValid()) {
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+
+            logger.debug("채널의 읽기 이벤트가 비활성화되었습니다: {}", getChannelId(channel));
+        }
+    }
+
     /**
      * 채널 안전 종료
      *
@@ -341,49 +446,17 @@ public class SelectorManager {
             // 채널 닫기 중 오류 발생시 로그만 출력 (치명적이지 않음)
             logger.error("채널 닫기 중 오류가 발생했습니다", e);
         }
-    }
-
-    /**
-     * 연결 타임아웃 확인 및 정리
-     *
-     * 지정된 시간보다 오래된 비활성 연결들을 찾아서 정리
-     * 좀비 연결 방지와 리소스 절약을 위한 정기 정리 작업
-     *
-     * @param timeoutMillis 타임아웃 시간 (밀리초) - 이 시간보다 오래된 연결 정리
-     */
-    public void cleanupTimeoutConnections(long timeoutMillis) {
-        // EventLoop 스레드 검사 및 위임
-        if (!eventLoop.inEventLoop()) {
-            eventLoop.execute(() -> cleanupTimeoutConnections(timeoutMillis));
-            return;
-        }
 
-        // currentTimeMillis(): 현재 시간을 밀리초로 반환 (1970년 1월 1일 기준)
-        long currentTime = System.currentTimeMillis();
-        int timeoutCount = 0;
-
-        // entrySet(): Map의 모든 키-값 쌍을 Set으로 반환
-        // for-each 루프: 컬렉션의 모든 요소를 순회
-        for (Map.Entry<SocketChannel, ChannelContext> entry : channelContexts.entrySet()) {
-            ChannelContext context = entry.getValue();
-
-            // 마지막 활동 시간과 현재 시간의 차이가 타임아웃보다 크면 정리
-            if (currentTime - context.getLastActivity() > timeoutMillis) {
-                logger.debug("타임아웃 연결을 닫습니다 [{}]: {} (비활성 시간: {}ms)",
-                        context.getChannelId(),                              // 채널 ID
-                        getRemoteAddress(entry.getKey()),                   // 원격 주소
-                        currentTime - context.getLastActivity());          // 비활성 시간
-
-                // 타임아웃된 채널 정리
-                closeChannel(entry.getKey());
-                timeoutCount++;
+        // 등록된 채널이었다면 핸들러에 연결 해제 통지
+        // 타임아웃 정리나 서버 측 종료처럼 read가 -1을 반환하지 않는 경로에서도
+        // 핸들러가 연결별 리소스(풀 버퍼 등)를 반환할 수 있도록 함
+        if (context != null) {
+            try {
+                context.getHandler().onDisconnect(eventLoop, channel);
+            } catch (Exception e) {
+                logger.error("연결 해제 통지 중 오류가 발생했습니다", e);
             }
         }
-
-        // 정리된 연결이 있으면 정보 로그 출력
-        if (timeoutCount > 0) {
-            logger.info("{}개의 타임아웃 연결을 정리했습니다", timeoutCount);
-        }
     }
 
     /**
@@ -459,6 +532,27 @@ public class SelectorManager {
         activeConnections = 0;     // 활성 연결 수 초기화
     }
 
+    /**
+     * 이 SelectorManager가 속한 EventLoop 반환
+     *
+     * @return 소유 EventLoop
+     */
+    public EventLoop getEventLoop() {
+        return eventLoop;
+    }
+
+    /**
+     * 현재 활성 연결 수 반환
+     *
+     * 통계 객체를 만들지 않고 활성 연결 수만 읽는 가벼운 접근자
+     * EventLoopGroup의 least-connections 선택처럼 accept마다 호출되는 경로에서 사용
+     *
+     * @return 현재 활성 연결 수 (다른 스레드에서 읽으면 근사값)
+     */
+    public long getActiveConnectionCount() {
+        return activeConnections;
+    }
+
     /**
      * 통계 정보 반환
      *
@@ -482,7 +576,7 @@ public class SelectorManager {
      * 채널 컨텍스트 클래스
      *
      * 각 클라이언트 연결의 상세 정보와 통계를 관리
-     * 연결별 성능 모니터링과 타임아웃 관리를 위한 데이터 보관
+     * 연결별 성능 모니터링을 위한 데이터 보관
      */
     public static class ChannelContext {
         // 불변 필드들 - 연결 생성시 설정되고 변경되지 않음
@@ -493,7 +587,7 @@ public class SelectorManager {
 
         // 가변 필드들 - 연결 사용 중 지속적으로 업데이트
         // volatile: 스레드 간 가시성 보장 (메인 메모리에서 직접 읽기/쓰기)
-        private volatile long lastActivity;    // 마지막 활동 시간 (타임아웃 계산용)
+        private volatile long lastActivity;    // 마지막 활동 시간 (모니터링용)
         private volatile long bytesRead;      // 읽은 총 바이트 수
         private volatile long bytesWritten;   // 쓴 총 바이트 수
 
@@ -516,7 +610,7 @@ public class SelectorManager {
         /**
          * 마지막 활동 시간 업데이트
          *
-         * 데이터 읽기/쓰기 발생시 호출하여 타임아웃 계산에 사용
+         * 데이터 읽기/쓰기 발생시 호출하여 마지막 활동 시각 기록
          * 연결이 활발히 사용되고 있음을 표시
          */
         public void updateLastActivity() {
@@ -0,0 +1,236 @@
+package server.eventloop;
+
+import server.core.http.*;
+import server.core.logging.Logger;
+import server.core.logging.LoggerFactory;
+import server.core.routing.RouteHandler;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * EventLoop 서버용 정적 파일 핸들러
+ *
+ * 파일 내용을 byte[]로 읽지 않고 FileRegion으로 응답해서
+ * NonBlockingHandler가 송신 큐에서 FileChannel.transferTo(sendfile)로 조금씩 전송합니다.
+ * 큰 파일도 힙을 쓰지 않고, 소켓이 가득 차면 OP_WRITE로 이어서 보냅니다.
+ *
+ * 지원 기능:
+ * - 단일 Range 요청 (bytes=a-b, bytes=a-, bytes=-n) → 206 Partial Content
+ * - 범위를 벗어난 Range → 416 Range Not Satisfiable
+ * - 여러 구간 Range나 잘못된 형식은 무시하고 전체 파일 전송 (RFC 7233 허용 동작)
+ * - 루트 디렉토리 밖을 가리키는 경로(../, 심볼릭 링크)는 403
+ */
+public class StaticFileHandler implements RouteHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(StaticFileHandler.class);
+
+    // 확장자별 Content-Type
+    private static final Map<String, String> MIME_TYPES = new HashMap<>();
+
+    static {
+        MIME_TYPES.put("html", "text/html; charset=UTF-8");
+        MIME_TYPES.put("htm", "text/html; charset=UTF-8");
+        MIME_TYPES.put("css", "text/css; charset=UTF-8");
+        MIME_TYPES.put("js", "application/javascript; charset=UTF-8");
+        MIME_TYPES.put("json", "application/json; charset=UTF-8");
+        MIME_TYPES.put("txt", "text/plain; charset=UTF-8");
+        MIME_TYPES.put("xml", "application/xml; charset=UTF-8");
+        MIME_TYPES.put("svg", "image/svg+xml");
+        MIME_TYPES.put("png", "image/png");
+        MIME_TYPES.put("jpg", "image/jpeg");
+        MIME_TYPES.put("jpeg", "image/jpeg");
+        MIME_TYPES.put("gif", "image/gif");
+        MIME_TYPES.put("ico", "image/x-icon");
+        MIME_TYPES.put("webp", "image/webp");
+        MIME_TYPES.put("pdf", "application/pdf");
+        MIME_TYPES.put("zip", "application/zip");
+        MIME_TYPES.put("mp4", "video/mp4");
+        MIME_TYPES.put("woff", "font/woff");
+        MIME_TYPES.put("woff2", "font/woff2");
+    }
+
+    private static final String DEFAULT_MIME_TYPE = "application/octet-stream";
+    private static final String INDEX_FILE = "index.html";
+
+    // parseRange()가 반환하는 "범위를 만족할 수 없음" 표시
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    private final String urlPrefix;   // 라우트 경로 접두사 (예: "/static")
+    private final Path root;          // 파일을 찾을 루트 디렉토리 (절대 경로)
+
+    /**
+     * StaticFileHandler 생성자
+     *
+     * @param urlPrefix 라우트 경로 접두사
+     * @param directory 파일을 찾을 루트 디렉토리
+     */
+    public StaticFileHandler(String urlPrefix, String directory) {
+        this.urlPrefix = urlPrefix;
+        this.root = Paths.get(directory).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> handle(HttpRequest request) {
+        return CompletableFuture.completedFuture(serve(request));
+    }
+
+    /**
+     * 요청 경로의 파일로 응답 생성
+     *
+     * 파일 메타데이터만 확인하고 내용은 읽지 않음 (전송은 송신 큐에서 transferTo로)
+     */
+    private HttpResponse serve(HttpRequest request) {
+        Path file = resolve(request.getPath());
+        if (file == null) {
+            logger.warn("루트 밖의 경로 요청을 거부합니다: {}", request.getPath());
+            return HttpResponse.forbidden();
+        }
+
+        if (!Files.isRegularFile(file) || !Files.isReadable(file)) {
+            return HttpResponse.notFound();
+        }
+
+        long size;
+        String lastModified;
+        try {
+            // 심볼릭 링크가 루트 밖을 가리키는 경우도 거부
+            if (!file.toRealPath().startsWith(root.toRealPath())) {
+                logger.warn("루트 밖을 가리키는 링크 요청을 거부합니다: {}", request.getPath());
+                return HttpResponse.forbidden();
+            }
+            size = Files.size(file);
+            // Date 헤더와 같은 고정 길이 형식 (RFC_1123_DATE_TIME은 일을 0으로 채우지 않음)
+            lastModified = HttpDateClock.format(Files.getLastModifiedTime(file).toMillis());
+        } catch (IOException e) {
+            logger.warn("파일 정보를 읽을 수 없습니다: {} ({})", file, e.getMessage());
+            return HttpResponse.notFound();
+        }
+
+        String range = request.getHeader("Range");
+        long[] span = range != null ? parseRange(range, size) : null;
+
+        if (span == UNSATISFIABLE) {
+            return HttpResponse.builder(HttpStatus.RANGE_NOT_SATISFIABLE)
+                    .header("Content-Range", "bytes */" + size)
+                    .header("Accept-Ranges", "bytes")
+                    .build();
+        }
+
+        if (span != null) {
+            long length = span[1] - span[0] + 1;
+            return HttpResponse.builder(HttpStatus.PARTIAL_CONTENT)
+                    .contentType(mimeType(file))
+                    .header("Accept-Ranges", "bytes")
+                    .header("Last-Modified", lastModified)
+                    .header("Content-Range", "bytes " + span[0] + "-" + span[1] + "/" + size)
+                    .file(new FileRegion(file, span[0], length))
+                    .build();
+        }
+
+        return HttpResponse.builder(HttpStatus.OK)
+                .contentType(mimeType(file))
+                .header("Accept-Ranges", "bytes")
+                .header("Last-Modified", lastModified)
+                .file(new FileRegion(file, size))
+                .build();
+    }
+
+    /**
+     * 요청 경로를 루트 아래의 파일 경로로 변환
+     *
+     * @return 파일 경로, 루트 밖을 가리키면 null
+     */
+    private Path resolve(String requestPath) {
+        String relative = requestPath.length() > urlPrefix.length()
+                ? requestPath.substring(urlPrefix.length()) : "";
+
+        // 앞의 '/'를 떼야 루트 기준 상대 경로로 해석됨
+        while (relative.startsWith("/")) {
+            relative = relative.substring(1);
+        }
+        if (relative.isEmpty() || relative.endsWith("/")) {
+            relative += INDEX_FILE;
+        }
+
+        try {
+            Path file = root.resolve(relative).normalize();
+            return file.startsWith(root) ? file : null;
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 단일 구간 Range 헤더 해석
+     *
+     * @param header Range 헤더 값
+     * @param size 파일 크기
+     * @return {시작, 끝(포함)}, 무시해야 하면 null, 만족할 수 없으면 UNSATISFIABLE
+     */
+    static long[] parseRange(String header, long size) {
+        String value = header.trim();
+        if (!value.regionMatches(true, 0, "bytes=", 0, 6)) {
+            return null;
+        }
+        value = value.substring(6).trim();
+        if (value.indexOf(',') >= 0) {
+            return null; // 여러 구간 - multipart/byteranges는 지원하지 않으므로 전체 전송
+        }
+
+        int dash = value.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+
+        String first = value.substring(0, dash).trim();
+        String last = value.substring(dash + 1).trim();
+
+        try {
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                // bytes=-n: 마지막 n바이트
+                if (last.isEmpty()) {
+                    return null;
+                }
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || size == 0) {
+                    return UNSATISFIABLE;
+                }
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+                if (start < 0 || end < start) {
+                    return null;
+                }
+                if (start >= size) {
+                    return UNSATISFIABLE;
+                }
+                end = Math.min(end, size - 1);
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String mimeType(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        if (dot < 0) {
+            return DEFAULT_MIME_TYPE;
+        }
+        String extension = name.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return MIME_TYPES.getOrDefault(extension, DEFAULT_MIME_TYPE);
+    }
+}
@@ -3,6 +3,14 @@ package server.examples;
 import server.core.mini.*;
 import server.core.http.*;
 import server.core.routing.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -10,6 +18,9 @@ import java.util.concurrent.CompletableFuture;
  */
 public class CoreSystemTest {
 
+    // 파서 시나리오 검사에서 실패한 항목 수
+    private static int failures = 0;
+
     public static void main(String[] args) throws Exception {
         System.out.println("=== JavaServerArchitectures Core System Test ===\n");
 
@@ -25,7 +36,14 @@ public class CoreSystemTest {
         // 4. 통합 테스트
         testIntegration();
 
+        // 5. 파서 시나리오 테스트 (신뢰할 수 없는 입력을 받는 부분)
+        testParsers();
+
         System.out.println("\n=== All Tests Completed ===");
+        if (failures > 0) {
+            System.out.println("  ✗ " + failures + " parser check(s) failed");
+            System.exit(1);
+        }
     }
 
     /**
@@ -261,11 +279,273 @@ public class CoreSystemTest {
         System.out.println("  ✓ Integration test completed\n");
     }
 
+    /**
+     * 파서 시나리오 테스트
+     *
+     * 네트워크에서 들어온 바이트를 직접 해석하는 부분을 경계 조건 위주로 검사
+     * - HttpRequestDecoder: 조각난 입력, 파이프라이닝, chunked 본문, 임시 파일 전환, 거부해야 할 요청
+     * - MultipartParser: 버퍼 재충전에 걸친 boundary, preamble/epilogue, 닫는 구분자, 잘린 본문
+     * - StreamingBody: chunked 전송 틀
+     */
+    private static void testParsers() throws Exception {
+        System.out.println("5. Testing Parsers...");
+
+        System.out.println("  - HttpRequestDecoder:");
+        testRequestDecoder();
+
+        System.out.println("  - MultipartParser:");
+        testMultipartParser();
+
+        System.out.println("  - StreamingBody:");
+        testStreamingBody();
+
+        System.out.println("  ✓ Parsers test completed\n");
+    }
+
+    private static void testRequestDecoder() throws Exception {
+        String get = "GET /a?x=1 HTTP/1.1\r\nHost: localhost\r\nConnection: keep-alive, Upgrade\r\n\r\n";
+
+        // 한 번에 들어온 요청
+        HttpRequest request = new HttpRequestDecoder().decode(ascii(get));
+        check("single buffer", request != null && request.getMethod() == HttpMethod.GET
+                && "/a".equals(request.getPath()) && "localhost".equals(request.getHeader("Host")));
+        check("Connection token list", request != null && request.isKeepAlive());
+
+        // 1바이트씩 들어온 요청 - 마지막 바이트 전까지는 null
+        HttpRequestDecoder decoder = new HttpRequestDecoder();
+        byte[] bytes = get.getBytes(StandardCharsets.US_ASCII);
+        HttpRequest split = null;
+        boolean early = false;
+        for (int i = 0; i < bytes.length; i++) {
+            split = decoder.decode(ByteBuffer.wrap(bytes, i, 1));
+            if (split != null && i < bytes.length - 1) {
+                early = true;
+            }
+        }
+        check("byte-at-a-time", !early && split != null && "/a".equals(split.getPath()));
+
+        // 파이프라이닝 - 첫 요청 뒤 바이트는 소비하지 않고 남김
+        ByteBuffer pipelined = ascii("POST /p HTTP/1.1\r\nContent-Length: 5\r\n\r\nhello" + get);
+        decoder = new HttpRequestDecoder();
+        HttpRequest first = decoder.decode(pipelined);
+        HttpRequest second = decoder.decode(pipelined);
+        check("pipelined requests", first != null && "hello".equals(first.getBodyAsString())
+                && second != null && "/a".equals(second.getPath()) && !pipelined.hasRemaining());
+
+        // chunked 본문 - 청크 확장과 트레일러, 청크 경계가 버퍼 경계와 어긋난 경우
+        String chunked = "POST /c HTTP/1.1\r\nTransfer-Encoding: chunked\r\n\r\n"
+                + "5;ext=1\r\nhello\r\n6\r\n world\r\n0\r\nX-Trailer: t\r\n\r\n";
+        check("chunked body", "hello world".equals(decodeInPieces(chunked, 7).getBodyAsString()));
+
+        // 임시 파일 전환 - 임계값을 넘는 본문은 메모리 대신 파일
+        byte[] large = new byte[64 * 1024];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = (byte) (i * 31);
+        }
+        for (boolean useChunked : new boolean[]{false, true}) {
+            ByteArrayOutputStream raw = new ByteArrayOutputStream();
+            raw.write(("POST /big HTTP/1.1\r\n" + (useChunked ? "Transfer-Encoding: chunked"
+                    : "Content-Length: " + large.length) + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            if (useChunked) {
+                raw.write(("10000\r\n").getBytes(StandardCharsets.US_ASCII));
+                raw.write(large);
+                raw.write("\r\n0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            } else {
+                raw.write(large);
+            }
+            HttpRequest spooled = decodeAll(new HttpRequestDecoder(1024 * 1024, 4096), raw.toByteArray(), 1000);
+            boolean same;
+            try (InputStream in = spooled.getBodyStream()) {
+                same = Arrays.equals(large, in.readAllBytes());
+            }
+            check("spooled body (" + (useChunked ? "chunked" : "Content-Length") + ")",
+                    spooled.isBodySpooled() && spooled.getBodySize() == large.length && same);
+            spooled.releaseBody();
+        }
+
+        // 거부해야 할 요청들
+        expectRejected("gzip, chunked",
+                "POST / HTTP/1.1\r\nTransfer-Encoding: gzip, chunked\r\n\r\n", HttpStatus.NOT_IMPLEMENTED);
+        expectRejected("Content-Length with chunked",
+                "POST / HTTP/1.1\r\nContent-Length: 3\r\nTransfer-Encoding: chunked\r\n\r\n",
+                HttpStatus.BAD_REQUEST);
+        expectRejected("conflicting Content-Length",
+                "POST / HTTP/1.1\r\nContent-Length: 3\r\nContent-Length: 4\r\n\r\n", HttpStatus.BAD_REQUEST);
+        expectRejected("invalid chunk size",
+                "POST / HTTP/1.1\r\nTransfer-Encoding: chunked\r\n\r\nzz\r\n", HttpStatus.BAD_REQUEST);
+        expectRejected("body over limit",
+                "POST / HTTP/1.1\r\nContent-Length: 100\r\n\r\n", HttpStatus.PAYLOAD_TOO_LARGE, 10);
+    }
+
+    private static void testMultipartParser() throws Exception {
+        String boundary = "----Boundary7MA4YWxk";
+        byte[] file = new byte[40 * 1024];   // 파서 버퍼(16KB)보다 커서 재충전이 여러 번 일어남
+        for (int i = 0; i < file.length; i++) {
+            file[i] = (byte) (i * 7);
+        }
+        // boundary와 앞부분이 같은 가짜 구분자 - 끝까지 비교해야 데이터로 판단할 수 있음
+        byte[] fake = ("\r\n--" + boundary.substring(0, boundary.length() - 1) + "X")
+                .getBytes(StandardCharsets.ISO_8859_1);
+        System.arraycopy(fake, 0, file, 16 * 1024 - 10, fake.length);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write(("preamble\r\n--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"description\"\r\n\r\nhello\r\n"
+                + "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"a.bin\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        body.write(file);
+        body.write(("\r\n--" + boundary + "--\r\nepilogue").getBytes(StandardCharsets.ISO_8859_1));
+        byte[] multipart = body.toByteArray();
+
+        // 한 번에 읽는 스트림과 몇 바이트씩만 주는 스트림 모두 같은 결과
+        for (int step : new int[]{Integer.MAX_VALUE, 7}) {
+            List<MultipartParser.Part> parts = MultipartParser.parseAll(
+                    new TrickleInputStream(multipart, step), boundary, 8 * 1024, 10);
+            try {
+                check("parts (read size " + (step == Integer.MAX_VALUE ? "unlimited" : step) + ")",
+                        parts.size() == 2
+                                && "description".equals(parts.get(0).getName())
+                                && "hello".equals(parts.get(0).getString())
+                                && parts.get(1).isFile() && "a.bin".equals(parts.get(1).getFilename())
+                                && !parts.get(1).getContent().isInMemory()
+                                && Arrays.equals(file, parts.get(1).getContent().toByteArray()));
+            } finally {
+                for (MultipartParser.Part part : parts) {
+                    part.close();
+                }
+            }
+        }
+
+        check("boundary parameter", boundary.equals(
+                MultipartParser.boundaryOf("multipart/form-data; boundary=\"" + boundary + "\""))
+                && MultipartParser.boundaryOf("text/plain") == null);
+
+        // 닫는 구분자 없이 끝난 본문은 오류
+        boolean truncatedRejected = false;
+        try {
+            MultipartParser.parseAll(new ByteArrayInputStream(Arrays.copyOf(multipart, multipart.length / 2)),
+                    boundary, 8 * 1024, 10);
+        } catch (IOException e) {
+            truncatedRejected = true;
+        }
+        check("truncated body rejected", truncatedRejected);
+
+        // 파트 수 제한
+        boolean tooManyRejected = false;
+        try {
+            MultipartParser.parseAll(new ByteArrayInputStream(multipart), boundary, 8 * 1024, 1);
+        } catch (IOException e) {
+            tooManyRejected = true;
+        }
+        check("part limit", tooManyRejected);
+    }
+
+    private static void testStreamingBody() throws Exception {
+        // 길이를 모르는 본문은 청크 틀로 감싸고 0 청크로 끝남
+        StreamingBody chunkedBody = StreamingBody.of(
+                new TrickleInputStream("hello world".getBytes(StandardCharsets.US_ASCII), 5), -1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        chunkedBody.writeTo(out);
+        String wire = out.toString("US-ASCII");
+        check("chunked framing", chunkedBody.isChunked() && wire.endsWith("0\r\n\r\n")
+                && "hello world".equals(dechunk(wire)));
+
+        // 길이를 아는 본문은 원본 그대로
+        StreamingBody fixed = StreamingBody.of(new ByteArrayInputStream(new byte[]{1, 2, 3}), 3);
+        out.reset();
+        fixed.writeTo(out);
+        check("fixed length", !fixed.isChunked() && Arrays.equals(new byte[]{1, 2, 3}, out.toByteArray()));
+
+        // 선언한 길이보다 먼저 끝나면 오류
+        boolean shortRejected = false;
+        try {
+            StreamingBody.of(new ByteArrayInputStream(new byte[2]), 3).writeTo(new ByteArrayOutputStream());
+        } catch (IOException e) {
+            shortRejected = true;
+        }
+        check("short body rejected", shortRejected);
+    }
+
+    // === 파서 테스트 도우미 ===
+
+    private static void check(String name, boolean passed) {
+        if (!passed) {
+            failures++;
+        }
+        System.out.println("    " + (passed ? "✓ " : "✗ ") + name);
+    }
+
+    private static ByteBuffer ascii(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static HttpRequest decodeInPieces(String raw, int pieceSize) throws Exception {
+        return decodeAll(new HttpRequestDecoder(), raw.getBytes(StandardCharsets.US_ASCII), pieceSize);
+    }
+
+    private static HttpRequest decodeAll(HttpRequestDecoder decoder, byte[] raw, int pieceSize) throws Exception {
+        HttpRequest request = null;
+        for (int i = 0; i < raw.length && request == null; i += pieceSize) {
+            ByteBuffer piece = ByteBuffer.wrap(raw, i, Math.min(pieceSize, raw.length - i));
+            request = decoder.decode(piece);
+        }
+        return request;
+    }
+
+    private static void expectRejected(String name, String raw, HttpStatus expected) {
+        expectRejected(name, raw, expected, HttpRequestDecoder.DEFAULT_MAX_BODY_SIZE);
+    }
+
+    private static void expectRejected(String name, String raw, HttpStatus expected, long maxBodySize) {
+        HttpStatus actual = null;
+        try {
+            new HttpRequestDecoder(maxBodySize).decode(ascii(raw));
+        } catch (HttpRequestDecoder.DecodeException e) {
+            actual = e.getStatus();
+        }
+        check("reject " + name + " -> " + expected.getCode(), actual == expected);
+    }
+
+    /**
+     * 청크 틀을 벗겨 원본 문자열로 복원 (StreamingBody 검사용)
+     */
+    private static String dechunk(String wire) {
+        StringBuilder sb = new StringBuilder();
+        int pos = 0;
+        while (true) {
+            int lineEnd = wire.indexOf("\r\n", pos);
+            int size = Integer.parseInt(wire.substring(pos, lineEnd).trim(), 16);
+            if (size == 0) {
+                return sb.toString();
+            }
+            sb.append(wire, lineEnd + 2, lineEnd + 2 + size);
+            pos = lineEnd + 2 + size + 2;
+        }
+    }
+
+    /**
+     * 한 번에 최대 step 바이트만 돌려주는 스트림 - 소켓에서 조금씩 도착하는 상황 흉내
+     */
+    private static final class TrickleInputStream extends ByteArrayInputStream {
+        private final int step;
+
+        TrickleInputStream(byte[] data, int step) {
+            super(data);
+            this.step = step;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, step));
+        }
+    }
+
     /**
      * 성능 벤치마크 테스트
      */
     public static void runBenchmark() {
-        System.out.println("5. Running Performance Benchmark...");
+        System.out.println("6. Running Performance Benchmark...");
 
         Router router = TestRouterSetup.createTestRouter();
         int iterations = 10000;
@@ -1,5 +1,7 @@
 package server.hybrid;
 
+import server.core.http.HttpRequest;
+import server.core.http.HttpRequestDecoder;
 import server.core.http.HttpResponse;
 import server.core.logging.Logger;
 import server.core.logging.LoggerFactory;
@@ -14,8 +16,8 @@ import java.util.concurrent.atomic.AtomicReference;
  *
  * 역할:
  * 1. NIO 채널과 HTTP 요청/응답 상태 관리
- * 2. 부분적으로 읽은 데이터 버퍼링
- * 3. HTTP 요청 완성도 추적
+ * 2. 부분적으로 읽은 데이터를 바이트 단위로 점진 파싱
+ * 3. HTTP 요청 완성도 추적 (완성되면 HttpRequest 객체로 보관)
  * 4. 응답 준비 상태 관리
  * 5. 채널별 메타데이터 저장
  */
@@ -32,9 +34,15 @@ public class ChannelContext {
     // final로 선언하여 생성 후 변경 불가능한 기본 정보들
 
     // === HTTP 요청 데이터 ===
-    // HTTP 요청 데이터를 점진적으로 누적하는 문자열 빌더
-    private final StringBuilder requestBuffer;
-    // StringBuilder 사용으로 문자열 연결 성능 최적화
+    // 읽은 바이트를 도착하는 대로 파싱하는 점진적 디코더
+    // 문자열로 변환해서 누적하지 않으므로 이미 본 데이터를 다시 검색하지 않음
+    private final HttpRequestDecoder decoder;
+
+    // 파싱이 끝난 요청 - Thread Pool에는 이 객체가 그대로 전달됨
+    private volatile HttpRequest request;
+
+    // 요청이 완성된 뒤 같은 read에 함께 들어온 나머지 바이트 (파이프라인된 다음 요청)
+    private ByteBuffer pendingData;
 
     private volatile boolean requestComplete; // 요청 완성 여부
     private volatile String httpMethod; // HTTP 메서드 (GET, POST 등)
@@ -49,6 +57,15 @@ public class ChannelContext {
 
     private volatile boolean responseReady; // 응답 준비 완료 여부
 
+    // 직렬화된 응답 중 아직 전송하지 못한 부분 - Selector 스레드에서만 사용
+    // {헤더, 본문} 형태의 gathering write용 버퍼 - 본문은 응답 배열을 복사 없이 감싼 뷰
+    // 소켓 송신 버퍼가 가득 차면 남은 데이터를 보관했다가 다음 OP_WRITE에서 이어서 전송
+    private ByteBuffer[] outboundBuffers;
+
+    // 스트리밍 응답 본문을 읽어 오는 버퍼 - 스트리밍 응답을 보낸 연결만 처음 한 번 할당하고 재사용
+    // 원본에서 한 조각 읽어 다 보낸 뒤에만 다음 조각을 읽으므로 응답 하나의 메모리 상한이 됨
+    private ByteBuffer streamBuffer;
+
     // === 연결 상태 ===
     private volatile boolean keepAlive; // Keep-Alive 연결 여부
     private volatile long lastActivityTime; // 마지막 활동 시간
@@ -61,10 +78,8 @@ public class ChannelContext {
     // Key-Value 형태로 임의의 메타데이터 저장 가능
 
     // === HTTP 파싱 상태 ===
-    private volatile ParsingState parsingState; // 현재 파싱 단계
-    private volatile int contentLength; // Content-Length 헤더 값
-    private volatile int readBodyBytes; // 현재까지 읽은 바디 바이트 수
-    // HTTP 프로토콜의 점진적 파싱을 위한 상태 추적
+    private volatile int contentLength; // 완성된 요청의 바디 바이트 수
+    // 파싱 단계는 디코더 상태에서 계산 (getParsingState)
 
     /**
      * HTTP 파싱 상태 열거형
@@ -88,8 +103,7 @@ public class ChannelContext {
         this.createdTime = System.currentTimeMillis(); // 현재 시간으로 생성 시간 설정
 
         // HTTP 요청 관련 초기화
-        this.requestBuffer = new StringBuilder(1024); // 1KB 초기 용량으로 생성
-        // 일반적인 HTTP 요청 크기를 고려한 적절한 초기 용량 설정
+        this.decoder = new HttpRequestDecoder(); // 바디 1MB까지 메모리, 넘으면 임시 파일 (최대 1GB)
         this.requestComplete = false; // 초기에는 요청 미완성 상태
 
         // HTTP 응답 관련 초기화
@@ -105,224 +119,109 @@ public class ChannelContext {
         this.attributes = new ConcurrentHashMap<>(); // 빈 동시성 맵 생성
 
         // HTTP 파싱 상태 초기화
-        this.parsingState = ParsingState.REQUEST_LINE; // 요청 라인부터 시작
         this.contentLength = 0; // Content-Length 초기값 0
-        this.readBodyBytes = 0; // 읽은 바디 바이트 수 초기값 0
 
         // 생성 완료 로그
         logger.debug("채널 컨텍스트 생성 - 연결 ID: {}", connectionId);
     }
 
     /**
-     * 새로운 데이터를 요청 버퍼에 추가
+     * 새로 읽은 데이터를 디코더에 전달
+     *
+     * 바이트를 String으로 바꾸지 않고 그대로 파싱하므로 멀티바이트 바디도 정확한 바이트 수로 처리됨
+     * 요청이 완성되면 나머지 바이트는 다음 요청을 위해 보관
+     *
+     * @param buffer 읽기 모드의 수신 버퍼
+     * @throws HttpRequestDecoder.DecodeException 요청 형식이 잘못되었거나 제한을 넘은 경우
      */
-    public synchronized void appendData(ByteBuffer buffer) {
-        // synchronized로 동시 접근 방지 - 요청 버퍼 일관성 보장
-
-        // ByteBuffer에서 남은 바이트 배열 추출
-        byte[] bytes = new byte[buffer.remaining()];
-        // remaining()으로 읽을 수 있는 바이트 수 확인
-        buffer.get(bytes); // ByteBuffer에서 바이트 배열로 데이터 복사
-
-        // 바이트 배열을 문자열로 변환하여 버퍼에 추가
-        String data = new String(bytes); // 기본 문자 인코딩 사용
-        requestBuffer.append(data); // StringBuilder에 문자열 추가
-        // append() 메서드로 기존 데이터에 새 데이터 연결
+    public synchronized void appendData(ByteBuffer buffer) throws HttpRequestDecoder.DecodeException {
+        // synchronized로 동시 접근 방지 - 디코더 상태 일관성 보장
+        int received = buffer.remaining();
 
         // 활동 시간 업데이트
         updateLastActivity();
         // 데이터 수신은 채널 활동으로 간주
 
-        // 요청 완성도 확인
-        checkRequestComplete();
-        // 새로운 데이터 추가 후 요청이 완성되었는지 검사
+        if (requestComplete) {
+            // 이전 요청 처리 중에 도착한 데이터는 다음 요청용으로 보관만 함
+            savePendingData(buffer);
+        } else {
+            HttpRequest decoded = decoder.decode(buffer);
+            if (decoded != null) {
+                onRequestComplete(decoded);
+                // 같은 read에 들어온 다음 요청 바이트 보관
+                savePendingData(buffer);
+            }
+        }
 
         // 데이터 추가 로그
-        logger.debug("데이터 추가 - 연결 ID: {}, 크기: {} bytes", connectionId, bytes.length);
+        logger.debug("데이터 추가 - 연결 ID: {}, 크기: {} bytes", connectionId, received);
     }
 
     /**
-     * HTTP 요청 완성도 확인
+     * 보관해 둔 다음 요청 데이터를 디코더에 전달
+     *
+     * resetForNewRequest() 이후 호출 - 파이프라인된 요청이 이미 도착해 있으면 바로 완성될 수 있음
+     *
+     * @return 보관된 데이터가 있었으면 true
+     * @throws HttpRequestDecoder.DecodeException 요청 형식이 잘못된 경우
      */
-    private void checkRequestComplete() {
-        // 현재까지 누적된 모든 요청 데이터 획득
-        String currentData = requestBuffer.toString();
-        // StringBuilder를 문자열로 변환하여 파싱 대상 준비
-
-        // 현재 파싱 상태에 따라 적절한 검사 로직 실행
-        switch (parsingState) {
-            case REQUEST_LINE:
-                checkRequestLine(currentData); // 요청 라인 파싱 시도
-                break;
-            case HEADERS:
-                checkHeaders(currentData); // 헤더 파싱 시도
-                break;
-            case BODY:
-                checkBody(currentData); // 바디 파싱 시도
-                break;
-            case COMPLETE:
-                break; // 이미 완성된 상태면 추가 작업 없음
+    public synchronized boolean processPendingData() throws HttpRequestDecoder.DecodeException {
+        if (pendingData == null) {
+            return false;
         }
+        ByteBuffer data = pendingData;
+        pendingData = null;
+        data.flip();
+        appendData(data);
+        return true;
     }
 
     /**
-     * 요청 라인 파싱 확인
+     * 요청 완성 처리 - 요청 정보와 Keep-Alive 여부 기록
      */
-    private void checkRequestLine(String data) {
-        // HTTP 요청의 첫 번째 줄 끝을 찾기 (CRLF로 구분)
-        int firstLineEnd = data.indexOf("\r\n");
-        // HTTP 프로토콜은 줄 구분자로 \r\n 사용
-
-        if (firstLineEnd != -1) {
-            // 요청 라인이 완성된 경우
-            String requestLine = data.substring(0, firstLineEnd);
-            // 첫 번째 줄만 추출하여 요청 라인으로 사용
-
-            String[] parts = requestLine.split(" "); // 공백으로 분할
-            // HTTP 요청 라인 형식: "METHOD URI VERSION"
-
-            if (parts.length >= 3) {
-                // 최소 3개 부분이 있어야 유효한 요청 라인
-                this.httpMethod = parts[0]; // 첫 번째 부분: HTTP 메서드
-                this.requestUri = parts[1]; // 두 번째 부분: 요청 URI
-                this.httpVersion = parts[2]; // 세 번째 부분: HTTP 버전
-
-                // 다음 단계로 진행
-                this.parsingState = ParsingState.HEADERS;
-                checkHeaders(data); // 헤더 파싱 즉시 시도
-                // 요청 라인 완성 후 연속적으로 헤더 파싱 진행
-
-                // 요청 라인 파싱 완료 로그
-                logger.debug("요청 라인 파싱 완료 - 연결 ID: {}, {} {} {}",
-                        connectionId, httpMethod, requestUri, httpVersion);
-            }
-        }
-    }
+    private void onRequestComplete(HttpRequest decoded) {
+        this.request = decoded;
+        this.httpMethod = decoded.getMethod().getMethod();
+        this.requestUri = decoded.getUri();
+        this.httpVersion = decoded.getVersion();
+        this.contentLength = decoded.getBodyLength();
 
-    /**
-     * 헤더 파싱 확인
-     */
-    private void checkHeaders(String data) {
-        // HTTP 헤더 끝을 나타내는 빈 줄 찾기 (CRLF + CRLF)
-        int headersEnd = data.indexOf("\r\n\r\n");
-        // 헤더와 바디를 구분하는 빈 줄 탐지
-
-        if (headersEnd != -1) {
-            // 헤더가 완성된 경우
-            String headers = data.substring(0, headersEnd);
-            // 헤더 부분만 추출
-
-            // 헤더에서 중요 정보 파싱
-            parseContentLength(headers); // Content-Length 헤더 파싱
-            parseKeepAlive(headers); // Connection 헤더 파싱
-
-            if (contentLength > 0) {
-                // 바디가 있는 요청인 경우
-                this.parsingState = ParsingState.BODY;
-                checkBody(data); // 바디 파싱 즉시 시도
-            } else {
-                // 바디가 없는 요청인 경우 (GET 등)
-                this.parsingState = ParsingState.COMPLETE;
-                this.requestComplete = true; // 요청 완성 표시
-            }
+        // Connection 토큰 목록 해석 (close/keep-alive, 없으면 HTTP/1.1만 기본 Keep-Alive)
+        this.keepAlive = decoded.isKeepAlive();
 
-            // 헤더 파싱 완료 로그
-            logger.debug("헤더 파싱 완료 - 연결 ID: {}, Content-Length: {}, Keep-Alive: {}",
-                    connectionId, contentLength, keepAlive);
-        }
-    }
+        this.requestComplete = true;
 
-    /**
-     * 바디 파싱 확인
-     */
-    private void checkBody(String data) {
-        // 헤더 끝 위치 재탐지
-        int headersEnd = data.indexOf("\r\n\r\n");
-
-        if (headersEnd != -1) {
-            // 바디 시작 위치 계산
-            int bodyStart = headersEnd + 4; // "\r\n\r\n"의 길이 4를 더함
-            int currentBodyLength = data.length() - bodyStart;
-            // 전체 데이터에서 바디 시작 위치를 빼서 현재 바디 길이 계산
-
-            this.readBodyBytes = currentBodyLength; // 읽은 바디 바이트 수 업데이트
-
-            // Content-Length와 비교하여 바디 완성 여부 확인
-            if (currentBodyLength >= contentLength) {
-                // 필요한 만큼의 바디를 모두 읽은 경우
-                this.parsingState = ParsingState.COMPLETE;
-                this.requestComplete = true; // 요청 완성 표시
-
-                // 바디 파싱 완료 로그
-                logger.debug("바디 파싱 완료 - 연결 ID: {}, 바디 크기: {} bytes",
-                        connectionId, currentBodyLength);
-            }
-        }
+        logger.debug("요청 파싱 완료 - 연결 ID: {}, {} {} {}, 바디: {} bytes, Keep-Alive: {}",
+                connectionId, httpMethod, requestUri, httpVersion, contentLength, keepAlive);
     }
 
     /**
-     * Content-Length 헤더 파싱
+     * 버퍼에 남은 바이트를 보관 버퍼 뒤에 추가
      */
-    private void parseContentLength(String headers) {
-        // 헤더를 줄 단위로 분할
-        String[] lines = headers.split("\r\n");
-        // 각 헤더는 별도 줄에 위치
-
-        // 모든 헤더 라인 순회하며 Content-Length 찾기
-        for (String line : lines) {
-            if (line.toLowerCase().startsWith("content-length:")) {
-                // 대소문자 구분 없이 Content-Length 헤더 탐지
-                try {
-                    // 헤더 이름 제거하고 값 부분만 추출
-                    String value = line.substring("content-length:".length()).trim();
-                    // substring()으로 헤더명 제거, trim()으로 공백 제거
-                    this.contentLength = Integer.parseInt(value);
-                    // 문자열을 정수로 변환하여 바이트 길이 저장
-                } catch (NumberFormatException e) {
-                    // 잘못된 Content-Length 값 처리
-                    this.contentLength = 0; // 기본값 0으로 설정
-                    logger.warn("잘못된 Content-Length 값 - 연결 ID: {}, 값: {}", connectionId, line);
-                }
-                break; // Content-Length 찾으면 루프 종료
-            }
+    private void savePendingData(ByteBuffer buffer) {
+        if (!buffer.hasRemaining()) {
+            return;
         }
-    }
-
-    /**
-     * Keep-Alive 헤더 파싱
-     */
-    private void parseKeepAlive(String headers) {
-        // 헤더를 줄 단위로 분할
-        String[] lines = headers.split("\r\n");
-
-        // 모든 헤더 라인 순회하며 Connection 헤더 찾기
-        for (String line : lines) {
-            String lowerLine = line.toLowerCase(); // 대소문자 구분 없이 비교
-
-            if (lowerLine.startsWith("connection:")) {
-                // Connection 헤더 발견
-                String value = line.substring("connection:".length()).trim().toLowerCase();
-                // 헤더 값 추출 및 소문자 변환
-                this.keepAlive = value.equals("keep-alive");
-                // "keep-alive" 값이면 true, 아니면 false
-                break; // Connection 헤더 찾으면 루프 종료
-            }
-        }
-
-        // HTTP/1.1의 경우 기본값이 Keep-Alive
-        if ("HTTP/1.1".equals(httpVersion) && !headers.toLowerCase().contains("connection:")) {
-            this.keepAlive = true;
-            // HTTP/1.1에서 Connection 헤더가 없으면 기본적으로 Keep-Alive
+        if (pendingData == null) {
+            pendingData = ByteBuffer.allocate(Math.max(buffer.remaining(), 1024));
+        } else if (pendingData.remaining() < buffer.remaining()) {
+            ByteBuffer expanded = ByteBuffer.allocate(
+                    Math.max(pendingData.capacity() * 2, pendingData.position() + buffer.remaining()));
+            pendingData.flip();
+            expanded.put(pendingData);
+            pendingData = expanded;
         }
+        pendingData.put(buffer);
     }
 
     /**
-     * 완성된 요청 데이터 반환
+     * 파싱이 완료된 요청 반환
+     *
+     * @return 완성된 요청, 아직 완성되지 않았으면 null
      */
-    public String getRequestData() {
-        // StringBuilder의 모든 내용을 문자열로 변환하여 반환
-        return requestBuffer.toString();
-        // 누적된 모든 HTTP 요청 데이터 제공
+    public HttpRequest getRequest() {
+        return request;
     }
 
     /**
@@ -366,8 +265,9 @@ public class ChannelContext {
         // synchronized로 초기화 과정의 원자성 보장
 
         // HTTP 요청 관련 데이터 초기화
-        requestBuffer.setLength(0); // StringBuilder 내용 모두 삭제
-        // setLength(0)으로 빠른 버퍼 비우기
+        // 디코더는 요청이 완성될 때 스스로 리셋되므로 여기서는 결과만 비움
+        // (보관 중인 다음 요청 데이터는 유지 - processPendingData()로 이어서 처리)
+        request = null;
         requestComplete = false; // 요청 완성 상태 리셋
         httpMethod = null; // HTTP 메서드 초기화
         requestUri = null; // 요청 URI 초기화
@@ -376,11 +276,10 @@ public class ChannelContext {
         // HTTP 응답 관련 데이터 초기화
         response.set(null); // 응답 객체 null로 리셋
         responseReady = false; // 응답 준비 상태 리셋
+        outboundBuffers = null; // 전송 중이던 응답 버퍼 해제
 
         // HTTP 파싱 상태 초기화
-        parsingState = ParsingState.REQUEST_LINE; // 파싱 상태를 처음부터 시작
         contentLength = 0; // Content-Length 리셋
-        readBodyBytes = 0; // 읽은 바디 바이트 수 리셋
 
         // 연결 통계 업데이트
         requestCount++; // 처리한 요청 수 증가
@@ -391,6 +290,74 @@ public class ChannelContext {
                 connectionId, requestCount);
     }
 
+    /**
+     * 전송 대기 중인 응답 버퍼들 반환
+     *
+     * @return 아직 직렬화되지 않았으면 null
+     */
+    public ByteBuffer[] getOutboundBuffers() {
+        return outboundBuffers;
+    }
+
+    /**
+     * 직렬화된 응답 버퍼들 설정 - 전송이 끝날 때까지 보관
+     */
+    public void setOutboundBuffers(ByteBuffer[] outboundBuffers) {
+        this.outboundBuffers = outboundBuffers;
+    }
+
+    /**
+     * 스트리밍 본문 전송용 버퍼 반환 (처음 호출할 때 빈 읽기 모드로 할당)
+     *
+     * @param size 버퍼 크기
+     */
+    public ByteBuffer getStreamBuffer(int size) {
+        if (streamBuffer == null) {
+            streamBuffer = ByteBuffer.allocate(size);
+            streamBuffer.flip();
+        }
+        return streamBuffer;
+    }
+
+    /**
+     * 요청 본문 임시 파일 정리 (연결 종료시)
+     *
+     * 받는 중이던 본문과, 처리 중에 연결이 끊긴 요청의 본문을 모두 삭제
+     */
+    public synchronized void releaseRequestBody() {
+        decoder.reset();
+        if (request != null) {
+            request.releaseBody();
+        }
+    }
+
+    /**
+     * 전송 중이던 스트리밍 본문의 원본 채널 닫기 (연결 종료시)
+     */
+    public void closeStreamingBody() {
+        HttpResponse current = response.get();
+        if (current == null || current.getStreamingBody() == null) {
+            return;
+        }
+        try {
+            current.getStreamingBody().close();
+        } catch (java.io.IOException e) {
+            logger.warn("스트리밍 본문을 닫는 중 오류 - 연결 ID: {}", connectionId);
+        }
+        if (streamBuffer != null) {
+            streamBuffer.clear().flip(); // 보내지 못한 조각 버림
+        }
+    }
+
+    /**
+     * 요청을 기다리는 유휴 상태인지 확인
+     *
+     * @return 요청 처리나 응답 전송 중이 아니면 true (유휴 타임아웃 대상)
+     */
+    public boolean isAwaitingRequest() {
+        return !requestComplete && !responseReady;
+    }
+
     /**
      * 마지막 활동 시간 업데이트
      */
@@ -471,9 +438,17 @@ public class ChannelContext {
     public boolean isKeepAlive() { return keepAlive; }
     public long getLastActivityTime() { return lastActivityTime; }
     public int getRequestCount() { return requestCount; }
-    public ParsingState getParsingState() { return parsingState; }
     public int getContentLength() { return contentLength; }
-    public int getReadBodyBytes() { return readBodyBytes; }
+
+    /**
+     * 현재 파싱 단계 - 디코더 상태에서 계산
+     */
+    public synchronized ParsingState getParsingState() {
+        if (requestComplete) return ParsingState.COMPLETE;
+        if (decoder.isReadingBody()) return ParsingState.BODY;
+        if (!decoder.isIdle()) return ParsingState.HEADERS;
+        return ParsingState.REQUEST_LINE;
+    }
 
     // === Setters ===
     // 필요한 경우에만 제공되는 설정자 메서드들
@@ -488,7 +463,7 @@ public class ChannelContext {
         return String.format(
                 "ChannelContext{id=%d, method=%s, uri=%s, state=%s, " +
                         "complete=%s, keepAlive=%s, requests=%d, lifetime=%dms}",
-                connectionId, httpMethod, requestUri, parsingState,
+                connectionId, httpMethod, requestUri, getParsingState(),
                 requestComplete, keepAlive, requestCount, getLifetimeMs()
         );
         // 디버깅과 로깅에 유용한 정보들을 간결하게 표현
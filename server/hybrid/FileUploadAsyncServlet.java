@@ -2,11 +2,13 @@ package server.hybrid;
 
 import server.core.mini.*;
 import server.core.http.*;
+import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * 파일 업로드 비동기 서블릿
  * 파일 업로드를 비동기로 처리하여 스레드 블로킹 방지
+ * multipart 본문은 파트별로 파싱하며 큰 파일은 임시 파일로 스풀
  */
 public class FileUploadAsyncServlet extends MiniAsyncServlet {
     // MiniAsyncServlet을 상속받아 비동기 서블릿 기능 확장
@@ -57,41 +59,58 @@ public class FileUploadAsyncServlet extends MiniAsyncServlet {
     @Override
     protected CompletableFuture<Void> doPostAsync(MiniRequest request, MiniResponse response) {
         // POST 요청 처리를 위한 비동기 메서드 오버라이드
-        // 실제 파일 업로드 처리 로직 구현
+        // multipart 본문을 파트별로 파싱해서 업로드된 파일 처리
 
         return CompletableFuture.runAsync(() -> {
+            // boundary가 없으면 파트를 구분할 수 없으므로 400 응답
+            if (MultipartParser.boundaryOf(request.getContentType()) == null) {
+                response.sendError(HttpStatus.BAD_REQUEST, "multipart/form-data required");
+                return;
+            }
+
             try {
-                // 비동기 파일 업로드 처리 시뮬레이션
-                Thread.sleep(300);
-                // Thread.sleep() 사용 이유:
-                // 1. 실제 파일 처리 시간 시뮬레이션 (300ms)
-                // 2. I/O 대기 상황을 모방하여 비동기 처리 효과 확인
-                // 3. 파일 저장, 검증 등의 처리 시간 대체
+                long startTime = System.currentTimeMillis();
 
-                // POST 요청에서 파라미터 추출
-                String description = request.getParameter("description");
-                // getParameter() 사용으로 폼 데이터에서 텍스트 필드 값 추출
+                String description = null;
+                StringBuilder files = new StringBuilder();
 
-                byte[] body = request.getBodyBytes();
-                // getBodyBytes() 사용 이유:
-                // 1. 업로드된 파일의 바이너리 데이터 접근
-                // 2. multipart/form-data의 전체 바디 내용 추출
-                // 3. 파일 크기 측정을 위한 바이트 배열 획득
+                // getParts() 사용 이유:
+                // 1. 본문 스트림을 boundary로 나눠 파트별로 보관 (요청 본문 전체를 byte[]로 만들지 않음)
+                // 2. 1MB를 넘는 파트는 임시 파일로 스풀 - 큰 업로드도 힙 사용량이 일정
+                // 3. 임시 파일은 응답 후 서버가 삭제 (보관하려면 getContent().moveTo())
+                for (MultipartParser.Part part : request.getParts()) {
+                    if (part.isFile()) {
+                        // 파일 파트 - 파일명, 크기, 임시 파일 사용 여부 기록
+                        if (files.length() > 0) {
+                            files.append(", ");
+                        }
+                        files.append(String.format(
+                                "{ \"field\": \"%s\", \"filename\": \"%s\", \"contentType\": \"%s\", " +
+                                        "\"size\": %d, \"spooled\": %s }",
+                                part.getName(), part.getFilename(),
+                                part.getContentType() != null ? part.getContentType() : "application/octet-stream",
+                                part.getSize(), !part.getContent().isInMemory()));
+                    } else if ("description".equals(part.getName())) {
+                        // 일반 폼 필드 - 문자열 값
+                        description = part.getString();
+                    }
+                }
 
                 // JSON 형태의 처리 결과 생성
                 String resultJson = String.format(
                         "{ \"status\": \"uploaded_async\", \"description\": \"%s\", " +
-                                "\"bodySize\": %d, \"thread\": \"%s\", \"server\": \"HybridServer\", " +
-                                "\"processing\": \"async\", \"processingTime\": \"300ms\" }",
+                                "\"bodySize\": %d, \"files\": [%s], \"thread\": \"%s\", " +
+                                "\"server\": \"HybridServer\", \"processing\": \"async\", " +
+                                "\"processingTime\": \"%dms\" }",
                         description != null ? description : "No description",
                         // 삼항 연산자로 null 체크 및 기본값 설정
-                        body.length,
-                        // byte[].length로 업로드된 데이터 크기 측정
-                        Thread.currentThread().getName()
+                        request.getContentLengthLong(),
+                        // 전체 요청 본문 크기 (multipart 오버헤드 포함, 2GB 이상도 표현)
+                        files,
+                        Thread.currentThread().getName(),
                         // 처리 스레드 이름으로 비동기 처리 확인
+                        System.currentTimeMillis() - startTime
                 );
-                // String.format() 사용으로 구조화된 JSON 응답 생성
-                // 업로드 상태, 설명, 크기, 스레드 정보를 포함한 상세 결과
 
                 // JSON 응답 전송
                 response.sendJson(resultJson);
@@ -100,21 +119,13 @@ public class FileUploadAsyncServlet extends MiniAsyncServlet {
                 // 2. JSON 응답에 적절한 HTTP 헤더 자동 추가
                 // 3. API 응답 형태로 클라이언트에서 파싱 용이
 
-            } catch (InterruptedException e) {
-                // Thread.sleep() 인터럽트 예외 처리
-                Thread.currentThread().interrupt();
-                // interrupt() 호출 이유:
-                // 1. 인터럽트 상태 복원으로 상위 호출자에게 인터럽트 상황 전달
-                // 2. 스레드 풀의 정상적인 인터럽트 처리 지원
-                // 3. InterruptedException은 인터럽트 상태를 지우므로 명시적 복원 필요
-
-                // 인터럽트 발생시 에러 응답 전송
-                response.sendError(HttpStatus.INTERNAL_SERVER_ERROR, "Upload processing interrupted");
-                // HttpStatus.INTERNAL_SERVER_ERROR 사용 이유:
-                // 1. HTTP 500 상태 코드로 서버 내부 오류 표시
-                // 2. 클라이언트에게 재시도 가능한 오류임을 알림
-                // 3. 표준 HTTP 상태 코드로 일관된 오류 처리
+            } catch (IOException e) {
+                // 본문 형식이 잘못되었거나 중간에 끊긴 경우
+                response.sendError(HttpStatus.BAD_REQUEST, "Invalid multipart body: " + e.getMessage());
+                // HttpStatus.BAD_REQUEST 사용 이유:
+                // 1. 서버 오류가 아니라 클라이언트가 보낸 본문의 문제
+                // 2. 같은 요청을 재시도해도 결과가 같음
             }
         });
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,12 @@
 package server.hybrid;
 
+import server.core.limit.ConcurrencyLimiter;
 import server.core.logging.Logger;
 import server.core.logging.LoggerFactory;
 import server.core.http.*;
 import server.core.routing.*;
 import server.core.mini.*;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
@@ -85,10 +85,26 @@ public class HybridServer {
     private final AtomicLong connectionCounter = new AtomicLong(0);    // 연결 카운터
     // 고유한 연결 ID 생성을 위한 원자적 카운터
 
+    // Keep-Alive 유휴 연결 타임아웃 - 다음 요청 없이 이 시간이 지나면 연결 종료
+    private volatile long idleTimeoutMs = DEFAULT_IDLE_TIMEOUT_MS;
+    private static final long DEFAULT_IDLE_TIMEOUT_MS = 30000;    // 30초
+
+    // 적응형 동시성 제한기 - Thread Pool로 넘긴 요청 수에 상한 (null이면 제한 없음)
+    private volatile ConcurrencyLimiter concurrencyLimiter;
+
+    // 유휴 연결 검사 주기 - Selector 루프에서 이 간격마다 한 번씩 검사
+    private static final long IDLE_CHECK_INTERVAL_MS = 1000;
+    private long lastIdleCheckTime = System.currentTimeMillis();
+
+    // 스트리밍 응답 본문을 읽어 오는 연결별 버퍼 크기
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
     // === 성능 메트릭 ===
     private final AtomicLong totalRequests = new AtomicLong(0);        // 총 요청 수
     private final AtomicLong activeConnections = new AtomicLong(0);     // 활성 연결 수
     private final AtomicLong contextSwitches = new AtomicLong(0);       // 컨텍스트 스위치 횟수
+    private final AtomicLong keepAliveReuses = new AtomicLong(0);       // Keep-Alive로 재사용된 요청 수
+    private final AtomicLong idleTimeouts = new AtomicLong(0);          // 유휴 타임아웃으로 닫힌 연결 수
     // AtomicLong으로 멀티스레드 환경에서 정확한 성능 메트릭 수집
 
     /**
@@ -184,12 +200,15 @@ public class HybridServer {
             // 서버 실행 중이고 종료 요청이 없는 동안 계속 루프
             while (running.get() && !shutdownRequested.get()) {
                 // select() 호출로 I/O 이벤트 대기 (최대 1초)
-                int readyChannels = selector.select(1000);
+                int readyChannels = selector.select(IDLE_CHECK_INTERVAL_MS);
                 // select(timeout) 사용 이유:
                 // 1. I/O 이벤트 발생까지 대기하되 최대 1초로 제한
-                // 2. 타임아웃으로 주기적인 상태 체크 가능
+                // 2. 타임아웃으로 주기적인 상태 체크 가능 (유휴 연결 정리)
                 // 3. 무한 대기 방지로 정상적인 종료 지원
 
+                // 이벤트 유무와 관계없이 주기적으로 유휴 Keep-Alive 연결 정리
+                closeIdleConnections();
+
                 if (readyChannels == 0) {
                     continue; // 이벤트가 없으면 다음 루프 계속
                 }
@@ -303,10 +322,15 @@ public class HybridServer {
                 return; // 읽을 데이터가 없으면 다음 이벤트까지 대기
             }
 
-            // 읽은 데이터를 컨텍스트에 추가
+            // 읽은 데이터를 컨텍스트의 디코더에 전달
             buffer.flip(); // 읽기 모드로 전환
-            context.appendData(buffer);
-            // 부분적으로 받은 HTTP 요청 데이터를 누적
+            try {
+                context.appendData(buffer);
+                // 바이트 단위로 점진 파싱 - 이미 받은 데이터는 다시 스캔하지 않음
+            } catch (HttpRequestDecoder.DecodeException e) {
+                sendParseError(context, key, e);
+                return;
+            }
 
             // HTTP 요청이 완성되었는지 확인
             if (context.isRequestComplete()) {
@@ -320,8 +344,31 @@ public class HybridServer {
         }
     }
 
+    /**
+     * 파싱 실패 응답 전송 준비
+     *
+     * 잘못된 요청은 Thread Pool로 넘기지 않고 I/O 스레드에서 바로 에러 응답 후 연결 종료
+     */
+    private void sendParseError(ChannelContext context, SelectionKey key,
+                                HttpRequestDecoder.DecodeException e) {
+        logger.warn("요청 파싱 실패 - 연결 ID: {}, 상태: {}, 오류: {}",
+                context.getConnectionId(), e.getStatus().getCode(), e.getMessage());
+
+        // 이후 바이트는 신뢰할 수 없으므로 연결을 유지하지 않음
+        context.setKeepAlive(false);
+        context.setResponse(HttpResponse.builder(e.getStatus())
+                .contentType("text/plain; charset=utf-8")
+                .body(e.getStatus().getReasonPhrase())
+                .build());
+        key.interestOps(SelectionKey.OP_WRITE);
+    }
+
     /**
      * 완전한 HTTP 요청을 Thread Pool에서 처리
+     *
+     * 동시성 제한기가 있으면 Thread Pool로 넘기기 전에 I/O 스레드에서 허가를 얻고,
+     * 상한에 걸리면 바로 503 + Retry-After 응답 (서블릿 요청도 라우터를 거쳐
+     * HybridProcessor로 가므로 여기 한 곳에서 모든 요청이 제한됨)
      */
     private void processCompleteRequest(ChannelContext context, SelectionKey key) {
         totalRequests.incrementAndGet(); // 총 요청 수 증가
@@ -330,6 +377,50 @@ public class HybridServer {
         key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
         // 비트 연산으로 OP_READ 플래그만 제거
 
+        ConcurrencyLimiter limiter = concurrencyLimiter;
+        ConcurrencyLimiter.Permit permit = limiter != null ? limiter.tryAcquire() : null;
+        if (limiter != null && permit == null) {
+            rejectOverloaded(context, key, limiter);
+            return;
+        }
+
+        try {
+            submitRequest(context, key, permit);
+        } catch (RejectedExecutionException e) {
+            // Thread Pool이 받지 못함 - 허가 반환 후 같은 방식으로 거절
+            if (permit != null) {
+                permit.ignore();
+            }
+            rejectOverloaded(context, key, limiter);
+        }
+    }
+
+    /**
+     * 과부하 거절 응답 전송 준비 - 503 + Retry-After 후 연결 종료
+     */
+    private void rejectOverloaded(ChannelContext context, SelectionKey key, ConcurrencyLimiter limiter) {
+        logger.debug("과부하로 요청 거절 - 연결 ID: {}, 동시성 상한: {}",
+                context.getConnectionId(), limiter != null ? limiter.getLimit() : "-");
+
+        HttpRequest request = context.getRequest();
+        if (request != null) {
+            request.releaseBody();
+        }
+        context.setKeepAlive(false);
+        context.setResponse(HttpResponse.builder(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType("text/plain; charset=utf-8")
+                .header("Retry-After", "1")
+                .body(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .build());
+        key.interestOps(SelectionKey.OP_WRITE);
+    }
+
+    /**
+     * Thread Pool에 요청 처리 작업 제출
+     *
+     * @param permit 동시성 허가 (제한기를 쓰지 않으면 null) - 핸들러가 끝날 때 응답 시간과 함께 반환
+     */
+    private void submitRequest(ChannelContext context, SelectionKey key, ConcurrencyLimiter.Permit permit) {
         // 스레드 풀에 요청 처리 작업 제출
         threadPool.submit(() -> {
             try {
@@ -338,20 +429,22 @@ public class HybridServer {
                 logger.debug("Thread Pool에서 요청 처리 시작 - 연결 ID: {}, 스레드: {}",
                         context.getConnectionId(), Thread.currentThread().getName());
 
-                // HTTP 요청 파싱 - Core의 HttpParser 사용
-                String requestData = context.getRequestData();
-                ByteArrayInputStream inputStream = new ByteArrayInputStream(
-                        requestData.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-                // 문자열을 InputStream으로 변환하여 파서에 전달
-
-                HttpRequest request = HttpParser.parseRequest(inputStream);
-                // Core 모듈의 HTTP 파서로 요청 객체 생성
+                // I/O 스레드에서 이미 파싱이 끝난 요청 객체를 그대로 사용
+                HttpRequest request = context.getRequest();
 
                 // 라우터를 통한 요청 처리
                 CompletableFuture<HttpResponse> responseFuture = router.route(request);
                 // 라우터가 적절한 핸들러를 찾아 요청 처리
 
                 responseFuture.whenComplete((response, throwable) -> {
+                    // 핸들러가 끝났으므로 허가 반환 (큐 대기 + 처리 시간 샘플)
+                    if (permit != null) {
+                        permit.complete(response, throwable);
+                    }
+
+                    // 핸들러가 끝났으므로 본문 임시 파일 정리
+                    request.releaseBody();
+
                     // 비동기 처리 완료 후 결과 처리
                     if (throwable != null) {
                         logger.error("요청 처리 중 오류", throwable);
@@ -360,26 +453,47 @@ public class HybridServer {
                     }
 
                     context.setResponse(response); // 컨텍스트에 응답 저장
-                    selector.wakeup(); // Selector 루프 깨우기
-                    // wakeup() 호출로 select() 호출에서 즉시 반환
-                    key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
-                    // WRITE 이벤트 관심 추가로 응답 전송 준비
+                    enableWrite(key);
 
                     logger.debug("응답 준비 완료 - 연결 ID: {}", context.getConnectionId());
                 });
 
             } catch (Exception e) {
                 logger.error("요청 처리 실패 - 연결 ID: {}", context.getConnectionId(), e);
+                if (permit != null) {
+                    permit.ignore();
+                }
+                HttpRequest failed = context.getRequest();
+                if (failed != null) {
+                    failed.releaseBody();
+                }
                 context.setResponse(HttpResponse.internalServerError("Internal Server Error"));
-                selector.wakeup();
-                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                enableWrite(key);
             }
         });
         // 람다식으로 작업 정의하여 스레드 풀에 제출
     }
 
+    /**
+     * Thread Pool 스레드에서 응답 전송 요청
+     *
+     * 관심 이벤트를 먼저 바꾼 뒤 Selector를 깨워서 다음 select()가 OP_WRITE를 반영하도록 함
+     */
+    private void enableWrite(SelectionKey key) {
+        if (!key.isValid()) {
+            return; // 처리 중에 연결이 이미 닫힌 경우
+        }
+        key.interestOps(SelectionKey.OP_WRITE);
+        // WRITE 이벤트 관심 설정으로 응답 전송 준비
+        selector.wakeup(); // Selector 루프 깨우기
+        // wakeup() 호출로 select() 호출에서 즉시 반환
+    }
+
     /**
      * 클라이언트에게 응답 데이터 쓰기
+     *
+     * 송신 버퍼가 가득 차면 남은 데이터를 컨텍스트에 보관하고 다음 OP_WRITE에서 이어서 전송
+     * 전송이 끝나면 Keep-Alive 연결은 OP_READ로 되돌리고, 아니면 연결 종료
      */
     private void handleWrite(SelectionKey key) throws IOException {
         // SelectionKey에서 채널 컨텍스트 추출
@@ -390,27 +504,138 @@ public class HybridServer {
         }
 
         SocketChannel channel = context.getChannel();
-        HttpResponse response = context.getResponse();
 
-        // HTTP 응답을 바이트 배열로 변환
-        byte[] responseBytes = response.toByteArray();
-        ByteBuffer buffer = ByteBuffer.wrap(responseBytes);
-        // ByteBuffer로 래핑하여 NIO 채널에서 전송 준비
+        // 처음 쓰는 응답이면 직렬화해서 보관 (이후 OP_WRITE에서는 남은 부분만 전송)
+        ByteBuffer[] buffers = context.getOutboundBuffers();
+        if (buffers == null) {
+            HttpResponse response = context.getResponse();
 
-        try {
-            // 채널에 응답 데이터 쓰기
-            int bytesWritten = channel.write(buffer);
-            // write() 호출로 논블로킹 방식으로 데이터 전송
+            // 핸들러가 Connection: close를 지정했으면 그대로 따름
+            String connection = response.getHeaders().get("Connection");
+            if (HttpHeaders.containsToken(connection, "close")) {
+                context.setKeepAlive(false);
+            }
+            // 실제 연결 처리와 응답 헤더를 일치시킴
+            response.setKeepAlive(context.isKeepAlive());
 
-            logger.debug("응답 전송 완료 - 연결 ID: {}, 바이트: {}",
-                    context.getConnectionId(), bytesWritten);
+            // {헤더, 본문} gathering 버퍼로 인코딩 - 본문 배열은 복사하지 않음
+            buffers = HttpResponseEncoder.encode(response);
+            context.setOutboundBuffers(buffers);
+        }
 
-            closeChannel(key); // 응답 전송 후 연결 종료
-            // HTTP/1.0 방식으로 요청-응답 후 연결 종료
+        // 마지막 버퍼(본문 또는 헤더)가 비면 전체 전송 완료
+        ByteBuffer last = buffers[buffers.length - 1];
 
-        } catch (IOException e) {
-            logger.warn("응답 쓰기 실패 - 연결 ID: {}", context.getConnectionId(), e);
-            closeChannel(key);
+        // 송신 버퍼가 허용하는 만큼 전송 - write()가 0을 반환하면 소켓이 가득 찬 상태
+        long bytesWritten = 0;
+        while (last.hasRemaining()) {
+            long written = channel.write(buffers);
+            if (written == 0) {
+                break;
+            }
+            bytesWritten += written;
+        }
+        context.updateLastActivity();
+
+        if (last.hasRemaining()) {
+            // 아직 남은 데이터가 있음 - OP_WRITE 유지하고 다음 이벤트에서 이어서 전송
+            logger.debug("응답 부분 전송 - 연결 ID: {}, 이번: {} bytes, 남은: {} bytes",
+                    context.getConnectionId(), bytesWritten, last.remaining());
+            return;
+        }
+
+        // 스트리밍 본문은 헤더 뒤에 원본에서 조각씩 읽어 전송
+        StreamingBody stream = context.getResponse().getStreamingBody();
+        if (stream != null && !writeStream(key, context, stream)) {
+            // 소켓이 가득 찼거나(OP_WRITE 유지) 원본이 아직 준비되지 않음(알림 대기) - 다음 이벤트에서 이어서 전송
+            return;
+        }
+
+        logger.debug("응답 전송 완료 - 연결 ID: {}, 이번: {} bytes",
+                context.getConnectionId(), bytesWritten);
+
+        if (!context.isKeepAlive()) {
+            closeChannel(key); // Keep-Alive가 아니면 응답 전송 후 연결 종료
+            return;
+        }
+
+        // 영속 연결 - 다음 요청을 위해 상태 초기화 후 다시 읽기 대기
+        context.resetForNewRequest();
+        keepAliveReuses.incrementAndGet();
+        key.interestOps(SelectionKey.OP_READ);
+
+        // 응답 처리 중에 이미 도착한 다음 요청(파이프라인)이 있으면 바로 처리
+        try {
+            if (context.processPendingData() && context.isRequestComplete()) {
+                processCompleteRequest(context, key);
+            }
+        } catch (HttpRequestDecoder.DecodeException e) {
+            sendParseError(context, key, e);
+        }
+    }
+
+    /**
+     * 스트리밍 본문 전송
+     *
+     * 버퍼에 남은 조각을 다 보낸 뒤에만 원본에서 다음 조각을 읽음 - 본문 크기와 관계없이 버퍼 하나만 사용
+     * 원본은 Selector 스레드에서 읽으므로 오래 막히지 않아야 함
+     * (당장 줄 데이터가 없어 0을 반환하면 OP_WRITE를 내려 두고 원본의 데이터 알림에서 다시 설정 -
+     *  소켓은 쓰기 가능하므로 OP_WRITE를 유지하면 select가 쉬지 않고 깨어남)
+     *
+     * @return 본문을 끝까지 보냈으면 true
+     */
+    private boolean writeStream(SelectionKey key, ChannelContext context, StreamingBody stream) throws IOException {
+        SocketChannel channel = context.getChannel();
+        ByteBuffer chunk = context.getStreamBuffer(STREAM_BUFFER_SIZE);
+
+        while (true) {
+            if (!chunk.hasRemaining()) {
+                chunk.clear();
+                int n = stream.read(chunk);
+                chunk.flip();
+                if (n < 0) {
+                    stream.close();
+                    return true;
+                }
+                if (n == 0) {
+                    // 알림보다 먼저 관심 이벤트를 내려야 알림의 enableWrite()가 덮어쓰이지 않음
+                    key.interestOps(0);
+                    if (!stream.awaitData(() -> enableWrite(key))) {
+                        key.interestOps(SelectionKey.OP_WRITE); // 읽은 뒤에 이미 알림이 옴 - 바로 다시 시도
+                    }
+                    return false;
+                }
+            }
+            if (channel.write(chunk) == 0) {
+                return false;
+            }
+            context.updateLastActivity();
+        }
+    }
+
+    /**
+     * 유휴 Keep-Alive 연결 정리
+     *
+     * 요청을 기다리는 연결 중 idleTimeoutMs 동안 활동이 없는 연결을 닫음
+     * 요청 처리/응답 전송 중인 연결은 대상이 아님
+     */
+    private void closeIdleConnections() {
+        long now = System.currentTimeMillis();
+        if (now - lastIdleCheckTime < IDLE_CHECK_INTERVAL_MS) {
+            return;
+        }
+        lastIdleCheckTime = now;
+
+        for (ChannelContext context : channelContexts.values()) {
+            if (context.isAwaitingRequest() && context.isTimedOut(idleTimeoutMs)) {
+                SelectionKey key = context.getChannel().keyFor(selector);
+                if (key != null) {
+                    logger.debug("유휴 연결 종료 - ID: {}, 유휴 시간: {}ms",
+                            context.getConnectionId(), context.getIdleTimeMs());
+                    idleTimeouts.incrementAndGet();
+                    closeChannel(key);
+                }
+            }
         }
     }
 
@@ -422,9 +647,11 @@ public class HybridServer {
             // SelectionKey에서 채널 컨텍스트 추출
             ChannelContext context = (ChannelContext) key.attachment();
 
-            if (context != null) {
-                SocketChannel channel = context.getChannel();
-                channelContexts.remove(channel); // 컨텍스트 맵에서 제거
+            // 맵에서 실제로 제거한 경우에만 연결 수 감소 (중복 종료 방지)
+            if (context != null && channelContexts.remove(context.getChannel()) != null) {
+                context.closeStreamingBody(); // 전송 중이던 스트리밍 본문의 원본 정리
+                context.releaseRequestBody(); // 받는 중이던 요청 본문의 임시 파일 정리
+
                 activeConnections.decrementAndGet(); // 활성 연결 수 감소
 
                 logger.debug("연결 종료 - ID: {}, 활성 연결: {}",
@@ -515,6 +742,41 @@ public class HybridServer {
         return switchingHandler;
     }
 
+    /**
+     * Keep-Alive 유휴 타임아웃 설정
+     *
+     * @param idleTimeoutMs 요청 없이 연결을 유지할 최대 시간 (밀리초)
+     */
+    public void setIdleTimeout(long idleTimeoutMs) {
+        if (idleTimeoutMs <= 0) {
+            throw new IllegalArgumentException("Idle timeout must be positive: " + idleTimeoutMs);
+        }
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    public long getIdleTimeout() {
+        return idleTimeoutMs;
+    }
+
+    /**
+     * 적응형 동시성 제한 설정
+     *
+     * Thread Pool로 넘긴 요청 수(큐 대기 포함)에 상한을 두고 응답 시간을 보며 자동 조정
+     * 상한을 넘는 요청은 I/O 스레드에서 바로 503 + Retry-After로 응답
+     *
+     * @param algorithm AIMD 또는 GRADIENT (null이면 제한 해제)
+     * @param initialLimit 시작 상한
+     * @param maxLimit 상한이 커질 수 있는 최대값
+     */
+    public void setConcurrencyLimit(ConcurrencyLimiter.Algorithm algorithm, int initialLimit, int maxLimit) {
+        this.concurrencyLimiter = algorithm == null ? null
+                : new ConcurrencyLimiter("Hybrid", algorithm, initialLimit, maxLimit);
+    }
+
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
     public ServerStatus getStatus() {
         // 현재 서버 상태의 스냅샷을 불변 객체로 반환
         return new ServerStatus(
@@ -523,7 +785,9 @@ public class HybridServer {
                 totalRequests.get(),
                 contextSwitches.get(),
                 threadPool.getActiveCount(),
-                threadPool.getPoolSize()
+                threadPool.getPoolSize(),
+                keepAliveReuses.get(),
+                idleTimeouts.get()
         );
     }
 
@@ -539,10 +803,13 @@ public class HybridServer {
         private final long contextSwitches; // 컨텍스트 스위치 횟수
         private final int activeThreads; // 활성 스레드 수
         private final int totalThreads; // 총 스레드 수
+        private final long keepAliveReuses; // Keep-Alive로 연결을 재사용한 요청 수
+        private final long idleTimeouts; // 유휴 타임아웃으로 닫힌 연결 수
         // 모든 필드를 final로 선언하여 불변성 보장
 
         public ServerStatus(boolean running, long activeConnections, long totalRequests,
-                            long contextSwitches, int activeThreads, int totalThreads) {
+                            long contextSwitches, int activeThreads, int totalThreads,
+                            long keepAliveReuses, long idleTimeouts) {
             // 생성자에서 모든 상태 값 초기화
             this.running = running;
             this.activeConnections = activeConnections;
@@ -550,6 +817,8 @@ public class HybridServer {
             this.contextSwitches = contextSwitches;
             this.activeThreads = activeThreads;
             this.totalThreads = totalThreads;
+            this.keepAliveReuses = keepAliveReuses;
+            this.idleTimeouts = idleTimeouts;
         }
 
         // 접근자 메서드들 - 불변 객체이므로 getter만 제공
@@ -559,15 +828,17 @@ public class HybridServer {
         public long getContextSwitches() { return contextSwitches; }
         public int getActiveThreads() { return activeThreads; }
         public int getTotalThreads() { return totalThreads; }
+        public long getKeepAliveReuses() { return keepAliveReuses; }
+        public long getIdleTimeouts() { return idleTimeouts; }
 
         @Override
         public String toString() {
             // 모든 상태 정보를 읽기 쉬운 형태로 포맷팅
             return String.format(
                     "HybridServer{running=%s, connections=%d, requests=%d, " +
-                            "contextSwitches=%d, threads=%d/%d}",
+                            "contextSwitches=%d, threads=%d/%d, keepAliveReuses=%d, idleTimeouts=%d}",
                     running, activeConnections, totalRequests,
-                    contextSwitches, activeThreads, totalThreads
+                    contextSwitches, activeThreads, totalThreads, keepAliveReuses, idleTimeouts
             );
             // 운영자가 한눈에 파악할 수 있는 핵심 지표들을 간결하게 표현
         }
@@ -5,6 +5,7 @@ import server.core.routing.Router;
 import java.io.*;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -15,6 +16,8 @@ import java.util.concurrent.CompletableFuture;
  * ServletContainer와 Router 모두를 지원하는 하이브리드 구조입니다.
  *
  * 성능 개선: 단순화된 처리 로직, 디버그 오버헤드 제거
+ * 요청은 워커 스레드별 재사용 읽기 버퍼에서 HttpRequestDecoder로 바로 파싱하고,
+ * 응답은 재사용 쓰기 버퍼에 인코딩해서 write 한 번으로 전송 (요청마다 버퍼 할당 없음)
  */
 public class BlockingRequestHandler implements Runnable {
 
@@ -25,6 +28,26 @@ public class BlockingRequestHandler implements Runnable {
     private final RequestHandlerConfig config;             // 요청 처리 설정
     private final long startTime;                          // 핸들러 시작 시간 (성능 측정용)
 
+    // === 유휴 연결 반납 (KeepAlivePoller) ===
+    /*
+     * 핸들러는 연결당 하나이며, 유휴 상태로 반납된 뒤 다음 요청이 오면 같은 핸들러가 다시 실행됨
+     * 따라서 연결 단위 상태(요청 수)는 필드로 유지
+     */
+    private final boolean idleHandoff;                     // 유휴 연결을 Poller에 반납할지 여부
+    private int requestCount;                              // 현재 연결에서 처리한 요청 수
+    private boolean parked;                                // 마지막 실행이 연결을 닫지 않고 반납으로 끝났는지
+
+    // === 워커 스레드별 재사용 I/O 버퍼 ===
+    /*
+     * 버퍼를 연결(핸들러)이 아니라 워커 스레드에 두는 이유:
+     * 유휴 연결은 KeepAlivePoller에 반납된 동안 버퍼가 필요 없으므로
+     * 버퍼 수가 열린 연결 수가 아니라 워커 스레드 수를 따라감
+     *
+     * 반납은 읽기 버퍼가 비어 있고 디코더가 요청 사이에 있을 때만 일어나므로
+     * 다음 실행(다른 워커일 수 있음)으로 넘겨야 할 버퍼 상태가 없음
+     */
+    private static final ThreadLocal<IoBuffers> IO_BUFFERS = new ThreadLocal<>();
+
     // === 성능 최적화를 위한 사전 계산된 값들 ===
     /*
      * 디버그 모드에서 반복적으로 호출되는 값들을 미리 계산하여 저장
@@ -57,11 +80,32 @@ public class BlockingRequestHandler implements Runnable {
      */
     public BlockingRequestHandler(Socket clientSocket, Router router,
                                   ThreadedMiniServletContainer servletContainer, RequestHandlerConfig config) {
+        this(clientSocket, router, servletContainer, config, false);
+    }
+
+    /**
+     * 유휴 연결 반납을 지원하는 생성자
+     *
+     * idleHandoff가 true이고 소켓이 채널 기반이면, 응답을 보낸 뒤 읽을 데이터가 없을 때
+     * 다음 요청을 블로킹 read로 기다리지 않고 isParked() 상태로 실행을 끝냄
+     * (호출자가 연결을 KeepAlivePoller에 넘기고, 다음 요청이 오면 run()을 다시 실행)
+     *
+     * @param clientSocket 클라이언트 소켓 - TCP 연결을 나타냄
+     * @param router HTTP 라우터 - URL 패턴에 따라 핸들러 매핑
+     * @param servletContainer 서블릿 컨테이너 - 서블릿 기반 요청 처리 (null 가능)
+     * @param config 요청 처리 설정 - 타임아웃, 디버그 모드 등
+     * @param idleHandoff 유휴 연결을 반납할지 여부
+     */
+    public BlockingRequestHandler(Socket clientSocket, Router router,
+                                  ThreadedMiniServletContainer servletContainer, RequestHandlerConfig config,
+                                  boolean idleHandoff) {
         this.clientSocket = clientSocket;
         this.router = router;
         this.servletContainer = servletContainer;
         this.config = config;
         this.startTime = System.currentTimeMillis();  // 현재 시간을 밀리초로 기록
+        // 채널이 없는 소켓(ServerSocket 직접 생성)은 Selector에 등록할 수 없으므로 반납 불가
+        this.idleHandoff = idleHandoff && clientSocket.getChannel() != null;
 
         /*
          * 성능 최적화: 반복 호출되는 값들 미리 계산
@@ -77,12 +121,17 @@ public class BlockingRequestHandler implements Runnable {
     /**
      * Runnable 인터페이스의 run() 메서드 구현
      * 스레드풀에서 이 메서드가 실행되어 클라이언트 요청을 처리합니다.
+     *
+     * 유휴 연결 반납을 사용하면 연결이 닫히지 않고 isParked() 상태로 끝날 수 있으며,
+     * 다음 요청이 도착했을 때 같은 연결에 대해 다시 호출됩니다.
      */
     @Override
     public void run() {
         // === HTTP Keep-Alive 연결 처리 변수들 ===
         boolean keepAlive = true;           // Keep-Alive 연결 유지 여부
-        int requestCount = 0;               // 현재 연결에서 처리한 요청 수
+        int servedInThisRun = 0;            // 이번 실행에서 처리한 요청 수
+        IoBuffers buffers = null;           // 이 스레드의 재사용 버퍼
+        parked = false;
 
         try {
             /*
@@ -104,41 +153,69 @@ public class BlockingRequestHandler implements Runnable {
              * 1. keepAlive가 false가 되는 경우 (Connection: close)
              * 2. 최대 요청 수에 도달한 경우 (DoS 공격 방지)
              */
+            /*
+             * 연결 스트림과 재사용 버퍼
+             * 소켓 스트림은 감싸지 않고 읽기 버퍼 크기 단위로 직접 읽음
+             * (읽기 버퍼에 남은 바이트는 다음 요청(파이프라인)의 앞부분)
+             */
+            InputStream input = clientSocket.getInputStream();
+            OutputStream output = clientSocket.getOutputStream();
+            buffers = IoBuffers.forCurrentThread(config.getReadBufferSize(), config.getWriteBufferSize());
+
             while (keepAlive && requestCount < config.getMaxRequestsPerConnection()) {
                 try {
+                    /*
+                     * 유휴 연결 반납
+                     * 응답을 보낸 뒤 다음 요청 바이트가 아직 없으면 블로킹 read로 기다리지 않고 실행을 끝냄
+                     * 읽기 버퍼에 남은 바이트나 소켓에서 바로 읽을 수 있는 바이트(available())가 있으면
+                     * 파이프라인된 요청이 이미 와 있는 것이므로 이 스레드에서 계속 처리
+                     */
+                    if (idleHandoff && servedInThisRun > 0
+                            && !buffers.readBuffer.hasRemaining() && input.available() == 0) {
+                        parked = true;
+                        logDebug("Connection idle - handing off to poller after " + requestCount + " requests");
+                        return;
+                    }
+
                     /*
                      * HTTP 요청 파싱
-                     * InputStream에서 HTTP 요청을 읽어와 HttpRequest 객체로 변환
+                     * 읽기 버퍼에서 요청을 디코딩하고, 모자라면 소켓에서 더 읽음
                      * null 반환시 클라이언트가 연결을 종료한 것으로 판단
                      */
-                    HttpRequest request = parseRequest(clientSocket.getInputStream());
+                    HttpRequest request = readRequest(input, buffers);
                     if (request == null) {
                         break; // 연결 종료
                     }
 
                     requestCount++;  // 요청 카운터 증가
+                    servedInThisRun++;
                     // 디버그 모드일 때만 시간 측정 (성능 최적화)
                     long requestStartTime = debugMode ? System.currentTimeMillis() : 0;
 
-                    /*
-                     * 최적화된 요청 처리
-                     * ServletContainer 우선, 실패시 Router 사용하는 fallback 로직
-                     */
-                    HttpResponse response = processRequestOptimized(request);
-
-                    /*
-                     * Keep-Alive 확인
-                     * HTTP 헤더와 설정을 기반으로 연결을 유지할지 결정
-                     * 최대 요청 수 체크도 포함
-                     */
-                    keepAlive = shouldKeepAlive(request, response) &&
-                            requestCount < config.getMaxRequestsPerConnection();
-
-                    /*
-                     * HTTP 응답 전송
-                     * OutputStream에 HTTP 응답을 기록하고 flush
-                     */
-                    sendResponse(response, clientSocket.getOutputStream());
+                    try {
+                        /*
+                         * 최적화된 요청 처리
+                         * ServletContainer 우선, 실패시 Router 사용하는 fallback 로직
+                         */
+                        HttpResponse response = processRequestOptimized(request);
+
+                        /*
+                         * Keep-Alive 확인
+                         * HTTP 헤더와 설정을 기반으로 연결을 유지할지 결정
+                         * 최대 요청 수 체크도 포함
+                         */
+                        keepAlive = shouldKeepAlive(request, response) &&
+                                requestCount < config.getMaxRequestsPerConnection();
+
+                        /*
+                         * HTTP 응답 전송
+                         * 쓰기 버퍼에 인코딩하여 OutputStream에 기록하고 flush
+                         */
+                        sendResponse(response, output, buffers.writeBuffer);
+                    } finally {
+                        // 큰 본문은 임시 파일에 스풀되어 있으므로 요청마다 정리
+                        request.releaseBody();
+                    }
 
                     // 디버그 로그 (성능 최적화: 필요할 때만 시간 계산)
                     if (debugMode) {
@@ -152,6 +229,19 @@ public class BlockingRequestHandler implements Runnable {
                         break;
                     }
 
+                } catch (HttpRequestDecoder.DecodeException e) {
+                    /*
+                     * 잘못된 요청 또는 제한 초과
+                     * 디코더가 정한 상태 코드(400, 413, 414 등)로 응답 후 연결 종료
+                     * (요청 경계를 잃었으므로 같은 연결로 다음 요청을 읽을 수 없음)
+                     */
+                    logDebug("Request decoding failed (" + e.getStatus().getCode() + "): " + e.getMessage());
+                    sendResponse(HttpResponse.builder(e.getStatus())
+                            .contentType("text/plain; charset=utf-8")
+                            .header("Connection", "close")
+                            .body(e.getStatus().getReasonPhrase())
+                            .build(), output, buffers.writeBuffer);
+                    break;
                 } catch (SocketTimeoutException e) {
                     /*
                      * 소켓 타임아웃 발생
@@ -184,7 +274,8 @@ public class BlockingRequestHandler implements Runnable {
              */
             try {
                 HttpResponse errorResponse = HttpResponse.internalServerError();
-                sendResponse(errorResponse, clientSocket.getOutputStream());
+                sendResponse(errorResponse, clientSocket.getOutputStream(),
+                        buffers != null ? buffers.writeBuffer : new byte[0]);
             } catch (IOException ignored) {
                 // 응답 전송 실패는 무시 (이미 연결이 끊어진 상태일 수 있음)
             }
@@ -192,15 +283,21 @@ public class BlockingRequestHandler implements Runnable {
         } finally {
             /*
              * finally 블록: 예외 발생 여부와 관계없이 항상 실행
-             * 리소스 정리 작업 수행
+             * 리소스 정리 작업 수행 (반납된 연결은 Poller가 소유하므로 닫지 않음)
              */
-            closeConnection();
+            if (!parked) {
+                // 읽다 만 요청(스풀 중인 임시 파일 포함)을 버리고 버퍼를 다음 연결용으로 비움
+                if (buffers != null) {
+                    buffers.clear();
+                }
+                closeConnection();
 
-            // 디버그 로그 (성능 최적화: 필요할 때만 시간 계산)
-            if (debugMode) {
-                long totalTime = System.currentTimeMillis() - startTime;
-                logDebug("Connection closed - total time: " + totalTime +
-                        "ms, requests: " + requestCount);
+                // 디버그 로그 (성능 최적화: 필요할 때만 시간 계산)
+                if (debugMode) {
+                    long totalTime = System.currentTimeMillis() - startTime;
+                    logDebug("Connection closed - total time: " + totalTime +
+                            "ms, requests: " + requestCount);
+                }
             }
         }
     }
@@ -256,51 +353,50 @@ public class BlockingRequestHandler implements Runnable {
              */
             System.err.println("Request processing error for " + request.getPath() +
                     ": " + e.getMessage());
-            return HttpResponse.internalServerError("Request processing failed");
+            // 비동기 서블릿/핸들러 Future가 본문 크기 제한으로 실패한 경우는 413
+            return HttpResponse.forHandlerError(e, "Request processing failed");
         }
     }
 
     /**
-     * HTTP 요청 파싱 (최적화된 버전)
-     * InputStream에서 HTTP 요청을 읽어와 HttpRequest 객체로 변환
+     * HTTP 요청 읽기
+     * 읽기 버퍼의 바이트를 디코더에 넘기고, 요청이 완성되지 않으면 소켓에서 버퍼 크기만큼 한 번에 더 읽음
      *
-     * @param inputStream 클라이언트 소켓의 입력 스트림
-     * @return 파싱된 HTTP 요청 객체, 연결 종료시 null
-     * @throws IOException I/O 오류 발생시
+     * 디코더는 요청이 완성되면 그 뒤 바이트를 소비하지 않으므로
+     * 버퍼에 남은 바이트는 다음 호출에서 다음 요청(파이프라인)으로 이어서 디코딩됨
+     *
+     * @param input 클라이언트 소켓의 입력 스트림
+     * @param buffers 이 스레드의 재사용 버퍼
+     * @return 파싱된 HTTP 요청 객체, 요청 사이에 연결이 종료되면 null
+     * @throws HttpRequestDecoder.DecodeException 요청 형식이 잘못되었거나 제한을 넘은 경우
+     * @throws IOException I/O 오류 또는 요청 도중 연결이 끊긴 경우
      */
-    private HttpRequest parseRequest(InputStream inputStream) throws IOException {
-        try {
-            /*
-             * InputStream을 BufferedInputStream으로 감싸서 mark/reset 지원
-             * BufferedInputStream: 내부 버퍼를 사용하여 I/O 성능 향상
-             * mark/reset: 스트림의 특정 위치를 표시하고 되돌아갈 수 있는 기능
-             */
-            if (!(inputStream instanceof BufferedInputStream)) {
-                inputStream = new BufferedInputStream(inputStream, 8192);  // 8KB 버퍼
+    private HttpRequest readRequest(InputStream input, IoBuffers buffers) throws IOException {
+        ByteBuffer buffer = buffers.readBuffer;
+        HttpRequestDecoder decoder = buffers.decoder;
+
+        while (true) {
+            if (buffer.hasRemaining()) {
+                HttpRequest request = decoder.decode(buffer);
+                if (request != null) {
+                    return request;
+                }
+                // null이면 디코더가 버퍼를 모두 소비한 상태
             }
 
             /*
-             * 요청이 있는지 확인 (peek)
-             * mark(1): 현재 위치에서 1바이트까지 되돌아갈 수 있도록 표시
-             * read(): 다음 바이트를 읽음, 스트림 끝이면 -1 반환
-             * reset(): mark로 표시한 위치로 되돌아감
+             * 버퍼를 처음부터 다시 채움
+             * 배열에 직접 읽으므로 바이트 단위 가상 호출이나 중간 복사가 없음
              */
-            inputStream.mark(1);
-            int firstByte = inputStream.read();
-            if (firstByte == -1) {
-                return null; // 연결 종료 (EOF)
+            int read = input.read(buffer.array(), 0, buffer.capacity());
+            if (read == -1) {
+                if (decoder.isIdle()) {
+                    return null; // 요청 사이에 연결 종료 (EOF)
+                }
+                throw new IOException("Unexpected end of stream while reading request");
             }
-            inputStream.reset();  // 읽은 바이트를 다시 스트림에 되돌림
-
-            /*
-             * HttpParser.parseRequest(): HTTP 요청 문자열을 파싱하여 객체화
-             * HTTP 스펙에 따라 Request Line, Headers, Body를 분석
-             */
-            return HttpParser.parseRequest(inputStream);
-
-        } catch (IOException e) {
-            logDebug("Request parsing failed: " + e.getMessage());
-            throw e;  // 예외를 다시 던져서 상위에서 처리하도록 함
+            buffer.clear();
+            buffer.limit(read);
         }
     }
 
@@ -324,11 +420,10 @@ public class BlockingRequestHandler implements Runnable {
 
         /*
          * null 체크와 동시에 비교 (성능 최적화)
-         * String.equalsIgnoreCase(): 대소문자 구분 없이 문자열 비교
-         * "close"가 아니면 Keep-Alive로 간주
+         * Connection은 토큰 목록 ("close, Upgrade" 등) - close 토큰이 없으면 Keep-Alive로 간주
          */
-        boolean requestKeepAlive = !"close".equalsIgnoreCase(requestConnection);
-        boolean responseKeepAlive = !"close".equalsIgnoreCase(responseConnection);
+        boolean requestKeepAlive = !HttpHeaders.containsToken(requestConnection, "close");
+        boolean responseKeepAlive = !HttpHeaders.containsToken(responseConnection, "close");
 
         /*
          * HTTP/1.1에서만 Keep-Alive 지원
@@ -343,15 +438,19 @@ public class BlockingRequestHandler implements Runnable {
      *
      * @param response HTTP 응답 객체
      * @param outputStream 클라이언트 소켓의 출력 스트림
+     * @param writeBuffer 재사용 쓰기 버퍼
      * @throws IOException I/O 오류 발생시
      */
-    private void sendResponse(HttpResponse response, OutputStream outputStream) throws IOException {
+    private void sendResponse(HttpResponse response, OutputStream outputStream,
+                              byte[] writeBuffer) throws IOException {
         try {
             /*
-             * HttpResponse.writeTo(): HTTP 응답을 스트림에 기록
-             * Status Line, Headers, Body를 HTTP 프로토콜 형식으로 출력
+             * HttpResponseEncoder.writeTo(): HTTP 응답을 스트림에 기록
+             * 상태 라인과 주요 헤더명은 미리 인코딩된 바이트를 사용하고,
+             * 쓰기 버퍼에 들어가는 응답은 헤더와 본문을 버퍼에 모아 한 번의 write로 전송
+             * (큰 본문/파일/스트리밍 본문은 버퍼 없이 원본을 그대로 전송)
              */
-            response.writeTo(outputStream);
+            HttpResponseEncoder.writeTo(response, outputStream, writeBuffer);
 
             /*
              * OutputStream.flush(): 버퍼에 있는 데이터를 즉시 전송
@@ -415,6 +514,21 @@ public class BlockingRequestHandler implements Runnable {
         }
     }
 
+    /**
+     * 마지막 run()이 연결을 닫지 않고 유휴 상태로 끝났는지 여부
+     * true면 호출자가 연결을 KeepAlivePoller에 넘겨야 함
+     */
+    public boolean isParked() {
+        return parked;
+    }
+
+    /**
+     * 현재 연결에서 처리한 요청 수 (반납/재배정을 거쳐도 누적)
+     */
+    public int getRequestCount() {
+        return requestCount;
+    }
+
     /**
      * 핸들러 상태 정보 반환
      * 현재 핸들러의 실행 상태를 문자열로 반환 (모니터링 용도)
@@ -433,4 +547,41 @@ public class BlockingRequestHandler implements Runnable {
                 System.currentTimeMillis() - startTime,         // 실행 시간
                 servletContainer != null ? "enabled" : "disabled");  // ServletContainer 사용 여부
     }
-}
\ No newline at end of file
+
+    /**
+     * 워커 스레드별 재사용 I/O 버퍼
+     * 읽기 버퍼는 항상 읽기 모드 (position~limit이 아직 디코딩하지 않은 바이트)
+     */
+    private static final class IoBuffers {
+        final ByteBuffer readBuffer;           // 소켓에서 읽은 바이트 (heap - 배열에 직접 read)
+        final byte[] writeBuffer;              // 응답 인코딩 버퍼
+        final HttpRequestDecoder decoder = new HttpRequestDecoder(); // 요청 사이에는 항상 초기 상태
+
+        private IoBuffers(int readBufferSize, int writeBufferSize) {
+            this.readBuffer = ByteBuffer.allocate(readBufferSize);
+            this.readBuffer.flip(); // 빈 읽기 모드
+            this.writeBuffer = new byte[writeBufferSize];
+        }
+
+        /**
+         * 현재 스레드의 버퍼 반환 (없거나 크기 설정이 바뀌었으면 새로 생성)
+         */
+        static IoBuffers forCurrentThread(int readBufferSize, int writeBufferSize) {
+            IoBuffers buffers = IO_BUFFERS.get();
+            if (buffers == null || buffers.readBuffer.capacity() != readBufferSize
+                    || buffers.writeBuffer.length != writeBufferSize) {
+                buffers = new IoBuffers(readBufferSize, writeBufferSize);
+                IO_BUFFERS.set(buffers);
+            }
+            return buffers;
+        }
+
+        /**
+         * 연결 종료시 남은 바이트와 디코딩 중이던 요청 버림
+         */
+        void clear() {
+            readBuffer.clear().flip();
+            decoder.reset();
+        }
+    }
+}
@@ -1,18 +1,21 @@
 package server.threaded;
 
+import server.core.http.HttpStatus;
+import server.core.http.MultipartParser;
 import server.core.mini.*;
 
 /**
  * 파일 업로드 서블릿
  *
  * 이 서블릿은 파일 업로드 기능을 제공합니다.
- * HTTP multipart/form-data 형식의 요청을 처리하여 파일 업로드를 시뮬레이션합니다.
+ * HTTP multipart/form-data 형식의 요청을 처리합니다.
  *
  * 기능:
  * 1. GET 요청: 파일 업로드 폼을 제공
- * 2. POST 요청: 업로드된 파일을 처리 (시뮬레이션)
+ * 2. POST 요청: multipart 본문을 파트별로 파싱해서 업로드된 파일을 처리
  *
- * 주의: 이는 간단한 구현으로, 실제 파일 저장은 하지 않고 메타데이터만 처리합니다.
+ * 주의: 실제 파일 저장은 하지 않고 파트별 메타데이터만 응답합니다.
+ * 큰 파일은 임시 파일로 스풀되므로 업로드 크기만큼 힙을 사용하지 않습니다.
  *
  * MiniServlet을 상속받아 HTTP 메서드별로 다른 처리를 제공합니다.
  */
@@ -127,8 +130,8 @@ public class FileUploadServlet extends MiniServlet {
     /**
      * HTTP POST 요청 처리 메서드
      *
-     * 클라이언트가 업로드한 파일과 폼 데이터를 처리합니다.
-     * 실제 파일 저장은 하지 않고, 메타데이터만 추출하여 응답합니다.
+     * multipart/form-data 본문을 파트별로 파싱해서 업로드된 파일과 폼 필드를 처리합니다.
+     * 파일 내용은 저장하지 않고, 필드 값과 파일별 메타데이터만 응답합니다.
      *
      * @param request MiniRequest 객체 - 업로드된 데이터 포함
      * @param response MiniResponse 객체 - 처리 결과 응답용
@@ -137,103 +140,118 @@ public class FileUploadServlet extends MiniServlet {
     @Override
     protected void doPost(MiniRequest request, MiniResponse response) throws Exception {
         /*
-         * 간단한 업로드 처리 (실제 파일 파싱 없이)
+         * multipart 요청인지 확인
          *
-         * 실제 구현에서는 multipart/form-data 파싱이 필요하지만,
-         * 여기서는 시뮬레이션을 위해 기본적인 정보만 추출합니다.
+         * boundary가 없으면 파트를 구분할 수 없으므로 400 응답
          */
+        if (MultipartParser.boundaryOf(request.getContentType()) == null) {
+            response.sendError(HttpStatus.BAD_REQUEST, "multipart/form-data required");
+            return;
+        }
 
         /*
-         * 폼 파라미터 추출
+         * 파트 파싱
          *
-         * request.getParameter("description"): 폼에서 전송된 파라미터 값 추출
-         * - "description"은 HTML 폼의 input name과 일치해야 함
-         * - multipart 데이터에서 텍스트 부분을 파싱한 결과
-         * - null 반환 가능 (파라미터가 없거나 파싱 실패시)
+         * request.getParts(): 본문 스트림을 boundary로 나눠 파트별로 보관
+         * - 1MB 이하 파트는 메모리, 넘으면 임시 파일 (spooled)
+         * - 큰 파일도 요청 본문 전체를 byte[]로 만들지 않음
+         * - 임시 파일은 응답 전송 후 서버가 삭제
          */
-        String description = request.getParameter("description");
+        String description = null;
+        StringBuilder files = new StringBuilder();
 
-        /*
-         * 요청 본문 크기 확인
-         *
-         * request.getBodyBytes(): HTTP 요청 본문을 바이트 배열로 반환
-         * - multipart/form-data 전체 내용 포함
-         * - 파일 데이터 + 폼 필드 데이터 + boundary 구분자들
-         * - byte[].length: 배열의 길이, 즉 전체 업로드 데이터 크기
-         */
-        byte[] body = request.getBodyBytes();
+        for (MultipartParser.Part part : request.getParts()) {
+            if (part.isFile()) {
+                /*
+                 * 파일 파트: 파일명, 크기, 임시 파일 사용 여부 기록
+                 * 실제 저장이 필요하면 part.getContent().moveTo(경로)로 복사 없이 옮길 수 있음
+                 */
+                if (files.length() > 0) {
+                    files.append(", ");
+                }
+                files.append(String.format(
+                        "{ \"field\": \"%s\", \"filename\": \"%s\", \"contentType\": \"%s\", " +
+                                "\"size\": %d, \"spooled\": %s }",
+                        escapeJson(part.getName()), escapeJson(part.getFilename()),
+                        escapeJson(part.getContentType() != null ? part.getContentType() : "application/octet-stream"),
+                        part.getSize(), !part.getContent().isInMemory()));
+            } else if ("description".equals(part.getName())) {
+                // 일반 폼 필드: 문자열 값
+                description = part.getString();
+            }
+        }
 
         /*
          * JSON 응답 생성 및 전송
          *
-         * 업로드 처리 결과를 JSON 형태로 클라이언트에게 반환합니다.
-         * 실제 서비스에서는 파일 저장 경로, 파일 ID 등을 포함할 수 있습니다.
+         * {
+         *   "status": "uploaded",
+         *   "description": "...",              // 사용자가 입력한 설명
+         *   "bodySize": 1234,                  // 전체 요청 본문 크기 (multipart 오버헤드 포함)
+         *   "files": [ { "filename": ..., "size": ..., "spooled": ... } ],
+         *   "thread": "ThreadPool-Worker-2"    // 처리한 스레드
+         * }
+         *
+         * 클라이언트가 보낸 값(필드명, 파일명, Content-Type, 설명)은 escapeJson()을 거쳐서 넣음
          */
         response.sendJson(String.format(
-                /*
-                 * JSON 응답 구조:
-                 * {
-                 *   "status": "uploaded",           // 업로드 상태
-                 *   "description": "...",           // 사용자가 입력한 설명
-                 *   "bodySize": 1234,              // 업로드된 데이터 크기
-                 *   "thread": "ThreadPool-Worker-2" // 처리한 스레드
-                 * }
-                 */
                 "{ \"status\": \"uploaded\", \"description\": \"%s\", " +
-                        "\"bodySize\": %d, \"thread\": \"%s\" }",
-
-                /*
-                 * 삼항 연산자(? :): 조건부 표현식
-                 * description != null ? description : "No description"
-                 *
-                 * - description이 null이 아니면 description 값 사용
-                 * - description이 null이면 "No description" 기본값 사용
-                 * - null 포인터 예외 방지 및 사용자 친화적 메시지 제공
-                 */
-                description != null ? description : "No description",
-
-                /*
-                 * body.length: 업로드된 데이터의 전체 크기 (바이트)
-                 * - 파일 크기 + multipart 오버헤드
-                 * - 클라이언트가 업로드 성공 여부 확인 가능
-                 * - 서버의 업로드 처리 성능 모니터링 가능
-                 */
-                body.length,
-
-                /*
-                 * 현재 스레드 이름
-                 * - 스레드풀의 작업 분산 확인
-                 * - 동시 업로드 처리 모니터링
-                 * - 디버깅 정보 제공
-                 */
+                        "\"bodySize\": %d, \"files\": [%s], \"thread\": \"%s\" }",
+                description != null ? escapeJson(description) : "No description",
+                request.getContentLengthLong(),
+                files,
                 Thread.currentThread().getName()
         ));
 
         /*
          * 실제 파일 업로드 서비스에서 필요한 추가 처리:
          *
-         * 1. Multipart 파싱:
-         *    - boundary 구분자로 각 part 분리
-         *    - Content-Disposition 헤더에서 필드명과 파일명 추출
-         *    - Content-Type 헤더에서 MIME 타입 확인
-         *
-         * 2. 파일 검증:
+         * 1. 파일 검증:
          *    - 파일 크기 제한 확인
          *    - 허용된 파일 타입인지 검증
          *    - 바이러스 스캔 (보안)
          *
-         * 3. 파일 저장:
+         * 2. 파일 저장:
          *    - 고유한 파일명 생성 (UUID 등)
-         *    - 디스크나 클라우드 스토리지에 저장
+         *    - RequestBody.moveTo()로 디스크에 저장
          *    - 데이터베이스에 메타데이터 기록
-         *
-         * 4. 응답 생성:
-         *    - 파일 URL이나 ID 반환
-         *    - 업로드 완료 상태 알림
-         *    - 오류 발생시 적절한 에러 메시지
          */
     }
 
+    /**
+     * JSON 문자열 값 이스케이프
+     *
+     * 파일명 등 클라이언트가 보낸 값에 따옴표, 역슬래시, 제어 문자가 있어도
+     * 응답이 올바른 JSON이 되도록 변환
+     *
+     * @param value 원본 문자열 (null이면 빈 문자열)
+     * @return 따옴표 안에 그대로 넣을 수 있는 문자열
+     */
+    private static String escapeJson(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':  sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        // 나머지 제어 문자는 유니코드 이스케이프
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.toString();
+    }
+
     /*
      * 이 서블릿의 특징과 장점:
      *
@@ -246,7 +264,7 @@ public class FileUploadServlet extends MiniServlet {
      *    - 각 요청이 독립적으로 처리됨
      *
      * 3. 확장 가능성:
-     *    - 실제 파일 파싱 로직으로 쉽게 확장
+     *    - 파트의 RequestBody를 원하는 스토리지로 옮겨서 저장
      *    - 다양한 스토리지 백엔드 지원 가능
      *
      * 4. 모니터링 지원:
@@ -0,0 +1,296 @@
+package server.threaded;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keep-Alive 유휴 연결 Poller
+ *
+ * 톰캣 NIO 커넥터의 Poller와 같은 역할:
+ * 응답을 보낸 뒤 다음 요청을 기다리는 연결을 워커 스레드가 블로킹 read로 붙잡고 있지 않도록
+ * 공유 Selector 하나에 등록해 두고, 다음 요청 바이트가 도착했을 때만 워커에 다시 배정
+ * → 워커 스레드 수가 열린 연결 수가 아니라 처리 중인 요청 수를 따라감
+ *
+ * 동작 흐름:
+ * 1. 워커: 응답 전송 후 읽을 데이터가 없으면 park() 호출하고 스레드 반납
+ * 2. Poller: 채널을 논블로킹으로 바꿔 OP_READ 등록
+ * 3. 읽기 가능: 키 취소 → selectNow()로 등록 해제 → 블로킹 모드 복원 → onReadable 실행 (워커에 재배정)
+ * 4. 유휴 시간 초과: 연결 종료 → onClosed 실행
+ *
+ * 블로킹 소켓 스트림은 논블로킹 채널에서 사용할 수 없으므로
+ * 워커에 넘기기 전에 반드시 Selector 등록을 해제하고 블로킹 모드로 되돌림
+ */
+public class KeepAlivePoller {
+
+    // select 대기 시간 겸 유휴 연결 검사 주기 (밀리초)
+    private static final long CHECK_INTERVAL_MS = 1000;
+
+    private final Selector selector;
+    private final long idleTimeoutMs;                       // 유휴 연결 타임아웃 (0 이하면 사용 안 함)
+    private final Queue<Parked> pending = new ConcurrentLinkedQueue<>(); // 등록 대기 (워커 스레드 → Poller 스레드)
+    private final Thread pollerThread;
+    private volatile boolean running = true;
+
+    // 이미 wakeup()을 요청했는지 - 반납이 몰려도 select 한 번당 wakeup은 한 번만
+    private final AtomicBoolean wakeupPending = new AtomicBoolean(false);
+
+    // 마지막 유휴 연결 검사 시각 - Poller 스레드 전용
+    private long lastIdleCheck = System.currentTimeMillis();
+
+    // === 통계 ===
+    private final AtomicLong parkedConnections = new AtomicLong(0);  // 현재 Poller가 보관 중인 연결 수
+    private final AtomicLong totalParked = new AtomicLong(0);        // 누적 반납 횟수
+    private final AtomicLong totalResumed = new AtomicLong(0);       // 누적 재배정 횟수
+    private final AtomicLong idleTimeouts = new AtomicLong(0);       // 유휴 타임아웃으로 닫은 연결 수
+
+    /**
+     * KeepAlivePoller 생성 및 Poller 스레드 시작
+     *
+     * @param idleTimeoutMs 요청 사이 유휴 타임아웃 (밀리초, 0 이하면 사용 안 함)
+     * @throws IOException Selector 생성 실패시
+     */
+    public KeepAlivePoller(long idleTimeoutMs) throws IOException {
+        this.selector = Selector.open();
+        this.idleTimeoutMs = idleTimeoutMs;
+
+        this.pollerThread = new Thread(this::pollLoop, "KeepAlivePoller");
+        this.pollerThread.setDaemon(true);
+        this.pollerThread.start();
+
+        System.out.println("[KeepAlivePoller] Started - idle timeout: " + idleTimeoutMs + "ms");
+    }
+
+    /**
+     * 유휴 연결 반납
+     *
+     * 워커 스레드가 연결 처리를 마친 직후 호출 - 이후 이 채널은 Poller 소유
+     *
+     * @param channel 다음 요청을 기다리는 클라이언트 채널
+     * @param onReadable 다음 요청 바이트가 도착했을 때 실행 (채널은 블로킹 모드로 복원된 상태)
+     * @param onClosed Poller가 연결을 닫았을 때 실행 (유휴 타임아웃, 종료)
+     * @return 반납되었으면 true, Poller가 종료되어 받을 수 없으면 false (호출자가 연결을 닫음)
+     */
+    public boolean park(SocketChannel channel, Runnable onReadable, Runnable onClosed) {
+        if (!running) {
+            return false;
+        }
+        Parked parked = new Parked(channel, onReadable, onClosed);
+        totalParked.incrementAndGet();
+        parkedConnections.incrementAndGet();
+        pending.add(parked);
+
+        // 위의 running 확인과 add 사이에 shutdown()이 pending을 이미 비웠을 수 있음
+        // - 아직 큐에 남아 있으면 여기서 꺼내 거절 (호출자가 닫음)
+        // - 꺼내지 못했으면 shutdown()이 가져가서 닫은 것
+        if (!running && pending.remove(parked)) {
+            totalParked.decrementAndGet();
+            parkedConnections.decrementAndGet();
+            return false;
+        }
+        // select()에서 깨어나 바로 등록하도록 - 이미 깨운 뒤 아직 등록 전이면 생략
+        // (Poller는 플래그를 내린 뒤 pending을 비우므로 여기서 넣은 항목은 그때 함께 등록됨)
+        if (wakeupPending.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+        return true;
+    }
+
+    /**
+     * Poller 루프 - Poller 스레드 전용
+     */
+    private void pollLoop() {
+        List<Parked> ready = new ArrayList<>();
+
+        while (running) {
+            try {
+                selector.select(CHECK_INTERVAL_MS);
+                wakeupPending.set(false);
+                registerPending();
+
+                // 읽기 가능한 연결 수집 - 키를 취소해야 블로킹 모드로 되돌릴 수 있음
+                // (select 결과와 관계없이 남아 있는 선택 키를 모두 처리)
+                Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+                    key.cancel();
+                    ready.add((Parked) key.attachment());
+                }
+
+                if (!ready.isEmpty()) {
+                    // 취소된 키는 다음 select에서 등록 해제됨 - 바로 해제
+                    selector.selectNow();
+                    for (Parked parked : ready) {
+                        resume(parked);
+                    }
+                    ready.clear();
+                }
+
+                // 전체 키 순회는 검사 주기마다 한 번만 (반납/재배정마다 깨어날 때는 생략)
+                long now = System.currentTimeMillis();
+                if (now - lastIdleCheck >= CHECK_INTERVAL_MS) {
+                    lastIdleCheck = now;
+                    closeIdleConnections(now);
+                }
+
+            } catch (IOException | CancelledKeyException e) {
+                if (running) {
+                    System.err.println("[KeepAlivePoller] Poll error: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 반납된 연결을 Selector에 등록
+     */
+    private void registerPending() {
+        Parked parked;
+        while ((parked = pending.poll()) != null) {
+            try {
+                parked.channel.configureBlocking(false);
+                parked.channel.register(selector, SelectionKey.OP_READ, parked);
+            } catch (IOException e) {
+                close(parked);
+            }
+        }
+    }
+
+    /**
+     * 읽기 가능한 연결을 블로킹 모드로 되돌려 워커에 재배정
+     */
+    private void resume(Parked parked) {
+        parkedConnections.decrementAndGet();
+        try {
+            parked.channel.configureBlocking(true);
+            totalResumed.incrementAndGet();
+            parked.onReadable.run();
+        } catch (Exception e) {
+            // 블로킹 복원 실패 또는 재배정 실패 - 연결을 더 처리할 수 없음
+            System.err.println("[KeepAlivePoller] Resume failed: " + e.getMessage());
+            closeChannel(parked);
+        }
+    }
+
+    /**
+     * 유휴 시간을 넘은 연결 종료
+     *
+     * 검사 주기 단위로 돌기 때문에 실제 종료는 타임아웃보다 최대 CHECK_INTERVAL_MS 늦을 수 있음
+     */
+    private void closeIdleConnections(long now) {
+        if (idleTimeoutMs <= 0) {
+            return;
+        }
+        for (SelectionKey key : selector.keys()) {
+            Parked parked = (Parked) key.attachment();
+            if (key.isValid() && now - parked.parkedAt >= idleTimeoutMs) {
+                key.cancel();
+                idleTimeouts.incrementAndGet();
+                close(parked);
+            }
+        }
+    }
+
+    /**
+     * Poller가 보관 중인 연결 종료
+     */
+    private void close(Parked parked) {
+        parkedConnections.decrementAndGet();
+        closeChannel(parked);
+    }
+
+    private void closeChannel(Parked parked) {
+        try {
+            parked.channel.close();
+        } catch (IOException ignored) {
+            // 이미 끊어진 연결
+        }
+        parked.onClosed.run();
+    }
+
+    /**
+     * Poller 종료 - 보관 중인 모든 연결을 닫음
+     *
+     * running을 먼저 내린 뒤 pending을 비우므로, 그 사이에 park()로 들어온 연결은
+     * 여기서 닫히거나 park()가 스스로 꺼내 false를 반환함 (어느 쪽도 아닌 채로 남지 않음)
+     */
+    public void shutdown() {
+        running = false;
+        selector.wakeup();
+        try {
+            pollerThread.join(CHECK_INTERVAL_MS * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (SelectionKey key : selector.keys()) {
+            key.cancel();
+            close((Parked) key.attachment());
+        }
+        Parked parked;
+        while ((parked = pending.poll()) != null) {
+            close(parked);
+        }
+        try {
+            selector.close();
+        } catch (IOException ignored) {
+            // 종료 중
+        }
+
+        System.out.println("[KeepAlivePoller] Shutdown - parked: " + totalParked.get() +
+                ", resumed: " + totalResumed.get() + ", idle timeouts: " + idleTimeouts.get());
+    }
+
+    // === 통계 Getter ===
+
+    /**
+     * 현재 Poller가 보관 중인 (워커를 쓰지 않는) 유휴 연결 수
+     */
+    public long getParkedConnections() {
+        return parkedConnections.get();
+    }
+
+    public long getTotalParked() {
+        return totalParked.get();
+    }
+
+    public long getTotalResumed() {
+        return totalResumed.get();
+    }
+
+    public long getIdleTimeouts() {
+        return idleTimeouts.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("KeepAlivePoller{parked=%d, totalParked=%d, resumed=%d, idleTimeouts=%d}",
+                parkedConnections.get(), totalParked.get(), totalResumed.get(), idleTimeouts.get());
+    }
+
+    /**
+     * 반납된 연결 정보
+     */
+    private static final class Parked {
+        final SocketChannel channel;
+        final Runnable onReadable;
+        final Runnable onClosed;
+        final long parkedAt = System.currentTimeMillis();
+
+        Parked(SocketChannel channel, Runnable onReadable, Runnable onClosed) {
+            this.channel = channel;
+            this.onReadable = onReadable;
+            this.onClosed = onClosed;
+        }
+    }
+}
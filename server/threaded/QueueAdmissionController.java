@@ -0,0 +1,194 @@
+package server.threaded;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntSupplier;
+
+/**
+ * 큐 대기 시간 기반 수락 제어 (CoDel 방식)
+ *
+ * 작업이 스레드풀 큐에서 기다린 시간(sojourn time)을 측정해서
+ * 큐가 "잠깐 붐비는" 상태인지 "계속 쌓여 있는" 과부하 상태인지 구분합니다.
+ *
+ * 판단 기준 (CoDel - Controlled Delay):
+ * - interval마다 그 구간에서 시작된 작업들의 최소 대기 시간을 봄
+ * - 최소값이 target보다 크면 = 구간 내내 큐가 한 번도 비지 않음 → 과부하
+ * - 최소값이 target 이하면 = 순간적인 몰림일 뿐 큐가 빠지고 있음 → 정상
+ * - 구간 동안 시작된 작업이 없는데 큐에 작업이 남아 있으면 → 과부하
+ * - 판정 시점에 큐가 비어 있으면 → 항상 정상
+ *
+ * 과부하 동안에는 새 연결을 큐에 넣지 않고 즉시 503으로 거부하므로
+ * 이미 큐에 있는 작업의 대기 시간이 클라이언트가 포기할 만큼 길어지지 않음
+ * (큐 길이가 아니라 대기 시간을 보기 때문에 요청 처리 시간이 달라져도 기준이 흔들리지 않음)
+ *
+ * 대기 시간 분포는 로그 스케일(2배 간격) 히스토그램으로 누적해 백분위를 제공합니다.
+ */
+class QueueAdmissionController {
+
+    // 히스토그램 버킷 수 - 버킷 i는 [2^(i-1), 2^i) 마이크로초 (0번은 1us 미만, 마지막은 그 이상 전부)
+    private static final int BUCKET_COUNT = 36;
+
+    // 구간 최소값이 아직 없음을 나타내는 값
+    private static final long NO_SAMPLE = Long.MAX_VALUE;
+
+    private final boolean enabled;         // false면 측정만 하고 거부하지 않음
+    private final long targetNanos;        // 허용 최소 대기 시간
+    private final long intervalNanos;      // 판단 구간
+    private final IntSupplier queueSize;   // 현재 대기 중인 작업 수
+
+    // === CoDel 상태 ===
+    private final AtomicLong intervalStart;                          // 현재 구간 시작 시각 (nanoTime)
+    private final AtomicLong intervalMin = new AtomicLong(NO_SAMPLE); // 현재 구간의 최소 대기 시간
+    private volatile boolean overloaded = false;                     // 과부하 판정 (새 연결 거부 중)
+
+    // === 통계 ===
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong samples = new AtomicLong(0);           // 측정한 작업 수
+    private final AtomicLong maxSojournNanos = new AtomicLong(0);   // 최대 대기 시간
+    private final AtomicLong shedCount = new AtomicLong(0);         // 과부하로 거부한 연결 수
+    private final AtomicLong overloadEpisodes = new AtomicLong(0);  // 과부하 진입 횟수
+
+    /**
+     * QueueAdmissionController 생성자
+     *
+     * @param enabled 과부하시 거부 여부 (false면 대기 시간 통계만 수집)
+     * @param targetMs 허용 최소 대기 시간 (밀리초)
+     * @param intervalMs 판단 구간 (밀리초)
+     * @param queueSize 현재 큐 길이 조회 함수
+     */
+    QueueAdmissionController(boolean enabled, long targetMs, long intervalMs, IntSupplier queueSize) {
+        this.enabled = enabled;
+        this.targetNanos = targetMs * 1_000_000L;
+        this.intervalNanos = intervalMs * 1_000_000L;
+        this.queueSize = queueSize;
+        this.intervalStart = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * 작업이 실행을 시작할 때 큐 대기 시간 기록 (워커 스레드에서 호출)
+     *
+     * @param sojournNanos 제출부터 실행 시작까지 걸린 시간
+     */
+    void recordSojourn(long sojournNanos) {
+        long nanos = Math.max(0, sojournNanos);
+
+        histogram.incrementAndGet(bucketOf(nanos));
+        samples.incrementAndGet();
+        maxSojournNanos.accumulateAndGet(nanos, Math::max);
+        intervalMin.accumulateAndGet(nanos, Math::min);
+
+        updateState(System.nanoTime());
+    }
+
+    /**
+     * 새 연결 수락 여부 판단 (acceptor 스레드에서 호출)
+     *
+     * @return 수락하면 true, 과부하로 거부해야 하면 false
+     */
+    boolean admit() {
+        updateState(System.nanoTime());
+        if (enabled && overloaded) {
+            shedCount.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 구간이 끝났으면 과부하 여부를 다시 판정
+     *
+     * 여러 스레드가 동시에 호출해도 CAS에 성공한 스레드 하나만 판정
+     */
+    private void updateState(long now) {
+        long start = intervalStart.get();
+        if (now - start < intervalNanos || !intervalStart.compareAndSet(start, now)) {
+            return;
+        }
+
+        long min = intervalMin.getAndSet(NO_SAMPLE);
+        boolean wasOverloaded = overloaded;
+        // 큐가 비어 있으면 지난 구간의 대기 시간과 관계없이 정상 (CoDel도 큐가 비면 드롭 상태를 벗어남)
+        // → 요청이 뜸해서 다음 판정이 늦어져도 오래된 구간 값으로 계속 거부하지 않음
+        boolean nowOverloaded = queueSize.getAsInt() > 0
+                && (min == NO_SAMPLE          // 구간 내내 아무 작업도 시작 못 했는데 큐가 남아 있음
+                    || min > targetNanos);    // 구간 내내 큐가 target 아래로 빠지지 않음
+        overloaded = nowOverloaded;
+
+        if (!enabled || wasOverloaded == nowOverloaded) {
+            return;
+        }
+        if (nowOverloaded) {
+            overloadEpisodes.incrementAndGet();
+            System.err.println("[ThreadPool] Queue overloaded - min sojourn " +
+                    (min == NO_SAMPLE ? "n/a" : (min / 1_000_000) + "ms") +
+                    " > target " + (targetNanos / 1_000_000) + "ms, shedding new connections");
+        } else {
+            System.out.println("[ThreadPool] Queue recovered - admitting new connections (shed so far: " +
+                    shedCount.get() + ")");
+        }
+    }
+
+    /**
+     * 대기 시간이 속하는 히스토그램 버킷
+     */
+    private static int bucketOf(long nanos) {
+        long micros = nanos / 1000;
+        // 64 - numberOfLeadingZeros(x) = x를 표현하는 비트 수 (0이면 0)
+        return Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKET_COUNT - 1);
+    }
+
+    /**
+     * 대기 시간 백분위 (밀리초)
+     *
+     * 해당 버킷의 상한을 반환하므로 실제 값보다 최대 2배까지 크게 나올 수 있음 (최대값으로 제한)
+     *
+     * @param percentile 백분위 (0~100)
+     * @return 대기 시간 (밀리초), 측정값이 없으면 0
+     */
+    double percentileMillis(double percentile) {
+        long total = samples.get();
+        if (total == 0) {
+            return 0.0;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += histogram.get(i);
+            if (seen >= Math.max(rank, 1)) {
+                double upperMicros = i == 0 ? 1 : (double) (1L << i);
+                return Math.min(upperMicros / 1000.0, getMaxSojournMillis());
+            }
+        }
+        return getMaxSojournMillis();
+    }
+
+    // === 상태 조회 ===
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    boolean isOverloaded() {
+        return enabled && overloaded;
+    }
+
+    double getMaxSojournMillis() {
+        return maxSojournNanos.get() / 1_000_000.0;
+    }
+
+    long getShedCount() {
+        return shedCount.get();
+    }
+
+    long getOverloadEpisodes() {
+        return overloadEpisodes.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("QueueAdmission{enabled=%s, overloaded=%s, target=%dms, interval=%dms, " +
+                        "p50=%.2fms, p99=%.2fms, max=%.2fms, shed=%d}",
+                enabled, isOverloaded(), targetNanos / 1_000_000, intervalNanos / 1_000_000,
+                percentileMillis(50), percentileMillis(99), getMaxSojournMillis(), shedCount.get());
+    }
+}
@@ -142,6 +142,19 @@ public class RequestHandlerConfig {
      */
     private int connectionTimeout = 60000; // 60초
 
+    /**
+     * Keep-Alive 유휴 연결 Poller 사용 여부
+     *
+     * true면 응답을 보낸 뒤 다음 요청을 기다리는 연결을 워커 스레드에서 떼어
+     * 공유 Selector(KeepAlivePoller)에 맡기고, 다음 요청 바이트가 도착하면 워커에 다시 배정합니다.
+     * 이때 요청 간 대기 시간 제한은 connectionTimeout이 적용됩니다.
+     *
+     * 기본값: true
+     *
+     * false면 워커가 socketTimeout 동안 블로킹 read로 다음 요청을 기다립니다 (연결당 스레드 1개).
+     */
+    private boolean keepAlivePolling = true;
+
     /**
      * 요청 로깅 활성화 여부
      *
@@ -254,6 +267,21 @@ public class RequestHandlerConfig {
         return this;
     }
 
+    public boolean isKeepAlivePolling() {
+        return keepAlivePolling;
+    }
+
+    /**
+     * Keep-Alive 유휴 연결 Poller 사용 설정
+     *
+     * @param keepAlivePolling true면 유휴 연결을 Poller에 맡기고 워커 스레드 반납
+     * @return 현재 객체
+     */
+    public RequestHandlerConfig setKeepAlivePolling(boolean keepAlivePolling) {
+        this.keepAlivePolling = keepAlivePolling;
+        return this;
+    }
+
     public boolean isEnableRequestLogging() {
         return enableRequestLogging;
     }
@@ -384,9 +412,9 @@ public class RequestHandlerConfig {
     public String toString() {
         return String.format(
                 "RequestHandlerConfig{timeout=%dms, maxReqs=%d, debug=%s, " +
-                        "readBuf=%d, writeBuf=%d, keepAlive=%s, connTimeout=%dms}",
+                        "readBuf=%d, writeBuf=%d, keepAlive=%s, connTimeout=%dms, poller=%s}",
                 socketTimeout, maxRequestsPerConnection, debugMode,
-                readBufferSize, writeBufferSize, enableKeepAlive, connectionTimeout
+                readBufferSize, writeBufferSize, enableKeepAlive, connectionTimeout, keepAlivePolling
         );
     }
 
@@ -412,6 +440,7 @@ public class RequestHandlerConfig {
                 writeBufferSize == other.writeBufferSize &&
                 enableKeepAlive == other.enableKeepAlive &&
                 connectionTimeout == other.connectionTimeout &&
+                keepAlivePolling == other.keepAlivePolling &&
                 enableRequestLogging == other.enableRequestLogging;
     }
 
@@ -432,6 +461,7 @@ public class RequestHandlerConfig {
         result = 31 * result + writeBufferSize;
         result = 31 * result + (enableKeepAlive ? 1 : 0);
         result = 31 * result + connectionTimeout;
+        result = 31 * result + (keepAlivePolling ? 1 : 0);
         result = 31 * result + (enableRequestLogging ? 1 : 0);
         return result;
     }
@@ -1,5 +1,7 @@
 package server.threaded;
 
+import server.core.limit.ConcurrencyLimiter;
+
 /**
  * 스레드풀 설정 클래스
  *
@@ -211,6 +213,115 @@ public class ThreadPoolConfig {
      */
     private boolean debugMode = false;
 
+    // === 가상 스레드 실행 모드 ===
+
+    /**
+     * 가상 스레드 사용 여부 (Virtual Threads)
+     *
+     * true면 플랫폼 스레드풀 대신 연결마다 가상 스레드 하나를 만들어 처리합니다.
+     *
+     * 기본값: false (톰캣 스타일 스레드풀)
+     *
+     * 가상 스레드 모드의 동작:
+     * - core/max 풀 크기와 큐 용량은 사용하지 않음
+     * - 블로킹 I/O(Thread.sleep, 소켓 읽기 등)에서 캐리어 스레드를 반납하므로
+     *   적은 OS 스레드로 수만 개의 동시 연결 처리 가능
+     * - 동시 처리 수는 maxConcurrency 세마포어로 제한 (큐 대신 백프레셔 역할)
+     *
+     * 런타임 요구사항:
+     * - 가상 스레드를 지원하는 JVM (Java 21+)에서만 실제 가상 스레드 사용
+     * - 지원하지 않는 JVM에서는 연결당 플랫폼 스레드로 대체 (같은 세마포어 제한 적용)
+     */
+    private boolean virtualThreads = false;
+
+    /**
+     * 가상 스레드 모드의 최대 동시 처리 수
+     *
+     * 동시에 실행될 수 있는 연결 처리 작업의 상한입니다.
+     * 이 수를 넘으면 acceptor가 허가(permit)를 기다리고, 대기 시간이 지나면 연결을 거부합니다.
+     *
+     * 기본값: 10000
+     *
+     * 설정 고려사항:
+     * - 가상 스레드 자체는 가볍지만 연결당 소켓/버퍼 메모리는 그대로 필요
+     * - 다운스트림(DB 연결 풀 등)의 처리 한계를 넘지 않도록 설정
+     */
+    private int maxConcurrency = 10000;
+
+    /**
+     * 가상 스레드 모드의 허가 대기 시간 (밀리초)
+     *
+     * maxConcurrency에 도달했을 때 새 연결이 처리 허가를 기다리는 최대 시간입니다.
+     * 시간 안에 허가를 얻지 못하면 작업이 거부됩니다 (rejectedTasks 증가).
+     *
+     * 기본값: 1000ms
+     */
+    private long acquireTimeoutMs = 1000;
+
+    // === 큐 대기 시간 기반 수락 제어 (CoDel) ===
+
+    /**
+     * 수락 제어 사용 여부
+     *
+     * 작업이 큐에서 기다린 시간을 추적해서, 큐가 계속 쌓여 있는 과부하 상태에서는
+     * 새 연결을 큐에 넣지 않고 즉시 503 + Retry-After로 거부합니다.
+     * (Keep-Alive 연결의 다음 요청은 거부하지 않음)
+     *
+     * 기본값: true
+     *
+     * 효과:
+     * - 과부하에서도 큐 대기 시간이 target 근처로 유지되어 꼬리 지연이 무한정 늘지 않음
+     * - 클라이언트는 타임아웃까지 기다리지 않고 바로 재시도 시점을 알 수 있음
+     * - false면 대기 시간 통계만 수집하고 큐 용량이 찰 때까지 받음 (기존 동작)
+     */
+    private boolean admissionControl = true;
+
+    /**
+     * 목표 큐 대기 시간 (밀리초)
+     *
+     * 판단 구간 동안의 최소 대기 시간이 이 값을 넘으면 과부하로 판단합니다.
+     * 최소값을 보므로 잠깐 몰리는 것(버스트)은 과부하로 보지 않습니다.
+     *
+     * 기본값: 50ms
+     */
+    private long queueTargetMs = 50;
+
+    /**
+     * 과부하 판단 구간 (밀리초)
+     *
+     * 이 구간 내내 큐 대기 시간이 목표를 넘어야 과부하로 판단하며,
+     * 과부하 해제도 구간 단위로 판단합니다.
+     *
+     * 기본값: 500ms (대략 정상 요청 처리 시간보다 충분히 길게)
+     */
+    private long queueIntervalMs = 500;
+
+    /**
+     * 거부 응답의 Retry-After 값 (초)
+     *
+     * 기본값: 1초
+     */
+    private int retryAfterSeconds = 1;
+
+    /**
+     * 적응형 동시성 제한 알고리즘
+     *
+     * 설정하면 워커에서 처리 중인 연결 수에 상한을 두고,
+     * 처리 시간(RTT)을 보면서 상한을 자동으로 조정합니다 (ConcurrencyLimiter).
+     * 상한을 넘는 새 연결은 큐에 넣지 않고 즉시 503 + Retry-After로 거부합니다.
+     *
+     * 기본값: null (사용 안 함 - 스레드풀/큐 용량과 수락 제어만 적용)
+     */
+    private ConcurrencyLimiter.Algorithm concurrencyLimit = null;
+
+    /**
+     * 동시성 상한 시작값과 최대값
+     *
+     * 기본값: 0 (시작값은 maxPoolSize, 최대값은 maxPoolSize의 4배)
+     */
+    private int initialConcurrencyLimit = 0;
+    private int maxConcurrencyLimit = 0;
+
     /**
      * 기본 생성자
      *
@@ -290,6 +401,108 @@ public class ThreadPoolConfig {
         return this;
     }
 
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * 가상 스레드 실행 모드 설정
+     *
+     * @param virtualThreads true면 연결마다 가상 스레드로 처리
+     * @return 현재 객체 (메서드 체이닝 지원)
+     */
+    public ThreadPoolConfig setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public ThreadPoolConfig setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    public long getAcquireTimeoutMs() {
+        return acquireTimeoutMs;
+    }
+
+    public ThreadPoolConfig setAcquireTimeoutMs(long acquireTimeoutMs) {
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        return this;
+    }
+
+    public boolean isAdmissionControl() {
+        return admissionControl;
+    }
+
+    public ThreadPoolConfig setAdmissionControl(boolean admissionControl) {
+        this.admissionControl = admissionControl;
+        return this;
+    }
+
+    public long getQueueTargetMs() {
+        return queueTargetMs;
+    }
+
+    public ThreadPoolConfig setQueueTargetMs(long queueTargetMs) {
+        this.queueTargetMs = queueTargetMs;
+        return this;
+    }
+
+    public long getQueueIntervalMs() {
+        return queueIntervalMs;
+    }
+
+    public ThreadPoolConfig setQueueIntervalMs(long queueIntervalMs) {
+        this.queueIntervalMs = queueIntervalMs;
+        return this;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public ThreadPoolConfig setRetryAfterSeconds(int retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+        return this;
+    }
+
+    public ConcurrencyLimiter.Algorithm getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    public ThreadPoolConfig setConcurrencyLimit(ConcurrencyLimiter.Algorithm concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+        return this;
+    }
+
+    /**
+     * 동시성 상한 시작값 (설정하지 않으면 maxPoolSize)
+     */
+    public int getInitialConcurrencyLimit() {
+        return initialConcurrencyLimit > 0 ? initialConcurrencyLimit : maxPoolSize;
+    }
+
+    public ThreadPoolConfig setInitialConcurrencyLimit(int initialConcurrencyLimit) {
+        this.initialConcurrencyLimit = initialConcurrencyLimit;
+        return this;
+    }
+
+    /**
+     * 동시성 상한 최대값 (설정하지 않으면 maxPoolSize의 4배 - 큐 대기분까지 허용)
+     */
+    public int getMaxConcurrencyLimit() {
+        return maxConcurrencyLimit > 0 ? maxConcurrencyLimit : Math.max(getInitialConcurrencyLimit(), maxPoolSize * 4);
+    }
+
+    public ThreadPoolConfig setMaxConcurrencyLimit(int maxConcurrencyLimit) {
+        this.maxConcurrencyLimit = maxConcurrencyLimit;
+        return this;
+    }
+
     /**
      * 설정 유효성 검증 메서드
      *
@@ -357,6 +570,43 @@ public class ThreadPoolConfig {
         if (scaleStep <= 0) {
             throw new IllegalArgumentException("Scale step must be positive");
         }
+
+        /*
+         * 가상 스레드 모드 설정 검증
+         *
+         * 동시 처리 수는 1 이상, 허가 대기 시간은 0 이상이어야 합니다.
+         * 대기 시간 0은 허가가 없으면 즉시 거부함을 의미합니다.
+         */
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        if (acquireTimeoutMs < 0) {
+            throw new IllegalArgumentException("Acquire timeout must be non-negative");
+        }
+
+        /*
+         * 수락 제어 설정 검증
+         *
+         * 목표 대기 시간은 양수, 판단 구간은 목표 이상이어야 합니다.
+         * (구간이 목표보다 짧으면 최소 대기 시간이 목표를 넘을 수 없음)
+         */
+        if (queueTargetMs <= 0) {
+            throw new IllegalArgumentException("Queue target must be positive");
+        }
+        if (queueIntervalMs < queueTargetMs) {
+            throw new IllegalArgumentException("Queue interval must be >= queue target");
+        }
+        if (retryAfterSeconds < 0) {
+            throw new IllegalArgumentException("Retry-After must be non-negative");
+        }
+
+        /*
+         * 동시성 제한 설정 검증 (사용할 때만)
+         * 최대값은 시작값 이상이어야 합니다.
+         */
+        if (concurrencyLimit != null && getMaxConcurrencyLimit() < getInitialConcurrencyLimit()) {
+            throw new IllegalArgumentException("Max concurrency limit must be >= initial concurrency limit");
+        }
     }
 
     // === Factory 메서드들 ===
@@ -431,6 +681,25 @@ public class ThreadPoolConfig {
                 .setMonitorInterval(5);      // 빠른 피드백을 위한 짧은 간격
     }
 
+    /**
+     * 가상 스레드 설정 생성
+     *
+     * 블로킹 스타일 핸들러(I/O 대기가 긴 서블릿 등)를 많은 동시 연결로 확장하기 위한 설정입니다.
+     * 스레드풀 크기 대신 동시 처리 수 제한으로 부하를 조절합니다.
+     *
+     * 적용 시나리오:
+     * - 외부 API/DB 호출 대기가 긴 서비스
+     * - 롱 폴링, 느린 클라이언트가 많은 환경
+     *
+     * @return 가상 스레드 설정이 적용된 객체
+     */
+    public static ThreadPoolConfig virtualThreadConfig() {
+        return new ThreadPoolConfig()
+                .setVirtualThreads(true)
+                .setMaxConcurrency(10000)
+                .setAcquireTimeoutMs(1000);
+    }
+
     /**
      * 설정 정보를 문자열로 반환
      *
@@ -440,11 +709,19 @@ public class ThreadPoolConfig {
      */
     @Override
     public String toString() {
+        if (virtualThreads) {
+            return String.format(
+                    "ThreadPoolConfig{virtualThreads=true, maxConcurrency=%d, acquireTimeout=%dms, " +
+                            "monitor=%ds, debug=%s}",
+                    maxConcurrency, acquireTimeoutMs, monitorInterval, debugMode
+            );
+        }
         return String.format(
                 "ThreadPoolConfig{core=%d, max=%d, queue=%d, keepAlive=%ds, " +
-                        "monitor=%ds, scaleStep=%d, debug=%s}",
+                        "monitor=%ds, scaleStep=%d, admission=%s(%dms/%dms), limit=%s, debug=%s}",
                 corePoolSize, maxPoolSize, queueCapacity, keepAliveTime,
-                monitorInterval, scaleStep, debugMode
+                monitorInterval, scaleStep, admissionControl, queueTargetMs, queueIntervalMs,
+                concurrencyLimit != null ? concurrencyLimit : "off", debugMode
         );
     }
 
@@ -475,7 +752,17 @@ public class ThreadPoolConfig {
                 keepAliveTime == other.keepAliveTime &&
                 monitorInterval == other.monitorInterval &&
                 scaleStep == other.scaleStep &&
-                debugMode == other.debugMode;
+                debugMode == other.debugMode &&
+                virtualThreads == other.virtualThreads &&
+                maxConcurrency == other.maxConcurrency &&
+                acquireTimeoutMs == other.acquireTimeoutMs &&
+                admissionControl == other.admissionControl &&
+                queueTargetMs == other.queueTargetMs &&
+                queueIntervalMs == other.queueIntervalMs &&
+                retryAfterSeconds == other.retryAfterSeconds &&
+                concurrencyLimit == other.concurrencyLimit &&
+                initialConcurrencyLimit == other.initialConcurrencyLimit &&
+                maxConcurrencyLimit == other.maxConcurrencyLimit;
     }
 
     /**
@@ -504,6 +791,16 @@ public class ThreadPoolConfig {
         result = 31 * result + monitorInterval;
         result = 31 * result + scaleStep;
         result = 31 * result + (debugMode ? 1 : 0);  // boolean -> int 변환
+        result = 31 * result + (virtualThreads ? 1 : 0);
+        result = 31 * result + maxConcurrency;
+        result = 31 * result + (int) (acquireTimeoutMs ^ (acquireTimeoutMs >>> 32));
+        result = 31 * result + (admissionControl ? 1 : 0);
+        result = 31 * result + (int) (queueTargetMs ^ (queueTargetMs >>> 32));
+        result = 31 * result + (int) (queueIntervalMs ^ (queueIntervalMs >>> 32));
+        result = 31 * result + retryAfterSeconds;
+        result = 31 * result + (concurrencyLimit != null ? concurrencyLimit.hashCode() : 0);
+        result = 31 * result + initialConcurrencyLimit;
+        result = 31 * result + maxConcurrencyLimit;
         return result;
     }
 
@@ -12,6 +12,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * 1. Core threads 사용 중 → 즉시 새 스레드 생성 (max까지)
  * 2. Max 도달 후 → Queue 사용
  * 3. Queue 가득참 → Rejection
+ * 4. 큐 대기 시간이 계속 목표를 넘으면 (CoDel) → 새 연결은 큐에 넣기 전에 503으로 거부
  */
 public class ThreadPoolManager {
 
@@ -28,6 +29,14 @@ public class ThreadPoolManager {
      */
     private final TomcatStyleThreadPoolExecutor threadPool;
 
+    /*
+     * 가상 스레드 모드 실행기
+     *
+     * config.isVirtualThreads()가 true일 때만 생성되며, 이때 threadPool은 null입니다.
+     * 두 실행기 중 정확히 하나만 사용됩니다.
+     */
+    private final VirtualThreadExecutor virtualExecutor;
+
     /*
      * 모니터링을 위한 스케줄된 실행자 서비스
      *
@@ -123,6 +132,16 @@ public class ThreadPoolManager {
      */
     private volatile int peakActiveThreads = 0;
 
+    /*
+     * 큐 대기 시간 기반 수락 제어기
+     *
+     * 역할:
+     * - 모든 작업의 큐 대기 시간(제출 → 실행 시작)을 기록하고 백분위 제공
+     * - CoDel 방식으로 과부하를 판정해 새 연결 수락 여부 결정
+     * - 스레드풀/가상 스레드 모드 모두에서 동작 (가상 스레드 모드의 "큐"는 허가 대기)
+     */
+    private final QueueAdmissionController admissionController;
+
     /*
      * ThreadPoolManager 생성자
      *
@@ -158,115 +177,137 @@ public class ThreadPoolManager {
          */
         this.activeConnections = new AtomicInteger(0);
 
-        // 톰캣 스타일 ThreadPoolExecutor 생성
         /*
-         * TomcatStyleTaskQueue taskQueue = new TomcatStyleTaskQueue(config.getQueueCapacity());
-         *
-         * 톰캣 스타일 작업 큐 생성:
-         * - TomcatStyleTaskQueue: 내부 클래스로 정의된 특별한 큐
-         * - LinkedBlockingQueue를 상속하여 offer() 메서드 오버라이드
-         * - config.getQueueCapacity(): 설정에서 큐 용량 가져오기
-         *
-         * 큐 용량의 의미:
-         * - 최대 대기 가능한 작업 수
-         * - 큐가 가득 차면 RejectedExecutionHandler 호출
-         * - 메모리 사용량과 직결 (큐 크기 × 작업 객체 크기)
+         * 가상 스레드 모드: 스레드풀, 작업 큐, 거부 핸들러 대신
+         * 작업당 스레드 + 동시 실행 수 세마포어를 사용
          */
-        TomcatStyleTaskQueue taskQueue = new TomcatStyleTaskQueue(config.getQueueCapacity());
+        if (config.isVirtualThreads()) {
+            this.threadPool = null;
+            this.virtualExecutor = new VirtualThreadExecutor(
+                    config.getMaxConcurrency(), config.getAcquireTimeoutMs());
+        } else {
+            this.virtualExecutor = null;
+
+            // 톰캣 스타일 ThreadPoolExecutor 생성
+            /*
+             * TomcatStyleTaskQueue taskQueue = new TomcatStyleTaskQueue(config.getQueueCapacity());
+             *
+             * 톰캣 스타일 작업 큐 생성:
+             * - TomcatStyleTaskQueue: 내부 클래스로 정의된 특별한 큐
+             * - LinkedBlockingQueue를 상속하여 offer() 메서드 오버라이드
+             * - config.getQueueCapacity(): 설정에서 큐 용량 가져오기
+             *
+             * 큐 용량의 의미:
+             * - 최대 대기 가능한 작업 수
+             * - 큐가 가득 차면 RejectedExecutionHandler 호출
+             * - 메모리 사용량과 직결 (큐 크기 × 작업 객체 크기)
+             */
+            TomcatStyleTaskQueue taskQueue = new TomcatStyleTaskQueue(config.getQueueCapacity());
 
-        /*
-         * this.threadPool = new TomcatStyleThreadPoolExecutor(...);
-         *
-         * 톰캣 스타일 ThreadPoolExecutor 생성
-         * 매개변수 설명:
-         *
-         * 1. config.getCorePoolSize(): 코어 풀 크기
-         *    - 항상 유지되는 기본 스레드 수
-         *    - 작업이 없어도 살아있는 스레드들
-         *
-         * 2. config.getMaxPoolSize(): 최대 풀 크기
-         *    - 생성 가능한 최대 스레드 수
-         *    - 부하 급증 시 확장 한계
-         *
-         * 3. config.getKeepAliveTime(): Keep-Alive 시간
-         *    - 코어 풀 초과 스레드의 유휴 대기 시간
-         *    - 이 시간 후 초과 스레드 종료
-         *
-         * 4. TimeUnit.SECONDS: 시간 단위
-         *    - Keep-Alive 시간의 단위를 초로 지정
-         *    - TimeUnit enum의 SECONDS 상수
-         *
-         * 5. taskQueue: 작업 큐
-         *    - 위에서 생성한 톰캣 스타일 큐
-         *    - 스레드가 모두 사용 중일 때 작업 저장
-         *
-         * 6. new ServerThreadFactory(): 스레드 팩토리
-         *    - 새 스레드 생성 방식 정의
-         *    - 스레드 이름, 우선순위, 데몬 여부 설정
-         *
-         * 7. new TomcatStyleRejectedExecutionHandler(): 거부 정책
-         *    - 스레드풀 포화 시 거부된 작업 처리 방식
-         *    - 톰캣 방식: CallerRunsPolicy (호출자 스레드에서 실행)
-         */
-        this.threadPool = new TomcatStyleThreadPoolExecutor(
-                config.getCorePoolSize(),
-                config.getMaxPoolSize(),
-                config.getKeepAliveTime(),
-                TimeUnit.SECONDS,
-                taskQueue,
-                new ServerThreadFactory(),
-                new TomcatStyleRejectedExecutionHandler()
-        );
+            /*
+             * this.threadPool = new TomcatStyleThreadPoolExecutor(...);
+             *
+             * 톰캣 스타일 ThreadPoolExecutor 생성
+             * 매개변수 설명:
+             *
+             * 1. config.getCorePoolSize(): 코어 풀 크기
+             *    - 항상 유지되는 기본 스레드 수
+             *    - 작업이 없어도 살아있는 스레드들
+             *
+             * 2. config.getMaxPoolSize(): 최대 풀 크기
+             *    - 생성 가능한 최대 스레드 수
+             *    - 부하 급증 시 확장 한계
+             *
+             * 3. config.getKeepAliveTime(): Keep-Alive 시간
+             *    - 코어 풀 초과 스레드의 유휴 대기 시간
+             *    - 이 시간 후 초과 스레드 종료
+             *
+             * 4. TimeUnit.SECONDS: 시간 단위
+             *    - Keep-Alive 시간의 단위를 초로 지정
+             *    - TimeUnit enum의 SECONDS 상수
+             *
+             * 5. taskQueue: 작업 큐
+             *    - 위에서 생성한 톰캣 스타일 큐
+             *    - 스레드가 모두 사용 중일 때 작업 저장
+             *
+             * 6. new ServerThreadFactory(): 스레드 팩토리
+             *    - 새 스레드 생성 방식 정의
+             *    - 스레드 이름, 우선순위, 데몬 여부 설정
+             *
+             * 7. new TomcatStyleRejectedExecutionHandler(): 거부 정책
+             *    - 스레드풀 포화 시 거부된 작업 처리 방식
+             *    - 톰캣 방식: CallerRunsPolicy (호출자 스레드에서 실행)
+             */
+            this.threadPool = new TomcatStyleThreadPoolExecutor(
+                    config.getCorePoolSize(),
+                    config.getMaxPoolSize(),
+                    config.getKeepAliveTime(),
+                    TimeUnit.SECONDS,
+                    taskQueue,
+                    new ServerThreadFactory(),
+                    new TomcatStyleRejectedExecutionHandler()
+            );
 
-        // 🔧 중요: TaskQueue에 Executor 설정
-        /*
-         * taskQueue.setExecutor(threadPool);
-         *
-         * 순환 참조 문제 해결:
-         *
-         * 문제 상황:
-         * - TomcatStyleTaskQueue는 스레드 생성 여부 판단을 위해 Executor 참조 필요
-         * - TomcatStyleThreadPoolExecutor는 생성자에서 TaskQueue를 받음
-         * - 생성자에서는 아직 threadPool 객체가 완성되지 않아 참조 불가
-         *
-         * 해결 방법:
-         * - ThreadPoolExecutor 생성 완료 후
-         * - setExecutor() 메서드로 참조 설정
-         * - 이제 TaskQueue에서 threadPool.getPoolSize() 등 호출 가능
-         *
-         * 이 설정이 중요한 이유:
-         * - TaskQueue의 offer() 메서드에서 스레드 생성 가능 여부 판단
-         * - 톰캣 스타일 로직의 핵심 구현
-         */
-        taskQueue.setExecutor(threadPool);
+            // 🔧 중요: TaskQueue에 Executor 설정
+            /*
+             * taskQueue.setExecutor(threadPool);
+             *
+             * 순환 참조 문제 해결:
+             *
+             * 문제 상황:
+             * - TomcatStyleTaskQueue는 스레드 생성 여부 판단을 위해 Executor 참조 필요
+             * - TomcatStyleThreadPoolExecutor는 생성자에서 TaskQueue를 받음
+             * - 생성자에서는 아직 threadPool 객체가 완성되지 않아 참조 불가
+             *
+             * 해결 방법:
+             * - ThreadPoolExecutor 생성 완료 후
+             * - setExecutor() 메서드로 참조 설정
+             * - 이제 TaskQueue에서 threadPool.getPoolSize() 등 호출 가능
+             *
+             * 이 설정이 중요한 이유:
+             * - TaskQueue의 offer() 메서드에서 스레드 생성 가능 여부 판단
+             * - 톰캣 스타일 로직의 핵심 구현
+             */
+            taskQueue.setExecutor(threadPool);
+
+            // 모든 코어 스레드 미리 생성
+            /*
+             * threadPool.prestartAllCoreThreads();
+             *
+             * prestartAllCoreThreads() 메서드:
+             * - ThreadPoolExecutor의 메서드
+             * - 모든 코어 스레드를 즉시 생성하여 대기 상태로 만듦
+             * - 반환값: 실제로 시작된 스레드 수 (int)
+             *
+             * 미리 생성하는 이유:
+             * 1. 초기 요청 지연 제거
+             *    - 첫 번째 요청도 즉시 처리 가능
+             *    - 스레드 생성 시간 제거 (보통 1-10ms)
+             *
+             * 2. 예측 가능한 성능
+             *    - 모든 요청이 일관된 처리 시간
+             *    - 스레드 생성으로 인한 지터(jitter) 제거
+             *
+             * 3. 안정적인 동작
+             *    - 부하 테스트 시 일관된 결과
+             *    - 운영 환경에서 예측 가능한 응답 시간
+             *
+             * 단점:
+             * - 초기 메모리 사용량 증가 (코어 스레드 수 × 스택 크기)
+             * - 유휴 시간에도 스레드 유지 (리소스 사용)
+             */
+            threadPool.prestartAllCoreThreads();
+        }
 
-        // 모든 코어 스레드 미리 생성
         /*
-         * threadPool.prestartAllCoreThreads();
-         *
-         * prestartAllCoreThreads() 메서드:
-         * - ThreadPoolExecutor의 메서드
-         * - 모든 코어 스레드를 즉시 생성하여 대기 상태로 만듦
-         * - 반환값: 실제로 시작된 스레드 수 (int)
-         *
-         * 미리 생성하는 이유:
-         * 1. 초기 요청 지연 제거
-         *    - 첫 번째 요청도 즉시 처리 가능
-         *    - 스레드 생성 시간 제거 (보통 1-10ms)
-         *
-         * 2. 예측 가능한 성능
-         *    - 모든 요청이 일관된 처리 시간
-         *    - 스레드 생성으로 인한 지터(jitter) 제거
-         *
-         * 3. 안정적인 동작
-         *    - 부하 테스트 시 일관된 결과
-         *    - 운영 환경에서 예측 가능한 응답 시간
-         *
-         * 단점:
-         * - 초기 메모리 사용량 증가 (코어 스레드 수 × 스택 크기)
-         * - 유휴 시간에도 스레드 유지 (리소스 사용)
+         * 수락 제어기 생성
+         * 과부하 판정에 현재 대기 작업 수가 필요하므로 실행기 생성 후에 만듦
          */
-        threadPool.prestartAllCoreThreads();
+        this.admissionController = new QueueAdmissionController(
+                config.isAdmissionControl(),
+                config.getQueueTargetMs(),
+                config.getQueueIntervalMs(),
+                this::getQueuedTaskCount);
 
         // 모니터링 스케줄러
         /*
@@ -331,8 +372,14 @@ public class ThreadPoolManager {
          * - "Max: " + config.getMaxPoolSize(): 최대 스레드 수
          * - + 연산자로 문자열 연결 (StringBuilder로 내부 최적화)
          */
-        System.out.println("[ThreadPoolManager] Tomcat-style initialized - Core: " +
-                config.getCorePoolSize() + ", Max: " + config.getMaxPoolSize());
+        if (virtualExecutor != null) {
+            System.out.println("[ThreadPoolManager] Per-task " +
+                    (virtualExecutor.isVirtual() ? "virtual" : "platform (virtual threads unsupported)") +
+                    " threads initialized - Max concurrency: " + config.getMaxConcurrency());
+        } else {
+            System.out.println("[ThreadPoolManager] Tomcat-style initialized - Core: " +
+                    config.getCorePoolSize() + ", Max: " + config.getMaxPoolSize());
+        }
     }
 
     /**
@@ -389,7 +436,121 @@ public class ThreadPoolManager {
         long startTime = System.currentTimeMillis();
 
         /*
-         * return threadPool.submit(() -> { ... });
+         * 큐 대기 시간 측정용 제출 시각
+         * nanoTime(): 밀리초보다 정밀하고 시계 조정의 영향을 받지 않는 경과 시간용 시각
+         */
+        long submitNanos = System.nanoTime();
+
+        /*
+         * 가상 스레드 모드: 허가를 얻지 못하면 RejectedExecutionException 발생
+         * 스레드풀 모드의 거부 핸들러와 같은 방식으로 거부 수를 집계하고
+         * 호출자(ThreadedProcessor)가 소켓을 정리하도록 예외를 그대로 전달
+         */
+        if (virtualExecutor != null) {
+            try {
+                return virtualExecutor.submit(wrapWithStatistics(task, startTime, submitNanos));
+            } catch (RejectedExecutionException e) {
+                activeConnections.decrementAndGet();
+                rejectedTasks.incrementAndGet();
+                throw e;
+            }
+        }
+
+        return threadPool.submit(wrapWithStatistics(task, startTime, submitNanos));
+    }
+
+    /**
+     * 블로킹 없이 작업 제출
+     */
+    /*
+     * public boolean trySubmit(Runnable task)
+     *
+     * submit()과 달리 호출 스레드를 절대 붙잡지 않음:
+     * - 스레드풀 모드: 큐가 가득 차도 CallerRuns로 호출 스레드에서 실행하지 않고 거부
+     * - 가상 스레드 모드: 허가를 기다리지 않고 바로 거부
+     *
+     * Keep-Alive Poller처럼 모든 유휴 연결을 혼자 돌보는 스레드가 사용:
+     * - 그 스레드가 요청을 직접 처리하거나 대기하면 다른 연결의 재배정과 유휴 타임아웃이 모두 멈춤
+     *
+     * @return 제출되었으면 true, 거부되었으면 false (호출자가 작업을 정리)
+     */
+    public boolean trySubmit(Runnable task) {
+        activeConnections.incrementAndGet();
+        Runnable wrapped = wrapWithStatistics(task, System.currentTimeMillis(), System.nanoTime());
+        try {
+            if (virtualExecutor != null) {
+                virtualExecutor.trySubmit(wrapped);
+            } else {
+                // execute(): 거부 핸들러가 FutureTask가 아닌 표시용 래퍼를 그대로 받도록
+                threadPool.execute(new NoCallerRunsTask(wrapped));
+            }
+            return true;
+        } catch (RejectedExecutionException e) {
+            activeConnections.decrementAndGet();
+            if (virtualExecutor != null) {
+                rejectedTasks.incrementAndGet(); // 스레드풀 모드는 거부 핸들러가 집계
+            }
+            return false;
+        }
+    }
+
+    /*
+     * 호출 스레드에서 실행하면 안 되는 작업 표시
+     * 거부 핸들러가 CallerRuns 대신 RejectedExecutionException을 던짐
+     */
+    private static final class NoCallerRunsTask implements Runnable {
+        private final Runnable task;
+
+        NoCallerRunsTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+
+    /**
+     * 새 연결 수락 여부
+     */
+    /*
+     * public boolean admitNewConnection()
+     *
+     * acceptor가 새 연결을 submit()하기 전에 호출:
+     * - true: 정상 - submit()으로 제출
+     * - false: 큐가 계속 쌓여 있는 과부하 상태 - 제출하지 말고 503으로 거부
+     *
+     * Keep-Alive 연결의 다음 요청(Poller 재배정)은 이 검사 없이 제출됨:
+     * - 이미 받아들인 연결을 끝까지 처리하는 것이 새 연결보다 우선
+     */
+    public boolean admitNewConnection() {
+        return admissionController.admit();
+    }
+
+    /**
+     * 과부하 거부 응답의 Retry-After 값 (초)
+     */
+    public int getRetryAfterSeconds() {
+        return config.getRetryAfterSeconds();
+    }
+
+    /*
+     * 현재 대기 중인 작업 수
+     * 가상 스레드 모드에서는 허가를 기다리는 제출 수
+     */
+    private int getQueuedTaskCount() {
+        return virtualExecutor != null ? virtualExecutor.getWaitingCount() : threadPool.getQueue().size();
+    }
+
+    /*
+     * 통계 수집 래퍼 생성
+     *
+     * 스레드풀 모드와 가상 스레드 모드가 같은 통계 로직을 공유하도록 분리
+     */
+    private Runnable wrapWithStatistics(Runnable task, long startTime, long submitNanos) {
+        /*
+         * return () -> { ... };
          *
          * threadPool.submit() 메서드:
          * - ThreadPoolExecutor의 submit() 메서드 호출
@@ -401,7 +562,13 @@ public class ThreadPoolManager {
          * - 원본 task를 래핑하여 통계 수집 기능 추가
          * - try-finally 구조로 리소스 정리 보장
          */
-        return threadPool.submit(() -> {
+        return () -> {
+            /*
+             * 큐 대기 시간 기록 - 워커가 작업을 꺼내 실행을 시작한 시점
+             * (즉시 새 스레드가 배정된 작업은 거의 0)
+             */
+            admissionController.recordSojourn(System.nanoTime() - submitNanos);
+
             /*
              * try { task.run(); }
              *
@@ -505,7 +672,7 @@ public class ThreadPoolManager {
                  * - 작업을 할당받아 처리 중인 상태
                  * - CPU나 I/O 작업을 수행 중
                  */
-                int currentActive = threadPool.getActiveCount();
+                int currentActive = getActiveThreadCount();
 
                 /*
                  * if (currentActive > peakActiveThreads) {
@@ -532,7 +699,15 @@ public class ThreadPoolManager {
                     peakActiveThreads = currentActive;
                 }
             }
-        });
+        };
+    }
+
+    /*
+     * 현재 작업 중인 스레드 수
+     * 가상 스레드 모드에서는 허가를 가진 작업 수
+     */
+    private int getActiveThreadCount() {
+        return virtualExecutor != null ? virtualExecutor.getRunningCount() : threadPool.getActiveCount();
     }
 
     /**
@@ -651,6 +826,11 @@ public class ThreadPoolManager {
          * - 다른 로그 메시지와 구분
          * - 일관된 형식으로 출력
          */
+        if (virtualExecutor != null) {
+            printVirtualThreadStatistics();
+            return;
+        }
+
         System.out.println("\n=== Tomcat-Style ThreadPool Statistics ===");
 
         /*
@@ -902,6 +1082,9 @@ public class ThreadPoolManager {
          */
         System.out.println("Completed Tasks: " + threadPool.getCompletedTaskCount());
 
+        // 큐 대기 시간 분포와 수락 제어 상태
+        printQueueTimeStatistics();
+
         /*
          * System.out.println("===========================================\n");
          *
@@ -917,6 +1100,50 @@ public class ThreadPoolManager {
         System.out.println("===========================================\n");
     }
 
+    /*
+     * 가상 스레드 모드 통계 출력
+     * 풀 크기/큐 대신 동시 실행 수와 허가 대기 수를 출력
+     */
+    private void printVirtualThreadStatistics() {
+        System.out.println("\n=== Per-Task Thread Statistics (" +
+                (virtualExecutor.isVirtual() ? "virtual" : "platform") + ") ===");
+        System.out.println("Max Concurrency: " + virtualExecutor.getMaxConcurrency());
+        System.out.println("Running Tasks: " + virtualExecutor.getRunningCount());
+        System.out.println("Waiting For Permit: " + virtualExecutor.getWaitingCount());
+        System.out.println("Active Connections: " + activeConnections.get());
+        System.out.println("Total Requests: " + totalRequestsProcessed.get());
+        System.out.println("Rejected Tasks: " + rejectedTasks.get());
+        System.out.println("Peak Active: " + peakActiveThreads);
+
+        long totalRequests = totalRequestsProcessed.get();
+        if (totalRequests > 0) {
+            double avgProcessingTime = (double) totalProcessingTime.get() / totalRequests;
+            System.out.println("Avg Processing Time: " + String.format("%.2f", avgProcessingTime) + "ms");
+        }
+
+        System.out.println("Threads Started: " + virtualExecutor.getStartedThreads());
+        printQueueTimeStatistics();
+        System.out.println("===========================================\n");
+    }
+
+    /*
+     * 큐 대기 시간 통계 출력 (두 모드 공통)
+     */
+    private void printQueueTimeStatistics() {
+        System.out.println("Queue Time p50/p90/p99/max: " +
+                String.format("%.2f/%.2f/%.2f/%.2f",
+                        admissionController.percentileMillis(50),
+                        admissionController.percentileMillis(90),
+                        admissionController.percentileMillis(99),
+                        admissionController.getMaxSojournMillis()) + "ms");
+        System.out.println("Admission Control: " +
+                (admissionController.isEnabled()
+                        ? (admissionController.isOverloaded() ? "SHEDDING" : "admitting")
+                        : "disabled") +
+                ", shed: " + admissionController.getShedCount() +
+                ", overload episodes: " + admissionController.getOverloadEpisodes());
+    }
+
     /**
      * 현재 활성 연결 수
      */
@@ -967,6 +1194,34 @@ public class ThreadPoolManager {
      * - 관리 대시보드 데이터 소스
      */
     public ThreadPoolStatus getStatus() {
+        /*
+         * 가상 스레드 모드의 필드 대응:
+         * - corePoolSize → 최대 동시 실행 수 (고정된 용량)
+         * - currentPoolSize, activeThreads → 실행 중인 작업 수 (작업당 스레드 하나)
+         * - queueSize → 허가를 기다리는 제출 수
+         */
+        if (virtualExecutor != null) {
+            int running = virtualExecutor.getRunningCount();
+            long total = totalRequestsProcessed.get();
+            return new ThreadPoolStatus(
+                    virtualExecutor.getMaxConcurrency(),
+                    running,
+                    running,
+                    virtualExecutor.getWaitingCount(),
+                    activeConnections.get(),
+                    total,
+                    peakActiveThreads,
+                    total > 0 ? (double) totalProcessingTime.get() / total : 0,
+                    rejectedTasks.get(),
+                    admissionController.percentileMillis(50),
+                    admissionController.percentileMillis(90),
+                    admissionController.percentileMillis(99),
+                    admissionController.getMaxSojournMillis(),
+                    admissionController.getShedCount(),
+                    admissionController.isOverloaded()
+            );
+        }
+
         /*
          * return new ThreadPoolStatus(...)
          *
@@ -1035,7 +1290,22 @@ public class ThreadPoolManager {
                  * rejectedTasks.get()
                  * 거부된 작업 수
                  */
-                rejectedTasks.get()
+                rejectedTasks.get(),
+
+                /*
+                 * 큐 대기 시간 백분위 (p50, p90, p99)와 최대값 (밀리초)
+                 * 제출부터 워커가 실행을 시작할 때까지의 시간
+                 */
+                admissionController.percentileMillis(50),
+                admissionController.percentileMillis(90),
+                admissionController.percentileMillis(99),
+                admissionController.getMaxSojournMillis(),
+
+                /*
+                 * 수락 제어로 거부한 새 연결 수와 현재 과부하 여부
+                 */
+                admissionController.getShedCount(),
+                admissionController.isOverloaded()
         );
     }
 
@@ -1082,6 +1352,11 @@ public class ThreadPoolManager {
          */
         monitor.shutdown();
 
+        if (virtualExecutor != null) {
+            shutdownVirtualExecutor();
+            return;
+        }
+
         /*
          * threadPool.shutdown();
          *
@@ -1207,6 +1482,24 @@ public class ThreadPoolManager {
         }
     }
 
+    /*
+     * 가상 스레드 실행기 종료
+     * 스레드풀과 같은 순서: 새 작업 거부 → 30초 대기 → 강제 interrupt
+     */
+    private void shutdownVirtualExecutor() {
+        virtualExecutor.shutdown();
+        try {
+            if (!virtualExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                System.out.println("[ThreadPool] Force shutdown...");
+                virtualExecutor.shutdownNow();
+            }
+            System.out.println("[ThreadPool] Shutdown completed");
+        } catch (InterruptedException e) {
+            virtualExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * 톰캣 스타일 ThreadPoolExecutor
      * 핵심: 즉시 스레드 생성 전략
@@ -1896,6 +2189,14 @@ public class ThreadPoolManager {
              */
             rejectedTasks.incrementAndGet();
 
+            /*
+             * trySubmit()으로 제출된 작업은 호출 스레드에서 실행하지 않음
+             * (Keep-Alive Poller 스레드가 요청을 처리하느라 멈추면 안 됨) - 제출자가 정리
+             */
+            if (r instanceof NoCallerRunsTask) {
+                throw new RejectedExecutionException("Task rejected - all threads busy, queue full");
+            }
+
             /*
              * if (!executor.isShutdown()) { ... }
              *
@@ -2108,6 +2409,25 @@ public class ThreadPoolManager {
          */
         private final long rejectedTasks;
 
+        /*
+         * 큐 대기 시간 백분위와 최대값 (밀리초):
+         * - 작업이 제출된 뒤 워커가 실행을 시작할 때까지 기다린 시간
+         * - 평균 처리 시간과 달리 꼬리 지연(p99)이 큐에서 생기는지 바로 보여줌
+         * - 로그 스케일 히스토그램 기반이라 버킷 상한값 (최대 2배 오차)
+         */
+        private final double queueTimeP50;
+        private final double queueTimeP90;
+        private final double queueTimeP99;
+        private final double maxQueueTime;
+
+        /*
+         * 수락 제어:
+         * - shedConnections: 과부하로 큐에 넣지 않고 503으로 거부한 새 연결 수
+         * - overloaded: 현재 과부하 판정 상태 (true면 새 연결 거부 중)
+         */
+        private final long shedConnections;
+        private final boolean overloaded;
+
         /*
          * public ThreadPoolStatus(...)
          *
@@ -2117,7 +2437,9 @@ public class ThreadPoolManager {
          */
         public ThreadPoolStatus(int corePoolSize, int currentPoolSize, int activeThreads,
                                 int queueSize, int activeConnections, long totalRequests,
-                                int peakActiveThreads, double avgProcessingTime, long rejectedTasks) {
+                                int peakActiveThreads, double avgProcessingTime, long rejectedTasks,
+                                double queueTimeP50, double queueTimeP90, double queueTimeP99,
+                                double maxQueueTime, long shedConnections, boolean overloaded) {
             /*
              * 각 매개변수를 대응하는 final 필드에 할당
              * 생성자에서 한 번만 설정되고 이후 변경 불가
@@ -2131,6 +2453,12 @@ public class ThreadPoolManager {
             this.peakActiveThreads = peakActiveThreads;
             this.avgProcessingTime = avgProcessingTime;
             this.rejectedTasks = rejectedTasks;
+            this.queueTimeP50 = queueTimeP50;
+            this.queueTimeP90 = queueTimeP90;
+            this.queueTimeP99 = queueTimeP99;
+            this.maxQueueTime = maxQueueTime;
+            this.shedConnections = shedConnections;
+            this.overloaded = overloaded;
         }
 
         // Getters
@@ -2149,6 +2477,12 @@ public class ThreadPoolManager {
         public int getPeakActiveThreads() { return peakActiveThreads; }
         public double getAvgProcessingTime() { return avgProcessingTime; }
         public long getRejectedTasks() { return rejectedTasks; }
+        public double getQueueTimeP50() { return queueTimeP50; }
+        public double getQueueTimeP90() { return queueTimeP90; }
+        public double getQueueTimeP99() { return queueTimeP99; }
+        public double getMaxQueueTime() { return maxQueueTime; }
+        public long getShedConnections() { return shedConnections; }
+        public boolean isOverloaded() { return overloaded; }
 
         /*
          * @Override
@@ -2187,9 +2521,11 @@ public class ThreadPoolManager {
              */
             return String.format(
                     "TomcatStyle-ThreadPoolStatus{core=%d, current=%d, active=%d, queue=%d, " +
-                            "connections=%d, requests=%d, peak=%d, avgTime=%.2fms, rejected=%d}",
+                            "connections=%d, requests=%d, peak=%d, avgTime=%.2fms, rejected=%d, " +
+                            "queueTime(p50/p99)=%.2f/%.2fms, shed=%d, overloaded=%s}",
                     corePoolSize, currentPoolSize, activeThreads, queueSize,
-                    activeConnections, totalRequests, peakActiveThreads, avgProcessingTime, rejectedTasks
+                    activeConnections, totalRequests, peakActiveThreads, avgProcessingTime, rejectedTasks,
+                    queueTimeP50, queueTimeP99, shedConnections, overloaded
             );
         }
     }
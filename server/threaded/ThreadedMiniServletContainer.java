@@ -400,8 +400,8 @@ public class ThreadedMiniServletContainer {
                         // 서블릿 처리 중 예외 발생 시 로그 출력
                         context.log("Servlet processing error", e);
 
-                        // 500 Internal Server Error 응답 반환
-                        return HttpResponse.internalServerError("Servlet error: " + e.getMessage());
+                        // 500 Internal Server Error 응답 반환 (본문 크기 제한 초과는 413)
+                        return HttpResponse.forHandlerError(e, "Servlet error: " + e.getMessage());
                     }
                 });
             }
@@ -411,7 +411,7 @@ public class ThreadedMiniServletContainer {
             context.log("Request handling error", e);
 
             return CompletableFuture.completedFuture(
-                    HttpResponse.internalServerError("Request handling error: " + e.getMessage()));
+                    HttpResponse.forHandlerError(e, "Request handling error: " + e.getMessage()));
         }
     }
 
@@ -1,8 +1,16 @@
 package server.threaded;
 
+import server.core.http.HttpResponse;
+import server.core.http.HttpResponseEncoder;
+import server.core.http.HttpStatus;
+import server.core.limit.ConcurrencyLimiter;
 import server.core.routing.Router;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.Socket;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -26,6 +34,18 @@ import java.util.concurrent.atomic.AtomicLong;
  * 처리 흐름:
  * ServerSocket.accept() → ThreadedProcessor.processConnection()
  * → ThreadPoolManager.submit() → BlockingRequestHandler.run()
+ *
+ * Keep-Alive 유휴 연결 (keepAlivePolling 설정시):
+ * BlockingRequestHandler.run()이 유휴 상태로 끝나면 → KeepAlivePoller.park() (워커 반납)
+ * → 다음 요청 바이트 도착 → ThreadPoolManager.submit() → 같은 핸들러로 run() 재실행
+ *
+ * 과부하 수락 제어 (admissionControl 설정시):
+ * 큐 대기 시간이 계속 목표를 넘는 동안 새 연결은 큐에 넣지 않고
+ * acceptor 스레드에서 바로 503 + Retry-After 응답 후 종료 (Keep-Alive 재배정은 거부하지 않음)
+ *
+ * 적응형 동시성 제한 (concurrencyLimit 설정시):
+ * 워커 실행 단위(연결 수락 또는 재배정 → 워커 반납)마다 ConcurrencyLimiter 허가를 잡고,
+ * 상한을 넘는 새 연결은 같은 방식으로 503 거절 (처리 시간을 보고 상한을 자동 조정)
  */
 public class ThreadedProcessor {
 
@@ -117,11 +137,34 @@ public class ThreadedProcessor {
      */
     private final AtomicLong activeConnections = new AtomicLong(0);
 
+    /*
+     * private final KeepAlivePoller keepAlivePoller;
+     *
+     * Keep-Alive 유휴 연결 Poller (null이면 사용 안 함):
+     * - 다음 요청을 기다리는 연결을 워커 스레드 대신 Selector 하나가 보관
+     * - 워커 수가 열린 연결 수가 아니라 처리 중인 요청 수를 따라가도록 함
+     * - activeConnections에는 Poller가 보관 중인 연결도 포함됨
+     */
+    private final KeepAlivePoller keepAlivePoller;
+
+    /*
+     * private final ConcurrencyLimiter concurrencyLimiter;
+     *
+     * 적응형 동시성 제한기 (null이면 사용 안 함):
+     * - 허가 하나 = 워커 실행 하나 (큐 대기 시간 포함)
+     * - RTT 샘플은 Poller가 있을 때만 반영 - Poller가 없으면 워커 실행이 연결 수명 전체
+     *   (요청 사이 유휴 시간 포함)라서 처리 시간 신호가 되지 못함 → 시작 상한이 고정 상한 역할
+     * - Poller가 있으면 워커 실행은 도착해 있는 요청만 처리하고 끝나므로 (반납 또는 Connection: close)
+     *   실행 시간 = 큐 대기 + 요청 처리 시간
+     */
+    private final ConcurrencyLimiter concurrencyLimiter;
+
     /*
      * 거부된 연결 수 카운터
      *
      * 거부 발생 조건:
      * - 스레드풀이 완전히 포화됨
+     * - 큐 대기 시간 과부하로 수락 제어가 새 연결을 503으로 거부
      * - ThreadPoolManager.submit()에서 예외 발생
      * - 시스템 리소스 부족
      *
@@ -235,6 +278,29 @@ public class ThreadedProcessor {
          */
         this.threadPoolManager = new ThreadPoolManager(threadPoolConfig);
 
+        /*
+         * Keep-Alive 유휴 연결 Poller 생성
+         * 요청 간 대기 시간 제한은 connectionTimeout 사용 (워커가 기다리지 않으므로 socketTimeout과 별개)
+         * Selector를 열 수 없으면 기존 방식(워커가 블로킹 read로 대기)으로 동작
+         */
+        KeepAlivePoller poller = null;
+        if (handlerConfig.isKeepAlivePolling()) {
+            try {
+                poller = new KeepAlivePoller(handlerConfig.getConnectionTimeout());
+            } catch (IOException e) {
+                System.err.println("[ThreadedProcessor] KeepAlivePoller unavailable - " +
+                        "idle connections will hold worker threads: " + e.getMessage());
+            }
+        }
+        this.keepAlivePoller = poller;
+
+        /*
+         * 적응형 동시성 제한기 생성 (설정한 경우만)
+         */
+        this.concurrencyLimiter = threadPoolConfig.getConcurrencyLimit() == null ? null
+                : new ConcurrencyLimiter("Threaded", threadPoolConfig.getConcurrencyLimit(),
+                        threadPoolConfig.getInitialConcurrencyLimit(), threadPoolConfig.getMaxConcurrencyLimit());
+
         /*
          * this.startTime = System.currentTimeMillis();
          *
@@ -270,6 +336,58 @@ public class ThreadedProcessor {
         }
     }
 
+    /**
+     * 과부하로 새 연결 거절 - 503 Service Unavailable 응답 후 종료
+     */
+    /*
+     * private void shedConnection(Socket clientSocket, long connectionId)
+     *
+     * acceptor 스레드에서 직접 실행:
+     * - 워커 스레드를 쓰지 않아야 과부하 상태에서도 거절 비용이 작음
+     * - 요청을 읽지 않고 고정된 작은 응답만 기록 (소켓 송신 버퍼에 바로 들어감)
+     *
+     * 종료 순서:
+     * 1. 응답 기록 후 shutdownOutput() - 클라이언트에게 응답 끝(FIN) 알림
+     * 2. 이미 도착한 요청 바이트를 버림 - 읽지 않은 데이터가 남은 채 닫으면
+     *    RST가 나가서 클라이언트가 503 응답을 읽기 전에 연결 오류를 볼 수 있음
+     * 3. 소켓 종료
+     */
+    private void shedConnection(Socket clientSocket, long connectionId, String reason) {
+        rejectedConnections.incrementAndGet();
+        activeConnections.decrementAndGet();
+
+        HttpResponse response = HttpResponse.builder(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType("text/plain; charset=UTF-8")
+                .header("Retry-After", String.valueOf(threadPoolManager.getRetryAfterSeconds()))
+                .header("Connection", "close")
+                .body("Server overloaded, retry later")
+                .build();
+
+        try {
+            HttpResponseEncoder.writeTo(response, clientSocket.getOutputStream());
+            clientSocket.shutdownOutput();
+
+            InputStream input = clientSocket.getInputStream();
+            int available;
+            while ((available = input.available()) > 0) {
+                input.skip(available);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 이미 끊었거나 송신 실패 - 어차피 닫을 연결
+        } finally {
+            try {
+                clientSocket.close();
+            } catch (IOException ignored) {
+                // 종료 중
+            }
+        }
+
+        if (handlerConfig.isDebugMode()) {
+            System.out.println("[ThreadedProcessor] Connection #" + connectionId +
+                    " shed - " + reason + " (503)");
+        }
+    }
+
     /**
      * 클라이언트 연결 처리
      */
@@ -356,6 +474,34 @@ public class ThreadedProcessor {
                     " from " + clientSocket.getRemoteSocketAddress());
         }
 
+        /*
+         * if (!threadPoolManager.admitNewConnection()) { ... }
+         *
+         * 과부하 수락 제어:
+         * - 큐가 계속 쌓여 있으면 이 연결을 큐에 넣어도 클라이언트가 오래 기다리다 타임아웃될 뿐
+         * - 큐에 넣지 않고 바로 503 + Retry-After로 거절 → 클라이언트는 즉시 재시도/우회 가능
+         * - 이미 큐에 있는 작업의 대기 시간도 더 늘어나지 않음
+         * - 예외를 던지지 않음: 정상적인 거부이므로 완료된 Future 반환
+         */
+        if (!threadPoolManager.admitNewConnection()) {
+            shedConnection(clientSocket, connectionId, "queue overloaded");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        /*
+         * 적응형 동시성 제한:
+         * - 처리 중인 워커 실행 수가 현재 상한에 도달했으면 같은 방식으로 거절
+         * - 허가는 ConnectionTask가 워커 실행을 마칠 때 반환
+         */
+        ConcurrencyLimiter.Permit permit = null;
+        if (concurrencyLimiter != null) {
+            permit = concurrencyLimiter.tryAcquire();
+            if (permit == null) {
+                shedConnection(clientSocket, connectionId, "concurrency limit " + concurrencyLimiter.getLimit());
+                return CompletableFuture.completedFuture(null);
+            }
+        }
+
         /*
          * try { ... } catch (Exception e) { ... }
          *
@@ -392,9 +538,14 @@ public class ThreadedProcessor {
              * - 필요시 작업 취소 가능
              * - 작업 완료 대기 가능
              */
-            return threadPoolManager.submit(new ConnectionTask(clientSocket, connectionId));
+            return threadPoolManager.submit(new ConnectionTask(clientSocket, connectionId, permit));
 
         } catch (Exception e) {
+            // 실행되지 못한 작업의 허가 반환 (처리 시간 샘플 없음)
+            if (permit != null) {
+                permit.ignore();
+            }
+
             /*
              * catch (Exception e) 블록:
              *
@@ -541,16 +692,42 @@ public class ThreadedProcessor {
         private final long connectionId;
 
         /*
-         * public ConnectionTask(Socket clientSocket, long connectionId)
+         * private final BlockingRequestHandler handler;
+         *
+         * 연결 전용 핸들러:
+         * - 연결당 하나만 생성 (유휴 반납 후 재배정되어도 같은 핸들러를 다시 실행)
+         * - 연결 단위 상태(처리한 요청 수)를 재배정 사이에도 유지
+         */
+        private final BlockingRequestHandler handler;
+
+        /*
+         * private ConcurrencyLimiter.Permit permit;
+         *
+         * 현재 워커 실행의 동시성 허가 (제한기를 쓰지 않거나 허가 없이 재배정되면 null):
+         * - 워커 실행이 끝날 때 반환하고, Poller가 재배정할 때 다시 획득
+         * - 재배정은 스레드풀 큐/Poller를 거치므로 별도 동기화 없이 다음 워커에 보임
+         */
+        private ConcurrencyLimiter.Permit permit;
+
+        /*
+         * public ConnectionTask(Socket clientSocket, long connectionId, ConcurrencyLimiter.Permit permit)
          *
          * 생성자:
-         * - 클라이언트 소켓과 연결 ID를 받아 저장
-         * - final 필드 초기화
-         * - 간단한 래퍼 객체 생성
+         * - 클라이언트 소켓과 연결 ID, 첫 워커 실행의 동시성 허가를 받아 저장
+         * - 연결 전용 핸들러 생성
+         *
+         * 핸들러 처리 방식:
+         * - servletContainer가 있으면 ServletContainer 우선, 실패시 Router로 fallback
+         * - servletContainer가 null이면 Router만 사용 (기존 방식과 호환)
+         * - Poller가 있으면 유휴 연결을 반납하도록 설정
          */
-        public ConnectionTask(Socket clientSocket, long connectionId) {
+        public ConnectionTask(Socket clientSocket, long connectionId, ConcurrencyLimiter.Permit permit) {
             this.clientSocket = clientSocket;
             this.connectionId = connectionId;
+            this.permit = permit;
+            this.handler = new BlockingRequestHandler(
+                    clientSocket, router, servletContainer, handlerConfig, keepAlivePoller != null
+            );
         }
 
         /*
@@ -563,164 +740,126 @@ public class ThreadedProcessor {
          * - 예외 처리 및 리소스 정리 포함
          *
          * 실행 컨텍스트:
-         * - ThreadPoolManager의 워커 스레드
-         * - 독립적인 스레드 스택
-         * - 동시에 여러 ConnectionTask 실행 가능
+         * - 연결이 수락되었을 때 한 번, 이후 Poller가 재배정할 때마다 다시 실행
+         * - 한 연결의 실행은 항상 하나씩만 (반납 → 재배정 순서로 이어짐)
          */
         @Override
         public void run() {
-            /*
-             * try { ... } catch (Exception e) { ... } finally { ... }
-             *
-             * 구조화된 예외 처리:
-             * - try: 정상 처리 로직
-             * - catch: 예외 상황 처리
-             * - finally: 리소스 정리 (반드시 실행)
-             */
+            long requestsBefore = handler.getRequestCount();
             try {
-                // ServletContainer가 있으면 ServletContainer 우선 사용
                 /*
-                 * if (servletContainer != null) { ... } else { ... }
+                 * handler.run();
                  *
-                 * 하이브리드 처리 전략:
-                 * - ServletContainer 우선, Router 대체
-                 * - 하위 호환성과 유연성 모두 제공
-                 * - 설정에 따른 동적 처리 방식 결정
+                 * BlockingRequestHandler 실행:
+                 * - 현재 스레드에서 동기적 실행
+                 * - 요청 파싱, 처리, 응답 전송
+                 * - 연결 종료 또는 유휴 상태가 될 때까지 반복
                  */
-                if (servletContainer != null) {
-                    // ServletContainer 통합 핸들러 사용
-                    /*
-                     * BlockingRequestHandler handler = new BlockingRequestHandler(
-                     *     clientSocket, router, servletContainer, handlerConfig);
-                     *
-                     * ServletContainer 통합 모드:
-                     * - clientSocket: 클라이언트 연결
-                     * - router: 대체 처리기 (fallback)
-                     * - servletContainer: 주 처리기 (primary)
-                     * - handlerConfig: 처리 설정
-                     *
-                     * 처리 순서:
-                     * 1. ServletContainer에서 URL 패턴 매칭 시도
-                     * 2. 매칭되는 서블릿 있으면 서블릿으로 처리
-                     * 3. 매칭 실패하면 Router로 처리
-                     * 4. Router도 실패하면 404 응답
-                     */
-                    BlockingRequestHandler handler = new BlockingRequestHandler(
-                            clientSocket, router, servletContainer, handlerConfig
-                    );
-                    /*
-                     * handler.run();
-                     *
-                     * BlockingRequestHandler 실행:
-                     * - 현재 스레드에서 동기적 실행
-                     * - HTTP Keep-Alive 루프 처리
-                     * - 요청 파싱, 처리, 응답 전송
-                     * - 연결 종료까지 모든 과정
-                     */
-                    handler.run();
-                } else {
-                    // 기존 Router만 사용
-                    /*
-                     * BlockingRequestHandler handler = new BlockingRequestHandler(
-                     *     clientSocket, router, handlerConfig);
-                     *
-                     * Router 전용 모드:
-                     * - ServletContainer 없이 Router만 사용
-                     * - 기존 방식과 완전히 호환
-                     * - 단순하고 가벼운 처리
-                     *
-                     * 처리 방식:
-                     * 1. Router에서 URL 패턴 매칭
-                     * 2. 매칭되는 핸들러로 처리
-                     * 3. 실패하면 404 응답
-                     */
-                    BlockingRequestHandler handler = new BlockingRequestHandler(
-                            clientSocket, router, handlerConfig
-                    );
-                    handler.run();
-                }
+                handler.run();
 
             } catch (Exception e) {
                 /*
                  * 예외 처리:
-                 *
-                 * 예외 발생 가능 상황:
-                 * - HTTP 파싱 오류 (잘못된 요청 형식)
-                 * - 네트워크 연결 끊김
-                 * - 서블릿이나 핸들러 내부 오류
-                 * - 시스템 리소스 부족
-                 * - 타임아웃 발생
-                 *
-                 * System.err.println() 사용 이유:
-                 * - 표준 에러 스트림 (즉시 출력)
-                 * - 로그 수집 시스템에서 에러로 분류
-                 * - 긴급한 오류 상황임을 명시
+                 * - HTTP 파싱 오류, 네트워크 연결 끊김, 핸들러 내부 오류 등
+                 * - System.err: 긴급한 오류 상황임을 명시
                  */
                 System.err.println("[ThreadedProcessor] Error in connection #" + connectionId +
                         ": " + e.getMessage());
 
-                /*
-                 * e.getMessage() 사용:
-                 * - 예외의 간단한 메시지만 출력
-                 * - 전체 스택 트레이스는 로그 노이즈 방지
-                 * - 핵심 오류 정보만 간결하게 표시
-                 *
-                 * 상세 디버깅이 필요한 경우:
-                 * - e.printStackTrace() 사용
-                 * - 로깅 프레임워크 활용
-                 * - 디버그 모드에서만 상세 출력
-                 */
-
             } finally {
                 /*
-                 * finally 블록:
-                 * - try/catch 결과와 무관하게 항상 실행
-                 * - 리소스 정리 및 통계 업데이트
-                 * - 메모리 누수 방지
-                 * - 정확한 통계 유지
+                 * 유휴 상태로 끝났으면 Poller에 반납:
+                 * - 워커 스레드는 바로 풀로 돌아감
+                 * - 이 작업 이후에는 연결과 핸들러에 접근하지 않음
+                 *   (반납 직후 Poller가 다른 워커에 재배정할 수 있음)
                  */
+                boolean parked = handler.isParked();
+                releasePermit(keepAlivePoller != null && handler.getRequestCount() > requestsBefore);
+                if (!(parked && park())) {
+                    connectionClosed();
+                }
+            }
+        }
 
-                /*
-                 * activeConnections.decrementAndGet();
-                 *
-                 * 활성 연결 수 감소:
-                 * - processConnection()에서 증가시킨 값 복원
-                 * - 원자적 감소 연산으로 정확성 보장
-                 * - 예외 발생 여부와 무관하게 반드시 실행
-                 *
-                 * 중요성:
-                 * - 정확한 동시 연결 수 추적
-                 * - 메모리 누수 방지 (카운터 오버플로우)
-                 * - 모니터링 시스템 정확성 보장
-                 */
-                activeConnections.decrementAndGet();
+        /*
+         * private void releasePermit(boolean sample)
+         *
+         * 워커 실행의 동시성 허가 반환:
+         * - sample: 이번 실행에서 요청을 하나 이상 처리했고 Poller가 있을 때만 처리 시간 샘플로 반영
+         *   (Poller가 없으면 실행 시간에 다음 요청을 기다린 유휴 시간이 섞임)
+         */
+        private void releasePermit(boolean sample) {
+            ConcurrencyLimiter.Permit current = permit;
+            permit = null;
+            if (current == null) {
+                return;
+            }
+            if (sample) {
+                current.release();
+            } else {
+                current.ignore();
+            }
+        }
 
-                /*
-                 * if (handlerConfig.isDebugMode()) { ... }
-                 *
-                 * 디버그 모드에서만 완료 로그 출력:
-                 * - 성능 오버헤드 최소화
-                 * - 프로덕션 환경에서 로그 노이즈 방지
-                 * - 개발/테스트 시에만 상세 추적
-                 */
-                if (handlerConfig.isDebugMode()) {
-                    /*
-                     * System.out.println("[ThreadedProcessor] Connection #" + connectionId +
-                     *                   " finished - active: " + activeConnections.get());
-                     *
-                     * 연결 처리 완료 로그:
-                     * - connectionId: 완료된 연결 식별
-                     * - activeConnections.get(): 현재 활성 연결 수
-                     *
-                     * 모니터링 정보:
-                     * - 개별 연결 처리 완료 추적
-                     * - 현재 서버 부하 수준 확인
-                     * - 연결 처리 패턴 분석
-                     * - 성능 병목 지점 식별
-                     */
-                    System.out.println("[ThreadedProcessor] Connection #" + connectionId +
-                            " finished - active: " + activeConnections.get());
-                }
+        /*
+         * private void resume()
+         *
+         * Poller가 읽기 가능해진 연결을 재배정:
+         * - 동시성 허가를 다시 잡되, 상한에 걸려도 거절하지 않음
+         *   (이미 받아들인 연결의 다음 요청이 새 연결보다 우선 - 허가 없이 실행)
+         * - Poller 스레드에서 호출되므로 trySubmit() 사용 - 대기하거나 요청을 직접 처리하지 않음
+         *   (큐가 가득 차 거부되면 예외로 알려 Poller가 연결을 닫고 connectionClosed 실행)
+         */
+        private void resume() {
+            if (concurrencyLimiter != null) {
+                permit = concurrencyLimiter.tryAcquire();
+            }
+            if (!threadPoolManager.trySubmit(this)) {
+                rejectedConnections.incrementAndGet();
+                throw new RejectedExecutionException("Worker pool saturated - closing keep-alive connection");
+            }
+        }
+
+        /*
+         * private boolean park()
+         *
+         * 유휴 연결을 Poller에 반납:
+         * - 읽기 가능해지면 같은 작업을 스레드풀에 다시 제출 (resume)
+         *   (제출 실패시 Poller가 연결을 닫고 connectionClosed 실행)
+         * - 유휴 타임아웃이나 종료로 Poller가 닫으면 connectionClosed 실행
+         *
+         * @return 반납되었으면 true, Poller가 종료 중이면 연결을 닫고 false
+         */
+        private boolean park() {
+            if (keepAlivePoller.park(clientSocket.getChannel(),
+                    this::resume,
+                    this::connectionClosed)) {
+                return true;
+            }
+            try {
+                clientSocket.close();
+            } catch (IOException ignored) {
+                // 종료 중
+            }
+            return false;
+        }
+
+        /*
+         * private void connectionClosed()
+         *
+         * 연결 종료 처리:
+         * - processConnection()에서 증가시킨 활성 연결 수 복원
+         * - 연결당 정확히 한 번 호출됨 (워커에서 닫히거나 Poller에서 닫히거나)
+         */
+        private void connectionClosed() {
+            // 재배정 제출이 실패한 경우 잡아 둔 허가가 남아 있을 수 있음
+            releasePermit(false);
+            activeConnections.decrementAndGet();
+
+            if (handlerConfig.isDebugMode()) {
+                System.out.println("[ThreadedProcessor] Connection #" + connectionId +
+                        " finished - requests: " + handler.getRequestCount() +
+                        ", active: " + activeConnections.get());
             }
         }
     }
@@ -827,6 +966,28 @@ public class ThreadedProcessor {
         System.out.println("Active Connections: " + status.getActiveConnections());
         System.out.println("Rejected Connections: " + status.getRejectedConnections());
 
+        /*
+         * Keep-Alive Poller 통계
+         * 활성 연결 중 워커를 쓰지 않고 다음 요청을 기다리는 연결 수
+         */
+        if (keepAlivePoller != null) {
+            System.out.println("Idle (Poller) Connections: " + keepAlivePoller.getParkedConnections());
+            System.out.println("Poller Hand-offs: " + keepAlivePoller.getTotalParked() +
+                    ", Resumed: " + keepAlivePoller.getTotalResumed() +
+                    ", Idle Timeouts: " + keepAlivePoller.getIdleTimeouts());
+        }
+
+        /*
+         * 적응형 동시성 제한 상태
+         * 현재 상한과 처리 중 수, 상한 초과로 거절한 연결 수
+         */
+        if (concurrencyLimiter != null) {
+            System.out.println("Concurrency Limit: " + concurrencyLimiter.getLimit() +
+                    " (in-flight: " + concurrencyLimiter.getInFlight() +
+                    ", rejected: " + concurrencyLimiter.getRejectedCount() +
+                    ", rtt: " + String.format("%.2f", concurrencyLimiter.getLastRttMillis()) + "ms)");
+        }
+
         /*
          * status.getUptime() / 1000
          * 가동 시간을 초 단위로 변환 (밀리초 → 초)
@@ -911,6 +1072,17 @@ public class ThreadedProcessor {
          */
         threadPoolManager.shutdown();
 
+        /*
+         * keepAlivePoller.shutdown();
+         *
+         * Poller 종료:
+         * - 보관 중인 유휴 연결을 모두 닫음
+         * - 워커 종료 후 실행 (종료 중인 스레드풀로 재배정하지 않도록)
+         */
+        if (keepAlivePoller != null) {
+            keepAlivePoller.shutdown();
+        }
+
         System.out.println("[ThreadedProcessor] Shutdown completed");
     }
 
@@ -946,6 +1118,22 @@ public class ThreadedProcessor {
         return rejectedConnections.get();
     }
 
+    /*
+     * public long getIdleConnections()
+     * Poller가 보관 중인 유휴 연결 수 반환 (Poller를 쓰지 않으면 0)
+     */
+    public long getIdleConnections() {
+        return keepAlivePoller != null ? keepAlivePoller.getParkedConnections() : 0;
+    }
+
+    /*
+     * public ConcurrencyLimiter getConcurrencyLimiter()
+     * 적응형 동시성 제한기 반환 (사용하지 않으면 null)
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
     /**
      * 프로세서 상태 클래스
      */
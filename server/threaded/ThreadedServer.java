@@ -1,11 +1,16 @@
 package server.threaded;
 
+import server.core.limit.ConcurrencyLimiter;
 import server.core.routing.Router;
 import server.core.logging.Logger;
 import server.core.logging.LoggerFactory;
 import java.io.IOException;
 import java.net.*;
+import java.nio.channels.ServerSocketChannel;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 스레드 기반 HTTP 서버
@@ -14,6 +19,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * 주요 특징:
  * - 다중 스레드 환경에서 동시 다발적인 클라이언트 요청 처리
  * - Accept 전용 스레드와 Request 처리용 스레드 풀로 역할 분리
+ * - Accept 스레드 수 설정 가능 (SO_REUSEPORT 사용 시 스레드마다 별도 리스닝 소켓)
  * - 스레드 안전성을 위한 AtomicBoolean 사용
  * - 서버 생명주기 관리 (초기화 -> 시작 -> 종료)
  */
@@ -28,8 +34,8 @@ public class ThreadedServer {
     private final ServerConfig config;                         // 서버 설정 정보
 
     // === 네트워킹 및 스레드 관련 ===
-    private ServerSocket serverSocket;                         // TCP 서버 소켓 (클라이언트 연결 수신)
-    private Thread acceptorThread;                             // 클라이언트 연결 수락 전용 스레드
+    private final List<ServerSocket> serverSockets = new ArrayList<>(); // TCP 서버 소켓들 (reusePort면 Accept 스레드마다 하나)
+    private final List<Thread> acceptorThreads = new ArrayList<>();     // 클라이언트 연결 수락 전용 스레드들
 
     // AtomicBoolean: 스레드 안전한 boolean 값 (원자적 연산 지원)
     // 여러 스레드가 동시에 접근해도 안전하게 값을 읽고 쓸 수 있음
@@ -40,8 +46,21 @@ public class ThreadedServer {
     // volatile: 멀티스레드 환경에서 변수 값의 가시성 보장
     // 한 스레드에서 값을 변경하면 다른 스레드에서 즉시 볼 수 있음
     private volatile long startTime;                           // 서버 시작 시간 (밀리초)
-    private volatile long totalAcceptedConnections = 0;        // 총 수락된 연결 수
-    private volatile long totalFailedConnections = 0;          // 총 실패한 연결 수
+
+    // AtomicLong: 여러 Accept 스레드가 동시에 증가시켜도 값이 유실되지 않음
+    // (volatile long의 ++는 읽기-수정-쓰기가 원자적이지 않음)
+    private final AtomicLong totalAcceptedConnections = new AtomicLong(0); // 총 수락된 연결 수
+    private final AtomicLong totalFailedConnections = new AtomicLong(0);   // 총 실패한 연결 수
+
+    // Accept 지연: accept() 반환부터 스레드 풀에 넘길 때까지 걸린 시간 (나노초)
+    // 이 시간 동안 Accept 스레드는 다음 연결을 받지 못하므로 accept 처리량의 상한을 결정함
+    private final AtomicLong totalAcceptLatencyNanos = new AtomicLong(0);
+    private final AtomicLong maxAcceptLatencyNanos = new AtomicLong(0);
+
+    // 최근 accept 속도 계산용 샘플 (getStatus() 호출 사이 구간, 최소 1초)
+    private long rateSampleTime;
+    private long rateSampleAccepted;
+    private double recentAcceptRate;
 
     // Logger 인스턴스 생성
     // LoggerFactory.getLogger(): 클래스별 전용 로거 생성
@@ -113,41 +132,30 @@ public class ThreadedServer {
         logger.info("Initializing server...");
 
         try {
-            // === ServerSocket 생성 및 설정 ===
-
-            // ServerSocket(): 기본 생성자로 언바운드 소켓 생성
-            // 아직 특정 포트에 바인딩되지 않은 상태
-            serverSocket = new ServerSocket();
-
-            // setReuseAddress(true): SO_REUSEADDR 소켓 옵션 활성화
-            // 서버 재시작 시 "Address already in use" 오류 방지
-            // TIME_WAIT 상태의 소켓 주소를 재사용 가능하게 함
-            serverSocket.setReuseAddress(true);
-
-            // setSoTimeout(): accept() 메서드의 타임아웃 설정
-            // 1초마다 타임아웃 발생시켜 graceful shutdown 체크 가능
-            // 0이면 무한 대기, 양수면 밀리초 단위 타임아웃
-            serverSocket.setSoTimeout(1000);
-
-            // === 소켓 옵션 설정 ===
-
-            // 수신 버퍼 크기 설정 (선택사항)
-            if (config.getReceiveBufferSize() > 0) {
-                // setReceiveBufferSize(): TCP 수신 버퍼 크기 설정
-                // 더 큰 버퍼는 높은 처리량을 제공하지만 메모리 사용량 증가
-                serverSocket.setReceiveBufferSize(config.getReceiveBufferSize());
-            }
-
-            // === 포트 바인딩 ===
+            // === ServerSocket 생성 및 바인딩 ===
 
             // InetSocketAddress: IP주소와 포트를 함께 나타내는 클래스
             // config.getBindAddress(): 바인딩할 IP 주소 (null이면 모든 인터페이스)
             InetSocketAddress address = new InetSocketAddress(config.getBindAddress(), port);
 
-            // bind(): 소켓을 특정 주소와 포트에 바인딩
-            // config.getBacklogSize(): 대기 중인 연결 요청의 최대 큐 크기
-            // 백로그가 가득 차면 새로운 연결 요청은 거부됨
-            serverSocket.bind(address, config.getBacklogSize());
+            // reusePort면 Accept 스레드마다 리스닝 소켓 하나, 아니면 모든 스레드가 소켓 하나를 공유
+            int listenerCount = 1;
+            if (config.isReusePort() && config.getAcceptorCount() > 1) {
+                if (isReusePortSupported()) {
+                    listenerCount = config.getAcceptorCount();
+                } else {
+                    logger.warn("SO_REUSEPORT not supported on this platform - acceptors share one socket");
+                }
+            }
+
+            for (int i = 0; i < listenerCount; i++) {
+                serverSockets.add(openServerSocket(address, listenerCount > 1));
+
+                // 포트 0(임의 포트)이면 나머지 소켓은 첫 소켓이 받은 포트에 바인딩
+                if (i == 0 && address.getPort() == 0) {
+                    address = new InetSocketAddress(address.getAddress(), serverSockets.get(0).getLocalPort());
+                }
+            }
 
             // === 서블릿 컨테이너 초기화 ===
 
@@ -162,6 +170,8 @@ public class ThreadedServer {
             logger.info("Server initialized successfully");
             logger.info("Listening on: {}", address);
             logger.info("Backlog size: {}", config.getBacklogSize());
+            logger.info("Acceptors: {} (listening sockets: {}, SO_REUSEPORT: {})",
+                    config.getAcceptorCount(), serverSockets.size(), serverSockets.size() > 1);
             logger.info("Thread pool: {}-{}",
                     config.getThreadPoolConfig().getCorePoolSize(),     // 코어 스레드 수
                     config.getThreadPoolConfig().getMaxPoolSize());     // 최대 스레드 수
@@ -179,6 +189,68 @@ public class ThreadedServer {
         }
     }
 
+    /**
+     * 리스닝 소켓 생성 및 바인딩
+     *
+     * @param address 바인딩할 주소
+     * @param reusePort SO_REUSEPORT 설정 여부 (같은 포트에 여러 소켓 바인딩)
+     * @return 바인딩된 서버 소켓
+     * @throws IOException 소켓 생성 또는 바인딩 실패시
+     */
+    private ServerSocket openServerSocket(InetSocketAddress address, boolean reusePort) throws IOException {
+        // ServerSocketChannel.open(): 채널 기반 언바운드 서버 소켓 생성
+        // 사용법은 ServerSocket과 같지만 수락된 소켓이 SocketChannel을 가지므로
+        // 유휴 Keep-Alive 연결을 KeepAlivePoller의 Selector에 등록할 수 있음
+        ServerSocketChannel channel = ServerSocketChannel.open();
+        try {
+            if (reusePort) {
+                // SO_REUSEPORT: 같은 주소/포트에 여러 리스닝 소켓 바인딩 허용
+                // 커널이 새 연결을 소켓별 accept 큐로 분배 → Accept 스레드 간 경합 없음
+                channel.setOption(StandardSocketOptions.SO_REUSEPORT, true);
+            }
+
+            ServerSocket socket = channel.socket();
+
+            // setReuseAddress(true): SO_REUSEADDR 소켓 옵션 활성화
+            // 서버 재시작 시 "Address already in use" 오류 방지
+            // TIME_WAIT 상태의 소켓 주소를 재사용 가능하게 함
+            socket.setReuseAddress(true);
+
+            // setSoTimeout(): accept() 메서드의 타임아웃 설정
+            // 1초마다 타임아웃 발생시켜 graceful shutdown 체크 가능
+            // 0이면 무한 대기, 양수면 밀리초 단위 타임아웃
+            socket.setSoTimeout(1000);
+
+            // 수신 버퍼 크기 설정 (선택사항)
+            if (config.getReceiveBufferSize() > 0) {
+                // setReceiveBufferSize(): TCP 수신 버퍼 크기 설정
+                // 더 큰 버퍼는 높은 처리량을 제공하지만 메모리 사용량 증가
+                socket.setReceiveBufferSize(config.getReceiveBufferSize());
+            }
+
+            // bind(): 소켓을 특정 주소와 포트에 바인딩
+            // config.getBacklogSize(): 대기 중인 연결 요청의 최대 큐 크기 (소켓마다 적용)
+            // 백로그가 가득 차면 새로운 연결 요청은 거부됨
+            socket.bind(address, config.getBacklogSize());
+            return socket;
+
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 플랫폼이 SO_REUSEPORT를 지원하는지 확인
+     */
+    private static boolean isReusePortSupported() {
+        try (ServerSocketChannel probe = ServerSocketChannel.open()) {
+            return probe.supportedOptions().contains(StandardSocketOptions.SO_REUSEPORT);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
     /**
      * 서버 시작
      * 초기화된 서버를 실제로 실행하여 클라이언트 요청 수신 시작
@@ -203,18 +275,30 @@ public class ThreadedServer {
         // 시작 시간 기록 (통계용)
         // System.currentTimeMillis(): 현재 시간을 밀리초로 반환
         startTime = System.currentTimeMillis();
+        synchronized (this) {
+            rateSampleTime = startTime;
+            rateSampleAccepted = totalAcceptedConnections.get();
+        }
 
         // === Accept 스레드 시작 ===
 
         // Thread 생성: 클라이언트 연결 수락 전용 스레드
-        // this::acceptLoop: 메서드 참조 (람다 표현식의 축약형)
-        // () -> acceptLoop()와 동일한 의미
-        acceptorThread = new Thread(this::acceptLoop, "ServerAcceptor-" + port);
-
-        // start(): 스레드 실행 시작 (별도 스레드에서 acceptLoop 메서드 실행)
-        acceptorThread.start();
+        // 리스닝 소켓이 하나면 모든 스레드가 공유, reusePort면 스레드마다 자신의 소켓
+        int acceptorCount = config.getAcceptorCount();
+        acceptorThreads.clear();
+        for (int i = 0; i < acceptorCount; i++) {
+            ServerSocket listener = serverSockets.get(i % serverSockets.size());
+            String name = acceptorCount == 1 ? "ServerAcceptor-" + port : "ServerAcceptor-" + port + "-" + i;
+
+            // () -> acceptLoop(listener): 스레드마다 담당 소켓을 넘기는 람다
+            Thread acceptor = new Thread(() -> acceptLoop(listener), name);
+            acceptorThreads.add(acceptor);
+
+            // start(): 스레드 실행 시작 (별도 스레드에서 acceptLoop 메서드 실행)
+            acceptor.start();
+        }
 
-        logger.info("Server started on port {}", port);
+        logger.info("Server started on port {} ({} acceptor threads)", port, acceptorCount);
 
         // === 통계 출력 스케줄러 시작 (디버그 모드) ===
 
@@ -228,8 +312,10 @@ public class ThreadedServer {
      * 연결 수락 루프
      * Accept 전용 스레드에서 실행되는 메서드
      * 클라이언트의 연결 요청을 지속적으로 수신하고 처리
+     *
+     * @param listener 이 스레드가 연결을 받는 서버 소켓
      */
-    private void acceptLoop() {
+    private void acceptLoop(ServerSocket listener) {
         logger.info("Accept loop started");
 
         // 서버가 실행 중이고 현재 스레드가 중단되지 않은 동안 계속 실행
@@ -241,10 +327,11 @@ public class ThreadedServer {
                 // accept(): 클라이언트 연결 요청 대기 및 수락
                 // 블로킹 메서드: 연결 요청이 올 때까지 대기
                 // setSoTimeout()으로 설정한 시간마다 타임아웃 예외 발생
-                Socket clientSocket = serverSocket.accept();
+                Socket clientSocket = listener.accept();
+                long acceptedAt = System.nanoTime();
 
                 // 성공한 연결 수 증가 (원자적 연산)
-                totalAcceptedConnections++;
+                totalAcceptedConnections.incrementAndGet();
 
                 // === 클라이언트 소켓 설정 ===
                 configureClientSocket(clientSocket);
@@ -255,6 +342,8 @@ public class ThreadedServer {
                 // 메인 Accept 스레드는 연결 수락에만 집중
                 processor.processConnection(clientSocket);
 
+                recordAcceptLatency(System.nanoTime() - acceptedAt);
+
             } catch (SocketTimeoutException e) {
                 // 정상적인 타임아웃 - 셧다운 체크를 위함
                 // setSoTimeout()으로 설정한 주기적 타임아웃
@@ -265,7 +354,7 @@ public class ThreadedServer {
                 // I/O 오류 발생 시 처리
                 if (running.get()) {
                     // 서버가 실행 중일 때만 오류로 간주
-                    totalFailedConnections++;
+                    totalFailedConnections.incrementAndGet();
                     logger.error("Accept failed: {}", e.getMessage());
 
                     // 연속적인 실패시 잠시 대기 (CPU 사용률 방지)
@@ -282,7 +371,7 @@ public class ThreadedServer {
                 }
             } catch (Exception e) {
                 // 예상치 못한 오류 처리
-                totalFailedConnections++;
+                totalFailedConnections.incrementAndGet();
                 logger.error("Unexpected error in accept loop: {}", e.getMessage());
             }
         }
@@ -290,6 +379,15 @@ public class ThreadedServer {
         logger.info("Accept loop terminated");
     }
 
+    /**
+     * Accept 지연 기록 (총합 + 최대값)
+     */
+    private void recordAcceptLatency(long nanos) {
+        totalAcceptLatencyNanos.addAndGet(nanos);
+        // 최대값은 accumulateAndGet으로 원자적 갱신 (여러 Accept 스레드가 동시에 기록)
+        maxAcceptLatencyNanos.accumulateAndGet(nanos, Math::max);
+    }
+
     /**
      * 클라이언트 소켓 설정
      * 새로 연결된 클라이언트 소켓에 TCP 옵션들을 적용
@@ -410,32 +508,28 @@ public class ThreadedServer {
 
         // === Accept 스레드 중지 ===
 
-        if (acceptorThread != null) {
+        for (Thread acceptor : acceptorThreads) {
             // interrupt(): 스레드에 인터럽트 신호 전송
             // 블로킹 상태(accept, sleep 등)에서 즉시 깨어나게 함
-            acceptorThread.interrupt();
-
+            acceptor.interrupt();
+        }
+        for (Thread acceptor : acceptorThreads) {
             try {
                 // join(timeout): 해당 스레드가 종료될 때까지 최대 지정 시간 대기
                 // 5초 내에 Accept 스레드가 종료되길 기다림
-                acceptorThread.join(5000);
+                acceptor.join(5000);
             } catch (InterruptedException e) {
                 // 현재 스레드가 인터럽트된 경우 상태 복원
                 Thread.currentThread().interrupt();
+                break;
             }
         }
 
         // === ServerSocket 닫기 ===
 
-        try {
-            if (serverSocket != null && !serverSocket.isClosed()) {
-                // close(): 서버 소켓 닫기
-                // 더 이상 새로운 연결 요청을 받지 않음
-                serverSocket.close();
-            }
-        } catch (IOException e) {
-            logger.error("Error closing server socket: {}", e.getMessage());
-        }
+        // close(): 서버 소켓 닫기
+        // 더 이상 새로운 연결 요청을 받지 않음
+        closeServerSockets();
 
         // === ThreadedProcessor 종료 ===
 
@@ -458,19 +552,28 @@ public class ThreadedServer {
      * 초기화 중 오류 발생 시 부분적으로 초기화된 자원들을 정리
      */
     private void cleanup() {
-        try {
-            if (serverSocket != null && !serverSocket.isClosed()) {
-                serverSocket.close();
-            }
-        } catch (IOException e) {
-            // 정리 중 발생하는 예외는 무시
-            // 이미 오류 상황이므로 추가 예외 처리 불필요
-        }
+        closeServerSockets();
 
         // 초기화 상태 해제
         initialized.set(false);
     }
 
+    /**
+     * 모든 리스닝 소켓 닫기
+     */
+    private void closeServerSockets() {
+        for (ServerSocket socket : serverSockets) {
+            try {
+                if (!socket.isClosed()) {
+                    socket.close();
+                }
+            } catch (IOException e) {
+                logger.error("Error closing server socket: {}", e.getMessage());
+            }
+        }
+        serverSockets.clear();
+    }
+
     /**
      * 서버 상태 정보
      * 현재 서버의 전체적인 상태 정보를 수집하여 반환
@@ -484,19 +587,47 @@ public class ThreadedServer {
         // 서블릿 컨테이너에서 서블릿 상태 정보 수집
         ThreadedMiniServletContainer.ContainerStatus containerStatus = servletContainer.getStatus();
 
+        // accept 지표 계산
+        long now = System.currentTimeMillis();
+        long uptime = now - startTime;
+        long accepted = totalAcceptedConnections.get();
+        double acceptRate = uptime > 0 ? accepted * 1000.0 / uptime : 0.0;   // 시작 이후 평균 (연결/초)
+        double avgAcceptLatencyMicros = accepted > 0
+                ? totalAcceptLatencyNanos.get() / 1000.0 / accepted : 0.0;
+
         // 모든 상태 정보를 하나로 통합
         return new ServerStatus(
                 running.get(),                                      // 현재 실행 상태
                 initialized.get(),                                  // 초기화 완료 상태
                 port,                                              // 서버 포트
-                System.currentTimeMillis() - startTime,            // 업타임 (밀리초)
-                totalAcceptedConnections,                          // 총 수락된 연결 수
-                totalFailedConnections,                            // 총 실패한 연결 수
+                uptime,                                            // 업타임 (밀리초)
+                accepted,                                          // 총 수락된 연결 수
+                totalFailedConnections.get(),                      // 총 실패한 연결 수
+                config.getAcceptorCount(),                         // Accept 스레드 수
+                acceptRate,                                        // 평균 accept 속도 (연결/초)
+                sampleRecentAcceptRate(now, accepted),             // 최근 accept 속도 (연결/초)
+                avgAcceptLatencyMicros,                            // 평균 accept 지연 (마이크로초)
+                maxAcceptLatencyNanos.get() / 1000.0,              // 최대 accept 지연 (마이크로초)
                 processorStatus,                                   // 프로세서 상태
                 containerStatus                                    // 컨테이너 상태
         );
     }
 
+    /**
+     * 최근 accept 속도 계산
+     * 직전 샘플 이후 1초 이상 지났으면 그 구간의 속도로 갱신, 아니면 직전 값 유지
+     * (모니터링 도구가 주기적으로 getStatus()를 호출하는 구간의 속도가 됨)
+     */
+    private synchronized double sampleRecentAcceptRate(long now, long accepted) {
+        long elapsed = now - rateSampleTime;
+        if (elapsed >= 1000) {
+            recentAcceptRate = (accepted - rateSampleAccepted) * 1000.0 / elapsed;
+            rateSampleTime = now;
+            rateSampleAccepted = accepted;
+        }
+        return recentAcceptRate;
+    }
+
     /**
      * 상세 통계 출력
      * 서버의 상세한 통계 정보를 포맷팅하여 로그로 출력
@@ -531,6 +662,15 @@ public class ThreadedServer {
             logger.info("Failure Rate: {}%", String.format("%.2f", failureRate));
         }
 
+        // accept 지표 출력
+        logger.info("Acceptors: {}", status.getAcceptorCount());
+        logger.info("Accept Rate: {}/s (recent {}/s)",
+                String.format("%.1f", status.getAcceptRate()),
+                String.format("%.1f", status.getRecentAcceptRate()));
+        logger.info("Accept Latency: avg {}us, max {}us",
+                String.format("%.1f", status.getAvgAcceptLatencyMicros()),
+                String.format("%.1f", status.getMaxAcceptLatencyMicros()));
+
         // 프로세서 상태 정보 출력
         logger.info("");
         logger.info("Processor Status:");
@@ -586,14 +726,21 @@ public class ThreadedServer {
      * 총 수락된 연결 수 반환
      */
     public long getTotalAcceptedConnections() {
-        return totalAcceptedConnections;
+        return totalAcceptedConnections.get();
     }
 
     /**
      * 총 실패한 연결 수 반환
      */
     public long getTotalFailedConnections() {
-        return totalFailedConnections;
+        return totalFailedConnections.get();
+    }
+
+    /**
+     * 적응형 동시성 제한기 반환 (ThreadPoolConfig.concurrencyLimit을 설정하지 않으면 null)
+     */
+    public ConcurrencyLimiter getConcurrencyLimiter() {
+        return processor.getConcurrencyLimiter();
     }
 
     /**
@@ -614,6 +761,11 @@ public class ThreadedServer {
         private final long uptime;                                                 // 업타임 (밀리초)
         private final long totalAcceptedConnections;                               // 총 수락된 연결 수
         private final long totalFailedConnections;                                 // 총 실패한 연결 수
+        private final int acceptorCount;                                           // Accept 스레드 수
+        private final double acceptRate;                                           // 평균 accept 속도 (연결/초)
+        private final double recentAcceptRate;                                     // 최근 accept 속도 (연결/초)
+        private final double avgAcceptLatencyMicros;                               // 평균 accept 지연 (마이크로초)
+        private final double maxAcceptLatencyMicros;                               // 최대 accept 지연 (마이크로초)
         private final ThreadedProcessor.ProcessorStatus processorStatus;           // 프로세서 상태
         private final ThreadedMiniServletContainer.ContainerStatus containerStatus; // 컨테이너 상태
 
@@ -623,6 +775,8 @@ public class ThreadedServer {
          */
         public ServerStatus(boolean running, boolean initialized, int port, long uptime,
                             long totalAcceptedConnections, long totalFailedConnections,
+                            int acceptorCount, double acceptRate, double recentAcceptRate,
+                            double avgAcceptLatencyMicros, double maxAcceptLatencyMicros,
                             ThreadedProcessor.ProcessorStatus processorStatus,
                             ThreadedMiniServletContainer.ContainerStatus containerStatus) {
             this.running = running;
@@ -631,6 +785,11 @@ public class ThreadedServer {
             this.uptime = uptime;
             this.totalAcceptedConnections = totalAcceptedConnections;
             this.totalFailedConnections = totalFailedConnections;
+            this.acceptorCount = acceptorCount;
+            this.acceptRate = acceptRate;
+            this.recentAcceptRate = recentAcceptRate;
+            this.avgAcceptLatencyMicros = avgAcceptLatencyMicros;
+            this.maxAcceptLatencyMicros = maxAcceptLatencyMicros;
             this.processorStatus = processorStatus;
             this.containerStatus = containerStatus;
         }
@@ -662,6 +821,29 @@ public class ThreadedServer {
             return totalFailedConnections;
         }
 
+        public int getAcceptorCount() {
+            return acceptorCount;
+        }
+
+        public double getAcceptRate() {
+            return acceptRate;
+        }
+
+        public double getRecentAcceptRate() {
+            return recentAcceptRate;
+        }
+
+        /**
+         * 평균 accept 지연 - accept() 반환부터 스레드 풀 전달까지 (마이크로초)
+         */
+        public double getAvgAcceptLatencyMicros() {
+            return avgAcceptLatencyMicros;
+        }
+
+        public double getMaxAcceptLatencyMicros() {
+            return maxAcceptLatencyMicros;
+        }
+
         public ThreadedProcessor.ProcessorStatus getProcessorStatus() {
             return processorStatus;
         }
@@ -679,12 +861,16 @@ public class ThreadedServer {
         @Override
         public String toString() {
             // String.format(): printf 스타일 포맷팅으로 가독성 있는 문자열 생성
-            return String.format("ServerStatus{running=%s, port=%d, uptime=%ds, connections=%d/%d}",
+            return String.format("ServerStatus{running=%s, port=%d, uptime=%ds, connections=%d/%d, " +
+                            "acceptors=%d, acceptRate=%.1f/s, acceptLatency=%.1fus}",
                     running,                        // 실행 상태
                     port,                          // 포트 번호
                     uptime / 1000,                 // 업타임 (초 단위)
                     totalAcceptedConnections,      // 성공한 연결 수
-                    totalFailedConnections);       // 실패한 연결 수
+                    totalFailedConnections,        // 실패한 연결 수
+                    acceptorCount,                 // Accept 스레드 수
+                    recentAcceptRate,              // 최근 accept 속도
+                    avgAcceptLatencyMicros);       // 평균 accept 지연
         }
     }
 }
\ No newline at end of file
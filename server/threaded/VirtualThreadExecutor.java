@@ -0,0 +1,231 @@
+package server.threaded;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 작업당 가상 스레드 실행기
+ *
+ * ThreadPoolConfig.isVirtualThreads()가 true일 때 ThreadPoolManager가 스레드풀 대신 사용합니다.
+ * 연결 하나마다 스레드 하나를 새로 만들고, 동시 실행 수는 세마포어로 제한합니다.
+ *
+ * 스레드풀 방식과의 차이:
+ * - 스레드를 재사용하지 않음 (가상 스레드는 생성 비용이 매우 낮음)
+ * - 작업 큐가 없음: maxConcurrency에 도달하면 제출 스레드(acceptor)가 허가를 기다림
+ * - 대기 시간 안에 허가를 못 얻으면 RejectedExecutionException으로 거부
+ *
+ * 가상 스레드 생성:
+ * - Thread.ofVirtual()을 리플렉션으로 조회 (Java 17로도 컴파일 가능하도록)
+ * - 지원하지 않는 JVM에서는 데몬 플랫폼 스레드로 대체
+ */
+class VirtualThreadExecutor {
+
+    // 동시 실행 수 제한 - 공정 모드로 먼저 기다린 acceptor가 먼저 허가를 받음
+    private final Semaphore permits;
+
+    // 최대 동시 실행 수
+    private final int maxConcurrency;
+
+    // 허가 대기 시간 (밀리초)
+    private final long acquireTimeoutMs;
+
+    // 작업 스레드 생성 팩토리 (가상 또는 플랫폼)
+    private final ThreadFactory threadFactory;
+
+    // 실제 가상 스레드 사용 여부
+    private final boolean virtual;
+
+    // 실행 중인 스레드 목록 - 강제 종료시 interrupt 대상
+    private final Set<Thread> runningThreads = ConcurrentHashMap.newKeySet();
+
+    // 지금까지 시작한 스레드 수
+    private final AtomicLong startedThreads = new AtomicLong(0);
+
+    // 종료 요청 여부
+    private volatile boolean shutdown = false;
+
+    /**
+     * VirtualThreadExecutor 생성자
+     *
+     * @param maxConcurrency 최대 동시 실행 수
+     * @param acquireTimeoutMs 허가 대기 시간 (밀리초, 0이면 대기 없이 즉시 거부)
+     */
+    VirtualThreadExecutor(int maxConcurrency, long acquireTimeoutMs) {
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.permits = new Semaphore(maxConcurrency, true);
+
+        ThreadFactory virtualFactory = createVirtualThreadFactory();
+        this.virtual = virtualFactory != null;
+        this.threadFactory = virtual ? virtualFactory : new PlatformThreadFactory();
+    }
+
+    /**
+     * 가상 스레드 팩토리 조회
+     *
+     * Thread.ofVirtual().name("VirtualHandler-", 1).factory()와 동일한 호출을 리플렉션으로 수행합니다.
+     * Java 19/20에서는 --enable-preview 없이 호출하면 UnsupportedOperationException이 발생하므로
+     * 모든 실패를 "지원하지 않음"으로 처리합니다.
+     *
+     * @return 가상 스레드 팩토리, 지원하지 않으면 null
+     */
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Object builder = ofVirtual.invoke(null);
+
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class)
+                    .invoke(builder, "VirtualHandler-", 1L);
+
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * 작업 제출
+     *
+     * 허가를 얻은 뒤 작업 전용 스레드를 시작합니다.
+     * 허가는 작업이 끝나면 (예외 발생 포함) 반드시 반환됩니다.
+     *
+     * @param task 실행할 작업
+     * @return 작업 완료를 추적하는 Future
+     * @throws RejectedExecutionException 종료 중이거나 대기 시간 안에 허가를 얻지 못한 경우
+     */
+    Future<?> submit(Runnable task) {
+        return start(task, acquireTimeoutMs);
+    }
+
+    /**
+     * 대기 없이 작업 제출
+     *
+     * 허가가 바로 없으면 기다리지 않고 거부 - 블로킹되면 안 되는 스레드(Keep-Alive Poller)용
+     *
+     * @param task 실행할 작업
+     * @return 작업 완료를 추적하는 Future
+     * @throws RejectedExecutionException 종료 중이거나 남은 허가가 없는 경우
+     */
+    Future<?> trySubmit(Runnable task) {
+        return start(task, 0);
+    }
+
+    private Future<?> start(Runnable task, long timeoutMs) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor is shut down");
+        }
+
+        // 허가 획득 - 큐 대신 이 대기가 백프레셔 역할을 함
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for permit", e);
+        }
+
+        if (!acquired) {
+            throw new RejectedExecutionException(
+                    "Max concurrency reached (" + maxConcurrency + "), waited " + timeoutMs + "ms");
+        }
+
+        FutureTask<Void> future = new FutureTask<>(() -> {
+            Thread current = Thread.currentThread();
+            runningThreads.add(current);
+            try {
+                task.run();
+            } finally {
+                runningThreads.remove(current);
+                permits.release();
+            }
+        }, null);
+
+        try {
+            Thread thread = threadFactory.newThread(future);
+            thread.start();
+            startedThreads.incrementAndGet();
+        } catch (Throwable e) {
+            // 스레드 시작 실패시 허가를 돌려주고 거부로 처리
+            permits.release();
+            throw new RejectedExecutionException("Failed to start handler thread", e);
+        }
+
+        return future;
+    }
+
+    /**
+     * 새 작업 수락 중단
+     */
+    void shutdown() {
+        shutdown = true;
+    }
+
+    /**
+     * 실행 중인 작업 완료 대기
+     *
+     * 모든 허가를 회수할 수 있으면 실행 중인 작업이 없다는 뜻입니다.
+     *
+     * @return 시간 안에 모든 작업이 끝나면 true
+     */
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        if (permits.tryAcquire(maxConcurrency, timeout, unit)) {
+            permits.release(maxConcurrency);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 실행 중인 모든 작업 스레드에 interrupt 전송
+     */
+    void shutdownNow() {
+        shutdown = true;
+        for (Thread thread : runningThreads) {
+            thread.interrupt();
+        }
+    }
+
+    // === 통계 ===
+
+    /**
+     * 현재 실행 중인 작업 수 (허가를 가진 작업)
+     */
+    int getRunningCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * 허가를 기다리는 제출 스레드 수 (근사치)
+     */
+    int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    int getMaxConcurrency() { return maxConcurrency; }
+    long getStartedThreads() { return startedThreads.get(); }
+    boolean isVirtual() { return virtual; }
+
+    /**
+     * 가상 스레드를 지원하지 않는 JVM용 대체 팩토리
+     * 연결당 데몬 플랫폼 스레드를 생성
+     */
+    private static class PlatformThreadFactory implements ThreadFactory {
+        private final AtomicLong threadNumber = new AtomicLong(1);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "PerTaskHandler-" + threadNumber.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}